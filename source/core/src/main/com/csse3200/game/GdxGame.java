@@ -3,6 +3,7 @@ package com.csse3200.game;
 import static com.badlogic.gdx.Gdx.app;
 
 import com.csse3200.game.screens.*;
+import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.utils.DiscordActivity;
 import org.slf4j.Logger;
@@ -22,11 +23,14 @@ public class GdxGame extends Game {
   private static final Logger logger = LoggerFactory.getLogger(GdxGame.class);
   private boolean loadSaveOnStart = false;
   private DiscordActivity discordActivity;
+  /** Shared by every screen, so assets used by consecutive screens are not reloaded */
+  private ResourceService resourceService;
   @Override
   public void create() {
     logger.info("Creating game");
     loadSettings();
     ServiceLocator.registerGame(this);
+    resourceService = new ResourceService();
 
     // Sets background to light yellow
     Gdx.gl.glClearColor(0.0f, 0.098f, 0.309f, 1.0f);
@@ -59,7 +63,9 @@ public class GdxGame extends Game {
   }
 
   /**
-   * Sets the game's screen to a new screen of the provided type.
+   * Sets the game's screen to a new screen of the provided type. Assets the old screen used are only
+   * unloaded once the new screen has been created, and only if the new screen did not acquire them
+   * again.
    * @param screenType screen type
    */
   public void setScreen(ScreenType screenType) {
@@ -68,13 +74,19 @@ public class GdxGame extends Game {
     if (currentScreen != null) {
       currentScreen.dispose();
     }
-    setScreen(newScreen(screenType));
+    resourceService.releaseUngroupedAssets();
+    ServiceLocator.registerResourceService(resourceService);
+    Screen screen = newScreen(screenType);
+    int unloaded = resourceService.unloadUnreferenced();
+    logger.debug("Unloaded {} assets no longer used after changing screen", unloaded);
+    setScreen(screen);
   }
 
   @Override
   public void dispose() {
     logger.debug("Disposing of current screen");
     getScreen().dispose();
+    resourceService.dispose();
   }
 
   /**
@@ -0,0 +1,289 @@
+package com.csse3200.game.ai.pathfinding;
+
+import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.entities.Entity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+
+/**
+ * Shared flow field towards a single target entity, usually the player. Every few ticks a Dijkstra
+ * pass is run outwards from the target's tile over a square window around it, recording for each tile
+ * the neighbour which is one step closer to the target. Any number of chasing entities can then look
+ * up their next step in constant time instead of each computing their own route.
+ *
+ * <p>The same rebuild also propagates an approximate line of sight outwards from the target, so
+ * chasers inside the window can check visibility without a physics raycast.
+ */
+public class FlowFieldService {
+  private static final Logger logger = LoggerFactory.getLogger(FlowFieldService.class);
+  /** Default distance in tiles from the target covered by the field. */
+  private static final int DEFAULT_RADIUS = 24;
+  /** Default number of updates between rebuilds of the field. */
+  private static final int DEFAULT_REFRESH_TICKS = 10;
+  private static final float DIAGONAL_COST = 1.4142135f;
+  private static final int[] DX = {1, -1, 0, 0, 1, 1, -1, -1};
+  private static final int[] DY = {0, 0, 1, -1, 1, -1, 1, -1};
+
+  private final PathfindingService grid;
+  private final Entity target;
+  private final int radius;
+  /** Width and height of the window in tiles. */
+  private final int size;
+  private final int refreshTicks;
+
+  /** Cost to reach the target from each tile in the window. */
+  private final float[] distances;
+  /** Window index of the next tile towards the target, or -1 at the target or if unreachable. */
+  private final int[] next;
+  private final boolean[] settled;
+  private final boolean[] visible;
+  private final NodeHeap open = new NodeHeap();
+
+  /** Tile coordinates of the bottom left of the window. */
+  private int originX;
+  private int originY;
+  private int targetX;
+  private int targetY;
+  private int gridVersion;
+  private int ticks;
+  private boolean built;
+  private int rebuildCount;
+
+  /**
+   * Creates a flow field with the default radius and refresh rate.
+   *
+   * @param grid the pathfinding grid to build the field over
+   * @param target the entity the field leads towards
+   */
+  public FlowFieldService(PathfindingService grid, Entity target) {
+    this(grid, target, DEFAULT_RADIUS, DEFAULT_REFRESH_TICKS);
+  }
+
+  /**
+   * @param grid the pathfinding grid to build the field over
+   * @param target the entity the field leads towards
+   * @param radius distance in tiles from the target covered by the field
+   * @param refreshTicks number of updates between rebuilds of the field
+   */
+  public FlowFieldService(PathfindingService grid, Entity target, int radius, int refreshTicks) {
+    this.grid = grid;
+    this.target = target;
+    this.radius = radius;
+    this.size = radius * 2 + 1;
+    this.refreshTicks = Math.max(1, refreshTicks);
+    int count = size * size;
+    distances = new float[count];
+    next = new int[count];
+    settled = new boolean[count];
+    visible = new boolean[count];
+  }
+
+  /**
+   * Called once per frame. Every few ticks the field is rebuilt, but only if the target has moved to
+   * another tile or the terrain has changed since the last build.
+   */
+  public void update() {
+    if (built && ++ticks < refreshTicks) {
+      return;
+    }
+    ticks = 0;
+    if (!grid.ensureGrid()) {
+      return;
+    }
+
+    Vector2 position = target.getCenterPosition();
+    int x = (int) Math.floor(position.x / grid.getTileSize());
+    int y = (int) Math.floor(position.y / grid.getTileSize());
+    if (built && x == targetX && y == targetY && gridVersion == grid.getVersion()) {
+      return;
+    }
+    rebuild(x, y);
+  }
+
+  /**
+   * Finds the next tile to move to in order to reach the target.
+   *
+   * @param position world position of the chasing entity
+   * @param out set to the world position of the centre of the next tile
+   * @return true if a step was found, false if the position is outside the field, cannot reach the
+   *         target or is already on the target's tile
+   */
+  public boolean getNextStep(Vector2 position, Vector2 out) {
+    int index = toWindowIndex(position);
+    if (index < 0 || next[index] < 0) {
+      return false;
+    }
+    int step = next[index];
+    float tileSize = grid.getTileSize();
+    out.set((originX + step % size + 0.5f) * tileSize, (originY + step / size + 0.5f) * tileSize);
+    return true;
+  }
+
+  /**
+   * Finds the direction to move in order to reach the target.
+   *
+   * @param position world position of the chasing entity
+   * @param out set to the unit direction towards the next tile
+   * @return true if a direction was found, see {@link #getNextStep(Vector2, Vector2)}
+   */
+  public boolean getDirection(Vector2 position, Vector2 out) {
+    if (!getNextStep(position, out)) {
+      return false;
+    }
+    out.sub(position).nor();
+    return true;
+  }
+
+  /**
+   * Approximates whether the target can be seen from a position. Tiles occupied by placeables and
+   * other obstructions block sight; the result is conservative around corners.
+   *
+   * @param position world position to look from
+   * @return true if the position is in the field and the target is visible from it
+   */
+  public boolean isVisible(Vector2 position) {
+    int index = toWindowIndex(position);
+    return index >= 0 && visible[index];
+  }
+
+  /**
+   * @param position world position
+   * @return true if the field has been built and covers the position
+   */
+  public boolean covers(Vector2 position) {
+    return toWindowIndex(position) >= 0;
+  }
+
+  /**
+   * @return the entity the field leads towards
+   */
+  public Entity getTarget() {
+    return target;
+  }
+
+  /**
+   * @return number of times the field has been rebuilt
+   */
+  public int getRebuildCount() {
+    return rebuildCount;
+  }
+
+  private int toWindowIndex(Vector2 position) {
+    if (!built) {
+      return -1;
+    }
+    float tileSize = grid.getTileSize();
+    int x = (int) Math.floor(position.x / tileSize) - originX;
+    int y = (int) Math.floor(position.y / tileSize) - originY;
+    if (x < 0 || x >= size || y < 0 || y >= size) {
+      return -1;
+    }
+    return y * size + x;
+  }
+
+  /**
+   * Checks whether a window tile can be walked through. The target's own tile is always walkable.
+   */
+  private boolean isWalkable(int x, int y) {
+    if (x < 0 || x >= size || y < 0 || y >= size) {
+      return false;
+    }
+    return (x == radius && y == radius) || grid.isTraversable(originX + x, originY + y);
+  }
+
+  private void rebuild(int x, int y) {
+    targetX = x;
+    targetY = y;
+    originX = x - radius;
+    originY = y - radius;
+    gridVersion = grid.getVersion();
+    built = true;
+    rebuildCount++;
+
+    Arrays.fill(distances, Float.POSITIVE_INFINITY);
+    Arrays.fill(next, -1);
+    Arrays.fill(settled, false);
+
+    int goal = radius * size + radius;
+    distances[goal] = 0f;
+    open.clear();
+    open.push(goal, 0f);
+    while (!open.isEmpty()) {
+      int node = open.pop();
+      if (settled[node]) {
+        continue;
+      }
+      settled[node] = true;
+
+      int nodeX = node % size;
+      int nodeY = node / size;
+      for (int d = 0; d < DX.length; d++) {
+        int nx = nodeX + DX[d];
+        int ny = nodeY + DY[d];
+        if (!isWalkable(nx, ny)) {
+          continue;
+        }
+        // Diagonal moves may not cut the corner of a blocked tile
+        if (d >= 4 && (!isWalkable(nx, nodeY) || !isWalkable(nodeX, ny))) {
+          continue;
+        }
+        int neighbour = ny * size + nx;
+        float cost = distances[node] + (d < 4 ? 1f : DIAGONAL_COST);
+        if (cost < distances[neighbour]) {
+          distances[neighbour] = cost;
+          next[neighbour] = node;
+          open.push(neighbour, cost);
+        }
+      }
+    }
+
+    buildVisibility();
+    logger.trace("Rebuilt flow field around ({}, {})", x, y);
+  }
+
+  /**
+   * Propagates visibility outwards from the target one ring at a time. A tile is visible if it is not
+   * opaque and the tiles between it and the target, along the dominant axis and the diagonal, are
+   * visible too.
+   */
+  private void buildVisibility() {
+    Arrays.fill(visible, false);
+    visible[radius * size + radius] = true;
+    for (int ring = 1; ring <= radius; ring++) {
+      for (int d = -ring; d <= ring; d++) {
+        updateVisibility(d, -ring);
+        updateVisibility(d, ring);
+        if (d != -ring && d != ring) {
+          updateVisibility(-ring, d);
+          updateVisibility(ring, d);
+        }
+      }
+    }
+  }
+
+  /**
+   * @param dx x offset of the tile from the target
+   * @param dy y offset of the tile from the target
+   */
+  private void updateVisibility(int dx, int dy) {
+    int index = (dy + radius) * size + (dx + radius);
+    if (grid.isOpaque(targetX + dx, targetY + dy)) {
+      return;
+    }
+    int sx = Integer.signum(dx);
+    int sy = Integer.signum(dy);
+    int ax = Math.abs(dx);
+    int ay = Math.abs(dy);
+
+    // Step towards the target along the dominant axis, or diagonally when neither dominates
+    int px = ax >= ay ? dx - sx : dx;
+    int py = ay >= ax ? dy - sy : dy;
+    boolean result = visible[(py + radius) * size + (px + radius)];
+    if (result && ax != ay && sx != 0 && sy != 0) {
+      result = visible[(dy - sy + radius) * size + (dx - sx + radius)];
+    }
+    visible[index] = result;
+  }
+}
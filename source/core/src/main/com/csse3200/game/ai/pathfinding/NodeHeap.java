@@ -0,0 +1,66 @@
+package com.csse3200.game.ai.pathfinding;
+
+import java.util.Arrays;
+
+/**
+ * Minimal binary min-heap of tile indices keyed by cost, used by the pathfinding searches. Duplicate
+ * entries are allowed, so callers skip nodes which have already been settled.
+ */
+final class NodeHeap {
+  private int[] nodes = new int[64];
+  private float[] keys = new float[64];
+  private int size;
+
+  void clear() {
+    size = 0;
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  void push(int node, float key) {
+    if (size == nodes.length) {
+      nodes = Arrays.copyOf(nodes, size * 2);
+      keys = Arrays.copyOf(keys, size * 2);
+    }
+    int i = size++;
+    while (i > 0) {
+      int parent = (i - 1) / 2;
+      if (keys[parent] <= key) {
+        break;
+      }
+      nodes[i] = nodes[parent];
+      keys[i] = keys[parent];
+      i = parent;
+    }
+    nodes[i] = node;
+    keys[i] = key;
+  }
+
+  int pop() {
+    int result = nodes[0];
+    size--;
+    int lastNode = nodes[size];
+    float lastKey = keys[size];
+    int i = 0;
+    while (true) {
+      int child = 2 * i + 1;
+      if (child >= size) {
+        break;
+      }
+      if (child + 1 < size && keys[child + 1] < keys[child]) {
+        child++;
+      }
+      if (keys[child] >= lastKey) {
+        break;
+      }
+      nodes[i] = nodes[child];
+      keys[i] = keys[child];
+      i = child;
+    }
+    nodes[i] = lastNode;
+    keys[i] = lastKey;
+    return result;
+  }
+}
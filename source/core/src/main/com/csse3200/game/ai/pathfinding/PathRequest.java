@@ -0,0 +1,100 @@
+package com.csse3200.game.ai.pathfinding;
+
+import com.badlogic.gdx.math.Vector2;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A request for a path between two tiles, resolved over one or more frames by the
+ * {@link PathfindingService}. Requests for the same start and goal tile are shared between callers,
+ * so the waypoints must be treated as read-only.
+ */
+public class PathRequest {
+  /** Status of a path request. */
+  public enum Status {
+    PENDING,
+    FOUND,
+    NOT_FOUND
+  }
+
+  /** Index of the start tile in the pathfinding grid. */
+  private final int start;
+  /** Index of the goal tile in the pathfinding grid. */
+  private final int goal;
+  /** Terrain version this request was created against. */
+  private final int version;
+  /** Current status of the request. */
+  private Status status = Status.PENDING;
+  /** Smoothed waypoints (tile centres) from the start tile to the goal tile. */
+  private List<Vector2> waypoints = Collections.emptyList();
+
+  /**
+   * @param start index of the start tile
+   * @param goal index of the goal tile
+   * @param version terrain version the request was made against
+   */
+  PathRequest(int start, int goal, int version) {
+    this.start = start;
+    this.goal = goal;
+    this.version = version;
+  }
+
+  /**
+   * Marks the request as resolved with the given waypoints.
+   *
+   * @param path smoothed waypoints, in order
+   */
+  void resolve(List<Vector2> path) {
+    this.waypoints = Collections.unmodifiableList(new ArrayList<>(path));
+    this.status = Status.FOUND;
+  }
+
+  /** Marks the request as having no path. */
+  void fail() {
+    this.status = Status.NOT_FOUND;
+  }
+
+  /**
+   * @return the current status of the request
+   */
+  public Status getStatus() {
+    return status;
+  }
+
+  /**
+   * @return true once the request has either found a path or failed
+   */
+  public boolean isDone() {
+    return status != Status.PENDING;
+  }
+
+  /**
+   * @return read-only list of waypoints, empty until the path is found
+   */
+  public List<Vector2> getWaypoints() {
+    return waypoints;
+  }
+
+  /**
+   * @return index of the start tile in the pathfinding grid
+   */
+  public int getStart() {
+    return start;
+  }
+
+  /**
+   * @return index of the goal tile in the pathfinding grid
+   */
+  public int getGoal() {
+    return goal;
+  }
+
+  /**
+   * @return terrain version this request was created against
+   */
+  int getVersion() {
+    return version;
+  }
+}
@@ -0,0 +1,497 @@
+package com.csse3200.game.ai.pathfinding;
+
+import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntArray;
+import com.csse3200.game.areas.terrain.GameMap;
+import com.csse3200.game.areas.terrain.TerrainComponent;
+import com.csse3200.game.areas.terrain.TerrainTile;
+import com.csse3200.game.entities.EntityType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Grid-based A* pathfinding over the traversability of the {@link GameMap}. Paths are requested
+ * asynchronously and resolved in {@link #update()} under a per-frame node expansion budget, so a
+ * burst of requests is spread over several frames instead of stalling one. Resolved paths are
+ * smoothed and cached by start and goal tile, so entities heading the same way share one search.
+ *
+ * <p>A tile is blocked when its terrain is not traversable or when it is occupied by anything other
+ * than a crop tile. Changes to occupancy are reported through {@link #onTileChanged(TerrainTile)},
+ * which drops every cached path.
+ */
+public class PathfindingService {
+  private static final Logger logger = LoggerFactory.getLogger(PathfindingService.class);
+  /** Default number of nodes that may be expanded per frame across all searches. */
+  private static final int DEFAULT_EXPANSION_BUDGET = 600;
+  /** Maximum number of paths kept in the cache. */
+  private static final int MAX_CACHED_PATHS = 256;
+  private static final float DIAGONAL_COST = 1.4142135f;
+  /** Neighbour offsets, orthogonal first then diagonal. */
+  private static final int[] DX = {1, -1, 0, 0, 1, 1, -1, -1};
+  private static final int[] DY = {0, 0, 1, -1, 1, -1, 1, -1};
+
+  private final GameMap map;
+  private int width;
+  private int height;
+  private float tileSize;
+  /** Blocked flag for each tile, indexed by y * width + x. Null until the grid is built. */
+  private boolean[] blocked;
+  /** Opaque flag for each tile, set when the tile is occupied by something other than a crop tile. */
+  private boolean[] opaque;
+  private final Map<TerrainTile, Integer> tileIndices = new IdentityHashMap<>();
+  /** Incremented whenever the blocked grid changes, invalidating older requests. */
+  private int version;
+  private int expansionBudget = DEFAULT_EXPANSION_BUDGET;
+  private int expansionsLastFrame;
+
+  private final Map<Long, PathRequest> cache = new LinkedHashMap<>(MAX_CACHED_PATHS, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Long, PathRequest> eldest) {
+      return size() > MAX_CACHED_PATHS;
+    }
+  };
+  private final Queue<PathRequest> pending = new ArrayDeque<>();
+
+  // Search state for the request currently being resolved. Only one search runs at a time, so the
+  // buffers are shared and reset lazily with a search stamp instead of being cleared.
+  private PathRequest active;
+  private float[] costs;
+  private int[] parents;
+  private int[] visited;
+  private int[] closed;
+  private int searchId;
+  private final NodeHeap open = new NodeHeap();
+
+  /**
+   * @param map the game map to path over. The grid is built lazily on first use.
+   */
+  public PathfindingService(GameMap map) {
+    this.map = map;
+  }
+
+  /**
+   * Requests a path between two world positions. If a path between the same tiles is already cached
+   * or being searched for, that request is returned instead of starting a new search.
+   *
+   * @param from world position to start from
+   * @param to world position to reach
+   * @return the request, which will be resolved by later calls to {@link #update()}
+   */
+  public PathRequest requestPath(Vector2 from, Vector2 to) {
+    if (!ensureGrid()) {
+      PathRequest request = new PathRequest(-1, -1, version);
+      request.fail();
+      return request;
+    }
+
+    int start = toIndex(from);
+    int goal = toIndex(to);
+    if (start < 0 || goal < 0) {
+      PathRequest request = new PathRequest(start, goal, version);
+      request.fail();
+      return request;
+    }
+
+    long key = ((long) start << 32) | (goal & 0xffffffffL);
+    PathRequest cached = cache.get(key);
+    if (cached != null && cached.getVersion() == version) {
+      return cached;
+    }
+
+    PathRequest request = new PathRequest(start, goal, version);
+    cache.put(key, request);
+    if (start == goal) {
+      request.resolve(List.of(tileCentre(goal)));
+    } else {
+      pending.add(request);
+    }
+    return request;
+  }
+
+  /**
+   * Checks whether a request was made before the last change to the terrain, in which case its path
+   * may now be blocked and it should be requested again.
+   *
+   * @param request the request to check
+   * @return true if the request is out of date
+   */
+  public boolean isStale(PathRequest request) {
+    return request.getVersion() != version;
+  }
+
+  /**
+   * Checks whether a world position lies in the goal tile of a request.
+   *
+   * @param request the request to check
+   * @param position world position
+   * @return true if the position maps to the request's goal tile
+   */
+  public boolean isGoalTile(PathRequest request, Vector2 position) {
+    return blocked != null && toIndex(position) == request.getGoal();
+  }
+
+  /**
+   * Resolves pending requests, expanding at most the configured number of nodes this frame. A search
+   * that runs out of budget is resumed on the next call.
+   */
+  public void update() {
+    int budget = expansionBudget;
+    while (budget > 0) {
+      if (active == null) {
+        active = pending.poll();
+        if (active == null) {
+          break;
+        }
+        if (isStale(active)) {
+          active.fail();
+          active = null;
+          continue;
+        }
+        beginSearch(active);
+      }
+      budget = expand(budget);
+    }
+    expansionsLastFrame = expansionBudget - budget;
+  }
+
+  /**
+   * Notifies the service that the occupancy of a tile has changed. If this changes whether the tile
+   * is blocked, all cached paths are discarded.
+   *
+   * @param tile the tile which changed
+   */
+  public void onTileChanged(TerrainTile tile) {
+    if (blocked == null) {
+      return;
+    }
+    Integer index = tileIndices.get(tile);
+    if (index == null) {
+      return;
+    }
+    boolean nowBlocked = isBlocked(tile);
+    boolean nowOpaque = isObstructed(tile);
+    if (blocked[index] != nowBlocked || opaque[index] != nowOpaque) {
+      blocked[index] = nowBlocked;
+      opaque[index] = nowOpaque;
+      version++;
+      cache.clear();
+    }
+  }
+
+  /**
+   * Sets the number of nodes which may be expanded each frame.
+   *
+   * @param expansionBudget node expansions per frame, at least 1
+   */
+  public void setExpansionBudget(int expansionBudget) {
+    this.expansionBudget = Math.max(1, expansionBudget);
+  }
+
+  /**
+   * @return number of nodes expanded during the last update
+   */
+  public int getExpansionsLastFrame() {
+    return expansionsLastFrame;
+  }
+
+  /**
+   * @return number of requests waiting to be searched, including the one in progress
+   */
+  public int getPendingCount() {
+    return pending.size() + (active == null ? 0 : 1);
+  }
+
+  /**
+   * Checks whether the tile at the given coordinates can be walked through.
+   *
+   * @param x tile x coordinate
+   * @param y tile y coordinate
+   * @return true if the tile is inside the map and not blocked
+   */
+  public boolean isTraversable(int x, int y) {
+    return ensureGrid() && isWalkable(x, y, -1);
+  }
+
+  /**
+   * Checks whether the tile at the given coordinates is occupied by something which blocks line of
+   * sight. Terrain such as water or lava does not block sight.
+   *
+   * @param x tile x coordinate
+   * @param y tile y coordinate
+   * @return true if the tile is outside the map or obstructed
+   */
+  public boolean isOpaque(int x, int y) {
+    if (!ensureGrid() || x < 0 || x >= width || y < 0 || y >= height) {
+      return true;
+    }
+    return opaque[y * width + x];
+  }
+
+  /**
+   * @return width of the grid in tiles, 0 until the grid is built
+   */
+  public int getWidth() {
+    return width;
+  }
+
+  /**
+   * @return height of the grid in tiles, 0 until the grid is built
+   */
+  public int getHeight() {
+    return height;
+  }
+
+  /**
+   * @return size of a tile in world units, 0 until the grid is built
+   */
+  public float getTileSize() {
+    return tileSize;
+  }
+
+  /**
+   * @return version of the grid, incremented whenever a tile becomes blocked or unblocked
+   */
+  public int getVersion() {
+    return version;
+  }
+
+  /**
+   * Builds the blocked grid from the game map if it has not been built yet.
+   *
+   * @return true if the grid is available
+   */
+  public boolean ensureGrid() {
+    if (blocked != null) {
+      return true;
+    }
+    TerrainComponent terrain = map.getTerrainComponent();
+    GridPoint2 size = map.getMapSize();
+    if (terrain == null || size.x <= 0 || size.y <= 0) {
+      return false;
+    }
+
+    width = size.x;
+    height = size.y;
+    tileSize = terrain.getTileSize();
+    int count = width * height;
+    blocked = new boolean[count];
+    opaque = new boolean[count];
+    costs = new float[count];
+    parents = new int[count];
+    visited = new int[count];
+    closed = new int[count];
+
+    GridPoint2 point = new GridPoint2();
+    for (int y = 0; y < height; y++) {
+      for (int x = 0; x < width; x++) {
+        int index = y * width + x;
+        TerrainTile tile = map.getTile(point.set(x, y));
+        if (tile == null) {
+          blocked[index] = true;
+        } else {
+          blocked[index] = isBlocked(tile);
+          opaque[index] = isObstructed(tile);
+          tileIndices.put(tile, index);
+        }
+      }
+    }
+    logger.debug("Built {}x{} pathfinding grid", width, height);
+    return true;
+  }
+
+  /**
+   * Determines whether a tile blocks movement. Crop tiles can be walked over, any other occupant
+   * cannot.
+   *
+   * @param tile the tile to check
+   * @return true if the tile is blocked
+   */
+  private static boolean isBlocked(TerrainTile tile) {
+    return !tile.isTraversable() || isObstructed(tile);
+  }
+
+  /**
+   * Determines whether a tile is occupied by something other than a crop tile.
+   *
+   * @param tile the tile to check
+   * @return true if the tile is obstructed
+   */
+  private static boolean isObstructed(TerrainTile tile) {
+    return tile.isOccupied() && (tile.getOccupant() == null || tile.getOccupant().getType() != EntityType.TILE);
+  }
+
+  private boolean isWalkable(int x, int y, int goal) {
+    if (x < 0 || x >= width || y < 0 || y >= height) {
+      return false;
+    }
+    int index = y * width + x;
+    // The goal is always enterable, so targets standing on blocked tiles (e.g. the ship) can be reached
+    return !blocked[index] || index == goal;
+  }
+
+  private int toIndex(Vector2 position) {
+    int x = (int) Math.floor(position.x / tileSize);
+    int y = (int) Math.floor(position.y / tileSize);
+    if (x < 0 || x >= width || y < 0 || y >= height) {
+      return -1;
+    }
+    return y * width + x;
+  }
+
+  private Vector2 tileCentre(int index) {
+    return new Vector2((index % width + 0.5f) * tileSize, (index / width + 0.5f) * tileSize);
+  }
+
+  private float heuristic(int from, int to) {
+    int dx = Math.abs(from % width - to % width);
+    int dy = Math.abs(from / width - to / width);
+    return (dx + dy) + (DIAGONAL_COST - 2f) * Math.min(dx, dy);
+  }
+
+  private void beginSearch(PathRequest request) {
+    if (++searchId == Integer.MAX_VALUE) {
+      Arrays.fill(visited, 0);
+      Arrays.fill(closed, 0);
+      searchId = 1;
+    }
+    int start = request.getStart();
+    visited[start] = searchId;
+    costs[start] = 0f;
+    parents[start] = -1;
+    open.clear();
+    open.push(start, heuristic(start, request.getGoal()));
+  }
+
+  /**
+   * Expands nodes of the active search until it completes or the budget runs out.
+   *
+   * @param budget remaining node expansions this frame
+   * @return the budget left over
+   */
+  private int expand(int budget) {
+    int goal = active.getGoal();
+    while (budget > 0) {
+      if (open.isEmpty()) {
+        active.fail();
+        active = null;
+        return budget;
+      }
+
+      int node = open.pop();
+      if (closed[node] == searchId) {
+        continue;
+      }
+      closed[node] = searchId;
+      budget--;
+
+      if (node == goal) {
+        active.resolve(smooth(reconstruct(node)));
+        active = null;
+        return budget;
+      }
+
+      int x = node % width;
+      int y = node / width;
+      for (int d = 0; d < DX.length; d++) {
+        int nx = x + DX[d];
+        int ny = y + DY[d];
+        if (!isWalkable(nx, ny, goal)) {
+          continue;
+        }
+        // Diagonal moves may not cut the corner of a blocked tile
+        if (d >= 4 && (!isWalkable(nx, y, goal) || !isWalkable(x, ny, goal))) {
+          continue;
+        }
+        int next = ny * width + nx;
+        if (closed[next] == searchId) {
+          continue;
+        }
+        float cost = costs[node] + (d < 4 ? 1f : DIAGONAL_COST);
+        if (visited[next] != searchId || cost < costs[next]) {
+          visited[next] = searchId;
+          costs[next] = cost;
+          parents[next] = node;
+          open.push(next, cost + heuristic(next, goal));
+        }
+      }
+    }
+    return budget;
+  }
+
+  private IntArray reconstruct(int goal) {
+    IntArray nodes = new IntArray();
+    for (int node = goal; node != -1; node = parents[node]) {
+      nodes.add(node);
+    }
+    nodes.reverse();
+    return nodes;
+  }
+
+  /**
+   * Removes intermediate nodes which can be skipped by walking in a straight line, leaving only the
+   * corners of the path. The start tile is not included in the result.
+   *
+   * @param nodes tile indices from start to goal
+   * @return waypoints at the centre of each remaining tile
+   */
+  private List<Vector2> smooth(IntArray nodes) {
+    List<Vector2> waypoints = new ArrayList<>();
+    int goal = nodes.peek();
+    int anchor = nodes.first();
+    for (int i = 1; i < nodes.size - 1; i++) {
+      if (!hasLineOfSight(anchor, nodes.get(i + 1), goal)) {
+        anchor = nodes.get(i);
+        waypoints.add(tileCentre(anchor));
+      }
+    }
+    waypoints.add(tileCentre(goal));
+    return waypoints;
+  }
+
+  /**
+   * Walks the tiles on the line between two tiles, refusing to squeeze diagonally between blocked
+   * tiles.
+   */
+  private boolean hasLineOfSight(int from, int to, int goal) {
+    int x0 = from % width;
+    int y0 = from / width;
+    int x1 = to % width;
+    int y1 = to / width;
+    int dx = Math.abs(x1 - x0);
+    int dy = Math.abs(y1 - y0);
+    int sx = x0 < x1 ? 1 : -1;
+    int sy = y0 < y1 ? 1 : -1;
+    int err = dx - dy;
+
+    while (x0 != x1 || y0 != y1) {
+      int e2 = 2 * err;
+      boolean stepX = e2 > -dy;
+      boolean stepY = e2 < dx;
+      if (stepX && stepY && (!isWalkable(x0 + sx, y0, goal) || !isWalkable(x0, y0 + sy, goal))) {
+        return false;
+      }
+      if (stepX) {
+        err -= dy;
+        x0 += sx;
+      }
+      if (stepY) {
+        err += dx;
+        y0 += sy;
+      }
+      if (!isWalkable(x0, y0, goal)) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
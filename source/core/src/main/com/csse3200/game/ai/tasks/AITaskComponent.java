@@ -1,6 +1,7 @@
 package com.csse3200.game.ai.tasks;
 
 import com.csse3200.game.components.Component;
+import com.csse3200.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -13,11 +14,28 @@ import java.util.*;
  *
  * <p>This is a simple implementation of Goal-Oriented Action Planning (GOAP), a common AI decision
  * algorithm in games that's more powerful than Finite State Machines (FSMs) (State pattern).
+ *
+ * <p>When an {@link AITaskScheduler} is registered, priorities are cached and only re-evaluated as
+ * often as the scheduler allows for each task type. Triggering {@link #EVT_REEVALUATE} on the entity,
+ * the entity's health changing, or the current task finishing, forces every task to be re-evaluated
+ * on the next update. Components trigger {@link #EVT_REEVALUATE} when they change state a task's
+ * priority depends on, such as an animal being tamed. Distances to targets are not watched, so a
+ * target coming into range is noticed at the task's next scheduled evaluation.
  */
 public class AITaskComponent extends Component implements TaskRunner {
   private static final Logger logger = LoggerFactory.getLogger(AITaskComponent.class);
+  /** Event which forces all task priorities to be re-evaluated on the next update. */
+  public static final String EVT_REEVALUATE = "reevaluateTasks";
+  /** Event triggered by CombatStatsComponent when the entity's health changes, such as being hit. */
+  private static final String EVT_UPDATE_HEALTH = "updateHealth";
   /** List storing tasks of AI entity. */
   private final List<PriorityTask> priorityTasks = new ArrayList<>(2);
+  /** Last evaluated priority of each task, in the same order as priorityTasks. */
+  private int[] priorities = new int[0];
+  /** Game time at which each task is next due to be evaluated. */
+  private long[] nextEvaluation = new long[0];
+  /** Whether every task should be evaluated on the next update, regardless of interval or budget. */
+  private boolean evaluateAll = true;
   /** Task currently running. */
   private PriorityTask currentTask;
 
@@ -29,6 +47,9 @@ public class AITaskComponent extends Component implements TaskRunner {
     for (PriorityTask task : priorityTasks) {
       task.create(this);
     }
+    entity.getEvents().addListener(EVT_REEVALUATE, this::requestEvaluation);
+    // Being hit usually means something has come close, so react to it straight away
+    entity.getEvents().addListener(EVT_UPDATE_HEALTH, (Integer health) -> requestEvaluation());
   }
 
   /**
@@ -41,25 +62,40 @@ public class AITaskComponent extends Component implements TaskRunner {
   public AITaskComponent addTask(PriorityTask task) {
     logger.debug("{} Adding task {}", this, task);
     priorityTasks.add(task);
+    priorities = Arrays.copyOf(priorities, priorityTasks.size());
+    nextEvaluation = Arrays.copyOf(nextEvaluation, priorityTasks.size());
+    evaluateAll = true;
 
     return this;
   }
 
+  /**
+   * Forces every task's priority to be re-evaluated on the next update.
+   */
+  public void requestEvaluation() {
+    evaluateAll = true;
+  }
+
   /**
    * On update, run the current highest priority task. If it's a different one, stop the old one and
    * start the new one. If the highest priority task has negative priority, no task will be run.
    */
   @Override
   public void update() {
-    PriorityTask desiredtask = getHighestPriorityTask();
-    if (desiredtask == null || desiredtask.getPriority() < 0) {
+    int desiredIndex = getHighestPriorityTask();
+    if (desiredIndex < 0 || priorities[desiredIndex] < 0) {
       return;
     }
 
+    PriorityTask desiredtask = priorityTasks.get(desiredIndex);
     if (desiredtask != currentTask) {
       changeTask(desiredtask);
     }
     currentTask.update();
+    if (currentTask.getStatus() != Task.Status.ACTIVE) {
+      // The current task has finished or failed, so the others should get a say straight away
+      evaluateAll = true;
+    }
   }
 
   /**
@@ -73,15 +109,54 @@ public class AITaskComponent extends Component implements TaskRunner {
   }
 
   /**
-   * Return highest priority task.
-   * @return highest priority task.
+   * Return index of the highest priority task, using cached priorities where they are still valid.
+   * @return index of the highest priority task, or -1 if there are no tasks.
    */
-  private PriorityTask getHighestPriorityTask() {
-    try {
-      return Collections.max(priorityTasks, Comparator.comparingInt(PriorityTask::getPriority));
-    } catch (NoSuchElementException e) {
-      return null;
+  private int getHighestPriorityTask() {
+    refreshPriorities();
+    int best = -1;
+    for (int i = 0; i < priorities.length; i++) {
+      if (best < 0 || priorities[i] > priorities[best]) {
+        best = i;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Re-evaluates the priority of each task which is due. Without a scheduler every task is due every
+   * frame. With one, a task is due once its interval has passed, and is deferred to a later frame if
+   * the scheduler's budget is spent. The first evaluation of each task is staggered by entity so
+   * that entities created together do not all re-evaluate on the same frame.
+   */
+  private void refreshPriorities() {
+    AITaskScheduler scheduler = ServiceLocator.getAITaskScheduler();
+    for (int i = 0; i < priorities.length; i++) {
+      PriorityTask task = priorityTasks.get(i);
+      if (scheduler == null) {
+        priorities[i] = task.getPriority();
+        continue;
+      }
+
+      long now = scheduler.getTime();
+      long interval = scheduler.getInterval(task);
+      boolean mandatory = evaluateAll || interval <= 0;
+      if (!mandatory && now < nextEvaluation[i]) {
+        continue;
+      }
+      if (mandatory) {
+        scheduler.recordEvaluation();
+      } else if (!scheduler.tryEvaluate()) {
+        continue;
+      }
+
+      priorities[i] = task.getPriority();
+      if (interval > 0) {
+        long stagger = evaluateAll && entity != null ? Math.floorMod(entity.getId() * 31L + i, interval) : 0L;
+        nextEvaluation[i] = now + interval - stagger;
+      }
     }
+    evaluateAll = false;
   }
 
   /**
@@ -0,0 +1,115 @@
+package com.csse3200.game.ai.tasks;
+
+import com.csse3200.game.services.ServiceLocator;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Time-slices AI decision making across all {@link AITaskComponent}s. Expensive task types can be
+ * given an evaluation interval, so their priority is only recalculated every so often and the cached
+ * value is used in between. Re-evaluations are also limited to a global budget per frame; anything
+ * over the budget is deferred to the next frame.
+ *
+ * <p>When no scheduler is registered, AI task components evaluate every task every frame.
+ */
+public class AITaskScheduler {
+  /** Default number of throttled priority evaluations allowed per frame. */
+  private static final int DEFAULT_BUDGET = 200;
+
+  /** Intervals configured for task types, in milliseconds. */
+  private final Map<Class<?>, Long> intervals = new HashMap<>();
+  /** Intervals resolved for concrete task classes, including those inherited from superclasses. */
+  private final Map<Class<?>, Long> resolvedIntervals = new HashMap<>();
+  private int budget = DEFAULT_BUDGET;
+  private int evaluationsThisFrame;
+  private int evaluationsLastFrame;
+  private int throttledThisFrame;
+  private long time;
+
+  /**
+   * Sets how often tasks of a type have their priority re-evaluated. Subclasses of the type use the
+   * same interval unless they are given their own.
+   *
+   * @param taskType the task class
+   * @param intervalMs minimum time between evaluations in milliseconds, 0 to evaluate every frame
+   */
+  public void setInterval(Class<? extends PriorityTask> taskType, long intervalMs) {
+    intervals.put(taskType, Math.max(0L, intervalMs));
+    resolvedIntervals.clear();
+  }
+
+  /**
+   * Gets the evaluation interval for a task.
+   *
+   * @param task the task
+   * @return interval in milliseconds, 0 if the task is evaluated every frame
+   */
+  public long getInterval(PriorityTask task) {
+    return resolvedIntervals.computeIfAbsent(task.getClass(), this::resolveInterval);
+  }
+
+  private long resolveInterval(Class<?> type) {
+    for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+      Long interval = intervals.get(current);
+      if (interval != null) {
+        return interval;
+      }
+    }
+    return 0L;
+  }
+
+  /**
+   * Sets the maximum number of throttled evaluations allowed per frame.
+   *
+   * @param budget evaluations per frame
+   */
+  public void setBudget(int budget) {
+    this.budget = Math.max(1, budget);
+  }
+
+  /**
+   * Called once at the start of each frame, before entities are updated.
+   */
+  public void startFrame() {
+    evaluationsLastFrame = evaluationsThisFrame;
+    evaluationsThisFrame = 0;
+    throttledThisFrame = 0;
+    time = ServiceLocator.getTimeSource().getTime();
+  }
+
+  /**
+   * @return the game time in milliseconds at the start of this frame
+   */
+  long getTime() {
+    return time;
+  }
+
+  /**
+   * Takes one evaluation from this frame's budget.
+   *
+   * @return true if the evaluation may run, false if the budget is spent
+   */
+  boolean tryEvaluate() {
+    if (throttledThisFrame >= budget) {
+      return false;
+    }
+    throttledThisFrame++;
+    evaluationsThisFrame++;
+    return true;
+  }
+
+  /**
+   * Records an evaluation which is not subject to the budget.
+   */
+  void recordEvaluation() {
+    evaluationsThisFrame++;
+  }
+
+  /**
+   * @return number of priority evaluations run during the last frame
+   */
+  public int getEvaluationsLastFrame() {
+    return evaluationsLastFrame;
+  }
+}
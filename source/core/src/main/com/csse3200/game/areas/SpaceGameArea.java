@@ -37,278 +37,8 @@ public class SpaceGameArea extends GameArea {
   private static final float WALL_WIDTH = 0.1f;
   private EntitiesSpawner hostileSpawner;
 
-  private static final String[] texturePaths = {
-          "images/tree.png",
-          "images/ghost_king.png",
-          "images/ghost_1.png",
-          "images/hex_grass_1.png",
-          "images/hex_grass_2.png",
-          "images/hex_grass_3.png",
-          "images/iso_grass_1.png",
-          "images/iso_grass_2.png",
-          "images/iso_grass_3.png",
-          "images/tool_shovel.png",
-          "images/fishing_rod.png",
-          "images/animals/egg.png",
-          "images/animals/milk.png",
-          "images/animals/golden_egg.png",
-          "images/animals/beef.png",
-          "images/lava_eel.png",
-          "images/salmon.png",
-          "images/golden_fish.png",
-          "images/animals/chicken_meat.png",
-
-          "images/tool_hoe.png",
-          "images/tool_scythe.png",
-          "images/tool_sword.png",
-          "images/tool_gun.png",
-          "images/tool_watering_can.png",
-          "images/animals/chicken.png",
-          "images/animals/cow.png",
-          "images/cropTile.png",
-          "images/cropTile_fertilised.png",
-          "images/watered_cropTile.png",
-          "images/watered_cropTile_fertilised.png",
-          "images/overwatered_cropTile.png",
-          "images/overwatered_cropTile_fertilised.png",
-          "images/bin.png",
-          "images/GOD_IS_game_ver.png",
-
-          "images/tractor.png",
-          "images/fertiliser.png",
-
-          "images/plants/cosmic_cob/1_seedling.png",
-          "images/plants/cosmic_cob/2_sprout.png",
-          "images/plants/cosmic_cob/3_juvenile.png",
-          "images/plants/cosmic_cob/4_adult.png",
-          "images/plants/cosmic_cob/5_decaying.png",
-          "images/plants/cosmic_cob/6_dead.png",
-          "images/plants/cosmic_cob/item_drop.png",
-          "images/plants/cosmic_cob/seedbag.png",
-
-          "images/plants/aloe_vera/1_seedling.png",
-          "images/plants/aloe_vera/2_sprout.png",
-          "images/plants/aloe_vera/3_juvenile.png",
-          "images/plants/aloe_vera/4_adult.png",
-          "images/plants/aloe_vera/5_decaying.png",
-          "images/plants/aloe_vera/6_dead.png",
-          "images/plants/aloe_vera/item_drop.png",
-          "images/plants/aloe_vera/seedbag.png",
-
-          "images/plants/hammer_plant/1_seedling.png",
-          "images/plants/hammer_plant/2_sprout.png",
-          "images/plants/hammer_plant/3_juvenile.png",
-          "images/plants/hammer_plant/4_adult.png",
-          "images/plants/hammer_plant/5_decaying.png",
-          "images/plants/hammer_plant/6_dead.png",
-          "images/plants/hammer_plant/item_drop.png",
-          "images/plants/hammer_plant/seedbag.png",
-
-          "images/plants/space_snapper/1_seedling.png",
-          "images/plants/space_snapper/2_sprout.png",
-          "images/plants/space_snapper/3_juvenile.png",
-          "images/plants/space_snapper/4_adult.png",
-          "images/plants/space_snapper/5_decaying.png",
-          "images/plants/space_snapper/6_dead.png",
-          "images/plants/space_snapper/item_drop.png",
-          "images/plants/space_snapper/seedbag.png",
-
-          "images/plants/atomic_algae/1_seedling.png",
-          "images/plants/atomic_algae/2_sprout.png",
-          "images/plants/atomic_algae/3_juvenile.png",
-          "images/plants/atomic_algae/4_adult.png",
-          "images/plants/atomic_algae/5_decaying.png",
-          "images/plants/atomic_algae/6_dead.png",
-          "images/plants/atomic_algae/item_drop.png",
-          "images/plants/atomic_algae/seedbag.png",
-
-          "images/plants/deadly_nightshade/1_seedling.png",
-          "images/plants/deadly_nightshade/2_sprout.png",
-          "images/plants/deadly_nightshade/3_juvenile.png",
-          "images/plants/deadly_nightshade/4_adult.png",
-          "images/plants/deadly_nightshade/5_decaying.png",
-          "images/plants/deadly_nightshade/6_dead.png",
-          "images/plants/deadly_nightshade/item_drop.png",
-          "images/plants/deadly_nightshade/seedbag.png",
-
-          "images/plants/misc/aloe_vera_seed.png",
-          "images/plants/misc/cosmic_cob_seed.png",
-          "images/plants/misc/deadly_nightshade_seed.png",
-          "images/plants/misc/hammer_plant_seed.png",
-          "images/plants/misc/space_snapper_seed.png",
-          "images/plants/misc/atomic_algae_seed.png",
-
-          "images/invisible_sprite.png",
-
-          "images/Player_Hunger/hunger_bar_outline.png",
-          "images/Player_Hunger/hunger_bar_fill.png",
-
-          "images/progress-bar/part1day1.png",
-          "images/progress-bar/part1day2.png",
-          "images/progress-bar/part1day3.png",
-          "images/progress-bar/part2day1.png",
-          "images/progress-bar/part2day2.png",
-          "images/progress-bar/part2day3.png",
-          "images/progress-bar/part2day4.png",
-          "images/progress-bar/part2day5.png",
-          "images/progress-bar/part2day6.png",
-          "images/progress-bar/part3day1.png",
-          "images/progress-bar/part3day2.png",
-          "images/progress-bar/part3day3.png",
-          "images/progress-bar/part3day4.png",
-          "images/progress-bar/part3day5.png",
-          "images/progress-bar/part3day6.png",
-          "images/progress-bar/part3day7.png",
-          "images/progress-bar/part3day8.png",
-          "images/progress-bar/part3day9.png",
-
-          "images/Player_Hunger/hunger_bar_outline.png",
-          "images/Player_Hunger/hunger_bar_fill.png",
-          "images/projectiles/oxygen_eater_projectile.png",
-          "images/projectiles/gun_projectile.png",
-
-          "images/yellowSquare.png",
-          "images/yellowCircle.png",
-
-          /* placeable */
-          "images/placeable/light.png",
-          "images/placeable/chest.png",
-          "images/placeable/sprinkler/pipe_null.png",
-          "images/placeable/sprinkler/pump.png",
-          // sprinklers - on
-          "images/placeable/sprinkler/on/pipe_left.png",
-          "images/placeable/sprinkler/on/pipe_right.png",
-          "images/placeable/sprinkler/on/pipe_horizontal.png",
-          "images/placeable/sprinkler/on/pipe_down.png",
-          "images/placeable/sprinkler/on/pipe_down_left.png",
-          "images/placeable/sprinkler/on/pipe_down_right.png",
-          "images/placeable/sprinkler/on/pipe_down_triple.png",
-          "images/placeable/sprinkler/on/pipe_up.png",
-          "images/placeable/sprinkler/on/pipe_up_left.png",
-          "images/placeable/sprinkler/on/pipe_up_right.png",
-          "images/placeable/sprinkler/on/pipe_up_triple.png",
-          "images/placeable/sprinkler/on/pipe_vertical.png",
-          "images/placeable/sprinkler/on/pipe_left_triple.png",
-          "images/placeable/sprinkler/on/pipe_right_triple.png",
-          "images/placeable/sprinkler/on/pipe_quad.png",
-          // sprinklers - off
-          "images/placeable/sprinkler/off/pipe_left.png",
-          "images/placeable/sprinkler/off/pipe_right.png",
-          "images/placeable/sprinkler/off/pipe_horizontal.png",
-          "images/placeable/sprinkler/off/pipe_down.png",
-          "images/placeable/sprinkler/off/pipe_down_left.png",
-          "images/placeable/sprinkler/off/pipe_down_right.png",
-          "images/placeable/sprinkler/off/pipe_down_triple.png",
-          "images/placeable/sprinkler/off/pipe_up.png",
-          "images/placeable/sprinkler/off/pipe_up_left.png",
-          "images/placeable/sprinkler/off/pipe_up_right.png",
-          "images/placeable/sprinkler/off/pipe_up_triple.png",
-          "images/placeable/sprinkler/off/pipe_vertical.png",
-          "images/placeable/sprinkler/off/pipe_left_triple.png",
-          "images/placeable/sprinkler/off/pipe_right_triple.png",
-          "images/placeable/sprinkler/off/pipe_quad.png",
-
-          "images/placeable/fences/g_d_u.png",
-          "images/placeable/fences/g_d_u_o.png",
-          "images/placeable/fences/g_r_l.png",
-          "images/placeable/fences/g_r_l_o.png",
-          "images/placeable/fences/f.png",
-          "images/placeable/fences/f_d.png",
-          "images/placeable/fences/f_d_u.png",
-          "images/placeable/fences/f_d_l.png",
-          "images/placeable/fences/f_r_d.png",
-          "images/placeable/fences/f_r_l_u.png",
-          "images/placeable/fences/f_u.png",
-          "images/placeable/fences/f_d_l_u.png",
-          "images/placeable/fences/f_l.png",
-          "images/placeable/fences/f_r_d_l.png",
-          "images/placeable/fences/f_r_d_u.png",
-          "images/placeable/fences/f_r.png",
-          "images/placeable/fences/f_l_u.png",
-          "images/placeable/fences/f_r_d_l_u.png",
-          "images/placeable/fences/f_r_l.png",
-          "images/placeable/fences/f_r_u.png",
-
-          "images/hostile_indicator.png",
-
-          "images/ship/ship_debris.png",
-          "images/ship/ship.png",
-          "images/ship/ship_part.png",
-          "images/ship/clue_item.png",
-          "images/ship/ship_part_tile.png",
-          "images/ship/part_tile_indicator.png",
-		  "images/walkietalkie.png",
-		  "images/teleporter.png",
-          
-          "images/PauseMenu/Pause_Overlay.jpg",
-          "images/PauseMenu/Pausenew.jpg",
-          "images/miniMap/shipIcon.png",
-          "images/miniMap/playerIcon.png",
-          "images/miniMap/plantIcon.png",
-          "images/miniMap/questGiverIcon.png",
-          "images/fish/fish_1.png",
-          "images/fish/fish_2.png",
-          "images/fish/fish_3.png",
-          "images/fish/fish_4.png",
-          "images/fish/fish_5.png",
-          "images/fish/fish_6.png",
-          "images/fish/fish_7.png",
-          "images/fish/fish_8.png",
-          "images/fish/fish_9.png",
-          "images/fish/fish_10.png",
-          "images/fish/fish_11.png",
-          "images/placeable/sprinkler/sprinkler_animation.png",
-  };
-
-  private static final String[] textureAtlasPaths = {
-      "images/terrain_iso_grass.atlas", "images/GOD_IS_game_ver.atlas", "images/ghost.atlas", "images/player.atlas", "images/ghostKing.atlas",
-      "images/animals/chicken.atlas", "images/animals/cow.atlas", "images/tractor.atlas",
-      "images/animals/astrolotl.atlas", "images/animals/oxygen_eater.atlas", "images/questgiver.atlas",
-      "images/missionStatus.atlas", "images/plants/cosmic_cob.atlas", "images/plants/aloe_vera.atlas",
-      "images/plants/hammer_plant.atlas", "images/plants/space_snapper.atlas", "images/plants/atomic_algae.atlas",
-      "images/plants/deadly_nightshade.atlas", "images/fireflies.atlas", "images/animals/dragonfly.atlas",
-      "images/animals/bat.atlas", "images/projectiles/oxygen_eater_projectile.atlas",
-      "images/ship/ship.atlas", "images/light.atlas", "images/projectiles/dragon_fly_projectile.atlas", "images/golden_trophy.atlas",
-      "images/projectiles/gun_projectile.atlas", "images/player_fishing.atlas", "images/walkietalkie.atlas",
-      "images/animals/animal_effects.atlas", "images/cutscene.atlas", "images/placeable/sprinkler/sprinkler_animation.atlas",
-      "images/shipeater.atlas", "images/plants/plant_aoe.atlas"
-  };
-
-  private static final String[] soundPaths = {
-          "sounds/Impact4.ogg", "sounds/car-horn-6408.mp3",
-          "sounds/animals/AstrolotlFeed.mp3",  "sounds/animals/BatAttack.mp3", "sounds/animals/ChickenFeed.mp3",
-          "sounds/animals/ChickenDeath.mp3", "sounds/animals/CowFeed.mp3",
-          "sounds/animals/CowDeath.mp3",  "sounds/animals/DeathOxygenEater.mp3",
-          "sounds/animals/DeathBats.mp3", "sounds/animals/DragonflyAttackPlant.mp3",
-          "sounds/animals/DragonFlyAttackPlayer.mp3",
-          "sounds/animals/OxygenEaterAttack.mp3", "sounds/animals/TamedAnimal.mp3",
-          "sounds/plants/click.wav", "sounds/plants/decay.wav",
-          "sounds/plants/destroy.wav", "sounds/plants/nearby.wav",
-          "sounds/plants/aloeVera/clickLore.wav", "sounds/plants/aloeVera/decayLore.wav",
-          "sounds/plants/aloeVera/destroyLore.wav", "sounds/plants/aloeVera/nearbyLore.wav",
-          "sounds/plants/cosmicCob/clickLore.wav", "sounds/plants/cosmicCob/decayLore.wav",
-          "sounds/plants/cosmicCob/destroyLore.wav", "sounds/plants/cosmicCob/nearbyLore.wav",
-          "sounds/plants/hammerPlant/clickLore.wav", "sounds/plants/hammerPlant/decayLore.wav",
-          "sounds/plants/hammerPlant/destroyLore.wav", "sounds/plants/hammerPlant/nearbyLore.wav",
-          "sounds/plants/nightshade/clickLore.wav", "sounds/plants/nightshade/decayLore.wav",
-          "sounds/plants/nightshade/destroyLore.wav", "sounds/plants/nightshade/nearbyLore.wav",
-          "sounds/plants/spaceSnapper/clickLore.wav", "sounds/plants/spaceSnapper/decayLore.wav",
-          "sounds/plants/spaceSnapper/destroyLore.wav", "sounds/plants/spaceSnapper/nearbyLore.wav",
-          "sounds/plants/atomicAlgae/clickLore.wav", "sounds/plants/atomicAlgae/decayLore.wav",
-          "sounds/plants/atomicAlgae/destroyLore.wav", "sounds/plants/atomicAlgae/nearbyLore.wav",
-          "sounds/player/PlayerDeath.mp3", "sounds/player/PlayerGetsHit.mp3",
-          "sounds/weapons/GunAttack.mp3",  "sounds/weapons/GunReload.mp3",
-          "sounds/weapons/SwordHitEntity.mp3", "sounds/weapons/SwordSwing.mp3",
-          "sounds/gate-interact.wav","sounds/tractor-start-up.wav", "sounds/shovel.wav",
-          "sounds/hoe.wav", "sounds/watering-can.wav", "sounds/place.wav", "sounds/fishing-cast.wav",
-          "sounds/applause.wav"
-  };
-
-  String[] skinPaths = {
-          "flat-earth/skin/flat-earth-ui.json",
-          "gardens-of-the-galaxy/gardens-of-the-galaxy.json",
-          "gardens-of-the-galaxy-v2-orange/gardens-of-the-galaxy-v2-orange.json"
-  };
+  /** Asset group of the terrain, creatures, items and sounds of the area */
+  private static final String ASSET_GROUP = "space-game-area";
   private final GameMap gameMap;
 
   private Entity player;
@@ -383,6 +113,9 @@ public class SpaceGameArea extends GameArea {
 
     // play background music
     ServiceLocator.getSoundService().getBackgroundMusicService().play(BackgroundMusicType.NORMAL);
+    if (ServiceLocator.getTimeService() != null) {
+      ServiceLocator.getSoundService().getBackgroundMusicService().followTimeOfDay(ServiceLocator.getTimeService());
+    }
 
     ShipDebrisComponent.clearCanSpawnShipEater();
 
@@ -528,13 +261,9 @@ public class SpaceGameArea extends GameArea {
     logger.debug("Loading assets");
     ResourceService resourceService = ServiceLocator.getResourceService();
 
-    // Leave this in until all sounds are added to the new sound system pls
-    resourceService.loadSounds(soundPaths);
-
-    resourceService.loadTextures(texturePaths);
-    resourceService.loadTextures(TerrainFactory.getMapTextures());
-    resourceService.loadTextureAtlases(textureAtlasPaths);
-    resourceService.loadSkins(skinPaths);
+    // The terrain and animated entities are drawn on the first frame. Other textures and sounds stream in,
+    // and any needed while the area is being created are loaded as soon as they are asked for.
+    resourceService.acquireGroup(ASSET_GROUP);
     try {
       ServiceLocator.getSoundService().getBackgroundMusicService()
               .loadSounds(Arrays.asList(BackgroundSoundFile.values()));
@@ -636,11 +365,7 @@ public class SpaceGameArea extends GameArea {
 
   private void unloadAssets() {
     logger.debug("Unloading assets");
-    ResourceService resourceService = ServiceLocator.getResourceService();
-    resourceService.unloadAssets(texturePaths);
-    resourceService.unloadAssets(TerrainFactory.getMapTextures());
-    resourceService.unloadAssets(textureAtlasPaths);
-    resourceService.unloadAssets(soundPaths);
+    ServiceLocator.getResourceService().releaseGroup(ASSET_GROUP);
   }
 
   @Override
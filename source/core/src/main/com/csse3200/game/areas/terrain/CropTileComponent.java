@@ -11,6 +11,7 @@ import com.csse3200.game.entities.Entity;
 import com.csse3200.game.missions.MissionManager;
 import com.csse3200.game.rendering.DynamicTextureRenderComponent;
 import com.csse3200.game.services.FactoryService;
+import com.csse3200.game.services.SaveChangeTracker;
 import com.csse3200.game.services.ServiceLocator;
 
 /**
@@ -54,6 +55,11 @@ public class CropTileComponent extends Component {
 	private Entity plant;
 	private DynamicTextureRenderComponent currentTexture;
 
+	/**
+	 * Water content at the end of the last update, to tell when the tile dries out
+	 */
+	private float lastWaterContent;
+
 	private static float weatherWaterDelta = 1.0f;
 	private static boolean isWaterLevelWeatherEffectActive = false;
 
@@ -110,7 +116,8 @@ public class CropTileComponent extends Component {
 	}
 
 	/**
-	 * Decreases water content in the tile by a constant amount.
+	 * Decreases water content in the tile by a constant amount. The tile is only saved again once its
+	 * water runs out, since autosaves save every tile with water in it anyway.
 	 */
 	@Override
 	public void update() {
@@ -120,6 +127,10 @@ public class CropTileComponent extends Component {
 		} else if (waterContent > 2) {
 			waterContent = 2;
 		}
+		if (waterContent == 0 && lastWaterContent > 0) {
+			notifySaveChangeTracker();
+		}
+		lastWaterContent = waterContent;
 
 		// Update the texture of the corresponding entity
 		if (currentTexture != null) {
@@ -135,6 +146,7 @@ public class CropTileComponent extends Component {
 	 */
 	private void waterTile(float amount) {
 		waterContent += amount;
+		notifySaveChangeTracker();
 	}
 
 	/**
@@ -142,6 +154,7 @@ public class CropTileComponent extends Component {
 	 */
 	private void fertiliseTile() {
 		isFertilised = true;
+		notifySaveChangeTracker();
 		ServiceLocator.getMissionManager().getEvents().trigger(MissionManager.MissionEvent.FERTILISE_CROP.name());
 	}
 
@@ -178,11 +191,12 @@ public class CropTileComponent extends Component {
 		}
 		plant = plantFactoryMethod.apply(this);
 		ServiceLocator.getEntityService().register(plant);
+		notifySaveChangeTracker();
 
 		PlantComponent plantComponent = plant.getComponent(PlantComponent.class);
 		if (plantComponent != null) {
-			ServiceLocator.getMissionManager().getEvents().trigger(
-					MissionManager.MissionEvent.PLANT_CROP.name(),
+			ServiceLocator.getMissionManager().getEventBus().trigger(
+					MissionManager.MissionEvent.PLANT_CROP,
 					plantComponent.getPlantName()
 			);
 		}
@@ -238,6 +252,37 @@ public class CropTileComponent extends Component {
 		return waterContent;
 	}
 
+	/**
+	 * Only to be used for loading, since it doesn't let the save change tracker know
+	 *
+	 * @param waterContent water content of the tile
+	 */
+	public void setWaterContent(float waterContent) {
+		this.waterContent = waterContent;
+	}
+
+	public float getSoilQuality() {
+		return soilQuality;
+	}
+
+	/**
+	 * Only to be used for loading
+	 *
+	 * @param soilQuality soil quality of the tile
+	 */
+	public void setSoilQuality(float soilQuality) {
+		this.soilQuality = soilQuality;
+	}
+
+	/**
+	 * Only to be used for loading, as it goes around the fertiliser mission
+	 *
+	 * @param isFertilised whether the tile is fertilised
+	 */
+	public void setFertilised(boolean isFertilised) {
+		this.isFertilised = isFertilised;
+	}
+
 	/**
 	 * Helper function to determine whether the tile is occupied by a plant
 	 *
@@ -253,6 +298,17 @@ public class CropTileComponent extends Component {
 	public void setUnoccupied() {
 		isFertilised = false;
 		plant = null;
+		notifySaveChangeTracker();
+	}
+
+	/**
+	 * Lets the save change tracker know that this tile needs saving again.
+	 */
+	public void notifySaveChangeTracker() {
+		SaveChangeTracker saveChangeTracker = ServiceLocator.getSaveChangeTracker();
+		if (saveChangeTracker != null && entity != null) {
+			saveChangeTracker.markChanged(entity);
+		}
 	}
 
 	/**
@@ -297,6 +353,44 @@ public class CropTileComponent extends Component {
 		this.plant = plant;
 	}
 
+	/**
+	 * Gets how fast the water level of every tile changes while a weather effect is active
+	 *
+	 * @return water change per second
+	 */
+	public float getWeatherWaterDelta() {
+		return weatherWaterDelta;
+	}
+
+	/**
+	 * Only to be used for loading. The value is shared by every crop tile.
+	 *
+	 * @param waterDelta water change per second while a weather effect is active
+	 */
+	public void setWeatherWaterDelta(float waterDelta) {
+		// Not set to static so it can be loaded like the tile's other fields
+		weatherWaterDelta = waterDelta;
+	}
+
+	/**
+	 * Whether a weather effect is changing the water level of every tile
+	 *
+	 * @return true if the weather effect is active
+	 */
+	public boolean isWaterLevelWeatherEffectActive() {
+		return isWaterLevelWeatherEffectActive;
+	}
+
+	/**
+	 * Only to be used for loading. The value is shared by every crop tile.
+	 *
+	 * @param active whether a weather effect is changing the water level
+	 */
+	public void setWaterLevelWeatherEffectActive(boolean active) {
+		// Not set to static so it can be loaded like the tile's other fields
+		isWaterLevelWeatherEffectActive = active;
+	}
+
 	private void startWaterLevelWeatherEffect(float waterDelta) {
 		// Not set to static as static methods can't be used in event listeners
 		weatherWaterDelta = waterDelta;
@@ -310,39 +404,21 @@ public class CropTileComponent extends Component {
 	}
 
 	/**
-	 * Writes in json summary of croptile state. Writes to json
-	 * the waterContent, soilQuality, isFertilised and plant
-	 * to the json
-	 * 
-	 * @param json which is a valid Json
+	 * Loads the plant saved on this tile. The plant is made again by its factory and spawned before its
+	 * saved state is read, so its animation can be restarted.
+	 *
+	 * @param json json being read
+	 * @param plantData saved plant entity, which is null if the tile had no plant
 	 */
-	@Override
-	public void write(Json json) {
-		json.writeObjectStart(this.getClass().getSimpleName());
-		json.writeValue("waterContent", waterContent);
-		json.writeValue("soilQuality", soilQuality);
-		json.writeValue("isFertilised", isFertilised);
-		json.writeValue("weatherWaterDelta", weatherWaterDelta);
-		json.writeValue("isWaterLevelWeatherEffectActive", isWaterLevelWeatherEffectActive);
-		json.writeValue(PLANT_STRING, plant);
-		json.writeObjectEnd();
-	}
-
-	@Override
-	public void read(Json json, JsonValue jsonMap) {
-		jsonMap = jsonMap.get("components").get("CropTileComponent");
-		waterContent = jsonMap.getFloat("waterContent");
-		soilQuality = jsonMap.getFloat("soilQuality");
-		isFertilised = jsonMap.getBoolean("isFertilised");
-		weatherWaterDelta = jsonMap.getFloat("weatherWaterDelta");
-		isWaterLevelWeatherEffectActive = jsonMap.getBoolean("isWaterLevelWeatherEffectActive");
-		JsonValue plantData = jsonMap.get(PLANT_STRING);
-		if (plantData.get("Entity") != null) {
-			plantData = plantData.get("components").get("PlantComponent");
-			plant = FactoryService.getPlantFactories().get(plantData.getString("name")).apply(this);
-			plant.getComponent(PlantComponent.class).read(json, plantData);
-		} else {
+	public void readPlant(Json json, JsonValue plantData) {
+		JsonValue plantComponents = plantData.get("components");
+		if (plantData.get("Entity") == null || plantComponents == null) {
 			plant = null;
+			return;
 		}
+		String plantName = plantComponents.get(PlantComponent.class.getSimpleName()).getString("name");
+		plant = FactoryService.getPlantFactories().get(plantName).apply(this);
+		ServiceLocator.getGameArea().spawnEntity(plant);
+		plant.getComponent(PlantComponent.class).read(json, plantComponents);
 	}
 }
@@ -1,11 +1,8 @@
 package com.csse3200.game.areas.terrain;
 
-import com.badlogic.gdx.utils.Json;
-import com.badlogic.gdx.utils.JsonValue;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.factories.ItemFactory;
-import com.csse3200.game.entities.factories.ShipDebrisFactory;
 import com.csse3200.game.services.ServiceLocator;
 
 /**
@@ -40,6 +37,15 @@ public class ShipPartTileComponent extends Component {
 		ServiceLocator.getGameArea().spawnEntity(this.shipDebris);
 	}
 
+	/**
+	 * Gets the ship debris associated with this tile.
+	 *
+	 * @return ship debris, or null if it has been destroyed
+	 */
+	public Entity getShipDebris() {
+		return shipDebris;
+	}
+
 	/**
 	 * Set the ship clue item associated with this tile.
 	 *
@@ -89,23 +95,4 @@ public class ShipPartTileComponent extends Component {
 			entity.dispose();
 		}
 	}
-
-	@Override
-	public void write(Json json) {
-		json.writeObjectStart(this.getClass().getSimpleName());
-		json.writeValue("shipDebris", shipDebris);
-		json.writeObjectEnd();
-	}
-
-	@Override
-	public void read(Json json, JsonValue jsonMap) {
-		jsonMap = jsonMap.get("components").get(this.getClass().getSimpleName());
-		JsonValue debrisData = jsonMap.get("shipDebris");
-		if (debrisData.get("Entity") != null) {
-			Entity newShipDebris = ShipDebrisFactory.createShipDebris();
-			addShipDebris(newShipDebris);
-		} else {
-			shipDebris = null;
-		}
-	}
 }
@@ -22,6 +22,7 @@ import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
 import com.badlogic.gdx.math.GridPoint2;
 import com.csse3200.game.areas.terrain.TerrainComponent.TerrainOrientation;
 import com.csse3200.game.components.CameraComponent;
+import com.csse3200.game.services.AssetManifest;
 import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
 import org.slf4j.Logger;
@@ -124,43 +125,8 @@ public class TerrainFactory {
         charToTileTypeMap = Collections.unmodifiableMap(tempMapB);
     }
 
-    /** List of strings storing map texture file paths */
-    private static final String[] mapTextures = {
-            "images/grass_1.png",
-            "images/grass_2.png",
-            "images/grass_3.png",
-            "images/beach_1.png",
-            "images/beach_2.png",
-            "images/beach_3.png",
-            "images/deepWater_1.png",
-            "images/deepWater_2.png",
-            "images/desert_1.png",
-            "images/desert_2.png",
-            "images/desert_3.png",
-            "images/dirt_1.png",
-            "images/dirt_2.png",
-            "images/dirt_3.png",
-            "images/dirtPathTop.png",
-            "images/dirtPathRight.png",
-            "images/dirtPathBottom.png",
-            "images/dirtPathLeft.png",
-            "images/gravel_1.png",
-            "images/ice_1.png",
-            "images/ice_2.png",
-            "images/lava_1.png",
-            "images/lavaGround_1.png",
-            "images/lavaGround_2.png",
-            "images/lavaGround_3.png",
-            "images/water_1.png",
-            "images/water_2.png",
-            "images/water_3.png",
-            "images/flowingWater_1.png",
-            "images/snow_1.png",
-            "images/snow_2.png",
-            "images/snow_3.png",
-            "images/stone_1.png",
-            "images/stonePath_1.png"
-    };
+    /** Asset group of the map textures */
+    public static final String ASSET_GROUP = "terrain";
 
     /**
      * Create a terrain factory with Orthogonal orientation.
@@ -182,8 +148,13 @@ public class TerrainFactory {
         this.orientation = orientation;
     }
 
+    /**
+     * Gets the map texture file paths, as listed in the asset manifest
+     *
+     * @return map texture file paths
+     */
     public static String[] getMapTextures() {
-        return mapTextures;
+        return AssetManifest.getDefault().getGroup(ASSET_GROUP).textures;
     }
 
     /**
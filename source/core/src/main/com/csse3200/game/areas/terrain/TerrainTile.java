@@ -4,7 +4,10 @@ import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.maps.MapObjects;
 import com.badlogic.gdx.maps.MapProperties;
 import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.csse3200.game.ai.pathfinding.PathfindingService;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.services.MinimapService;
+import com.csse3200.game.services.ServiceLocator;
 
 /**
  * Custom terrain tile implementation for tiled map terrain that stores
@@ -250,6 +253,7 @@ public class TerrainTile implements TiledMapTile {
    */
   public void setTerrainCategory(TerrainCategory terrainCategory) {
     this.terrainCategory = terrainCategory;
+    notifyMinimap();
   }
 
   /**
@@ -276,6 +280,7 @@ public class TerrainTile implements TiledMapTile {
    */
   public void setOccupied() {
     this.isOccupied = true;
+    notifyOccupancyChanged();
   }
 
   /**
@@ -283,6 +288,29 @@ public class TerrainTile implements TiledMapTile {
    */
   public void setUnOccupied() {
     this.isOccupied = false;
+    notifyOccupancyChanged();
+  }
+
+  /**
+   * Lets the pathfinding service know that this tile may have become blocked or unblocked, and the
+   * minimap that it may need redrawing.
+   */
+  private void notifyOccupancyChanged() {
+    PathfindingService pathfindingService = ServiceLocator.getPathfindingService();
+    if (pathfindingService != null) {
+      pathfindingService.onTileChanged(this);
+    }
+    notifyMinimap();
+  }
+
+  /**
+   * Lets the minimap know that this tile may need redrawing.
+   */
+  private void notifyMinimap() {
+    MinimapService minimapService = ServiceLocator.getMinimapService();
+    if (minimapService != null) {
+      minimapService.onTileChanged(this);
+    }
   }
 
   /**
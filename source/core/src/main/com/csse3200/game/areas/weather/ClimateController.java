@@ -43,6 +43,26 @@ public class ClimateController implements Json.Serializable {
 	 * representing how close to finish the lighting effect is (0 being just started, 1 being just finished)
 	 */
 	private Function<Float, Color> currentLightingEffectGradient;
+	/**
+	 * Number of samples taken from a lighting effect gradient when the effect starts
+	 */
+	private static final int LIGHTING_EFFECT_SAMPLES = 256;
+	/**
+	 * Colours of the current lighting effect gradient, sampled at evenly spaced t values between 0 and 1
+	 */
+	private final Color[] lightingEffectSamples = new Color[LIGHTING_EFFECT_SAMPLES + 1];
+	/**
+	 * The gradient the lighting effect samples were taken from
+	 */
+	private Function<Float, Color> sampledLightingEffectGradient;
+	/**
+	 * Colour offset applied to the global lighting, reused every frame
+	 */
+	private final Color lightingEffectColour = new Color();
+	/**
+	 * Whether the global lighting colour offset is known to be clear
+	 */
+	private boolean lightingEffectCleared;
 
 	/**
 	 * Creates a new climate controller that listens to time events and maintains the in-game climate
@@ -80,13 +100,39 @@ public class ClimateController implements Json.Serializable {
 
 		if (t < 0.0f || t > 1.0f) {
 			// If the lighting effect has completed, clear any colour offsets
-			ServiceLocator.getLightService().setColourOffset(Color.CLEAR);
+			if (!lightingEffectCleared) {
+				ServiceLocator.getLightService().setColourOffset(Color.CLEAR);
+				lightingEffectCleared = true;
+			}
 			return;
 		}
 
-		// Apply lighting effect colour to global ambient lighting
-		ServiceLocator.getLightService().setColourOffset(
-				currentLightingEffectGradient.apply(t));
+		if (sampledLightingEffectGradient != currentLightingEffectGradient) {
+			sampleLightingEffect();
+		}
+
+		// Apply lighting effect colour to global ambient lighting, interpolating between the nearest samples
+		float position = t * LIGHTING_EFFECT_SAMPLES;
+		int index = Math.min((int) position, LIGHTING_EFFECT_SAMPLES - 1);
+		lightingEffectColour.set(lightingEffectSamples[index])
+				.lerp(lightingEffectSamples[index + 1], position - index);
+		ServiceLocator.getLightService().setColourOffset(lightingEffectColour);
+		lightingEffectCleared = false;
+	}
+
+	/**
+	 * Samples the current lighting effect gradient, so it doesn't need to be evaluated every frame
+	 */
+	private void sampleLightingEffect() {
+		for (int i = 0; i <= LIGHTING_EFFECT_SAMPLES; i++) {
+			Color colour = currentLightingEffectGradient.apply((float) i / LIGHTING_EFFECT_SAMPLES);
+			if (lightingEffectSamples[i] == null) {
+				lightingEffectSamples[i] = new Color(colour);
+			} else {
+				lightingEffectSamples[i].set(colour);
+			}
+		}
+		sampledLightingEffectGradient = currentLightingEffectGradient;
 	}
 
 	/**
@@ -100,6 +146,7 @@ public class ClimateController implements Json.Serializable {
 		currentLightingEffectProgress = 0.0f;
 		currentLightingEffectDuration = duration;
 		currentLightingEffectGradient = colourGradient;
+		sampleLightingEffect();
 	}
 
 	/**
@@ -1,6 +1,8 @@
 package com.csse3200.game.components;
 
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.services.LightService;
 import com.csse3200.game.services.ServiceLocator;
 
 import box2dLight.PointLight;
@@ -17,6 +19,16 @@ public class AuraLightComponent extends Component{
 	 */
 	private boolean active;
 
+	/**
+	 * Whether the light never moves, so it is baked into the static light map
+	 */
+	private final boolean staticLight;
+
+	/**
+	 * Position the light was last moved to
+	 */
+	private final Vector2 lightPosition = new Vector2(Float.NaN, Float.NaN);
+
 	/**
 	 * Default light distance used if nothing is provided in the constructor
 	 */
@@ -59,7 +71,22 @@ public class AuraLightComponent extends Component{
 	 * @param color color of the light being created
 	 */
 	public AuraLightComponent(float distance, Color color) {
-		light = new PointLight(ServiceLocator.getLightService().getRayHandler(), 25, color, distance, 0, 0);
+		this(distance, color, false);
+	}
+
+	/**
+	 * Creates an AuraLightComponent which can be attached to an entity to enable it to produce light.
+	 * Static lights are baked into a light map once instead of being rendered every frame, so they should
+	 * only be used for entities which never move.
+	 * @param distance distance/spread of the light
+	 * @param color color of the light being created
+	 * @param staticLight whether the light never moves
+	 */
+	public AuraLightComponent(float distance, Color color, boolean staticLight) {
+		this.staticLight = staticLight;
+		LightService lightService = ServiceLocator.getLightService();
+		light = new PointLight((staticLight ? lightService.getStaticRayHandler() : lightService.getRayHandler()),
+				LightService.getRayCount(distance), color, distance, 0, 0);
 		light.setStaticLight(true);
 		light.setXray(true); // Stops most of the shadows and reduces CPU burden
 		light.setSoft(true);
@@ -73,7 +100,7 @@ public class AuraLightComponent extends Component{
 	@Override
 	public void create() {
 		super.create();
-		light.setPosition(entity.getCenterPosition());
+		moveLight(entity.getCenterPosition());
 		entity.getEvents().addListener("toggleLight", this::toggleLight);
 		entity.getEvents().addListener("toggleAuraLight", this::toggleLight);
 	}
@@ -84,6 +111,7 @@ public class AuraLightComponent extends Component{
 	 */
 	public void setDistance(float distance) {
 		light.setDistance(distance);
+		markLightChanged();
 	}
 
 	/**
@@ -92,6 +120,7 @@ public class AuraLightComponent extends Component{
 	 */
 	public void setColor(Color color) {
 		light.setColor(color);
+		markLightChanged();
 	}
 
 	/**
@@ -100,6 +129,10 @@ public class AuraLightComponent extends Component{
 	public void toggleLight() {
 		active = !active;
 		light.setActive(active);
+		if (active && entity != null) {
+			moveLight(entity.getCenterPosition());
+		}
+		markLightChanged();
 	}
 
 	/**
@@ -111,11 +144,43 @@ public class AuraLightComponent extends Component{
 	}
 
 	/**
-	 * Called every frame draw to ensure that the position of the light is the same as the entity
+	 * Called every frame draw to ensure that the position of the light is the same as the entity. Lights
+	 * which are off, haven't moved or can't be seen are left alone so the light map can be reused.
 	 */
 	@Override
 	public void update() {
-		light.setPosition(entity.getCenterPosition());
+		Vector2 position = entity.getCenterPosition();
+		if (!active || position.equals(lightPosition)) {
+			return;
+		}
+		LightService lightService = ServiceLocator.getLightService();
+		float distance = light.getDistance();
+		// Static lights are baked over the whole map, so they are moved even when they can't be seen
+		if (staticLight || lightService.isVisible(position, distance)
+				|| lightService.isVisible(lightPosition, distance)) {
+			moveLight(position);
+		}
+	}
+
+	/**
+	 * Moves the light to a new position
+	 * @param position new position of the light
+	 */
+	private void moveLight(Vector2 position) {
+		light.setPosition(position);
+		lightPosition.set(position);
+		markLightChanged();
+	}
+
+	/**
+	 * Tells the light service this light has changed, so the light map it belongs to is rendered again
+	 */
+	private void markLightChanged() {
+		if (staticLight) {
+			ServiceLocator.getLightService().markStaticChanged();
+		} else {
+			ServiceLocator.getLightService().markChanged();
+		}
 	}
 
 	/**
@@ -124,5 +189,6 @@ public class AuraLightComponent extends Component{
 	@Override
 	public void dispose() {
 		light.remove();
+		markLightChanged();
 	}
 }
@@ -5,6 +5,7 @@ import org.slf4j.LoggerFactory;
 
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.JsonValue;
+import com.csse3200.game.components.serialisation.ComponentSerialisers;
 import com.csse3200.game.entities.Entity;
 
 /**
@@ -103,11 +104,24 @@ public class Component implements Json.Serializable {
     return entity + "." + className;
   }
 
+  /**
+   * Saves the component. Components registered in {@link ComponentSerialisers} are saved by their
+   * serialiser; override this method to save anything else.
+   *
+   * @param json json being written
+   */
   public void write(Json json) {
-    // Overwrite this method to save data
+    ComponentSerialisers.write(this, json);
   }
 
+  /**
+   * Loads the component. Components registered in {@link ComponentSerialisers} are loaded by their
+   * serialiser; override this method to load anything else.
+   *
+   * @param json json being read
+   * @param jsonMap saved components of the entity, keyed by class name
+   */
   public void read(Json json, JsonValue jsonMap) {
-    // Overwrite this method to load data
+    ComponentSerialisers.read(this, json, jsonMap);
   }
 }
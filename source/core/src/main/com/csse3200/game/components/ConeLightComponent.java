@@ -1,7 +1,8 @@
 package com.csse3200.game.components;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.services.LightService;
 import com.csse3200.game.services.ServiceLocator;
 
 import box2dLight.ConeLight;
@@ -18,6 +19,16 @@ public class ConeLightComponent extends Component {
 	 */
 	private boolean active;
 
+	/**
+	 * Whether the light never moves, so it is baked into the static light map
+	 */
+	private final boolean staticLight;
+
+	/**
+	 * Position the light was last moved to
+	 */
+	private final Vector2 lightPosition = new Vector2(Float.NaN, Float.NaN);
+
 	/**
 	 * Default light distance used if nothing is provided in the constructor
 	 */
@@ -95,7 +106,26 @@ public class ConeLightComponent extends Component {
 	 * @param coneDegree      size of the cone in degrees
 	 */
 	public ConeLightComponent(float distance, Color color, float directionDegree, float coneDegree) {
-		light = new ConeLight(ServiceLocator.getLightService().getRayHandler(), 25, color, distance, 0, 0, directionDegree, coneDegree);
+		this(distance, color, directionDegree, coneDegree, false);
+	}
+
+	/**
+	 * Creates an ConeLightComponent which can be attached to an entity to enable it to produce light.
+	 * Static lights are baked into a light map once instead of being rendered every frame, so they should
+	 * only be used for entities which never move.
+	 *
+	 * @param distance        distance/spread of the light
+	 * @param color           color of the light being created
+	 * @param directionDegree direction that the light is pointing in
+	 * @param coneDegree      size of the cone in degrees
+	 * @param staticLight     whether the light never moves
+	 */
+	public ConeLightComponent(float distance, Color color, float directionDegree, float coneDegree,
+			boolean staticLight) {
+		this.staticLight = staticLight;
+		LightService lightService = ServiceLocator.getLightService();
+		light = new ConeLight((staticLight ? lightService.getStaticRayHandler() : lightService.getRayHandler()),
+				LightService.getRayCount(distance), color, distance, 0, 0, directionDegree, coneDegree);
 		light.setStaticLight(true);
 		light.setXray(true); // Stops most of the shadows and reduces CPU burden
 		light.setSoft(true);
@@ -109,11 +139,20 @@ public class ConeLightComponent extends Component {
 	@Override
 	public void create() {
 		super.create();
-		light.setPosition(entity.getCenterPosition());
+		moveLight(entity.getCenterPosition());
 		entity.getEvents().addListener("toggleLight", this::toggleLight);
 		entity.getEvents().addListener("toggleConeLight", this::toggleLight);
 	}
 
+	/**
+	 * Gets the distance/spread of the light
+	 *
+	 * @return distance/spread of the light
+	 */
+	public float getDistance() {
+		return light.getDistance();
+	}
+
 	/**
 	 * Sets the distance/spread of the light
 	 *
@@ -121,6 +160,7 @@ public class ConeLightComponent extends Component {
 	 */
 	public void setDistance(float distance) {
 		light.setDistance(distance);
+		markLightChanged();
 	}
 
 	/**
@@ -130,6 +170,7 @@ public class ConeLightComponent extends Component {
 	 */
 	public void setColor(Color color) {
 		light.setColor(color);
+		markLightChanged();
 	}
 
 	/**
@@ -138,6 +179,10 @@ public class ConeLightComponent extends Component {
 	public void toggleLight() {
 		active = !active;
 		light.setActive(active);
+		if (active && entity != null) {
+			moveLight(entity.getCenterPosition());
+		}
+		markLightChanged();
 	}
 
 	/**
@@ -149,6 +194,17 @@ public class ConeLightComponent extends Component {
 		return light.isActive();
 	}
 
+	/**
+	 * Turns the light on or off, if it is not already in that state
+	 *
+	 * @param active whether the light should be on
+	 */
+	public void setActive(boolean active) {
+		if (getActive() != active) {
+			toggleLight();
+		}
+	}
+
 
 	/**
 	 * Changes the direction of the cone light
@@ -157,6 +213,7 @@ public class ConeLightComponent extends Component {
 	 */
 	public void setDirection(float direction) {
 		light.setDirection(direction);
+		markLightChanged();
 	}
 
 	/**
@@ -165,33 +222,55 @@ public class ConeLightComponent extends Component {
 	 */
 	public void setConeDegree(float coneDegree) {
 		light.setConeDegree(coneDegree);
+		markLightChanged();
 	}
 
 	/**
-	 * Called every frame draw to ensure that the position of the light is the same as the entity
+	 * Called every frame draw to ensure that the position of the light is the same as the entity. Lights
+	 * which are off, haven't moved or can't be seen are left alone so the light map can be reused.
 	 */
 	@Override
 	public void update() {
-		light.setPosition(entity.getCenterPosition());
+		Vector2 position = entity.getCenterPosition();
+		if (!active || position.equals(lightPosition)) {
+			return;
+		}
+		LightService lightService = ServiceLocator.getLightService();
+		float distance = light.getDistance();
+		// Static lights are baked over the whole map, so they are moved even when they can't be seen
+		if (staticLight || lightService.isVisible(position, distance)
+				|| lightService.isVisible(lightPosition, distance)) {
+			moveLight(position);
+		}
 	}
 
 	/**
-	 * Disposes of the light if the entity is disposed
+	 * Moves the light to a new position
+	 * @param position new position of the light
 	 */
-	@Override
-	public void dispose() {
-		light.remove();
+	private void moveLight(Vector2 position) {
+		light.setPosition(position);
+		lightPosition.set(position);
+		markLightChanged();
 	}
 
 	/**
-	 * Writes to the json in order to store the lights state
+	 * Tells the light service this light has changed, so the light map it belongs to is rendered again
+	 */
+	private void markLightChanged() {
+		if (staticLight) {
+			ServiceLocator.getLightService().markStaticChanged();
+		} else {
+			ServiceLocator.getLightService().markChanged();
+		}
+	}
+
+	/**
+	 * Disposes of the light if the entity is disposed
 	 */
 	@Override
-	public void write(Json json){
-		json.writeObjectStart(this.getClass().getSimpleName());
-		//Save the muted value to the json file
-		json.writeValue("isActive", active);
-		json.writeValue("distance", light.getDistance());
-		json.writeObjectEnd();
+	public void dispose() {
+		light.remove();
+		markLightChanged();
 	}
 }
\ No newline at end of file
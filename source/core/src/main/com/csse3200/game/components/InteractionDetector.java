@@ -12,23 +12,34 @@ import com.badlogic.gdx.physics.box2d.Fixture;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.EntityType;
 import com.csse3200.game.physics.BodyUserData;
+import com.csse3200.game.physics.PhysicsLayer;
+import com.csse3200.game.physics.SpatialIndexService;
 import com.csse3200.game.physics.components.HitboxComponent;
+import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.utils.DirectionUtils;
 
 /**
  * Represents a component that handles interaction detection with entities
  * within a specified range.
+ * When a {@link SpatialIndexService} is registered, range membership is answered by the
+ * spatial index instead of a Box2D sensor fixture.
  */
-public class InteractionDetector extends HitboxComponent {
+public class InteractionDetector extends HitboxComponent implements SpatialIndexService.Sensor {
     /** List of entities currently in the interaction range. */
     private final List<Entity> entitiesInRange = new ArrayList<>();
 
+    /** Read only view of entitiesInRange handed out to callers. */
+    private final List<Entity> entitiesInRangeView = Collections.unmodifiableList(entitiesInRange);
+
     /** The interaction range within which entities are detected. */
     private final float range;
 
     private List<EntityType> interactableEntities = null;
     private boolean notifyOnDetection = false;
 
+    /** Spatial index this detector is registered with, or null if it uses a sensor fixture. */
+    private SpatialIndexService spatialIndex;
+
     /**
      * Constructs an InteractionDetector with the specified interaction range.
      *
@@ -52,19 +63,75 @@ public class InteractionDetector extends HitboxComponent {
      * When entity is created, sets up circular collider with radius as range used
      * for detecting entities.
      * Also attaches collision event listeners.
+     * If a spatial index is available, the detector registers with it instead.
      */
     @Override
     public void create() {
+        spatialIndex = ServiceLocator.getSpatialIndexService();
+        if (spatialIndex != null) {
+            spatialIndex.addSensor(this);
+            return;
+        }
+
         CircleShape shape = new CircleShape();
         shape.setRadius(range);
         shape.setPosition(entity.getScale().scl(0.5f));
 
-        entity.getEvents().addListener("collisionStart", this::onCollisionStart);
-        entity.getEvents().addListener("collisionEnd", this::onCollisionEnd);
+        addCollisionListener(PhysicsLayer.ALL, this::onCollisionStart, this::onCollisionEnd);
         setShape(shape);
         super.create();
     }
 
+    @Override
+    public void dispose() {
+        if (spatialIndex != null) {
+            // No fixture was created, so there is nothing for the collider to destroy
+            spatialIndex.removeSensor(this);
+            return;
+        }
+        super.dispose();
+    }
+
+    @Override
+    protected boolean isSpatialTarget() {
+        return false;
+    }
+
+    @Override
+    public void getSensorCentre(Vector2 out) {
+        out.set(entity.getCenterPosition());
+    }
+
+    @Override
+    public float getSensorRadius() {
+        return range;
+    }
+
+    @Override
+    public boolean accepts(Entity target) {
+        return interactableEntities == null || interactableEntities.contains(target.getType());
+    }
+
+    @Override
+    public void onEnter(Entity target) {
+        entitiesInRange.add(target);
+
+        if (notifyOnDetection) {
+            entity.getEvents().trigger("entityDetected", target);
+        }
+    }
+
+    @Override
+    public void onExit(Entity target) {
+        if (!entitiesInRange.remove(target)) {
+            return;
+        }
+
+        if (notifyOnDetection) {
+            entity.getEvents().trigger("entityExitDetected", target);
+        }
+    }
+
     /**
      * Adds entity to entitiesInRange on collision start.
      *
@@ -83,15 +150,11 @@ public class InteractionDetector extends HitboxComponent {
             return;
         }
 
-        if (interactableEntities != null && !interactableEntities.contains(target.getType())) {
-                return;
+        if (!accepts(target)) {
+            return;
         }
 
-        entitiesInRange.add(target);
-
-        if (notifyOnDetection) {
-            entity.getEvents().trigger("entityDetected", target);
-        }
+        onEnter(target);
     }
 
     /**
@@ -112,15 +175,7 @@ public class InteractionDetector extends HitboxComponent {
             return;
         }
 
-        if (!entitiesInRange.contains(target)) {
-            return;
-        }
-
-        entitiesInRange.remove(target);
-
-        if (notifyOnDetection) {
-            entity.getEvents().trigger("entityExitDetected", target);
-        }
+        onExit(target);
     }
 
     public void notifyOnDetection(boolean notify) {
@@ -129,11 +184,12 @@ public class InteractionDetector extends HitboxComponent {
 
     /**
      * Gets the list of entities currently in the interaction range.
+     * The list is a read only view which changes as entities enter and leave the range.
      *
      * @return A list of entities within the interaction range.
      */
     public List<Entity> getEntitiesInRange() {
-        return new ArrayList<>(entitiesInRange);
+        return entitiesInRangeView;
     }
 
     /**
@@ -146,13 +202,15 @@ public class InteractionDetector extends HitboxComponent {
      * @return A list of entities within the interaction range in the specified direction.
      */
     public List<Entity> getEntitiesTowardsDirection(String direction) {
-        List<Entity> entities = getEntitiesInRange();
-        entities.removeIf(entity -> {
-            Vector2 targetDirectionVector = entity.getCenterPosition().sub(this.entity.getCenterPosition());
+        List<Entity> entities = new ArrayList<>();
+        for (Entity target : getEntitiesInRange()) {
+            Vector2 targetDirectionVector = target.getCenterPosition().sub(this.entity.getCenterPosition());
             String targetDirection = DirectionUtils.vectorToDirection(targetDirectionVector);
 
-            return !Objects.equals(targetDirection, direction);
-        });
+            if (Objects.equals(targetDirection, direction)) {
+                entities.add(target);
+            }
+        }
         return entities;
     }
 
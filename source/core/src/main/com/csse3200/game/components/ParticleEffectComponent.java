@@ -67,6 +67,18 @@ public class ParticleEffectComponent extends Component {
 		}
 	}
 
+	/**
+	 * Adds the number of active particles in each of this component's effects to a running count.
+	 * @param counts active particle counts, indexed by
+	 *               {@link com.csse3200.game.services.ParticleService.ParticleEffectType} ordinal
+	 */
+	public void countParticles(int[] counts) {
+		for (ParticleEffectWrapper wrapper : effects) {
+			counts[ParticleService.ParticleEffectType.valueOf(wrapper.getType()).ordinal()] +=
+					ParticleService.countParticles(wrapper.getPooledEffect());
+		}
+	}
+
 	/**
 	 * Starts a {@link ParticleEffect} on an entity, enabling this component to control it throughout its lifecycle
 	 * @param effectType type of {@link ParticleEffect} to be added to the entity
@@ -1,7 +1,5 @@
 package com.csse3200.game.components.combat;
 
-import com.badlogic.gdx.utils.Json;
-import com.badlogic.gdx.utils.JsonValue;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.services.sound.EffectSoundFile;
@@ -165,11 +163,12 @@ public class CombatStatsComponent extends Component {
         default:
           effect = null;
       }
-      try {
-        ServiceLocator.getSoundService().getEffectsMusicService().play(effect);
-        Thread.sleep(100);
-      } catch (Exception e) {
-        logger.error("Failed to play animal sound", e);
+      if (effect != null) {
+        try {
+          ServiceLocator.getSoundService().getEffectsMusicService().play(effect, entity.getCenterPosition());
+        } catch (Exception e) {
+          logger.error("Failed to play animal sound", e);
+        }
       }
       entity.getEvents().trigger("death");
 	    ServiceLocator.getMissionManager().getEvents().trigger(
@@ -177,18 +176,4 @@ public class CombatStatsComponent extends Component {
 	    handleDeath();
     }
   }
-
-	@Override
-	public void write(Json json) {
-		json.writeObjectStart(this.getClass().getSimpleName());
-		json.writeValue("health", this.health);
-		json.writeObjectEnd();
-	}
-
-	@Override
-	public void read(Json json, JsonValue jsonValue) {
-		jsonValue = jsonValue.get(this.getClass().getSimpleName());
-		int healthRead = jsonValue.getInt("health");
-		setHealth(healthRead);
-	}
 }
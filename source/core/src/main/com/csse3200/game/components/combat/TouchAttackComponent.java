@@ -49,8 +49,10 @@ public class TouchAttackComponent extends Component {
 
   @Override
   public void create() {
-    entity.getEvents().addListener("collisionStart", this::onCollisionStart);
     hitboxComponent = entity.getComponent(HitboxComponent.class);
+    if (hitboxComponent != null) {
+      hitboxComponent.addCollisionListener(targetLayer, this::onCollisionStart, null);
+    }
   }
 
   private void onCollisionStart(Fixture me, Fixture other) {
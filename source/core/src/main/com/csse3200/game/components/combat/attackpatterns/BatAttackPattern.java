@@ -44,7 +44,7 @@ public class BatAttackPattern extends AttackPatternComponent {
         nearestEntity.getComponent(CombatStatsComponent.class).hit(entity.getComponent(CombatStatsComponent.class));
 
         try {
-            ServiceLocator.getSoundService().getEffectsMusicService().play(EffectSoundFile.BAT_ATTACK);
+            ServiceLocator.getSoundService().getEffectsMusicService().play(EffectSoundFile.BAT_ATTACK, entity.getCenterPosition());
         } catch (Exception e) {
             logger.error("Failed to play bat attack player sound", e);
         }
@@ -122,7 +122,7 @@ DragonflyAttackPattern extends AttackPatternComponent {
         entity.getEvents().trigger("attackStart");
         entity.getEvents().trigger("startEffect", "attack"); // if no player found, stop effect
         try {
-            ServiceLocator.getSoundService().getEffectsMusicService().play(EffectSoundFile.DRAGONFLY_ATTACK_PLAYER);
+            ServiceLocator.getSoundService().getEffectsMusicService().play(EffectSoundFile.DRAGONFLY_ATTACK_PLAYER, entity.getCenterPosition());
         } catch (Exception e) {
             logger.error("Failed to play dragonfly attack player sound", e);
         }
@@ -147,7 +147,7 @@ DragonflyAttackPattern extends AttackPatternComponent {
         entity.getEvents().trigger("directionChange", attackDirection);
         entity.getEvents().trigger("attackStart");
         try {
-            ServiceLocator.getSoundService().getEffectsMusicService().play(EffectSoundFile.DRAGONFLY_ATTACK_PLANT);
+            ServiceLocator.getSoundService().getEffectsMusicService().play(EffectSoundFile.DRAGONFLY_ATTACK_PLANT, entity.getCenterPosition());
         } catch (Exception e) {
             logger.error("Failed to play dragonfly attack plant sound", e);
         }
@@ -76,7 +76,7 @@ public class OxygenEaterAttackPattern extends AttackPatternComponent {
      */
     private void shoot(Vector2 position) {
         try {
-            ServiceLocator.getSoundService().getEffectsMusicService().play(EffectSoundFile.OXYGEN_ATTACK);
+            ServiceLocator.getSoundService().getEffectsMusicService().play(EffectSoundFile.OXYGEN_ATTACK, entity.getCenterPosition());
         } catch (Exception e) {
             logger.error("Failed to play Oxygen Eater attack player sound", e);
         }
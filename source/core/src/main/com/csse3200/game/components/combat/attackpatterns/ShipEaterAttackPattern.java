@@ -86,7 +86,7 @@ public class ShipEaterAttackPattern extends Component {
         shipEntity.getEvents().trigger(ShipFactory.events.REMOVE_PART.name(), 1);
 
         try {
-            ServiceLocator.getSoundService().getEffectsMusicService().play(EffectSoundFile.SHIP_EATER_ATTACK);
+            ServiceLocator.getSoundService().getEffectsMusicService().play(EffectSoundFile.SHIP_EATER_ATTACK, entity.getCenterPosition());
         } catch (InvalidSoundFileException ignored) {
 
         }
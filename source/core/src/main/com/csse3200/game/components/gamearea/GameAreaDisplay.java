@@ -103,9 +103,11 @@ public class GameAreaDisplay extends UIComponent {
       @Override
       public void changed(ChangeEvent event, Actor actor) {
         messageLabel.setVisible(false);
-        messageLabel.setText("                      Current Game Saved!");
+        messageLabel.setText("                         Saving Game...");
         messageLabel.setVisible(true);
-        ServiceLocator.getSaveLoadService().save();
+        ServiceLocator.getSaveLoadService().save(saved -> messageLabel.setText(saved
+                ? "                      Current Game Saved!"
+                : "                        Could Not Save!"));
       }
     });
     buttons.add(saveBtn);
@@ -118,9 +120,11 @@ public class GameAreaDisplay extends UIComponent {
       @Override
       public void changed(ChangeEvent event, Actor actor) {
         messageLabel.setVisible(false);
-        messageLabel.setText("                    Previous Game Loaded!");
+        messageLabel.setText("                  Loading Previous Game...");
         messageLabel.setVisible(true);
-        ServiceLocator.getSaveLoadService().load();
+        ServiceLocator.getSaveLoadService().load(loaded -> messageLabel.setText(loaded
+                ? "                    Previous Game Loaded!"
+                : "                        Could Not Load!"));
       }
     });
     buttons.add(loadBtn);
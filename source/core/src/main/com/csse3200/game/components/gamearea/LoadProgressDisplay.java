@@ -0,0 +1,48 @@
+package com.csse3200.game.components.gamearea;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.csse3200.game.services.SaveLoadService;
+import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.ui.UIComponent;
+
+/**
+ * Shows how far through loading a save the game is, while a save is being loaded.
+ */
+public class LoadProgressDisplay extends UIComponent {
+	private static final float Z_INDEX = 5f;
+	private Label progressLabel;
+
+	@Override
+	public void create() {
+		super.create();
+		progressLabel = new Label("", skin, "large");
+		progressLabel.setVisible(false);
+		stage.addActor(progressLabel);
+	}
+
+	@Override
+	public void draw(SpriteBatch batch) {
+		SaveLoadService saveLoadService = ServiceLocator.getSaveLoadService();
+		if (saveLoadService == null || !saveLoadService.isLoading()) {
+			progressLabel.setVisible(false);
+			return;
+		}
+		progressLabel.setText(String.format("Loading save... %d%%", (int) (saveLoadService.getLoadProgress() * 100)));
+		progressLabel.pack();
+		progressLabel.setPosition((stage.getWidth() - progressLabel.getWidth()) / 2,
+				(stage.getHeight() - progressLabel.getHeight()) / 2);
+		progressLabel.setVisible(true);
+	}
+
+	@Override
+	public float getZIndex() {
+		return Z_INDEX;
+	}
+
+	@Override
+	public void dispose() {
+		super.dispose();
+		progressLabel.remove();
+	}
+}
@@ -4,7 +4,11 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.csse3200.game.services.ParticleService;
+import com.csse3200.game.services.ResourceService;
+import com.csse3200.game.services.SaveLoadService;
 import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.sound.EffectsMusicService;
 import com.csse3200.game.ui.UIComponent;
 
 /**
@@ -51,6 +55,48 @@ public class PerformanceDisplay extends UIComponent {
 						.concat(String.format("DAY: %d%n", ServiceLocator.getTimeService().getDay()))
 						.concat(String.format("TIME: %d: %d%n", ServiceLocator.getTimeService().getHour(),
                                 ServiceLocator.getTimeService().getMinute()));
+		if (ServiceLocator.getAITaskScheduler() != null) {
+			message = message.concat(String.format("AI EVALS: %d%n",
+					ServiceLocator.getAITaskScheduler().getEvaluationsLastFrame()));
+		}
+		if (ServiceLocator.getVisibilityService() != null) {
+			message = message.concat(String.format("RAYCASTS: %d / %d%n",
+					ServiceLocator.getVisibilityService().getRaycastsLastFrame(),
+					ServiceLocator.getVisibilityService().getQueriesLastFrame()));
+		}
+		if (ServiceLocator.getLightService() != null) {
+			message = message.concat(String.format("LIGHTING: %.2f ms%s%n",
+					ServiceLocator.getLightService().getLastRenderTime(),
+					ServiceLocator.getLightService().wasLightUpdateSkipped() ? " (no update)" : ""));
+		}
+		ResourceService resourceService = ServiceLocator.getResourceService();
+		if (resourceService != null) {
+			message = message.concat(String.format("ASSETS: %d streamed, %d queued%n",
+					resourceService.getStreamedAssets(), resourceService.getStreamQueueSize()));
+		}
+		SaveLoadService saveLoadService = ServiceLocator.getSaveLoadService();
+		if (saveLoadService != null) {
+			message = message.concat(String.format("SAVE SNAPSHOT: %.2f ms%s%n", saveLoadService.getLastSnapshotTime(),
+					saveLoadService.isSaving() ? " (writing)" : ""));
+		}
+		ParticleService particleService = ServiceLocator.getParticleService();
+		if (particleService != null) {
+			message = message.concat(String.format("PARTICLES: %d / %d%n", particleService.getTotalParticleCount(),
+					ParticleService.PARTICLE_BUDGET));
+			for (ParticleService.ParticleEffectType effectType : ParticleService.ParticleEffectType.values()) {
+				int count = particleService.getParticleCount(effectType);
+				if (count > 0) {
+					message = message.concat(String.format("  %s: %d%n", effectType.name(), count));
+				}
+			}
+		}
+		if (ServiceLocator.getSoundService() != null
+				&& ServiceLocator.getSoundService().getEffectsMusicService() != null) {
+			EffectsMusicService effects = ServiceLocator.getSoundService().getEffectsMusicService();
+			message = message.concat(String.format("SOUNDS: %d / %d voices (%d stolen, %d culled, %d merged)%n",
+					effects.getActiveVoiceCount(), EffectsMusicService.MAX_VOICES, effects.getVoicesStolen(),
+					effects.getVoicesCulled(), effects.getVoicesDeduplicated()));
+		}
 		return message;
 	}
 
@@ -1,8 +1,6 @@
 package com.csse3200.game.components.items;
 
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.Json;
-import com.badlogic.gdx.utils.JsonValue;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.components.player.InventoryComponent;
 import com.csse3200.game.services.ServiceLocator;
@@ -53,6 +51,15 @@ public class ClueComponent extends Component {
 		return currentBaseLocation;
 	}
 
+	/**
+	 * Sets the base location of this item, for example when loading a save.
+	 *
+	 * @param currentBaseLocation the base location.
+	 */
+	public void setCurrentBaseLocation(Vector2 currentBaseLocation) {
+		this.currentBaseLocation = currentBaseLocation;
+	}
+
 	/**
 	 * Removes the parent entity (item) from the player's inventory.
 	 */
@@ -60,21 +67,4 @@ public class ClueComponent extends Component {
 		ServiceLocator.getGameArea().getPlayer().getComponent(InventoryComponent.class).removeItem(entity);
 		entity.dispose();
 	}
-
-	@Override
-	public void write(Json json) {
-		json.writeObjectStart(this.getClass().getSimpleName());
-		json.writeValue("currentBaseLocationX", currentBaseLocation.x);
-		json.writeValue("currentBaseLocationY", currentBaseLocation.y);
-		json.writeObjectEnd();
-	}
-
-	@Override
-	public void read(Json json, JsonValue jsonMap) {
-		jsonMap = jsonMap.get(this.getClass().getSimpleName());
-		currentBaseLocation = new Vector2(
-				jsonMap.getFloat("currentBaseLocationX"),
-				jsonMap.getFloat("currentBaseLocationY")
-		);
-	}
 }
\ No newline at end of file
@@ -461,8 +461,8 @@ public class ItemActions extends Component {
     // A water amount of 0.2
     tile.getOccupant().getEvents().trigger("water", 0.2f);
     if (tile.getOccupant().getComponent(CropTileComponent.class).getPlant() != null) {
-      ServiceLocator.getMissionManager().getEvents().trigger(
-              MissionManager.MissionEvent.WATER_CROP.name(),
+      ServiceLocator.getMissionManager().getEventBus().trigger(
+              MissionManager.MissionEvent.WATER_CROP,
               tile.getOccupant().getComponent(CropTileComponent.class).getPlant().getComponent(PlantComponent.class).getPlantName());
     }
     return true;
@@ -1,7 +1,5 @@
 package com.csse3200.game.components.items;
 
-import com.badlogic.gdx.utils.Json;
-import com.badlogic.gdx.utils.JsonValue;
 import com.csse3200.game.components.Component;
 
 public class WateringCanLevelComponent extends Component {
@@ -142,17 +140,4 @@ public class WateringCanLevelComponent extends Component {
     public boolean isEmpty() {
         return currentLevel <= 0;
     }
-
-    @Override
-    public void write(Json json) {
-		json.writeObjectStart(this.getClass().getSimpleName());
-        json.writeValue("level", getCurrentLevel());
-        json.writeObjectEnd();
-    }
-
-    @Override
-    public void read(Json json, JsonValue jsonMap) {
-		jsonMap = jsonMap.get(this.getClass().getSimpleName());
-        currentLevel = jsonMap.getFloat("level");
-    }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
@@ -11,9 +12,13 @@ import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
+import com.badlogic.gdx.scenes.scene2d.ui.Tooltip;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import com.csse3200.game.files.SaveGame;
+import com.csse3200.game.files.SaveMetadata;
 import com.csse3200.game.screens.MainMenuScreen;
+import com.csse3200.game.services.SaveLoadService;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.ui.UIComponent;
 
@@ -27,6 +32,7 @@ public class MainMenuDisplay extends UIComponent {
     private int frame;
     private Image transitionFrames;
     private long lastFrameTime;
+    private Texture thumbnail;
     private static int fps = 15;
     private static final long FRAME_DURATION = (800 / fps);
 
@@ -51,7 +57,12 @@ public class MainMenuDisplay extends UIComponent {
         title.setPosition(0, 0);
 
         TextButton startBtn = new TextButton("New Game", skin,"orange");
-        TextButton loadBtn = new TextButton("Continue", skin, Gdx.files.local("saves/saveFile.json").exists() ? "orange" : "grey");
+        // Only the save slot index is read here, not the saves themselves
+        SaveLoadService saveLoadService = ServiceLocator.getSaveLoadService();
+        boolean canContinue = saveLoadService != null && saveLoadService.validSaveFile();
+        SaveMetadata latestSave = canContinue ? saveLoadService.getLatestSlot() : null;
+        TextButton loadBtn = new TextButton(latestSave == null ? "Continue" : "Continue - Day " + latestSave.getDay(),
+                skin, canContinue ? "orange" : "grey");
         TextButton controlsBtn = new TextButton("Controls", skin,"orange");
         TextButton settingsBtn = new TextButton("Settings", skin,"orange");
         TextButton creditsBtn = new TextButton("Credits", skin,"orange");
@@ -75,7 +86,8 @@ public class MainMenuDisplay extends UIComponent {
                         entity.getEvents().trigger("load");
                     }
                 });
-        loadBtn.setDisabled(!Gdx.files.local("saves/saveFile.json").exists());
+        loadBtn.setDisabled(!canContinue);
+        addThumbnail(loadBtn, latestSave);
 
         controlsBtn.addListener(
                 new ChangeListener() {
@@ -136,6 +148,28 @@ public class MainMenuDisplay extends UIComponent {
         stage.addActor(table);
     }
 
+    /**
+     * Shows the thumbnail of the save the continue button loads when the button is hovered over
+     */
+    private void addThumbnail(TextButton loadBtn, SaveMetadata save) {
+        if (save == null) {
+            return;
+        }
+        // The thumbnail is in the save's header, the index only knows which slot to read it from
+        SaveMetadata header = SaveGame.readMetadata(ServiceLocator.getSaveLoadService().getSlotPath(save.getSlot()));
+        Pixmap pixmap = header == null ? null : header.createThumbnailPixmap();
+        if (pixmap == null) {
+            return;
+        }
+        thumbnail = new Texture(pixmap);
+        pixmap.dispose();
+        Image image = new Image(thumbnail);
+        image.setSize(SaveMetadata.THUMBNAIL_WIDTH * 2f, SaveMetadata.THUMBNAIL_HEIGHT * 2f);
+        Tooltip<Image> tooltip = new Tooltip<>(image);
+        tooltip.setInstant(true);
+        loadBtn.addListener(tooltip);
+    }
+
     private void updateAnimation() {
         if (frame < MainMenuScreen.FRAME_COUNT) {
             transitionFrames.setDrawable(new TextureRegionDrawable(new TextureRegion(ServiceLocator.getResourceService()
@@ -169,6 +203,9 @@ public class MainMenuDisplay extends UIComponent {
     @Override
     public void dispose() {
         table.clear();
+        if (thumbnail != null) {
+            thumbnail.dispose();
+        }
         super.dispose();
     }
 }
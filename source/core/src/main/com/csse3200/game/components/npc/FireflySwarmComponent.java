@@ -0,0 +1,352 @@
+package com.csse3200.game.components.npc;
+
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.areas.weather.BlizzardEvent;
+import com.csse3200.game.components.CameraComponent;
+import com.csse3200.game.rendering.RenderComponent;
+import com.csse3200.game.services.LightService;
+import com.csse3200.game.services.ServiceLocator;
+
+import java.util.Arrays;
+
+import box2dLight.PointLight;
+
+/**
+ * Simulates and draws a whole swarm of fireflies from a single entity. Each firefly is only a few
+ * entries in float arrays rather than an entity with its own physics body, animation and light, so
+ * thousands can be on screen at once. All visible fireflies are drawn in one pass, and their glow is
+ * approximated by a small fixed number of lights placed over the densest clusters.
+ *
+ * <p>Like the old firefly entities, the swarm disappears during the day unless there is a blizzard.
+ */
+public class FireflySwarmComponent extends RenderComponent {
+  /** Default maximum number of fireflies in the swarm. */
+  public static final int DEFAULT_CAPACITY = 2000;
+  /** Number of lights shared by the whole swarm. */
+  public static final int MAX_LIGHTS = 6;
+  private static final int LAYER = 4;
+  private static final float SCALE_FACTOR = 16f;
+  private static final float FRAME_DURATION = 0.5f;
+  /** Flying speed in world units per second. */
+  private static final float SPEED = 0.6f;
+  /** Maximum change in heading in radians per second. */
+  private static final float TURN_RATE = 3f;
+  /** Size of the cells fireflies are grouped into when placing lights. */
+  private static final float LIGHT_CELL_SIZE = 8f;
+  private static final int LIGHT_REFRESH_FRAMES = 15;
+  private static final float LIGHT_DISTANCE = 3f;
+  private static final float MAX_LIGHT_DISTANCE = 10f;
+  /** One in this many fireflies does a little dance. */
+  private static final int DANCER_CHANCE = 500;
+
+  private final int capacity;
+  private final float[] x;
+  private final float[] y;
+  private final float[] heading;
+  private final float[] age;
+  private final boolean[] dancing;
+  private int count;
+
+  private final Animation<TextureRegion> animation;
+  private final Animation<TextureRegion> danceAnimation;
+  private final float width;
+  private final float height;
+
+  private float boundsWidth = Float.MAX_VALUE;
+  private float boundsHeight = Float.MAX_VALUE;
+
+  private PointLight[] lights = new PointLight[0];
+  private int activeLights;
+  private int framesUntilLightRefresh;
+  /** Firefly count and position totals per cell, reused between light refreshes. */
+  private int[] cellCounts = new int[0];
+  private float[] cellSumX = new float[0];
+  private float[] cellSumY = new float[0];
+
+  /**
+   * Creates a swarm with the default capacity.
+   *
+   * @param atlas firefly texture atlas, containing a "default" animation
+   */
+  public FireflySwarmComponent(TextureAtlas atlas) {
+    this(atlas, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * @param atlas firefly texture atlas, containing a "default" animation
+   * @param capacity maximum number of fireflies in the swarm
+   */
+  public FireflySwarmComponent(TextureAtlas atlas, int capacity) {
+    this.capacity = capacity;
+    x = new float[capacity];
+    y = new float[capacity];
+    heading = new float[capacity];
+    age = new float[capacity];
+    dancing = new boolean[capacity];
+
+    Array<AtlasRegion> regions = atlas.findRegions("default");
+    animation = new Animation<>(FRAME_DURATION, regions, Animation.PlayMode.LOOP);
+    Array<AtlasRegion> danceRegions = atlas.findRegions("DancinInTheMoonlight");
+    danceAnimation = danceRegions == null || danceRegions.size == 0
+        ? animation : new Animation<>(FRAME_DURATION, danceRegions, Animation.PlayMode.LOOP);
+    TextureRegion frame = regions.first();
+    width = frame.getRegionWidth() / SCALE_FACTOR;
+    height = frame.getRegionHeight() / SCALE_FACTOR;
+  }
+
+  @Override
+  public void create() {
+    super.create();
+    LightService lightService = ServiceLocator.getLightService();
+    if (lightService != null) {
+      lights = new PointLight[MAX_LIGHTS];
+      for (int i = 0; i < MAX_LIGHTS; i++) {
+        PointLight light = new PointLight(lightService.getRayHandler(),
+            LightService.getRayCount(LIGHT_DISTANCE), Color.ORANGE, LIGHT_DISTANCE, 0, 0);
+        light.setStaticLight(true);
+        light.setXray(true);
+        light.setSoft(true);
+        light.setActive(false);
+        lights[i] = light;
+      }
+    }
+  }
+
+  /**
+   * Keeps fireflies inside an area. By default they can fly anywhere.
+   *
+   * @param width width of the area in world units, starting from 0
+   * @param height height of the area in world units, starting from 0
+   */
+  public void setBounds(float width, float height) {
+    boundsWidth = width;
+    boundsHeight = height;
+  }
+
+  /**
+   * Adds a firefly to the swarm.
+   *
+   * @param spawnX x position of the centre of the firefly
+   * @param spawnY y position of the centre of the firefly
+   * @return true if added, false if the swarm is full
+   */
+  public boolean spawn(float spawnX, float spawnY) {
+    if (count >= capacity) {
+      return false;
+    }
+    x[count] = spawnX;
+    y[count] = spawnY;
+    heading[count] = MathUtils.random(MathUtils.PI2);
+    age[count] = MathUtils.random(animation.getAnimationDuration());
+    dancing[count] = MathUtils.random(DANCER_CHANCE - 1) == 0;
+    count++;
+    return true;
+  }
+
+  /**
+   * Removes every firefly from the swarm.
+   */
+  public void clear() {
+    count = 0;
+    if (activeLights > 0) {
+      for (PointLight light : lights) {
+        light.setActive(false);
+      }
+      activeLights = 0;
+      ServiceLocator.getLightService().markChanged();
+    }
+  }
+
+  /**
+   * @return number of fireflies in the swarm
+   */
+  public int getCount() {
+    return count;
+  }
+
+  /**
+   * @return maximum number of fireflies in the swarm
+   */
+  public int getCapacity() {
+    return capacity;
+  }
+
+  /**
+   * @return number of lights currently lit by the swarm
+   */
+  public int getActiveLightCount() {
+    return activeLights;
+  }
+
+  /**
+   * @param index index of a firefly, less than {@link #getCount()}
+   * @return x position of the centre of the firefly
+   */
+  public float getX(int index) {
+    return x[index];
+  }
+
+  /**
+   * @param index index of a firefly, less than {@link #getCount()}
+   * @return y position of the centre of the firefly
+   */
+  public float getY(int index) {
+    return y[index];
+  }
+
+  @Override
+  public void update() {
+    if (count == 0) {
+      return;
+    }
+    // Not scared, just dying from daylight
+    if (ServiceLocator.getTimeService().isDay()
+        && !(ServiceLocator.getGameArea().getClimateController().getCurrentWeatherEvent() instanceof BlizzardEvent)) {
+      clear();
+      return;
+    }
+
+    float delta = ServiceLocator.getTimeSource().getDeltaTime();
+    float maxTurn = TURN_RATE * delta;
+    float step = SPEED * delta;
+    for (int i = 0; i < count; i++) {
+      float angle = heading[i] + MathUtils.random(-maxTurn, maxTurn);
+      float nextX = x[i] + MathUtils.cos(angle) * step;
+      float nextY = y[i] + MathUtils.sin(angle) * step;
+      // Turn back at the edges of the area
+      if (nextX < 0 || nextX > boundsWidth) {
+        angle = MathUtils.PI - angle;
+        nextX = x[i];
+      }
+      if (nextY < 0 || nextY > boundsHeight) {
+        angle = -angle;
+        nextY = y[i];
+      }
+      heading[i] = angle;
+      x[i] = nextX;
+      y[i] = nextY;
+      age[i] += delta;
+    }
+
+    if (--framesUntilLightRefresh <= 0) {
+      framesUntilLightRefresh = LIGHT_REFRESH_FRAMES;
+      updateLights();
+    }
+  }
+
+  @Override
+  protected void draw(SpriteBatch batch) {
+    float minX = -Float.MAX_VALUE;
+    float minY = -Float.MAX_VALUE;
+    float maxX = Float.MAX_VALUE;
+    float maxY = Float.MAX_VALUE;
+    CameraComponent cameraComponent = ServiceLocator.getCameraComponent();
+    if (cameraComponent != null && cameraComponent.getCamera() instanceof OrthographicCamera) {
+      Camera camera = cameraComponent.getCamera();
+      float zoom = ((OrthographicCamera) camera).zoom;
+      float halfWidth = camera.viewportWidth * zoom / 2 + width;
+      float halfHeight = camera.viewportHeight * zoom / 2 + height;
+      minX = camera.position.x - halfWidth;
+      maxX = camera.position.x + halfWidth;
+      minY = camera.position.y - halfHeight;
+      maxY = camera.position.y + halfHeight;
+    }
+
+    for (int i = 0; i < count; i++) {
+      if (x[i] < minX || x[i] > maxX || y[i] < minY || y[i] > maxY) {
+        continue;
+      }
+      TextureRegion frame = (dancing[i] ? danceAnimation : animation).getKeyFrame(age[i]);
+      batch.draw(frame, x[i] - width / 2, y[i] - height / 2, width, height);
+    }
+  }
+
+  @Override
+  public int getLayer() {
+    return LAYER;
+  }
+
+  @Override
+  public float getZIndex() {
+    // Fireflies fly above everything else on their layer
+    return Float.MAX_VALUE;
+  }
+
+  @Override
+  public void dispose() {
+    for (PointLight light : lights) {
+      light.remove();
+    }
+    lights = new PointLight[0];
+    super.dispose();
+  }
+
+  /**
+   * Groups fireflies into coarse cells and places the swarm's lights over the busiest cells, with
+   * brighter lights for bigger clusters.
+   */
+  private void updateLights() {
+    if (lights.length == 0) {
+      return;
+    }
+    float minX = Float.MAX_VALUE;
+    float minY = Float.MAX_VALUE;
+    float maxX = -Float.MAX_VALUE;
+    float maxY = -Float.MAX_VALUE;
+    for (int i = 0; i < count; i++) {
+      minX = Math.min(minX, x[i]);
+      minY = Math.min(minY, y[i]);
+      maxX = Math.max(maxX, x[i]);
+      maxY = Math.max(maxY, y[i]);
+    }
+    int columns = (int) ((maxX - minX) / LIGHT_CELL_SIZE) + 1;
+    int rows = (int) ((maxY - minY) / LIGHT_CELL_SIZE) + 1;
+    int cells = columns * rows;
+    if (cellCounts.length < cells) {
+      cellCounts = new int[cells];
+      cellSumX = new float[cells];
+      cellSumY = new float[cells];
+    } else {
+      Arrays.fill(cellCounts, 0, cells, 0);
+      Arrays.fill(cellSumX, 0, cells, 0f);
+      Arrays.fill(cellSumY, 0, cells, 0f);
+    }
+    for (int i = 0; i < count; i++) {
+      int cell = (int) ((y[i] - minY) / LIGHT_CELL_SIZE) * columns + (int) ((x[i] - minX) / LIGHT_CELL_SIZE);
+      cellCounts[cell]++;
+      cellSumX[cell] += x[i];
+      cellSumY[cell] += y[i];
+    }
+
+    activeLights = 0;
+    for (PointLight light : lights) {
+      // Take the busiest remaining cell
+      int best = -1;
+      for (int cell = 0; cell < cells; cell++) {
+        if (cellCounts[cell] > 0 && (best < 0 || cellCounts[cell] > cellCounts[best])) {
+          best = cell;
+        }
+      }
+      if (best < 0) {
+        light.setActive(false);
+        continue;
+      }
+      int clusterSize = cellCounts[best];
+      light.setPosition(cellSumX[best] / clusterSize, cellSumY[best] / clusterSize);
+      light.setDistance(Math.min(MAX_LIGHT_DISTANCE, LIGHT_DISTANCE * (float) Math.sqrt(clusterSize)));
+      light.setActive(true);
+      cellCounts[best] = 0;
+      activeLights++;
+    }
+    ServiceLocator.getLightService().markChanged();
+  }
+}
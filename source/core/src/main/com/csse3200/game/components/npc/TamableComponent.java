@@ -2,8 +2,7 @@ package com.csse3200.game.components.npc;
 
 import java.security.SecureRandom;
 
-import com.badlogic.gdx.utils.Json;
-import com.badlogic.gdx.utils.JsonValue;
+import com.csse3200.game.ai.tasks.AITaskComponent;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.components.items.ItemActions;
 import com.csse3200.game.components.items.ItemComponent;
@@ -30,6 +29,7 @@ public class TamableComponent extends Component {
   private SecureRandom random = new SecureRandom(); // https://rules.sonarsource.com/java/RSPEC-2119/
   private InventoryComponent playerInventory;
   private final Logger logger = LoggerFactory.getLogger(TamableComponent.class);
+  private static final float TAMED_SOUND_DELAY = 0.1f;
 
   /**
    * Constructor for the Tameable Component class
@@ -92,7 +92,7 @@ public class TamableComponent extends Component {
       }
       logger.info("Fed " + name + "!");
       try {
-          ServiceLocator.getSoundService().getEffectsMusicService().play(effect);
+          ServiceLocator.getSoundService().getEffectsMusicService().play(effect, entity.getCenterPosition());
       } catch (Exception e) {
           logger.error("Failed to play animal sound", e);
       }
@@ -127,13 +127,11 @@ public class TamableComponent extends Component {
           // Use RNG to try and tame the animal
           if (numTimesFed == tamingThreshold || randomDecimal > tamingProbability) {
               logger.info("Tamed " + name + "!");
-              try {
-                  Thread.sleep(100); //Ensures that other audio finishes so this can ne played.
-                  ServiceLocator.getSoundService().getEffectsMusicService().play(EffectSoundFile.TAMED_ANIMAL);
-              } catch (Exception e) {
-                  logger.error("Failed to play animal sound", e);
-              }
+              // Played just after the feeding sound so the two do not overlap
+              ServiceLocator.getSoundService().playAfter(EffectSoundFile.TAMED_ANIMAL, TAMED_SOUND_DELAY);
               isTamed = true;
+              // Tasks such as running away from the player depend on being tamed
+              entity.getEvents().trigger(AITaskComponent.EVT_REEVALUATE);
               ServiceLocator.getMissionManager().getEvents().trigger(MissionManager.MissionEvent.ANIMAL_TAMED.name());
               entity.getEvents().trigger("startTimedEffect", "tamed", 2f);
           }
@@ -174,24 +172,6 @@ public class TamableComponent extends Component {
     this.isTamed = value;
   }
 
-  /**
-   * Writes to the json boolean of tamed.
-   * 
-   * @param json which is a valid Json.
-   */
-  @Override
-  public void write(Json json) {
-    json.writeObjectStart(this.getClass().getSimpleName());
-    json.writeValue("tamed", isTamed());
-    json.writeObjectEnd();
-  }
-
-    @Override
-    public void read(Json json, JsonValue jsonMap) {
-      jsonMap = jsonMap.get("TamableComponent");
-      isTamed = jsonMap.getBoolean("Tamed");
-    }
-
     /**
      * Getter for favourite food
      *
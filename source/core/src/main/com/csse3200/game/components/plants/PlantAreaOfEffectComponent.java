@@ -10,18 +10,24 @@ import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.EntityType;
 import com.csse3200.game.missions.MissionManager;
 import com.csse3200.game.physics.BodyUserData;
+import com.csse3200.game.physics.PhysicsLayer;
+import com.csse3200.game.physics.SpatialIndexService;
 import com.csse3200.game.physics.components.HitboxComponent;
 import com.csse3200.game.rendering.AnimationRenderComponent;
 import com.csse3200.game.services.ServiceLocator;
 
 import com.csse3200.game.services.sound.EffectSoundFile;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * Class to add an Area of Effect to all plants.
+ * When a spatial index is registered, the area uses the spatial index rather than a Box2D sensor
+ * fixture. Either way the area is a point at the centre of the plant, since the sensor fixture has
+ * never had the radius applied to it.
  */
-public class PlantAreaOfEffectComponent extends HitboxComponent {
+public class PlantAreaOfEffectComponent extends HitboxComponent implements SpatialIndexService.Sensor {
     /**
      * The radius of the area of effect.
      */
@@ -37,6 +43,17 @@ public class PlantAreaOfEffectComponent extends HitboxComponent {
      */
     private final List<Entity> entitiesInRange = new ArrayList<>();
 
+    /**
+     * Read only view of the entities within the area.
+     */
+    private final List<Entity> entitiesInRangeView = Collections.unmodifiableList(entitiesInRange);
+
+    /**
+     * Reused copy of the entities within the area, iterated by the effects so that entities dying
+     * mid-effect do not modify the list being iterated.
+     */
+    private final List<Entity> effectTargets = new ArrayList<>();
+
     /**
      * Circle shape of the area.
      */
@@ -46,7 +63,20 @@ public class PlantAreaOfEffectComponent extends HitboxComponent {
 
     private static int plantAoeWeatherModifier = 0;
 
-    private int numOfPlayer;
+    /**
+     * Whether the player is standing over the centre of the area.
+     */
+    private boolean playerInRange;
+
+    /**
+     * Spatial index the area is registered with, or null if it uses a sensor fixture.
+     */
+    private SpatialIndexService spatialIndex;
+
+    /**
+     * Offset of the centre of the area from the plant's position.
+     */
+    private final Vector2 centreOffset = new Vector2();
 
     /**
      * Constructor for the Area of Effect class.
@@ -56,7 +86,7 @@ public class PlantAreaOfEffectComponent extends HitboxComponent {
     public PlantAreaOfEffectComponent(float radius, String effectType) {
         this.radius = radius;
         this.effectType = effectType;
-        this.numOfPlayer = 0;
+        this.playerInRange = false;
     }
 
     public String getEffectType() {
@@ -90,10 +120,21 @@ public class PlantAreaOfEffectComponent extends HitboxComponent {
 
     /**
      * Returns a list of entities within the range.
+     * The list is a read only view which changes as entities enter and leave the area.
      * @return A list of entities within the range.
      */
     public List<Entity> getEntitiesInRange() {
-        return new ArrayList<>(entitiesInRange);
+        return entitiesInRangeView;
+    }
+
+    /**
+     * Copies the entities within the range into a list reused between effects.
+     * @return The copied list of entities within the range.
+     */
+    private List<Entity> snapshotEntitiesInRange() {
+        effectTargets.clear();
+        effectTargets.addAll(entitiesInRange);
+        return effectTargets;
     }
 
     /**
@@ -101,18 +142,88 @@ public class PlantAreaOfEffectComponent extends HitboxComponent {
      */
     @Override
     public void create() {
-        //shape.setRadius(getRadius());
-        shape.setPosition(entity.getComponent(PlantComponent.class).getCropTile().getEntity().getScale().scl(0.5f).add(0, -0.5f));
-        setShape(shape);
-
-        entity.getEvents().addListener("collisionStart", this::onCollisionStart);
-        entity.getEvents().addListener("collisionEnd", this::onCollisionEnd);
+        centreOffset.set(entity.getComponent(PlantComponent.class).getCropTile().getEntity().getScale().scl(0.5f).add(0, -0.5f));
+        spatialIndex = ServiceLocator.getSpatialIndexService();
+        if (spatialIndex != null) {
+            spatialIndex.addSensor(this);
+        } else {
+            //shape.setRadius(getRadius());
+            shape.setPosition(centreOffset);
+            setShape(shape);
+
+            addCollisionListener(PhysicsLayer.ALL, this::onCollisionStart, this::onCollisionEnd);
+        }
         ServiceLocator.getTimeService().getEvents().addListener("hourUpdate", this::hourlyEffect);
         ServiceLocator.getTimeService().getEvents().addListener("minuteUpdate", this::minuteUpdate);
         ServiceLocator.getGameArea().getClimateController().getEvents().addListener("startPlantAoeEffect", this::startPlantAoeWeatherEffect);
         ServiceLocator.getGameArea().getClimateController().getEvents().addListener("stopPlantAoeEffect", this::stopPlantAoeWeatherEffect);
 
-        super.create();
+        if (spatialIndex == null) {
+            super.create();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        if (spatialIndex != null) {
+            // No fixture was created, so there is nothing for the collider to destroy
+            spatialIndex.removeSensor(this);
+            return;
+        }
+        super.dispose();
+    }
+
+    @Override
+    protected boolean isSpatialTarget() {
+        return false;
+    }
+
+    @Override
+    public void getSensorCentre(Vector2 out) {
+        out.set(entity.getPosition()).add(centreOffset);
+    }
+
+    /**
+     * Returns the radius of the spatial index sensor. This matches the sensor fixture, which is a
+     * point as its radius is never set, so plants keep the same reach with either.
+     *
+     * @return The radius of the sensor.
+     */
+    @Override
+    public float getSensorRadius() {
+        return 0f;
+    }
+
+    @Override
+    public boolean accepts(Entity target) {
+        return true;
+    }
+
+    /**
+     * Adds an entity which has entered the area of the spatial index sensor. The index holds the
+     * player's hitbox, so the player is over the centre of the area.
+     *
+     * @param target The entity entering the area.
+     */
+    @Override
+    public void onEnter(Entity target) {
+        entitiesInRange.add(target);
+        if (target.getType() == EntityType.PLAYER) {
+            playerInRange = true;
+        }
+    }
+
+    /**
+     * Removes an entity which has left the area of the spatial index sensor.
+     *
+     * @param target The entity leaving the area.
+     */
+    @Override
+    public void onExit(Entity target) {
+        entitiesInRange.remove(target);
+        if (target.getType() == EntityType.PLAYER) {
+            playerInRange = false;
+        }
     }
 
     /**
@@ -162,11 +273,8 @@ public class PlantAreaOfEffectComponent extends HitboxComponent {
         Entity target = ((BodyUserData) other.getBody().getUserData()).entity;
         entitiesInRange.add(target);
 
-        if (target.getType() == EntityType.PLAYER) {
-            numOfPlayer += 1;
-            if (numOfPlayer > 3) {
-                numOfPlayer = 3;
-            }
+        if (isPlayerHitbox(target, other)) {
+            playerInRange = true;
         }
     }
 
@@ -186,12 +294,35 @@ public class PlantAreaOfEffectComponent extends HitboxComponent {
         Entity target = ((BodyUserData) other.getBody().getUserData()).entity;
         entitiesInRange.remove(target);
 
-        if (target.getType() == EntityType.PLAYER) {
-            numOfPlayer -= 1;
-            if (numOfPlayer < 0) {
-                numOfPlayer = 0;
-            }
+        if (isPlayerHitbox(target, other)) {
+            playerInRange = false;
+        }
+    }
+
+    /**
+     * Checks whether a fixture is the player's hitbox. The player's collider and interaction
+     * detector also touch the area, but only the hitbox means the player is standing over it.
+     *
+     * @param target The entity the fixture belongs to.
+     * @param other  The fixture touching the area.
+     * @return True if the fixture is the player's hitbox.
+     */
+    private boolean isPlayerHitbox(Entity target, Fixture other) {
+        if (target.getType() != EntityType.PLAYER) {
+            return false;
         }
+        HitboxComponent hitbox = target.getComponent(HitboxComponent.class);
+        return hitbox != null && hitbox.getFixture() == other;
+    }
+
+    /**
+     * Returns whether the player is standing over the centre of the area, and so is affected by
+     * the health and poison effects.
+     *
+     * @return True if the player is in range.
+     */
+    public boolean isPlayerInRange() {
+        return playerInRange;
     }
 
     /**
@@ -272,7 +403,7 @@ public class PlantAreaOfEffectComponent extends HitboxComponent {
         }
 
         // Health effect for player and animals.
-        for (Entity entityInRange : getEntitiesInRange()) {
+        for (Entity entityInRange : snapshotEntitiesInRange()) {
 
             if (    entityInRange.getType() == EntityType.BAT ||
                     entityInRange.getType() == EntityType.ASTROLOTL ||
@@ -283,7 +414,7 @@ public class PlantAreaOfEffectComponent extends HitboxComponent {
             ) {
                 entityInRange.getComponent(CombatStatsComponent.class).addHealth(4);
             } else if (entityInRange.getType() == EntityType.PLAYER) {
-                if (numOfPlayer > 2) {
+                if (playerInRange) {
                     entityInRange.getComponent(CombatStatsComponent.class).addHealth(4);
                 }
             }
@@ -294,7 +425,7 @@ public class PlantAreaOfEffectComponent extends HitboxComponent {
      * Effect that poisons the player and any animals in the area.
      */
     private void poisonEffect() {
-        for (Entity entityInRange : getEntitiesInRange()) {
+        for (Entity entityInRange : snapshotEntitiesInRange()) {
             if (    entityInRange.getType() == EntityType.BAT ||
                     entityInRange.getType() == EntityType.ASTROLOTL ||
                     entityInRange.getType() == EntityType.DRAGONFLY ||
@@ -304,7 +435,7 @@ public class PlantAreaOfEffectComponent extends HitboxComponent {
             ) {
 	            entityInRange.getComponent(CombatStatsComponent.class).addHealth(Math.min(-5 - plantAoeWeatherModifier, 0));
             } else if (entityInRange.getType() == EntityType.PLAYER) {
-            if (numOfPlayer > 2) {
+            if (playerInRange) {
                 entityInRange.getComponent(CombatStatsComponent.class).addHealth(Math.min(-1 - plantAoeWeatherModifier, 0));
             }
         }
@@ -319,7 +450,7 @@ public class PlantAreaOfEffectComponent extends HitboxComponent {
         // Check that the space snapper is not already eating.
         if (!entity.getComponent(PlantComponent.class).getIsEating()) {
 
-            for (Entity entityInRange : getEntitiesInRange()) {
+            for (Entity entityInRange : snapshotEntitiesInRange()) {
 
                 if (    entityInRange.getType() == EntityType.BAT ||
                         entityInRange.getType() == EntityType.ASTROLOTL ||
@@ -351,7 +482,7 @@ public class PlantAreaOfEffectComponent extends HitboxComponent {
      * Plays a Nearby sound if the player comes near the plant.
      */
     private void soundEffect() {
-        for (Entity entityInRange : getEntitiesInRange()) {
+        for (Entity entityInRange : snapshotEntitiesInRange()) {
 
             if (entityInRange.getType() == EntityType.PLAYER) {
                 entity.getComponent(PlantComponent.class).playSound(EffectSoundFile.PLANT_NEARBY);
@@ -11,8 +11,6 @@ import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.badlogic.gdx.utils.Json;
-import com.badlogic.gdx.utils.JsonValue;
 import com.csse3200.game.areas.terrain.CropTileComponent;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.entities.Entity;
@@ -644,6 +642,9 @@ public class PlantComponent extends Component {
             if (getGrowthStage().getValue() <= GrowthStage.ADULT.getValue()) {
                 playSound(EffectSoundFile.PLANT_CLICK);
             }
+            if (cropTile != null) {
+                cropTile.notifySaveChangeTracker();
+            }
         } else {
             throw new IllegalArgumentException("Invalid growth stage value.");
         }
@@ -828,8 +829,8 @@ public class PlantComponent extends Component {
                 }
             });
         }
-        ServiceLocator.getMissionManager().getEvents().trigger(
-                MissionManager.MissionEvent.HARVEST_CROP.name(),
+        ServiceLocator.getMissionManager().getEventBus().trigger(
+                MissionManager.MissionEvent.HARVEST_CROP,
                 getPlantName());
         ServiceLocator.getPlantInfoService().increasePlantsHarvested(1, plantName);
         destroyPlant();
@@ -954,7 +955,11 @@ public class PlantComponent extends Component {
      */
     public void playSound(EffectSoundFile sound) {
         try {
-            ServiceLocator.getSoundService().getEffectsMusicService().play(sound);
+            if (entity == null) {
+                ServiceLocator.getSoundService().getEffectsMusicService().play(sound);
+            } else {
+                ServiceLocator.getSoundService().getEffectsMusicService().play(sound, entity.getCenterPosition());
+            }
         } catch (InvalidSoundFileException e) {
             logger.error(String.format("Failed to play plant sound '%s'", sound.name()), e);
         }
@@ -1225,43 +1230,109 @@ public class PlantComponent extends Component {
     }
 
     /**
-     * {@inheritDoc}
+     * Gets the animation the plant is playing, which is saved so it can be restarted when loaded
+     * @return name of the current animation, or null if the plant has not been created
      */
-    @Override
-    public void write(Json json) {
-        json.writeObjectStart(this.getClass().getSimpleName());
-        json.writeValue("name", getPlantName());
-        json.writeValue("plantHealth", getPlantHealth());
-        json.writeValue("animation", currentAnimator.getCurrentAnimation());
-        json.writeValue("currentGrowthLevel", getCurrentGrowthLevel());
-        json.writeValue("currentMaxHealth", getCurrentMaxHealth());
-        json.writeValue("numOfDaysAsAdult", getNumOfDaysAsAdult());
-        json.writeValue("isEating", getIsEating());
-        json.writeValue("countMinutesOfDigestion", countMinutesOfDigestion);
-        json.writeValue("deadBeforeMaturity", deadBeforeMaturity);
-        json.writeValue("plantDestroyed", plantDestroyed);
-        json.writeValue("forced", forced);
-        json.writeValue("growthStage", getGrowthStage().name());
-        json.writeObjectEnd();
+    public String getAnimation() {
+        return currentAnimator == null ? null : currentAnimator.getCurrentAnimation();
     }
 
     /**
-     * {@inheritDoc}
+     * Starts an animation. Only to be used for loading, after the plant has been created.
+     * @param animation name of the animation to start
      */
-    @Override
-    public void read(Json json, JsonValue plantData) {
-        ServiceLocator.getGameArea().spawnEntity(entity);
-        setPlantHealth(plantData.getInt("plantHealth"));
-        this.currentAnimator = entity.getComponent(AnimationRenderComponent.class);
-        currentAnimator.startAnimation(plantData.getString("animation"));
-        setCurrentGrowthLevel(plantData.getInt("currentGrowthLevel"));
-        currentMaxHealth = plantData.getInt("currentMaxHealth");
-        setNumOfDaysAsAdult(plantData.getInt("numOfDaysAsAdult"));
-        isEating = plantData.getBoolean("isEating");
-        countMinutesOfDigestion = plantData.getInt("countMinutesOfDigestion");
-        deadBeforeMaturity = plantData.getBoolean("deadBeforeMaturity");
-        plantDestroyed = plantData.getBoolean("plantDestroyed");
-        forced = plantData.getBoolean("forced");
-        growthStages = GrowthStage.valueOf(plantData.getString("growthStage"));
-    }
-}
\ No newline at end of file
+    public void setAnimation(String animation) {
+        if (currentAnimator != null && animation != null) {
+            currentAnimator.startAnimation(animation);
+        }
+    }
+
+    /**
+     * Sets the current maximum health. Only to be used for loading.
+     * @param currentMaxHealth current maximum health of the plant
+     */
+    public void setCurrentMaxHealth(int currentMaxHealth) {
+        this.currentMaxHealth = currentMaxHealth;
+    }
+
+    /**
+     * Sets whether the plant is eating without resetting its digestion. Only to be used for loading.
+     * @param isEating whether the plant is eating
+     */
+    public void setIsEating(boolean isEating) {
+        this.isEating = isEating;
+    }
+
+    /**
+     * Gets the number of minutes since the plant last ate
+     * @return minutes of digestion
+     */
+    public int getCountMinutesOfDigestion() {
+        return countMinutesOfDigestion;
+    }
+
+    /**
+     * Sets the number of minutes since the plant last ate. Only to be used for loading.
+     * @param countMinutesOfDigestion minutes of digestion
+     */
+    public void setCountMinutesOfDigestion(int countMinutesOfDigestion) {
+        this.countMinutesOfDigestion = countMinutesOfDigestion;
+    }
+
+    /**
+     * Whether the plant died before it reached maturity
+     * @return deadBeforeMaturity
+     */
+    public boolean isDeadBeforeMaturity() {
+        return deadBeforeMaturity;
+    }
+
+    /**
+     * Only to be used for loading
+     * @param deadBeforeMaturity whether the plant died before it reached maturity
+     */
+    public void setDeadBeforeMaturity(boolean deadBeforeMaturity) {
+        this.deadBeforeMaturity = deadBeforeMaturity;
+    }
+
+    /**
+     * Whether the plant has been destroyed
+     * @return plantDestroyed
+     */
+    public boolean isPlantDestroyed() {
+        return plantDestroyed;
+    }
+
+    /**
+     * Only to be used for loading
+     * @param plantDestroyed whether the plant has been destroyed
+     */
+    public void setPlantDestroyed(boolean plantDestroyed) {
+        this.plantDestroyed = plantDestroyed;
+    }
+
+    /**
+     * Whether the plant has been forced to change growth stage
+     * @return forced
+     */
+    public boolean isForced() {
+        return forced;
+    }
+
+    /**
+     * Only to be used for loading
+     * @param forced whether the plant has been forced to change growth stage
+     */
+    public void setForced(boolean forced) {
+        this.forced = forced;
+    }
+
+    /**
+     * Sets the growth stage without counting it in the plant statistics or playing a sound, unlike
+     * {@link #setGrowthStage(int)}. Only to be used for loading.
+     * @param growthStage growth stage of the plant
+     */
+    public void loadGrowthStage(GrowthStage growthStage) {
+        this.growthStages = growthStage;
+    }
+}
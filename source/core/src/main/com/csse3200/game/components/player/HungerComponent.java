@@ -1,7 +1,5 @@
 package com.csse3200.game.components.player;
 
-import com.badlogic.gdx.utils.Json;
-import com.badlogic.gdx.utils.JsonValue;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.components.combat.CombatStatsComponent;
 import com.csse3200.game.services.ServiceLocator;
@@ -61,18 +59,4 @@ public class HungerComponent extends Component {
 		}
 	}
 
-	@Override
-	public void write(Json json) {
-		json.writeObjectStart(this.getClass().getSimpleName());
-		json.writeValue("hunger", this.hungerLevel);
-		json.writeObjectEnd();
-	}
-
-	@Override
-	public void read(Json json, JsonValue jsonValue) {
-		jsonValue = jsonValue.get(this.getClass().getSimpleName());
-		int hunger = jsonValue.getInt("hunger");
-		setHungerLevel(hunger);
-	}
-
 }
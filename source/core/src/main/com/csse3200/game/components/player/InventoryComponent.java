@@ -1,13 +1,10 @@
 
 package com.csse3200.game.components.player;
-import com.badlogic.gdx.utils.Json;
-import com.badlogic.gdx.utils.JsonValue;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.components.items.ItemComponent;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.EntityType;
 import com.csse3200.game.missions.MissionManager;
-import com.csse3200.game.services.FactoryService;
 import com.csse3200.game.services.ServiceLocator;
 
 import java.util.Arrays;
@@ -401,7 +398,7 @@ public class InventoryComponent extends Component {
             return false;
         } else {
             //Update the collect items achievement
-            ServiceLocator.getMissionManager().getEvents().trigger(MissionManager.MissionEvent.ITEMS_COLLECTED.name());
+            ServiceLocator.getMissionManager().getEventBus().trigger(MissionManager.MissionEvent.ITEMS_COLLECTED);
             // Update the count of the Item Type
             this.itemCount.put(item.getComponent(ItemComponent.class).getItemName(), this.itemCount.getOrDefault(item.getComponent(ItemComponent.class).getItemName(), 0) + 1);
             // Add to Entity against Item Type for setting Held Item
@@ -560,47 +557,4 @@ public class InventoryComponent extends Component {
         entity.getEvents().trigger(UPDATE_INVENTORY);
         logger.debug("Loading inventory completed");
     }
-
-    /**
-     * Writes the InventoryComponent to a Json object.
-     * @param json The Json object to write to.
-     */
-    @Override
-    public void write(Json json) {
-        json.writeObjectStart(this.getClass().getSimpleName());
-        json.writeArrayStart("inventory");
-        for (Map.Entry<Integer, String> placeEntry : itemPlace.entrySet()) {
-            Integer i = placeEntry.getKey();
-            String e = placeEntry.getValue();
-            if (e == null) {
-                continue;
-            }
-            json.writeObjectStart();
-            heldItemsEntity.get(e).writeItem(json);
-            json.writeValue("count", getItemCount(e));
-            json.writeValue("place", i);
-            json.writeObjectEnd();
-        }
-        json.writeArrayEnd();
-        json.writeObjectEnd();
-    }
-
-    /**
-     * Reads the InventoryComponent from a Json object.
-     * @param json The Json object to read from.
-     * @param inv The JsonValue to read from.
-     */
-    @Override
-    public void read(Json json, JsonValue inv) {
-        newInventory();
-        inv = inv.get("InventoryComponent").get("inventory");
-        inv.forEach(jsonValue -> {
-            Entity itemEntity = FactoryService.getItemFactories().get(jsonValue.getString("name")).get();
-            ServiceLocator.getGameArea().spawnEntity(itemEntity);
-            itemEntity.readItem(json, jsonValue.get("components"));
-            itemCount.put(jsonValue.getString("name"),  jsonValue.getInt("count"));
-            heldItemsEntity.put(jsonValue.getString("name"), itemEntity);
-            itemPlace.put(jsonValue.getInt("place"), jsonValue.getString("name"));
-        });
-    }
 }
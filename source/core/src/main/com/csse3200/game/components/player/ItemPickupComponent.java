@@ -13,8 +13,8 @@ public class ItemPickupComponent extends Component {
 
     @Override
     public void create() {
-        entity.getEvents().addListener("collisionStart", this::onCollision);
         hitboxComponent = entity.getComponent(HitboxComponent.class);
+        hitboxComponent.addCollisionListener(PhysicsLayer.ITEM, this::onCollision, null);
     }
 
     private void onCollision(Fixture me, Fixture other) {
@@ -319,7 +319,7 @@ public class MissionDisplay extends UIComponent {
             actionButton.addListener(new ChangeListener() {
                 @Override
                 public void changed(ChangeEvent changeEvent, Actor actor) {
-                    quest.resetExpiry();
+                    ServiceLocator.getMissionManager().reactivateQuest(quest);
                     generateQuestsMenu();
                 }
             });
@@ -0,0 +1,317 @@
+package com.csse3200.game.components.serialisation;
+
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.JsonWriter;
+import com.badlogic.gdx.utils.SerializationException;
+import com.csse3200.game.components.Component;
+import com.csse3200.game.files.BinarySaveWriter;
+
+/**
+ * Saves and loads the fields of one component class. The fields are listed once, with a getter and
+ * a setter for each, so saving a component does not need reflection and primitives are written
+ * straight to a {@link BinarySaveWriter} without being boxed.
+ *
+ * <p>A component is saved as an object named after its class, holding one value per field. This is
+ * the same layout the components used when they wrote themselves, so older saves still load.
+ *
+ * @param <T> type of component
+ */
+public class ComponentSerialiser<T extends Component> {
+  private static final Logger logger = LoggerFactory.getLogger(ComponentSerialiser.class);
+
+  private final Class<T> type;
+  private final String name;
+  private final Array<Field<T>> fields = new Array<>();
+
+  /**
+   * @param type class of the component, which must be the exact class of the components saved
+   */
+  public ComponentSerialiser(Class<T> type) {
+    this.type = type;
+    this.name = type.getSimpleName();
+  }
+
+  public Class<T> getType() {
+    return type;
+  }
+
+  /**
+   * Gets the name the component is saved under
+   *
+   * @return simple name of the component class
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Adds an integer field
+   *
+   * @param name name of the field in the save
+   * @param getter gets the value from a component
+   * @param setter sets the value on a component, or null if the field is only saved
+   * @return this serialiser
+   */
+  public ComponentSerialiser<T> intField(String name, IntGetter<T> getter, IntSetter<T> setter) {
+    fields.add(new Field<T>(name) {
+      @Override
+      void write(T component, Json json, BinarySaveWriter binary) throws IOException {
+        JsonWriter writer = json.getWriter();
+        int value = getter.get(component);
+        if (binary != null) {
+          binary.value(value);
+        } else {
+          writer.value(value);
+        }
+      }
+
+      @Override
+      void read(T component, Json json, JsonValue value) {
+        if (setter != null) {
+          setter.set(component, value.asInt());
+        }
+      }
+    });
+    return this;
+  }
+
+  /**
+   * Adds a float field
+   *
+   * @param name name of the field in the save
+   * @param getter gets the value from a component
+   * @param setter sets the value on a component, or null if the field is only saved
+   * @return this serialiser
+   */
+  public ComponentSerialiser<T> floatField(String name, FloatGetter<T> getter, FloatSetter<T> setter) {
+    fields.add(new Field<T>(name) {
+      @Override
+      void write(T component, Json json, BinarySaveWriter binary) throws IOException {
+        JsonWriter writer = json.getWriter();
+        float value = getter.get(component);
+        if (binary != null) {
+          binary.value(value);
+        } else {
+          writer.value(value);
+        }
+      }
+
+      @Override
+      void read(T component, Json json, JsonValue value) {
+        if (setter != null) {
+          setter.set(component, value.asFloat());
+        }
+      }
+    });
+    return this;
+  }
+
+  /**
+   * Adds a boolean field
+   *
+   * @param name name of the field in the save
+   * @param getter gets the value from a component
+   * @param setter sets the value on a component, or null if the field is only saved
+   * @return this serialiser
+   */
+  public ComponentSerialiser<T> booleanField(String name, BooleanGetter<T> getter, BooleanSetter<T> setter) {
+    fields.add(new Field<T>(name) {
+      @Override
+      void write(T component, Json json, BinarySaveWriter binary) throws IOException {
+        JsonWriter writer = json.getWriter();
+        boolean value = getter.get(component);
+        if (binary != null) {
+          binary.value(value);
+        } else {
+          writer.value(value);
+        }
+      }
+
+      @Override
+      void read(T component, Json json, JsonValue value) {
+        if (setter != null) {
+          setter.set(component, value.asBoolean());
+        }
+      }
+    });
+    return this;
+  }
+
+  /**
+   * Adds a string field. A null string is saved as null and read back as null.
+   *
+   * @param name name of the field in the save
+   * @param getter gets the value from a component
+   * @param setter sets the value on a component, or null if the field is only saved
+   * @return this serialiser
+   */
+  public ComponentSerialiser<T> stringField(String name, StringGetter<T> getter, StringSetter<T> setter) {
+    fields.add(new Field<T>(name) {
+      @Override
+      void write(T component, Json json, BinarySaveWriter binary) throws IOException {
+        json.getWriter().value(getter.get(component));
+      }
+
+      @Override
+      void read(T component, Json json, JsonValue value) {
+        if (setter != null) {
+          setter.set(component, value.isNull() ? null : value.asString());
+        }
+      }
+    });
+    return this;
+  }
+
+  /**
+   * Adds a field that writes and reads its own value, for values that are not a single primitive,
+   * such as arrays, or nested entities like a crop tile's plant
+   *
+   * @param name name of the field in the save
+   * @param writer writes exactly one value, for example an array or an object, to the save
+   * @param reader reads the value back onto a component, or null if the field is only saved
+   * @return this serialiser
+   */
+  public ComponentSerialiser<T> field(String name, ValueWriter<T> writer, ValueReader<T> reader) {
+    fields.add(new Field<T>(name) {
+      @Override
+      void write(T component, Json json, BinarySaveWriter binary) throws IOException {
+        writer.write(component, json);
+      }
+
+      @Override
+      void read(T component, Json json, JsonValue value) {
+        if (reader != null) {
+          reader.read(component, json, value);
+        }
+      }
+    });
+    return this;
+  }
+
+  /**
+   * Writes a component as an object named after its class
+   *
+   * @param component component to save
+   * @param json json being written, which must be inside an object
+   */
+  public void write(T component, Json json) {
+    JsonWriter writer = json.getWriter();
+    BinarySaveWriter binary = writer instanceof BinarySaveWriter ? (BinarySaveWriter) writer : null;
+    try {
+      writer.name(name).object();
+      for (Field<T> field : fields) {
+        writer.name(field.name);
+        field.write(component, json, binary);
+      }
+      writer.pop();
+    } catch (IOException e) {
+      throw new SerializationException("Could not save " + name, e);
+    }
+  }
+
+  /**
+   * Reads a component back from the components of a saved entity. Fields missing from the save are
+   * left as they are.
+   *
+   * @param component component to load into
+   * @param json json being read, passed on to fields which load nested entities
+   * @param components saved components of the entity, keyed by class name
+   */
+  public void read(T component, Json json, JsonValue components) {
+    JsonValue data = components == null ? null : components.get(name);
+    if (data == null) {
+      logger.warn("No saved data for {}, leaving it as it is", name);
+      return;
+    }
+    for (Field<T> field : fields) {
+      JsonValue value = data.get(field.name);
+      if (value == null) {
+        logger.warn("No saved value for {}.{}, leaving it as it is", name, field.name);
+      } else {
+        field.read(component, json, value);
+      }
+    }
+  }
+
+  /**
+   * A saved field of a component
+   *
+   * @param <T> type of component
+   */
+  private abstract static class Field<T> {
+    final String name;
+
+    Field(String name) {
+      this.name = name;
+    }
+
+    /**
+     * Writes the field's value, after its name has been written
+     *
+     * @param binary the writer if it is a binary save writer, so primitives can skip boxing
+     */
+    abstract void write(T component, Json json, BinarySaveWriter binary) throws IOException;
+
+    /**
+     * Sets the field's value on a component, unless the field is only saved
+     */
+    abstract void read(T component, Json json, JsonValue value);
+  }
+
+  @FunctionalInterface
+  public interface IntGetter<T> {
+    int get(T component);
+  }
+
+  @FunctionalInterface
+  public interface IntSetter<T> {
+    void set(T component, int value);
+  }
+
+  @FunctionalInterface
+  public interface FloatGetter<T> {
+    float get(T component);
+  }
+
+  @FunctionalInterface
+  public interface FloatSetter<T> {
+    void set(T component, float value);
+  }
+
+  @FunctionalInterface
+  public interface BooleanGetter<T> {
+    boolean get(T component);
+  }
+
+  @FunctionalInterface
+  public interface BooleanSetter<T> {
+    void set(T component, boolean value);
+  }
+
+  @FunctionalInterface
+  public interface StringGetter<T> {
+    String get(T component);
+  }
+
+  @FunctionalInterface
+  public interface StringSetter<T> {
+    void set(T component, String value);
+  }
+
+  @FunctionalInterface
+  public interface ValueWriter<T> {
+    void write(T component, Json json) throws IOException;
+  }
+
+  @FunctionalInterface
+  public interface ValueReader<T> {
+    void read(T component, Json json, JsonValue value);
+  }
+}
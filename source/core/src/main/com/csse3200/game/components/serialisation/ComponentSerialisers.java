@@ -0,0 +1,246 @@
+package com.csse3200.game.components.serialisation;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.csse3200.game.areas.terrain.CropTileComponent;
+import com.csse3200.game.areas.terrain.ShipPartTileComponent;
+import com.csse3200.game.components.Component;
+import com.csse3200.game.components.ConeLightComponent;
+import com.csse3200.game.components.combat.CombatStatsComponent;
+import com.csse3200.game.components.items.ClueComponent;
+import com.csse3200.game.components.items.WateringCanLevelComponent;
+import com.csse3200.game.components.npc.TamableComponent;
+import com.csse3200.game.components.plants.PlantComponent;
+import com.csse3200.game.components.plants.PlantComponent.GrowthStage;
+import com.csse3200.game.components.player.HungerComponent;
+import com.csse3200.game.components.player.InventoryComponent;
+import com.csse3200.game.components.ship.ShipAnimationController;
+import com.csse3200.game.components.ship.ShipDisplay;
+import com.csse3200.game.components.ship.ShipLightComponent;
+import com.csse3200.game.components.ship.ShipProgressComponent;
+import com.csse3200.game.components.ship.ShipProgressComponent.Feature;
+import com.csse3200.game.components.ship.ShipTimeSkipComponent;
+import com.csse3200.game.components.tractor.TractorActions;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.factories.ShipDebrisFactory;
+import com.csse3200.game.services.FactoryService;
+import com.csse3200.game.services.ServiceLocator;
+
+/**
+ * The {@link ComponentSerialiser} of every component class that is saved field by field. Components
+ * with a serialiser here are saved and loaded by {@link Component#write(Json)} and
+ * {@link Component#read(Json, JsonValue)} without overriding them. Nested state, such as a crop
+ * tile's plant or the items in an inventory, is saved by a field that writes its own value.
+ */
+public final class ComponentSerialisers {
+  private static final ObjectMap<Class<?>, ComponentSerialiser<?>> serialisers = new ObjectMap<>();
+
+  static {
+    register(new ComponentSerialiser<>(CombatStatsComponent.class)
+        .intField("health", CombatStatsComponent::getHealth, CombatStatsComponent::setHealth));
+
+    register(new ComponentSerialiser<>(HungerComponent.class)
+        .intField("hunger", HungerComponent::getHungerLevel, HungerComponent::setHungerLevel));
+
+    register(new ComponentSerialiser<>(WateringCanLevelComponent.class)
+        .floatField("level", WateringCanLevelComponent::getCurrentLevel, WateringCanLevelComponent::setCurrentLevel));
+
+    register(new ComponentSerialiser<>(ClueComponent.class)
+        .floatField("currentBaseLocationX", clue -> clue.getCurrentBaseLocation().x,
+            (clue, x) -> clue.setCurrentBaseLocation(new Vector2(x, clue.getCurrentBaseLocation().y)))
+        .floatField("currentBaseLocationY", clue -> clue.getCurrentBaseLocation().y,
+            (clue, y) -> clue.setCurrentBaseLocation(new Vector2(clue.getCurrentBaseLocation().x, y))));
+
+    register(new ComponentSerialiser<>(TamableComponent.class)
+        .booleanField("tamed", TamableComponent::isTamed, TamableComponent::setTame));
+
+    register(new ComponentSerialiser<>(TractorActions.class)
+        .booleanField("isMuted", TractorActions::isMuted, TractorActions::setMuted));
+
+    register(new ComponentSerialiser<>(ConeLightComponent.class)
+        .booleanField("isActive", ConeLightComponent::getActive, ConeLightComponent::setActive)
+        .floatField("distance", ConeLightComponent::getDistance, ConeLightComponent::setDistance));
+
+    register(new ComponentSerialiser<>(ShipAnimationController.class)
+        .stringField("animation", ShipAnimationController::getAnimation, ShipAnimationController::setAnimation));
+
+    register(new ComponentSerialiser<>(ShipProgressComponent.class)
+        .intField("level", ShipProgressComponent::getProgress, ShipProgressComponent::setProgress)
+        .field("features", (ship, json) -> {
+          json.writeArrayStart();
+          for (Feature feature : ship.getUnlockedFeatures()) {
+            json.writeValue(feature.name());
+          }
+          json.writeArrayEnd();
+        }, (ship, json, features) -> {
+          for (JsonValue feature = features.child; feature != null; feature = feature.next) {
+            ship.getUnlockedFeatures().add(Feature.valueOf(feature.asString()));
+          }
+        }));
+
+    register(new ComponentSerialiser<>(ShipTimeSkipComponent.class)
+        .booleanField("unlocked", ShipTimeSkipComponent::isUnlocked, ShipTimeSkipComponent::setUnlocked)
+        .booleanField("timeSkipInProgress", ShipTimeSkipComponent::isTimeSkipInProgress,
+            ShipTimeSkipComponent::setTimeSkipInProgress));
+
+    // The light must be unlocked before it can be turned on, so "unlocked" is read first
+    register(new ComponentSerialiser<>(ShipLightComponent.class)
+        .booleanField("unlocked", ShipLightComponent::isUnlocked, ShipLightComponent::setUnlocked)
+        .booleanField("active", ShipLightComponent::getActive, ShipLightComponent::setActive));
+
+    register(new ComponentSerialiser<>(ShipDisplay.class)
+        .booleanField("lightUnlocked", ShipDisplay::isLightUnlocked, ShipDisplay::setLightUnlocked)
+        .booleanField("sleepUnlocked", ShipDisplay::isSleepUnlocked, ShipDisplay::setSleepUnlocked)
+        .intField("repairs", ShipDisplay::getRepairsMade, ShipDisplay::setRepairsMade));
+
+    register(new ComponentSerialiser<>(InventoryComponent.class)
+        .field("inventory", ComponentSerialisers::writeInventory, ComponentSerialisers::readInventory));
+
+    // The plant is saved as a whole entity, so its own components are saved inside it
+    register(new ComponentSerialiser<>(CropTileComponent.class)
+        .floatField("waterContent", CropTileComponent::getWaterContent, CropTileComponent::setWaterContent)
+        .floatField("soilQuality", CropTileComponent::getSoilQuality, CropTileComponent::setSoilQuality)
+        .booleanField("isFertilised", CropTileComponent::isFertilised, CropTileComponent::setFertilised)
+        .floatField("weatherWaterDelta", CropTileComponent::getWeatherWaterDelta,
+            CropTileComponent::setWeatherWaterDelta)
+        .booleanField("isWaterLevelWeatherEffectActive", CropTileComponent::isWaterLevelWeatherEffectActive,
+            CropTileComponent::setWaterLevelWeatherEffectActive)
+        .field("plant", (tile, json) -> json.writeValue(tile.getPlant(), Entity.class, null),
+            CropTileComponent::readPlant));
+
+    // The name picks the plant factory when the crop tile is loaded, so it is only saved here
+    register(new ComponentSerialiser<>(PlantComponent.class)
+        .stringField("name", PlantComponent::getPlantName, null)
+        .intField("plantHealth", PlantComponent::getPlantHealth, PlantComponent::setPlantHealth)
+        .stringField("animation", PlantComponent::getAnimation, PlantComponent::setAnimation)
+        .intField("currentGrowthLevel", PlantComponent::getCurrentGrowthLevel, PlantComponent::setCurrentGrowthLevel)
+        .intField("currentMaxHealth", PlantComponent::getCurrentMaxHealth, PlantComponent::setCurrentMaxHealth)
+        .intField("numOfDaysAsAdult", PlantComponent::getNumOfDaysAsAdult, PlantComponent::setNumOfDaysAsAdult)
+        .booleanField("isEating", PlantComponent::getIsEating, PlantComponent::setIsEating)
+        .intField("countMinutesOfDigestion", PlantComponent::getCountMinutesOfDigestion,
+            PlantComponent::setCountMinutesOfDigestion)
+        .booleanField("deadBeforeMaturity", PlantComponent::isDeadBeforeMaturity,
+            PlantComponent::setDeadBeforeMaturity)
+        .booleanField("plantDestroyed", PlantComponent::isPlantDestroyed, PlantComponent::setPlantDestroyed)
+        .booleanField("forced", PlantComponent::isForced, PlantComponent::setForced)
+        .stringField("growthStage", plant -> plant.getGrowthStage().name(),
+            (plant, stage) -> plant.loadGrowthStage(GrowthStage.valueOf(stage))));
+
+    // Only whether the debris is still there is saved, since every ship debris is the same
+    register(new ComponentSerialiser<>(ShipPartTileComponent.class)
+        .field("shipDebris", (tile, json) -> json.writeValue(tile.getShipDebris(), Entity.class, null),
+            (tile, json, debris) -> {
+              if (debris.get("Entity") != null) {
+                tile.addShipDebris(ShipDebrisFactory.createShipDebris());
+              }
+            }));
+  }
+
+  private ComponentSerialisers() {
+    throw new IllegalStateException("Instantiating static util class");
+  }
+
+  /**
+   * Adds or replaces the serialiser of a component class
+   *
+   * @param serialiser serialiser to add
+   */
+  public static synchronized void register(ComponentSerialiser<?> serialiser) {
+    serialisers.put(serialiser.getType(), serialiser);
+  }
+
+  /**
+   * Gets the serialiser of a component class. Serialisers are matched on the exact class, so a
+   * subclass of a saved component is not saved unless it has a serialiser of its own.
+   *
+   * @param type class of the component
+   * @return the serialiser, or null if the class is not saved field by field
+   */
+  @SuppressWarnings("unchecked")
+  public static synchronized <T extends Component> ComponentSerialiser<T> get(Class<T> type) {
+    return (ComponentSerialiser<T>) serialisers.get(type);
+  }
+
+  /**
+   * Writes a component if its class has a serialiser
+   *
+   * @param component component to save
+   * @param json json being written
+   * @return true if the component was written
+   */
+  public static <T extends Component> boolean write(T component, Json json) {
+    ComponentSerialiser<T> serialiser = get(typeOf(component));
+    if (serialiser == null) {
+      return false;
+    }
+    serialiser.write(component, json);
+    return true;
+  }
+
+  /**
+   * Reads a component if its class has a serialiser
+   *
+   * @param component component to load into
+   * @param json json being read
+   * @param components saved components of the entity, keyed by class name
+   * @return true if the component has a serialiser
+   */
+  public static <T extends Component> boolean read(T component, Json json, JsonValue components) {
+    ComponentSerialiser<T> serialiser = get(typeOf(component));
+    if (serialiser == null) {
+      return false;
+    }
+    serialiser.read(component, json, components);
+    return true;
+  }
+
+  /**
+   * Writes the items of an inventory, with how many of each there are and where they are placed
+   */
+  private static void writeInventory(InventoryComponent inventory, Json json) {
+    json.writeArrayStart();
+    for (Map.Entry<Integer, String> placeEntry : inventory.getItemPlace().entrySet()) {
+      String item = placeEntry.getValue();
+      if (item == null) {
+        continue;
+      }
+      json.writeObjectStart();
+      inventory.getHeldItemsEntity().get(item).writeItem(json);
+      json.writeValue("count", inventory.getItemCount(item));
+      json.writeValue("place", placeEntry.getKey());
+      json.writeObjectEnd();
+    }
+    json.writeArrayEnd();
+  }
+
+  /**
+   * Replaces the items of an inventory with the saved items, which are made again by their factories
+   */
+  private static void readInventory(InventoryComponent inventory, Json json, JsonValue items) {
+    HashMap<String, Integer> itemCount = new HashMap<>();
+    HashMap<String, Entity> heldItemsEntity = new HashMap<>();
+    HashMap<Integer, String> itemPlace = new HashMap<>();
+    for (JsonValue item = items.child; item != null; item = item.next) {
+      String name = item.getString("name");
+      Entity itemEntity = FactoryService.getItemFactories().get(name).get();
+      ServiceLocator.getGameArea().spawnEntity(itemEntity);
+      itemEntity.readItem(json, item.get("components"));
+      itemCount.put(name, item.getInt("count"));
+      heldItemsEntity.put(name, itemEntity);
+      itemPlace.put(item.getInt("place"), name);
+    }
+    inventory.setItemCount(itemCount);
+    inventory.setHeldItemsEntity(heldItemsEntity);
+    inventory.setItemPlace(itemPlace);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T extends Component> Class<T> typeOf(T component) {
+    return (Class<T>) component.getClass();
+  }
+}
@@ -2,8 +2,6 @@ package com.csse3200.game.components.ship;
 
 import java.util.Set;
 
-import com.badlogic.gdx.utils.Json;
-import com.badlogic.gdx.utils.JsonValue;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.components.ship.ShipProgressComponent.Feature;
 import com.csse3200.game.entities.factories.ShipFactory;
@@ -66,28 +64,21 @@ public class ShipAnimationController extends Component {
 
 
 	/**
-	 * Store the current animation of the ship in the passed-in json object.
+	 * Gets the current animation of the ship, to be saved.
 	 *
-	 * @param json Json object to write to
-	 *             Code edited from ShipProgressComponent by Team 2
+	 * @return name of the animation playing
 	 */
-	@Override
-	public void write(Json json) {
-		json.writeObjectStart(this.getClass().getSimpleName());
-		json.writeValue("animation", animator.getCurrentAnimation());
-		json.writeObjectEnd();
+	public String getAnimation() {
+		return animator.getCurrentAnimation();
 	}
 
 	/**
-	 * Update the entity based on the read data.
+	 * Starts an animation of the ship, for example one read from a save.
 	 *
-	 * @param json    which is a valid Json that is read from
-	 * @param jsonMap which is a valid JsonValue that is read from
-	 *                Code edited from ShipProgressComponent by Team 2
+	 * @param animation name of the animation
 	 */
-	@Override
-	public void read(Json json, JsonValue jsonMap) {
-		animator.startAnimation(jsonMap.getString("animation"));
+	public void setAnimation(String animation) {
+		animator.startAnimation(animation);
 	}
 
 }
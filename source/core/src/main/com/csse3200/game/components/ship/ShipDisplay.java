@@ -8,8 +8,6 @@ import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.ui.Window;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.utils.Align;
-import com.badlogic.gdx.utils.Json;
-import com.badlogic.gdx.utils.JsonValue;
 import com.csse3200.game.entities.factories.ShipFactory;
 import com.csse3200.game.ui.UIComponent;
 import org.slf4j.Logger;
@@ -148,20 +146,28 @@ public class ShipDisplay extends UIComponent {
 		super.dispose();
 	}
 
-	@Override
-	public void write(Json json) {
-		json.writeObjectStart(this.getClass().getSimpleName());
-		json.writeValue("lightUnlocked", this.lightUnlocked);
-		json.writeValue("sleepUnlocked", this.sleepUnlocked);
-		json.writeValue("repairs", this.repairsMade);
-		json.writeObjectEnd();
+	public boolean isLightUnlocked() {
+		return lightUnlocked;
 	}
 
-	@Override
-	public void read(Json json, JsonValue jsonValue) {
-		lightUnlocked = jsonValue.getBoolean("lightUnlocked");
-		sleepUnlocked = jsonValue.getBoolean("sleepUnlocked");
-		repairsMade = jsonValue.getInt("repairs");
+	public void setLightUnlocked(boolean lightUnlocked) {
+		this.lightUnlocked = lightUnlocked;
+	}
+
+	public boolean isSleepUnlocked() {
+		return sleepUnlocked;
+	}
+
+	public void setSleepUnlocked(boolean sleepUnlocked) {
+		this.sleepUnlocked = sleepUnlocked;
+	}
+
+	public int getRepairsMade() {
+		return repairsMade;
+	}
+
+	public void setRepairsMade(int repairsMade) {
+		this.repairsMade = repairsMade;
 	}
 
 }
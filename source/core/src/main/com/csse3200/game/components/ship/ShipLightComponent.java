@@ -1,8 +1,6 @@
 package com.csse3200.game.components.ship;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.utils.Json;
-import com.badlogic.gdx.utils.JsonValue;
 import com.csse3200.game.components.AuraLightComponent;
 import com.csse3200.game.entities.factories.ShipFactory;
 import org.slf4j.Logger;
@@ -54,18 +52,22 @@ public class ShipLightComponent extends AuraLightComponent {
 		}
 	}
 
-	@Override
-	public void write(Json json) {
-		json.writeObjectStart(this.getClass().getSimpleName());
-		json.writeValue("unlocked", unlocked);
-		json.writeValue("active", getActive());
-		json.writeObjectEnd();
+	public boolean isUnlocked() {
+		return unlocked;
 	}
 
-	@Override
-	public void read(Json json, JsonValue jsonMap) {
-		unlocked = jsonMap.getBoolean("unlocked");
-		boolean active = jsonMap.getBoolean("active");
-		if (getActive() != active) super.toggleLight();
+	public void setUnlocked(boolean unlocked) {
+		this.unlocked = unlocked;
+	}
+
+	/**
+	 * Turns the light on or off, whether or not the feature is unlocked. Used when loading a save.
+	 *
+	 * @param active whether the light should be on
+	 */
+	public void setActive(boolean active) {
+		if (getActive() != active) {
+			super.toggleLight();
+		}
 	}
 }
@@ -1,7 +1,5 @@
 package com.csse3200.game.components.ship;
 
-import com.badlogic.gdx.utils.Json;
-import com.badlogic.gdx.utils.JsonValue;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.components.player.InventoryComponent;
 import com.csse3200.game.entities.Entity;
@@ -113,43 +111,21 @@ public class ShipProgressComponent extends Component {
 	}
 
 	/**
-	 * Get unlocked features. Features may be unlocked even if the repair status wouldn't indicate this to be the case
-	 * currently.
+	 * Set current repair status, without unlocking any features. Used when loading a save.
 	 *
-	 * @return A set of unlocked features
+	 * @param progress repair status
 	 */
-	public Set<Feature> getUnlockedFeatures() {
-		return this.unlockedFeatures;
+	public void setProgress(int progress) {
+		this.progress = progress;
 	}
 
 	/**
-	 * Store the progress data on the ship in the passed-in json object.
-	 *
-	 * @param json Json object to write to
-	 */
-	@Override
-	public void write(Json json) {
-		json.writeObjectStart(this.getClass().getSimpleName());
-		json.writeValue("level", this.progress);
-		json.writeArrayStart("features");
-		for (Feature f : this.unlockedFeatures) {
-			json.writeValue(f.name());
-		}
-		json.writeArrayEnd();
-		json.writeObjectEnd();
-	}
-
-	/**
-	 * Update the entity based on the read data.
+	 * Get unlocked features. Features may be unlocked even if the repair status wouldn't indicate this to be the case
+	 * currently.
 	 *
-	 * @param json    which is a valid Json that is read from
-	 * @param jsonMap which is a valid JsonValue that is read from
+	 * @return A set of unlocked features
 	 */
-	@Override
-	public void read(Json json, JsonValue jsonMap) {
-		this.progress = jsonMap.getInt("level");
-		for (JsonValue val : jsonMap.get("features")) {
-			this.unlockedFeatures.add(Feature.valueOf(val.asString()));
-		}
+	public Set<Feature> getUnlockedFeatures() {
+		return this.unlockedFeatures;
 	}
 }
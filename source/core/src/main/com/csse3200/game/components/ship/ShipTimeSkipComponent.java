@@ -1,7 +1,5 @@
 package com.csse3200.game.components.ship;
 
-import com.badlogic.gdx.utils.Json;
-import com.badlogic.gdx.utils.JsonValue;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.components.ship.ShipProgressComponent.Feature;
 import com.csse3200.game.entities.factories.ShipFactory;
@@ -66,17 +64,19 @@ public class ShipTimeSkipComponent extends Component {
 		}
 	}
 
-	@Override
-	public void write(Json json) {
-		json.writeObjectStart(this.getClass().getSimpleName());
-		json.writeValue("unlocked", unlocked);
-		json.writeValue("timeSkipInProgress", timeSkipInProgress);
-		json.writeObjectEnd();
+	public boolean isUnlocked() {
+		return unlocked;
 	}
 
-	@Override
-	public void read(Json json, JsonValue jsonMap) {
-		unlocked = jsonMap.getBoolean("unlocked");
-		timeSkipInProgress = jsonMap.getBoolean("timeSkipInProgress");
+	public void setUnlocked(boolean unlocked) {
+		this.unlocked = unlocked;
+	}
+
+	public boolean isTimeSkipInProgress() {
+		return timeSkipInProgress;
+	}
+
+	public void setTimeSkipInProgress(boolean timeSkipInProgress) {
+		this.timeSkipInProgress = timeSkipInProgress;
 	}
 }
@@ -1,11 +1,13 @@
 package com.csse3200.game.components.tasks;
 
 import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.ai.pathfinding.FlowFieldService;
 import com.csse3200.game.ai.tasks.DefaultTask;
 import com.csse3200.game.ai.tasks.PriorityTask;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.physics.PhysicsEngine;
 import com.csse3200.game.physics.PhysicsLayer;
+import com.csse3200.game.physics.VisibilityService;
 import com.csse3200.game.physics.raycast.RaycastHit;
 import com.csse3200.game.rendering.DebugRenderer;
 import com.csse3200.game.services.ServiceLocator;
@@ -27,12 +29,16 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
   private final DebugRenderer debugRenderer;
   /** Raycast hit information. */
   private final RaycastHit hit = new RaycastHit();
+  /** Direction towards the target sampled from the flow field. */
+  private final Vector2 flowStep = new Vector2();
   /** The movement task for chasing. */
   private MovementTask movementTask;
   /** The speed at which to chase. */
   private Vector2 speed;
   /** The speed at which to chase. */
   private boolean checkVisibility;
+  /** Whether the last chase position was taken from the flow field. */
+  private boolean inFlowField;
   /**
    * @param target The entity to chase.
    * @param priority Task priority when chasing (0 when not chasing).
@@ -71,8 +77,9 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
   @Override
   public void start() {
     super.start();
-    movementTask = new MovementTask(target.getCenterPosition(), speed);
+    movementTask = new MovementTask(getChasePosition(), speed);
     movementTask.create(owner);
+    movementTask.setPathfinding(!inFlowField);
     movementTask.start();
     
     this.owner.getEntity().getEvents().trigger("chaseStart");
@@ -83,7 +90,7 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
    */
   @Override
   public void update() {
-    movementTask.setTarget(target.getCenterPosition());
+    updateMovementTarget();
     movementTask.update();
     if (movementTask.getStatus() != Status.ACTIVE) {
       movementTask.start();
@@ -159,17 +166,91 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
       return true;
     }
     Vector2 from = owner.getEntity().getCenterPosition();
+
+    // The flow field already knows what the target can see, so no raycast is needed inside it
+    FlowFieldService flowField = getFlowField();
+    if (flowField != null && flowField.covers(from)) {
+      return flowField.isVisible(from);
+    }
+
+    VisibilityService visibility = ServiceLocator.getVisibilityService();
+    if (visibility != null) {
+      return visibility.isVisible(owner.getEntity(), target, PhysicsLayer.OBSTACLE);
+    }
+
     Vector2 to = target.getCenterPosition();
 
     // If there is an obstacle in the path to the player, not visible.
     if (physics.raycast(from, to, PhysicsLayer.OBSTACLE, hit)) {
-      debugRenderer.drawLine(from, hit.point);
+      if (debugRenderer.getActive()) {
+        debugRenderer.drawLine(from, hit.point);
+      }
       return false;
     }
-    debugRenderer.drawLine(from, to);
+    if (debugRenderer.getActive()) {
+      debugRenderer.drawLine(from, to);
+    }
     return true;
   }
 
+  /**
+   * Gets the shared flow field leading to the target, if there is one.
+   *
+   * @return the flow field, or null if no flow field leads to this task's target
+   */
+  protected FlowFieldService getFlowField() {
+    FlowFieldService flowField = ServiceLocator.getFlowFieldService();
+    if (flowField != null && flowField.getTarget() == target) {
+      return flowField;
+    }
+    return null;
+  }
+
+  /**
+   * Gets the position the movement task should steer towards. Inside the flow field this is a point
+   * as far away as the target, but in the direction of the next tile towards it, so the movement task
+   * finishes at the same distance as when steering straight at the target. Outside the flow field it
+   * is the target itself.
+   *
+   * @return the position to move towards
+   */
+  protected Vector2 getChasePosition() {
+    FlowFieldService flowField = getFlowField();
+    Vector2 targetPosition = target.getCenterPosition();
+    inFlowField = flowField != null
+        && flowField.getDirection(owner.getEntity().getCenterPosition(), flowStep);
+    if (inFlowField) {
+      Vector2 position = owner.getEntity().getPosition();
+      return position.mulAdd(flowStep, position.dst(targetPosition));
+    }
+    return targetPosition;
+  }
+
+  /**
+   * Checks whether the last chase position was taken from the flow field
+   *
+   * @return true if the entity was inside the flow field
+   */
+  protected boolean isInFlowField() {
+    return inFlowField;
+  }
+
+  /**
+   * Moves the movement task's target to the chase position. Paths are only followed while the entity
+   * is outside the flow field, since inside it the flow field already leads around obstacles.
+   */
+  protected void updateMovementTarget() {
+    Vector2 position = getChasePosition();
+    if (inFlowField) {
+      // Stop following the path first, so moving the target doesn't search for a new one
+      movementTask.setPathfinding(false);
+      movementTask.setTarget(position);
+    } else {
+      movementTask.setTarget(position);
+      movementTask.setPathfinding(true);
+    }
+  }
+
   /**
    * Gets the movement task associated with this run away task.
    *
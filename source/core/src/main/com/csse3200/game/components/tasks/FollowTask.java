@@ -54,8 +54,9 @@ public class FollowTask extends ChaseTask {
   @Override
   public void start() {
     status = Status.ACTIVE;
-    setMovementTask(new MovementTask(getTarget().getCenterPosition(), speed, 1.5f));
+    setMovementTask(new MovementTask(getChasePosition(), speed, 1.5f));
     getMovementTask().create(owner);
+    getMovementTask().setPathfinding(!isInFlowField());
     getMovementTask().start();
     logger.info("Follow Task Active");
     this.owner.getEntity().getEvents().trigger("followStart");
@@ -74,7 +75,7 @@ public class FollowTask extends ChaseTask {
     }
 
     owner.getEntity().getComponent(PhysicsMovementComponent.class).setEnabled(true);
-    getMovementTask().setTarget(getTarget().getCenterPosition());
+    updateMovementTarget();
     getMovementTask().update();
     if (getMovementTask().getStatus() != Status.ACTIVE) {
       this.owner.getEntity().getEvents().trigger("followStart");
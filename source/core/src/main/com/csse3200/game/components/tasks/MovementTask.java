@@ -1,13 +1,17 @@
 package com.csse3200.game.components.tasks;
 
+import java.util.List;
 import java.util.Objects;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.ai.pathfinding.PathRequest;
+import com.csse3200.game.ai.pathfinding.PathfindingService;
 import com.csse3200.game.ai.tasks.DefaultTask;
 import com.csse3200.game.ai.tasks.TaskRunner;
+import com.csse3200.game.physics.components.ColliderComponent;
 import com.csse3200.game.physics.components.PhysicsMovementComponent;
 import com.csse3200.game.services.GameTime;
 import com.csse3200.game.services.ServiceLocator;
@@ -16,14 +20,18 @@ import com.csse3200.game.utils.math.Vector2Utils;
 
 /**
  * Move to a given position, finishing when you get close enough. Requires an entity with a
- * PhysicsMovementComponent.
+ * PhysicsMovementComponent. When a PathfindingService is registered, the entity follows the
+ * waypoints of a path around blocked tiles instead of steering straight at the target. Entities
+ * without a collider, such as flying NPCs, pass over blocked tiles and always steer straight.
  */
 public class MovementTask extends DefaultTask {
   private static final Logger logger = LoggerFactory.getLogger(MovementTask.class);
+  /** Distance from a waypoint at which the entity moves on to the next one. */
+  private static final float WAYPOINT_DISTANCE = 0.25f;
   /** Represents the game time for timing calculations. */
   private final GameTime gameTime;
-  /**  The target position to move towards. */
-  private Vector2 target;
+  /**  The target position to move towards, copied so callers can reuse their vector. */
+  private final Vector2 target = new Vector2();
   /** The distance at which the task is considered finished. */
   private float stopDistance = 0.1f;
   /** The time when the entity last moved. */
@@ -36,6 +44,20 @@ public class MovementTask extends DefaultTask {
   private String currentDirection;
   /** The movement speed of the entity. */
   private Vector2 speed = Vector2Utils.ONE;
+  /** The path being followed, or null when steering straight at the target. */
+  private PathRequest pathRequest;
+  /** Index of the waypoint currently being steered towards. */
+  private int waypointIndex;
+  /** Reused steering target for waypoints, in entity position coordinates. */
+  private final Vector2 waypointTarget = new Vector2();
+  /** Reused goal of the path, the centre of the entity once it reaches the target. */
+  private final Vector2 goal = new Vector2();
+  /** Reused offset from the entity's position to its centre. */
+  private final Vector2 centreOffset = new Vector2();
+  /** Whether to request paths from the PathfindingService. */
+  private boolean pathfinding = true;
+  /** Whether the entity has a collider, so it is blocked by the tiles paths go around. */
+  private boolean blockedByObstacles;
 
   /**
    * Creates a movement task with a target position.
@@ -43,7 +65,7 @@ public class MovementTask extends DefaultTask {
    * @param target The target position to move towards.
    */
   public MovementTask(Vector2 target) {
-    this.target = target;
+    this.target.set(target);
     this.gameTime = ServiceLocator.getTimeSource();
     this.currentDirection = DirectionUtils.RIGHT;
   }
@@ -92,6 +114,8 @@ public class MovementTask extends DefaultTask {
   public void create(TaskRunner taskRunner) {
     super.create(taskRunner);
     this.movementComponent = owner.getEntity().getComponent(PhysicsMovementComponent.class);
+    this.blockedByObstacles = owner.getEntity().getComponent(ColliderComponent.class) != null;
+    updateCentreOffset();
   }
 
   /**
@@ -100,10 +124,12 @@ public class MovementTask extends DefaultTask {
   @Override
   public void start() {
     super.start();
+    updateCentreOffset();
     movementComponent.setMaxSpeed(speed);
     movementComponent.setTarget(target);
     movementComponent.setMoving(true);
     logger.debug("Starting movement towards {}", target);
+    requestPath();
     lastTimeMoved = gameTime.getTime();
     lastPos = owner.getEntity().getPosition();
 
@@ -127,6 +153,7 @@ public class MovementTask extends DefaultTask {
         this.owner.getEntity().getEvents().trigger("directionChange", currentDirection);
       }
 
+      followPath();
       checkIfStuck();
     }
   }
@@ -137,8 +164,15 @@ public class MovementTask extends DefaultTask {
    * @param target The new target position.
    */
   public void setTarget(Vector2 target) {
-    this.target = target;
-    movementComponent.setTarget(target);
+    this.target.set(target);
+    movementComponent.setTarget(this.target);
+
+    // Only search again when the target has moved to a different tile
+    PathfindingService pathfinding = ServiceLocator.getPathfindingService();
+    if (pathRequest != null && pathfinding != null
+        && !pathfinding.isGoalTile(pathRequest, getGoal())) {
+      requestPath();
+    }
   }
 
   /**
@@ -149,9 +183,73 @@ public class MovementTask extends DefaultTask {
     super.stop();
     movementComponent.setMoving(false);
     movementComponent.setMaxSpeed(Vector2Utils.ONE);
+    pathRequest = null;
     logger.debug("Stopping movement");
   }
 
+  /**
+   * Requests a path from the entity to the target if pathfinding is available. Until the path is
+   * found the entity steers straight at the target.
+   */
+  private void requestPath() {
+    PathfindingService pathfindingService = ServiceLocator.getPathfindingService();
+    if (!pathfinding || !blockedByObstacles || pathfindingService == null) {
+      pathRequest = null;
+      return;
+    }
+    Vector2 from = owner.getEntity().getCenterPosition();
+    pathRequest = pathfindingService.requestPath(from, getGoal());
+    waypointIndex = 0;
+  }
+
+  /**
+   * Steers towards the current waypoint of the path, moving on to the next waypoint once close enough.
+   * The final approach always steers at the exact target. Does nothing while the path is pending or if
+   * no path could be found.
+   */
+  private void followPath() {
+    PathfindingService pathfinding = ServiceLocator.getPathfindingService();
+    if (pathfinding == null || pathRequest == null) {
+      return;
+    }
+    if (pathfinding.isStale(pathRequest)) {
+      requestPath();
+    }
+    if (pathRequest.getStatus() != PathRequest.Status.FOUND) {
+      return;
+    }
+
+    List<Vector2> waypoints = pathRequest.getWaypoints();
+    Vector2 centre = owner.getEntity().getCenterPosition();
+    while (waypointIndex < waypoints.size() - 1
+        && centre.dst(waypoints.get(waypointIndex)) <= WAYPOINT_DISTANCE) {
+      waypointIndex++;
+    }
+
+    if (waypointIndex >= waypoints.size() - 1) {
+      movementComponent.setTarget(target);
+    } else {
+      // Waypoints are tile centres, but the movement component steers the entity's position
+      waypointTarget.set(waypoints.get(waypointIndex)).sub(centreOffset);
+      movementComponent.setTarget(waypointTarget);
+    }
+  }
+
+  /**
+   * @return the entity's centre once it reaches the target, in a reused vector
+   */
+  private Vector2 getGoal() {
+    return goal.set(target).add(centreOffset);
+  }
+
+  /**
+   * Stores the offset from the entity's position to its centre. Entities keep their scale while
+   * moving, so this is only done when the task is created and started.
+   */
+  private void updateCentreOffset() {
+    centreOffset.set(owner.getEntity().getScale()).scl(0.5f);
+  }
+
   /**
    * Checks if the entity has reached the target position.
    *
@@ -195,6 +293,29 @@ public class MovementTask extends DefaultTask {
     return currentPosition.sub(target).x < 0 ? DirectionUtils.RIGHT : DirectionUtils.LEFT;
   }
 
+  /**
+   * Enables or disables following paths from the PathfindingService. Tasks which already steer around
+   * obstacles, e.g. using the flow field, disable it while they do. If the task is running, a path is
+   * requested or dropped straight away.
+   *
+   * @param pathfinding true to follow paths, false to steer straight at the target
+   */
+  public void setPathfinding(boolean pathfinding) {
+    if (this.pathfinding == pathfinding) {
+      return;
+    }
+    this.pathfinding = pathfinding;
+    if (status != Status.ACTIVE) {
+      return;
+    }
+    if (pathfinding) {
+      requestPath();
+    } else {
+      pathRequest = null;
+      movementComponent.setTarget(target);
+    }
+  }
+
   /**
    * Retrieves the movement speed of the entity.
    *
@@ -3,7 +3,6 @@ package com.csse3200.game.components.tractor;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.Json;
 import com.csse3200.game.areas.terrain.CropTileComponent;
 import com.csse3200.game.areas.terrain.GameMap;
 import com.csse3200.game.areas.terrain.TerrainTile;
@@ -384,16 +383,4 @@ public class TractorActions extends Component {
   public void setMode(TractorMode mode) {
     this.mode = mode;
   }
-
-  /**
-   * Writes to the json in order to store the tractor's state, used to save the game
-   * @param json The json that will be converted to a file
-   */
-  @Override
-  public void write(Json json){
-    json.writeObjectStart(this.getClass().getSimpleName());
-    //Save the muted value to the json file
-    json.writeValue("isMuted", this.isMuted());
-    json.writeObjectEnd();
-  }
 }
\ No newline at end of file
@@ -8,15 +8,12 @@ import com.badlogic.gdx.utils.JsonValue;
 import com.csse3200.game.areas.terrain.*;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.components.ComponentType;
-import com.csse3200.game.components.ConeLightComponent;
 import com.csse3200.game.components.combat.CombatStatsComponent;
 import com.csse3200.game.components.items.ItemComponent;
 import com.csse3200.game.components.npc.AnimalAnimationController;
 import com.csse3200.game.components.npc.GhostAnimationController;
 import com.csse3200.game.components.npc.TamableComponent;
 import com.csse3200.game.components.player.*;
-import com.csse3200.game.components.ship.*;
-import com.csse3200.game.components.tractor.TractorActions;
 import com.csse3200.game.entities.factories.ShipDebrisFactory;
 import com.csse3200.game.entities.factories.ShipFactory;
 import com.csse3200.game.entities.factories.TractorFactory;
@@ -27,6 +24,8 @@ import com.csse3200.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.function.Supplier;
+
 /**
  * Core entity class. Entities exist in the game and are updated each frame. All
  * entities have a
@@ -445,10 +444,7 @@ public class Entity implements Json.Serializable {
 
         switch (type) {
             case TRACTOR:
-                readTractor(jsonMap);
-                break;
-            case TILE:
-                readTile(json, jsonMap);
+                readTractor(json, jsonMap);
                 break;
             case SHIP_PART_TILE:
                 readShipPartTile(json, jsonMap);
@@ -466,69 +462,64 @@ public class Entity implements Json.Serializable {
                 if (FactoryService.getNpcFactories().containsKey(type)) {
                     // Makes a new NPC
                     Entity npc = FactoryService.getNpcFactories().get(type).get();
-                    if (npc.getComponent(TamableComponent.class) != null) {
-                        npc.getComponent(TamableComponent.class).read(json, jsonMap.get(COMPONENTS_STRING));
-                    }
-                    if (npc.getComponent(CombatStatsComponent.class) != null) {
-                        npc.getComponent(CombatStatsComponent.class).read(json, jsonMap.get(COMPONENTS_STRING));
-                    }
+                    npc.readComponents(json, jsonMap.get(COMPONENTS_STRING));
                     ServiceLocator.getGameArea().spawnEntity(npc);
                     npc.setPosition(position);
-                } else if (FactoryService.getPlaceableFactories().containsKey(type.toString())) {
-                    // Makes a new Placeable
-                    Entity placeable = FactoryService.getPlaceableFactories().get(type.toString()).get();
-                    placeable.setPosition(position);
-                    if (placeable.getType() == EntityType.CHEST) {
-                        placeable.getComponent(InventoryComponent.class).read(json, jsonMap.get(COMPONENTS_STRING));
+                } else {
+                    // Makes a new crop tile or placeable
+                    Entity occupant = createTileOccupant();
+                    if (occupant == null) {
+                        break;
                     }
-                    ServiceLocator.getGameArea().getMap().getTile(position).setOccupant(placeable);
-                    ServiceLocator.getGameArea().spawnEntity(placeable);
+                    occupant.setPosition(position);
+                    occupant.readComponents(json, jsonMap.get(COMPONENTS_STRING));
+                    ServiceLocator.getGameArea().getMap().getTile(position).setOccupant(occupant);
+                    ServiceLocator.getGameArea().spawnEntity(occupant);
                 }
                 break;
         }
     }
 
-    private void readPlayer(Json json, JsonValue jsonMap) {
-        // Does not make a new player, instead just updates the current one
-        InventoryComponent inventoryComponent = new InventoryComponent();
-        JsonValue playerComponents = jsonMap.get(COMPONENTS_STRING);
-        inventoryComponent.read(json, playerComponents);
-        this.addComponent(inventoryComponent);
+    /**
+     * Loads every component of the entity which was saved. Components which were not saved are left as
+     * they are.
+     *
+     * @param json            which is a valid Json that is read from
+     * @param savedComponents saved components of the entity, keyed by class name
+     */
+    public void readComponents(Json json, JsonValue savedComponents) {
+        for (Component component : components.values().toArray()) {
+            component.read(json, savedComponents);
+        }
+    }
 
-        CombatStatsComponent combatStats = new CombatStatsComponent(0, 0);
-        combatStats.read(json, playerComponents);
-        this.addComponent(combatStats);
+    /**
+     * Makes a new entity of this entity's type that occupies a terrain tile, such as a crop tile or a
+     * placeable
+     *
+     * @return the new entity, or null if this type can't be loaded
+     */
+    private Entity createTileOccupant() {
+        if (type == EntityType.TILE) {
+            return TerrainCropTileFactory.createTerrainEntity(position);
+        }
+        Supplier<Entity> factory = FactoryService.getPlaceableFactories().get(type.toString());
+        return factory == null ? null : factory.get();
+    }
 
-        HungerComponent hungerComponent = new HungerComponent(0);
-        hungerComponent.read(json, playerComponents);
-        this.addComponent(hungerComponent);
+    private void readPlayer(Json json, JsonValue jsonMap) {
+        // Does not make a new player, instead just updates the current one
+        this.addComponent(new InventoryComponent());
+        this.addComponent(new CombatStatsComponent(0, 0));
+        this.addComponent(new HungerComponent(0));
+        readComponents(json, jsonMap.get(COMPONENTS_STRING));
     }
 
     private void readShip(Json json, JsonValue jsonMap) {
         Entity ship = ShipFactory.createShip();
 
         ServiceLocator.getGameArea().spawnEntity(ship);
-
-        ShipAnimationController shipAnimationController = ship.getComponent(ShipAnimationController.class);
-        shipAnimationController.read(json, jsonMap.get(COMPONENTS_STRING).get(ShipAnimationController.class.getSimpleName()));
-
-        ShipProgressComponent progressComponent = ship.getComponent(ShipProgressComponent.class);
-        progressComponent.read(json, jsonMap.get(COMPONENTS_STRING).get(ShipProgressComponent.class.getSimpleName()));
-
-        ShipTimeSkipComponent shipTimeSkipComponent = ship.getComponent(ShipTimeSkipComponent.class);
-        JsonValue shipTimeSkipComponentJson = jsonMap.get(COMPONENTS_STRING).get(ShipTimeSkipComponent.class.getSimpleName());
-        shipTimeSkipComponent.read(json, shipTimeSkipComponentJson);
-
-        ShipLightComponent shipLightComponent = ship.getComponent(ShipLightComponent.class);
-        JsonValue shipLightComponentJson = jsonMap.get(COMPONENTS_STRING)
-                .get(ShipLightComponent.class.getSimpleName());
-        shipLightComponent.read(json, shipLightComponentJson);
-
-        ShipDisplay shipDisplay = ship.getComponent(ShipDisplay.class);
-        JsonValue shipDisplayJson = jsonMap.get(COMPONENTS_STRING)
-                .get(ShipDisplay.class.getSimpleName());
-        shipDisplay.read(json, shipDisplayJson);
-
+        ship.readComponents(json, jsonMap.get(COMPONENTS_STRING));
         ship.setPosition(position);
     }
 
@@ -555,22 +546,13 @@ public class Entity implements Json.Serializable {
             unneededShipDebris.dispose();
             partTerrainTile.removeOccupant();
 
-            partTile.getComponent(ShipPartTileComponent.class).read(json, jsonMap);
+            partTile.readComponents(json, jsonMap.get(COMPONENTS_STRING));
 
             partTerrainTile.setOccupant(partTile);
             partTerrainTile.setOccupied();
         }
     }
 
-    private void readTile(Json json, JsonValue jsonMap) {
-        Entity tile = TerrainCropTileFactory.createTerrainEntity(position);
-        tile.getComponent(CropTileComponent.class).read(json, jsonMap);
-        ServiceLocator.getGameArea().spawnEntity(tile);
-        tile.setPosition(position);
-        TerrainTile terrainTile = ServiceLocator.getGameArea().getMap().getTile(tile.getPosition());
-        terrainTile.setOccupant(tile);
-    }
-
     /**
      * Gets the type of entity
      *
@@ -580,15 +562,10 @@ public class Entity implements Json.Serializable {
         return type;
     }
 
-    public void readTractor(JsonValue jsonMap) {
+    public void readTractor(Json json, JsonValue jsonMap) {
         // Make a new tractor
         Entity tractor = TractorFactory.createTractor();
-        JsonValue tractorActions = jsonMap.get(COMPONENTS_STRING).get("TractorActions");
-        tractor.getComponent(TractorActions.class).setMuted(tractorActions.getBoolean("isMuted"));
-        JsonValue lightJsonMap = jsonMap.get(COMPONENTS_STRING).get("ConeLightComponent");
-        if (lightJsonMap.getBoolean("isActive")) {
-            tractor.getComponent(ConeLightComponent.class).toggleLight();
-        }
+        tractor.readComponents(json, jsonMap.get(COMPONENTS_STRING));
         ServiceLocator.getGameArea().setTractor(tractor);
         tractor.setPosition(position);
         ServiceLocator.getGameArea().spawnEntity(tractor);
@@ -4,6 +4,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.services.SaveChangeTracker;
+import com.csse3200.game.services.ServiceLocator;
 
 /**
  * Provides a global access point for entities to register themselves. This allows for iterating
@@ -28,6 +30,10 @@ public class EntityService {
     logger.debug("Registering {} in entity service", entity);
     entities.add(entity);
     entity.create();
+    SaveChangeTracker saveChangeTracker = ServiceLocator.getSaveChangeTracker();
+    if (saveChangeTracker != null) {
+      saveChangeTracker.onEntityRegistered(entity);
+    }
   }
 
   /**
@@ -37,6 +43,10 @@ public class EntityService {
   public void unregister(Entity entity) {
     logger.debug("Unregistering {} in entity service", entity);
     entities.removeValue(entity, true);
+    SaveChangeTracker saveChangeTracker = ServiceLocator.getSaveChangeTracker();
+    if (saveChangeTracker != null) {
+      saveChangeTracker.onEntityUnregistered(entity);
+    }
   }
   
   /**
@@ -2,16 +2,23 @@ package com.csse3200.game.entities;
 
 import java.security.SecureRandom;
 
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.GridPoint2;
-import com.csse3200.game.entities.factories.NPCFactory;
+import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.areas.terrain.TerrainFactory;
+import com.csse3200.game.components.npc.FireflySwarmComponent;
 import com.csse3200.game.services.ServiceLocator;
 
+/**
+ * Spawns fireflies into a single {@link FireflySwarmComponent} at night and during blizzards, rather
+ * than creating an entity for each firefly.
+ */
 public class FireflySpawner {
 
     /**
      * The amount of fireflies to spawn in
      */
-    protected static final int MAX_FIREFLIES = 75;
+    protected static final int MAX_FIREFLIES = 500;
 
     /**
      * The width of the map
@@ -28,6 +35,11 @@ public class FireflySpawner {
      */
     private SecureRandom random;
 
+    /**
+     * The swarm fireflies are spawned into, created on first spawn
+     */
+    private FireflySwarmComponent swarm;
+
     /**
      * Constructor for the spawner, making this will call startSpawning at nightTime event
      * triggered by TimeService
@@ -54,13 +66,40 @@ public class FireflySpawner {
     }
 
     /**
-     * Spawns a firefly at a random traversable grid tile
+     * Spawns a firefly at a random position in a random traversable grid tile
      */
     void spawnFirefly() {
         GridPoint2 randomGrid;
         do {
             randomGrid = new GridPoint2(random.nextInt(mapSizeX), random.nextInt(mapSizeY));
         } while (!ServiceLocator.getGameArea().getMap().getTile(randomGrid).isTraversable());
-        ServiceLocator.getGameArea().spawnEntityAt(NPCFactory.createFireFlies(), randomGrid, true, true);
+        Vector2 position = ServiceLocator.getGameArea().getMap().tileCoordinatesToVector(randomGrid);
+        getSwarm().spawn(position.x + random.nextFloat() * TerrainFactory.WORLD_TILE_SIZE,
+                position.y + random.nextFloat() * TerrainFactory.WORLD_TILE_SIZE);
+    }
+
+    /**
+     * Gets the swarm fireflies are spawned into, creating it if needed
+     *
+     * @return the firefly swarm
+     */
+    FireflySwarmComponent getSwarm() {
+        if (swarm == null) {
+            swarm = createSwarm();
+            swarm.setBounds(mapSizeX * TerrainFactory.WORLD_TILE_SIZE, mapSizeY * TerrainFactory.WORLD_TILE_SIZE);
+        }
+        return swarm;
+    }
+
+    /**
+     * Creates the swarm entity and registers it with the entity service
+     *
+     * @return the swarm component of the new entity
+     */
+    protected FireflySwarmComponent createSwarm() {
+        FireflySwarmComponent swarmComponent = new FireflySwarmComponent(
+                ServiceLocator.getResourceService().getAsset("images/fireflies.atlas", TextureAtlas.class));
+        ServiceLocator.getEntityService().register(new Entity().addComponent(swarmComponent));
+        return swarmComponent;
     }
 }
@@ -135,7 +135,7 @@ public class PlaceableFactory {
         animator.startAnimation("light_off");
 
         return createBasePlaceable(EntityType.LIGHT)
-                .addComponent(new AuraLightComponent(4f, Color.TAN))
+                .addComponent(new AuraLightComponent(4f, Color.TAN, true))
                 .addComponent(new LightController())
                 .addComponent(animator);
 
@@ -150,7 +150,7 @@ public class PlaceableFactory {
         animator.addAnimation("default", 0.5f, Animation.PlayMode.LOOP);
         animator.startAnimation("default");
 
-        AuraLightComponent lightComponent = new AuraLightComponent();
+        AuraLightComponent lightComponent = new AuraLightComponent(8f, Color.LIGHT_GRAY, true);
         lightComponent.toggleLight();
         DialogueComponent dialogue = new DialogueComponent();
 
@@ -1,5 +1,6 @@
 package com.csse3200.game.entities.factories;
 
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
@@ -35,7 +36,7 @@ public class QuestgiverFactory {
 				.addComponent(new ColliderComponent())
 				.addComponent(new MissionDisplay())
 				.addComponent(new HitboxComponent())
-				.addComponent(new AuraLightComponent(8))
+				.addComponent(new AuraLightComponent(8, Color.LIGHT_GRAY, true))
 				.addComponent(animator);
 
 		questgiver.getComponent(AuraLightComponent.class).toggleLight();
@@ -0,0 +1,88 @@
+package com.csse3200.game.files;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Constants and primitive encoding shared by {@link BinarySaveWriter} and {@link BinarySaveReader}.
+ *
+ * <p>A binary save starts with a header made of the magic number, the schema version and the
+ * number of chunks. Each chunk is a four byte id, a four byte length and its payload, so readers
+ * can skip chunks they do not know about:
+ * <ul>
+ *   <li>META - an optional {@link SaveMetadata} block of a fixed size. When present it is the first
+ *   chunk, so the metadata of a save can be read from the first {@link #METADATA_HEADER_SIZE} bytes
+ *   of the file.</li>
+ *   <li>STRS - the string table. Every key, entity type, item name and other string is stored once
+ *   and referenced by index everywhere else.</li>
+ *   <li>SECT - the section directory. Each top level field of the saved object (tiles, placeables,
+ *   player, ...) is a section with its offset and length in the body, so one section can be read
+ *   without decoding the rest.</li>
+ *   <li>BODY - the encoded values. Each value is a one byte tag, followed by its key's string index
+ *   when it is inside an object, followed by its payload.</li>
+ * </ul>
+ *
+ * <p>{@link FileLoader} may GZIP the whole file when it is written, depending on the compression
+ * level setting. Compressed files are recognised by the GZIP magic number when they are read.
+ */
+final class BinarySaveFormat {
+  /** "CSAV" */
+  static final int MAGIC = 0x43534156;
+  /** Current schema version, bump when the encoding changes */
+  static final short VERSION = 1;
+
+  static final int CHUNK_METADATA = 0x4d455441; // META
+  static final int CHUNK_STRINGS = 0x53545253; // STRS
+  static final int CHUNK_SECTIONS = 0x53454354; // SECT
+  static final int CHUNK_BODY = 0x424f4459; // BODY
+
+  /** Size of the file header and metadata chunk at the start of a save with metadata */
+  static final int METADATA_HEADER_SIZE = 4 + 2 + 2 + 4 + 4 + SaveMetadata.SIZE;
+
+  static final byte TAG_END = 0;
+  static final byte TAG_NULL = 1;
+  static final byte TAG_TRUE = 2;
+  static final byte TAG_FALSE = 3;
+  static final byte TAG_INT = 4;
+  static final byte TAG_FLOAT = 5;
+  static final byte TAG_DOUBLE = 6;
+  static final byte TAG_STRING = 7;
+  static final byte TAG_OBJECT = 8;
+  static final byte TAG_ARRAY = 9;
+
+  private BinarySaveFormat() {
+    throw new IllegalStateException("Util class");
+  }
+
+  /**
+   * Writes an unsigned variable length int, 7 bits per byte.
+   *
+   * @param out stream to write to
+   * @param value value to write, treated as unsigned
+   * @throws IOException if the stream fails
+   */
+  static void writeVarInt(DataOutputStream out, int value) throws IOException {
+    while ((value & ~0x7f) != 0) {
+      out.writeByte((value & 0x7f) | 0x80);
+      value >>>= 7;
+    }
+    out.writeByte(value);
+  }
+
+  /**
+   * Writes a signed long as a zigzag encoded variable length value, so small negative numbers stay
+   * small.
+   *
+   * @param out stream to write to
+   * @param value value to write
+   * @throws IOException if the stream fails
+   */
+  static void writeVarLong(DataOutputStream out, long value) throws IOException {
+    long zigzag = (value << 1) ^ (value >> 63);
+    while ((zigzag & ~0x7fL) != 0) {
+      out.writeByte((int) ((zigzag & 0x7f) | 0x80));
+      zigzag >>>= 7;
+    }
+    out.writeByte((int) zigzag);
+  }
+}
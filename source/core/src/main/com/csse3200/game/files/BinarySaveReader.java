@@ -0,0 +1,332 @@
+package com.csse3200.game.files;
+
+import static com.csse3200.game.files.BinarySaveFormat.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.JsonValue.ValueType;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.SerializationException;
+import com.csse3200.game.concurrency.JobSystem;
+
+/**
+ * Decodes a save written by {@link BinarySaveWriter} back into a {@link JsonValue} tree, which is
+ * then read with the existing {@code read(Json, JsonValue)} implementations.
+ *
+ * <p>The header, string table and section directory are read when the reader is created. The body
+ * is only decoded when {@link #parse()}, {@link #parseParallel()} or {@link #parseSection(String)}
+ * is called. Each of these decodes with its own cursor, so sections can be decoded on several
+ * threads at once.
+ */
+public class BinarySaveReader {
+  private final byte[] data;
+  private final short version;
+  private String[] strings = new String[0];
+  private final ObjectIntMap<String> sectionIndex = new ObjectIntMap<>();
+  private final Array<String> sectionNames = new Array<>();
+  private int[] sectionOffsets = new int[0];
+  private int bodyStart = -1;
+  private int bodyEnd;
+  private SaveMetadata metadata;
+
+  /**
+   * Reads the header of a binary save.
+   *
+   * @param data the complete save file
+   * @throws SerializationException if the data is not a binary save or was written by a newer
+   *     version of the game
+   */
+  public BinarySaveReader(byte[] data) {
+    this.data = data;
+    if (!isBinary(data)) {
+      throw new SerializationException("Not a binary save file");
+    }
+    Decoder header = new Decoder(4, data.length);
+    version = (short) header.readShort();
+    if (version > VERSION) {
+      throw new SerializationException("Save version " + version + " is newer than supported version " + VERSION);
+    }
+    int chunkCount = header.readShort();
+    for (int i = 0; i < chunkCount; i++) {
+      int id = header.readInt();
+      int length = header.readInt();
+      int end = header.position + length;
+      if (length < 0 || end > data.length) {
+        throw new SerializationException("Truncated save file");
+      }
+      if (id == CHUNK_METADATA) {
+        metadata = readMetadata(data, header.position, length);
+      } else if (id == CHUNK_STRINGS) {
+        readStrings(header);
+      } else if (id == CHUNK_SECTIONS) {
+        readSections(header);
+      } else if (id == CHUNK_BODY) {
+        bodyStart = header.position;
+        bodyEnd = end;
+      }
+      // Chunks from a newer minor version are skipped
+      header.position = end;
+    }
+    if (bodyStart < 0) {
+      throw new SerializationException("Save file has no body");
+    }
+  }
+
+  /**
+   * Checks whether the data starts with the binary save magic number
+   *
+   * @param data start of a file, at least four bytes
+   * @return true if the data is a binary save
+   */
+  public static boolean isBinary(byte[] data) {
+    return data != null && data.length >= 4
+        && ((data[0] & 0xff) << 24 | (data[1] & 0xff) << 16 | (data[2] & 0xff) << 8 | (data[3] & 0xff)) == MAGIC;
+  }
+
+  /**
+   * Reads the metadata of a binary save from the start of the file, without needing the rest of it
+   *
+   * @param start the first {@link BinarySaveFormat#METADATA_HEADER_SIZE} bytes of the file, or the
+   *     whole file if it is shorter
+   * @return the save's metadata, or null if the data is not a binary save with metadata
+   */
+  public static SaveMetadata readMetadata(byte[] start) {
+    if (!isBinary(start) || start.length < METADATA_HEADER_SIZE) {
+      return null;
+    }
+    ByteBuffer header = ByteBuffer.wrap(start);
+    header.position(4);
+    short version = header.getShort();
+    int chunkCount = header.getShort();
+    int id = header.getInt();
+    int length = header.getInt();
+    if (version > VERSION || chunkCount < 1 || id != CHUNK_METADATA || length != SaveMetadata.SIZE) {
+      return null;
+    }
+    return readMetadata(start, header.position(), length);
+  }
+
+  private static SaveMetadata readMetadata(byte[] data, int offset, int length) {
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data, offset, length))) {
+      return SaveMetadata.read(in);
+    } catch (IOException e) {
+      throw new SerializationException("Truncated save metadata", e);
+    }
+  }
+
+  /**
+   * Gets the metadata written at the start of the save
+   *
+   * @return save metadata, or null if the save has none
+   */
+  public SaveMetadata getMetadata() {
+    return metadata;
+  }
+
+  /**
+   * Gets the schema version the save was written with
+   *
+   * @return save version
+   */
+  public short getVersion() {
+    return version;
+  }
+
+  /**
+   * Gets the names of the top level sections in the save
+   *
+   * @return section names, in the order they were written
+   */
+  public Array<String> getSectionNames() {
+    return sectionNames;
+  }
+
+  /**
+   * Decodes the whole save
+   *
+   * @return the root value of the save
+   */
+  public JsonValue parse() {
+    Decoder decoder = new Decoder(bodyStart, bodyEnd);
+    return decoder.readValue(decoder.readByte(), null);
+  }
+
+  /**
+   * Decodes the whole save, decoding each top level section as its own job so that large sections
+   * like the tiles and placeables are decoded at the same time.
+   *
+   * @return the root value of the save, with the sections in the order they were written
+   */
+  public JsonValue parseParallel() {
+    if (sectionNames.size < 2) {
+      return parse();
+    }
+    Array<CompletableFuture<JsonValue>> jobs = new Array<>(sectionNames.size);
+    for (String name : sectionNames) {
+      jobs.add(JobSystem.launch(() -> parseSection(name)));
+    }
+    JsonValue root = new JsonValue(ValueType.object);
+    JsonValue last = null;
+    for (CompletableFuture<JsonValue> job : jobs) {
+      last = append(root, last, job.join());
+    }
+    return root;
+  }
+
+  /**
+   * Decodes a single top level section without decoding the rest of the save
+   *
+   * @param name name of the section
+   * @return the section's value, or null if there is no such section
+   */
+  public JsonValue parseSection(String name) {
+    int section = sectionIndex.get(name, -1);
+    if (section == -1) {
+      return null;
+    }
+    Decoder decoder = new Decoder(bodyStart + sectionOffsets[section], bodyEnd);
+    byte tag = decoder.readByte();
+    String key = strings[decoder.readVarInt()];
+    return decoder.readValue(tag, key);
+  }
+
+  private void readStrings(Decoder header) {
+    int count = header.readVarInt();
+    strings = new String[count];
+    for (int i = 0; i < count; i++) {
+      int length = header.readVarInt();
+      strings[i] = new String(data, header.position, length, StandardCharsets.UTF_8);
+      header.position += length;
+    }
+  }
+
+  private void readSections(Decoder header) {
+    int count = header.readVarInt();
+    sectionOffsets = new int[count];
+    for (int i = 0; i < count; i++) {
+      String name = strings[header.readVarInt()];
+      sectionOffsets[i] = header.readVarInt();
+      header.readVarInt(); // length, only needed by readers that copy sections out
+      sectionIndex.put(name, i);
+      sectionNames.add(name);
+    }
+  }
+
+  private static JsonValue append(JsonValue parent, JsonValue last, JsonValue child) {
+    // Linked directly, addChild walks the whole list for every child
+    child.parent = parent;
+    if (last == null) {
+      parent.child = child;
+    } else {
+      last.next = child;
+      child.prev = last;
+    }
+    parent.size++;
+    return child;
+  }
+
+  /** Cursor over part of the save data */
+  private class Decoder {
+    private int position;
+    private final int limit;
+
+    private Decoder(int position, int limit) {
+      this.position = position;
+      this.limit = limit;
+    }
+
+    private JsonValue readValue(byte tag, String name) {
+      JsonValue value;
+      switch (tag) {
+        case TAG_NULL:
+          value = new JsonValue(ValueType.nullValue);
+          break;
+        case TAG_TRUE:
+          value = new JsonValue(true);
+          break;
+        case TAG_FALSE:
+          value = new JsonValue(false);
+          break;
+        case TAG_INT:
+          value = new JsonValue(readVarLong());
+          break;
+        case TAG_FLOAT:
+          value = new JsonValue(Float.intBitsToFloat(readInt()));
+          break;
+        case TAG_DOUBLE:
+          value = new JsonValue(Double.longBitsToDouble((long) readInt() << 32 | (readInt() & 0xffffffffL)));
+          break;
+        case TAG_STRING:
+          value = new JsonValue(strings[readVarInt()]);
+          break;
+        case TAG_OBJECT:
+          value = new JsonValue(ValueType.object);
+          readChildren(value, true);
+          break;
+        case TAG_ARRAY:
+          value = new JsonValue(ValueType.array);
+          readChildren(value, false);
+          break;
+        default:
+          throw new SerializationException("Unknown tag " + tag + " at " + (position - 1));
+      }
+      value.setName(name);
+      return value;
+    }
+
+    private void readChildren(JsonValue parent, boolean named) {
+      JsonValue last = null;
+      byte tag;
+      while ((tag = readByte()) != TAG_END) {
+        String name = named ? strings[readVarInt()] : null;
+        last = append(parent, last, readValue(tag, name));
+      }
+    }
+
+    private byte readByte() {
+      if (position >= limit) {
+        throw new SerializationException("Unexpected end of save file");
+      }
+      return data[position++];
+    }
+
+    private int readShort() {
+      return (readByte() & 0xff) << 8 | (readByte() & 0xff);
+    }
+
+    private int readInt() {
+      return (readByte() & 0xff) << 24 | (readByte() & 0xff) << 16 | (readByte() & 0xff) << 8 | (readByte() & 0xff);
+    }
+
+    private int readVarInt() {
+      int value = 0;
+      int shift = 0;
+      byte b;
+      do {
+        b = readByte();
+        value |= (b & 0x7f) << shift;
+        shift += 7;
+      } while ((b & 0x80) != 0);
+      return value;
+    }
+
+    private long readVarLong() {
+      long zigzag = 0;
+      int shift = 0;
+      byte b;
+      do {
+        b = readByte();
+        zigzag |= (long) (b & 0x7f) << shift;
+        shift += 7;
+      } while ((b & 0x80) != 0);
+      return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+  }
+}
@@ -0,0 +1,322 @@
+package com.csse3200.game.files;
+
+import static com.csse3200.game.files.BinarySaveFormat.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.BooleanArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.JsonWriter;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+/**
+ * Encodes the values written by libGDX's {@link com.badlogic.gdx.utils.Json} into the binary save
+ * format described in {@link BinarySaveFormat}.
+ *
+ * <p>This is passed to {@code Json.toJson} in place of a text writer, so every existing
+ * {@code write(Json)} implementation saves into the binary format without changes. Values are
+ * encoded as they are written, no JSON text or tree is built in between. Once the root value has
+ * been written, {@link #finish(OutputStream)} writes out the complete file.
+ */
+public class BinarySaveWriter extends JsonWriter {
+  private final ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream(64 * 1024);
+  private final DataOutputStream body = new DataOutputStream(bodyBytes);
+
+  private final ObjectIntMap<String> stringIds = new ObjectIntMap<>();
+  private final Array<String> strings = new Array<>();
+
+  /** One entry for each open container, true for objects and false for arrays */
+  private final BooleanArray containers = new BooleanArray();
+  private final IntArray sectionKeys = new IntArray();
+  private final IntArray sectionOffsets = new IntArray();
+  private final IntArray sectionLengths = new IntArray();
+
+  private String pendingName;
+  private boolean rootWritten;
+  private SaveMetadata metadata;
+
+  public BinarySaveWriter() {
+    super(new StringWriter(0));
+  }
+
+  @Override
+  public JsonWriter name(String name) throws IOException {
+    if (containers.isEmpty() || !containers.peek()) {
+      throw new IllegalStateException("Current item must be an object.");
+    }
+    pendingName = name;
+    return this;
+  }
+
+  @Override
+  public JsonWriter object() throws IOException {
+    beginValue(TAG_OBJECT);
+    containers.add(true);
+    return this;
+  }
+
+  @Override
+  public JsonWriter array() throws IOException {
+    beginValue(TAG_ARRAY);
+    containers.add(false);
+    return this;
+  }
+
+  @Override
+  public JsonWriter value(Object value) throws IOException {
+    if (value == null) {
+      beginValue(TAG_NULL);
+    } else if (value instanceof Boolean) {
+      beginValue(Boolean.TRUE.equals(value) ? TAG_TRUE : TAG_FALSE);
+    } else if (value instanceof Float) {
+      beginValue(TAG_FLOAT);
+      body.writeFloat((Float) value);
+    } else if (value instanceof Double) {
+      beginValue(TAG_DOUBLE);
+      body.writeDouble((Double) value);
+    } else if (value instanceof Number) {
+      beginValue(TAG_INT);
+      writeVarLong(body, ((Number) value).longValue());
+    } else {
+      beginValue(TAG_STRING);
+      writeVarInt(body, intern(value.toString()));
+    }
+    endValue();
+    return this;
+  }
+
+  /**
+   * Writes an integer without boxing it first
+   *
+   * @param value value to write
+   * @return this writer
+   * @throws IOException if the value cannot be encoded
+   */
+  public BinarySaveWriter value(long value) throws IOException {
+    beginValue(TAG_INT);
+    writeVarLong(body, value);
+    endValue();
+    return this;
+  }
+
+  /**
+   * Writes a float without boxing it first
+   *
+   * @param value value to write
+   * @return this writer
+   * @throws IOException if the value cannot be encoded
+   */
+  public BinarySaveWriter value(float value) throws IOException {
+    beginValue(TAG_FLOAT);
+    body.writeFloat(value);
+    endValue();
+    return this;
+  }
+
+  /**
+   * Writes a boolean without boxing it first
+   *
+   * @param value value to write
+   * @return this writer
+   * @throws IOException if the value cannot be encoded
+   */
+  public BinarySaveWriter value(boolean value) throws IOException {
+    beginValue(value ? TAG_TRUE : TAG_FALSE);
+    endValue();
+    return this;
+  }
+
+  @Override
+  public JsonWriter json(String json) throws IOException {
+    writeTree(new JsonReader().parse(json));
+    return this;
+  }
+
+  @Override
+  public JsonWriter pop() throws IOException {
+    if (containers.isEmpty()) {
+      throw new IllegalStateException("No object or array to pop.");
+    }
+    body.writeByte(TAG_END);
+    containers.pop();
+    endValue();
+    return this;
+  }
+
+  /**
+   * Writes an already parsed JSON tree, for example an existing JSON save being converted.
+   *
+   * @param value tree to write
+   * @return this writer
+   * @throws IOException if the value cannot be encoded
+   */
+  public BinarySaveWriter writeTree(JsonValue value) throws IOException {
+    if (!containers.isEmpty() && containers.peek()) {
+      name(value.name);
+    }
+    switch (value.type()) {
+      case object:
+        object();
+        for (JsonValue child = value.child; child != null; child = child.next) {
+          writeTree(child);
+        }
+        pop();
+        break;
+      case array:
+        array();
+        for (JsonValue child = value.child; child != null; child = child.next) {
+          writeTree(child);
+        }
+        pop();
+        break;
+      case stringValue:
+        value(value.asString());
+        break;
+      case doubleValue:
+        value(value.asDouble());
+        break;
+      case longValue:
+        value(value.asLong());
+        break;
+      case booleanValue:
+        value(value.asBoolean());
+        break;
+      default:
+        value(null);
+        break;
+    }
+    return this;
+  }
+
+  /**
+   * Sets the metadata written at the start of the save, so the save can be listed without reading
+   * all of it
+   *
+   * @param metadata metadata of the save, or null to leave it out
+   */
+  public void setMetadata(SaveMetadata metadata) {
+    this.metadata = metadata;
+  }
+
+  /**
+   * Writes the header, metadata, string table, section directory and body of the save.
+   *
+   * @param out stream to write the save to, not closed
+   * @throws IOException if the stream fails
+   */
+  public void finish(OutputStream out) throws IOException {
+    if (!rootWritten || !containers.isEmpty()) {
+      throw new IllegalStateException("The root value has not been completely written.");
+    }
+    DataOutputStream file = new DataOutputStream(out);
+    file.writeInt(MAGIC);
+    file.writeShort(VERSION);
+    file.writeShort(metadata == null ? 3 : 4);
+
+    ByteArrayOutputStream chunkBytes = new ByteArrayOutputStream();
+    DataOutputStream chunk = new DataOutputStream(chunkBytes);
+    if (metadata != null) {
+      metadata.write(chunk);
+      writeChunk(file, CHUNK_METADATA, chunkBytes);
+      chunkBytes.reset();
+    }
+    writeVarInt(chunk, strings.size);
+    for (String string : strings) {
+      byte[] utf8 = string.getBytes(StandardCharsets.UTF_8);
+      writeVarInt(chunk, utf8.length);
+      chunk.write(utf8);
+    }
+    writeChunk(file, CHUNK_STRINGS, chunkBytes);
+
+    chunkBytes.reset();
+    writeVarInt(chunk, sectionKeys.size);
+    for (int i = 0; i < sectionKeys.size; i++) {
+      writeVarInt(chunk, sectionKeys.get(i));
+      writeVarInt(chunk, sectionOffsets.get(i));
+      writeVarInt(chunk, sectionLengths.get(i));
+    }
+    writeChunk(file, CHUNK_SECTIONS, chunkBytes);
+
+    writeChunk(file, CHUNK_BODY, bodyBytes);
+    file.flush();
+  }
+
+  /**
+   * Encoded size of the body so far, in bytes
+   *
+   * @return body size
+   */
+  public int getBodySize() {
+    return body.size();
+  }
+
+  /**
+   * Number of distinct strings in the string table so far
+   *
+   * @return string table size
+   */
+  public int getStringCount() {
+    return strings.size;
+  }
+
+  private void beginValue(byte tag) throws IOException {
+    if (containers.isEmpty()) {
+      if (rootWritten) {
+        throw new IllegalStateException("The root value has already been written.");
+      }
+      body.writeByte(tag);
+      return;
+    }
+    if (!containers.peek()) {
+      body.writeByte(tag);
+      return;
+    }
+    if (pendingName == null) {
+      throw new IllegalStateException("Name must be set.");
+    }
+    int key = intern(pendingName);
+    pendingName = null;
+    if (containers.size == 1) {
+      // A top level field of the root object starts a new section
+      sectionKeys.add(key);
+      sectionOffsets.add(body.size());
+      sectionLengths.add(0);
+    }
+    body.writeByte(tag);
+    writeVarInt(body, key);
+  }
+
+  private void endValue() {
+    if (containers.size == 1 && containers.peek() && sectionKeys.notEmpty()) {
+      int last = sectionKeys.size - 1;
+      sectionLengths.set(last, body.size() - sectionOffsets.get(last));
+    } else if (containers.isEmpty()) {
+      rootWritten = true;
+    }
+  }
+
+  private int intern(String string) {
+    int id = stringIds.get(string, -1);
+    if (id == -1) {
+      id = strings.size;
+      strings.add(string);
+      stringIds.put(string, id);
+    }
+    return id;
+  }
+
+  private static void writeChunk(DataOutputStream file, int id, ByteArrayOutputStream payload)
+      throws IOException {
+    file.writeInt(id);
+    file.writeInt(payload.size());
+    payload.writeTo(file);
+  }
+}
@@ -1,12 +1,35 @@
 package com.csse3200.game.files;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
 import com.badlogic.gdx.utils.JsonWriter;
+import com.csse3200.game.concurrency.JobSystem;
 
 /**
  * Wrapper for reading Java objects from JSON files.
@@ -17,6 +40,10 @@ import com.badlogic.gdx.utils.JsonWriter;
 public class FileLoader {
   private static final Logger logger = LoggerFactory.getLogger(FileLoader.class);
   static final Json json = new Json();
+  /** Compression level used when nothing else has been set */
+  public static final int DEFAULT_COMPRESSION_LEVEL = 6;
+  private static final int COMPRESSION_BUFFER_SIZE = 64 * 1024;
+  private static volatile int compressionLevel = DEFAULT_COMPRESSION_LEVEL;
 
   /**
    * Read generic Java classes from a JSON file. Properties in the JSON file will override class
@@ -90,6 +117,394 @@ public class FileLoader {
     file.writeString(json.prettyPrint(object), false);
   }
 
+  /**
+   * Read generic Java classes from a binary save file written by {@link #writeBinaryClass}.
+   *
+   * @param type class type
+   * @param filename file to read from
+   * @param location File storage type.
+   * @param <T> Class type to read into
+   * @return instance of class, may be null
+   */
+  public static <T> T readBinaryClass(Class<T> type, String filename, Location location) {
+    logger.debug("Reading binary class {} from {}", type.getSimpleName(), filename);
+    FileHandle file = getFileHandle(filename, location);
+    if (file == null) {
+      logger.error("Failed to create file handle for {}", filename);
+      return null;
+    }
+
+    T object;
+    try {
+      JsonValue root = new BinarySaveReader(readBytes(file)).parse();
+      object = json.readValue(type, null, root);
+    } catch (Exception e) {
+      logger.error(e.getMessage());
+      return null;
+    }
+    if (object == null) {
+      logger.error("Error creating {} class instance from {}", type.getSimpleName(), file.path());
+    }
+    return object;
+  }
+
+  /**
+   * Write generic Java classes to a binary save file. The object is serialised through the same
+   * {@code Json} calls as {@link #writeClass}, but encoded by {@link BinarySaveWriter}.
+   *
+   * @param object Java object to write.
+   * @param filename File to write to.
+   * @param location File storage type.
+   * @return number of bytes written, or -1 if the file could not be written
+   */
+  public static long writeBinaryClass(Object object, String filename, Location location) {
+    return writeBinary(encodeBinary(object), filename, location);
+  }
+
+  /**
+   * Encodes an object into the binary save format in memory. This reads the object's current
+   * state, so it must be called from the thread that owns the object. The returned snapshot is not
+   * linked to the object and can be written from any thread.
+   *
+   * @param object Java object to encode.
+   * @return the encoded object
+   */
+  public static BinarySaveWriter encodeBinary(Object object) {
+    BinarySaveWriter writer = new BinarySaveWriter();
+    json.toJson(object, object.getClass(), null, writer);
+    return writer;
+  }
+
+  /**
+   * Writes an encoded object to a binary save file. The file is written to a temporary file next
+   * to it first and then moved over it, so the previous file is kept if the write fails part way.
+   *
+   * @param encoded object encoded by {@link #encodeBinary(Object)}.
+   * @param filename File to write to.
+   * @param location File storage type.
+   * @return number of bytes written, or -1 if the file could not be written
+   */
+  public static long writeBinary(BinarySaveWriter encoded, String filename, Location location) {
+    logger.debug("Writing binary file {}", filename);
+    FileHandle file = getFileHandle(filename, location);
+    assert file != null;
+    FileHandle temp = file.sibling(file.name() + ".tmp");
+    try (OutputStream out = compress(new BufferedOutputStream(temp.write(false)))) {
+      encoded.finish(out);
+    } catch (Exception e) {
+      logger.error("Failed to write {}: {}", filename, e.getMessage());
+      temp.delete();
+      return -1;
+    }
+    try {
+      replace(temp.file().toPath(), file.file().toPath());
+    } catch (IOException e) {
+      logger.error("Failed to replace {}: {}", filename, e.getMessage());
+      temp.delete();
+      return -1;
+    }
+    return file.length();
+  }
+
+  /**
+   * Appends an encoded object to a file of binary records. Each record is its length followed by
+   * a complete binary save, so a record that was only partly written can be detected.
+   *
+   * @param encoded object encoded by {@link #encodeBinary(Object)}.
+   * @param filename File to append to.
+   * @param location File storage type.
+   * @return number of bytes appended, or -1 if the record could not be written
+   */
+  public static long appendBinary(BinarySaveWriter encoded, String filename, Location location) {
+    FileHandle file = getFileHandle(filename, location);
+    assert file != null;
+    ByteArrayOutputStream record = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file.write(true)))) {
+      // Records are compressed one by one, so each can still be read on its own
+      try (OutputStream compressed = compress(record)) {
+        encoded.finish(compressed);
+      }
+      out.writeInt(record.size());
+      record.writeTo(out);
+    } catch (Exception e) {
+      logger.error("Failed to append to {}: {}", filename, e.getMessage());
+      return -1;
+    }
+    return record.size() + 4L;
+  }
+
+  /**
+   * Reads every complete record in a file written by {@link #appendBinary}. Reading stops at the
+   * first record that is incomplete or cannot be decoded.
+   *
+   * @param filename File to read from.
+   * @param location File storage type.
+   * @return the decoded records, in the order they were appended
+   */
+  public static Array<JsonValue> readBinaryRecords(String filename, Location location) {
+    Array<JsonValue> records = new Array<>();
+    FileHandle file = getFileHandle(filename, location);
+    if (file == null || !file.exists()) {
+      return records;
+    }
+    byte[] data = file.readBytes();
+    int position = 0;
+    while (position + 4 <= data.length) {
+      int length = (data[position] & 0xff) << 24 | (data[position + 1] & 0xff) << 16
+          | (data[position + 2] & 0xff) << 8 | (data[position + 3] & 0xff);
+      position += 4;
+      if (length < 0 || position + length > data.length) {
+        logger.warn("Ignoring incomplete record at the end of {}", filename);
+        break;
+      }
+      try {
+        records.add(new BinarySaveReader(decompress(Arrays.copyOfRange(data, position, position + length))).parse());
+      } catch (Exception e) {
+        logger.warn("Ignoring unreadable record in {}: {}", filename, e.getMessage());
+        break;
+      }
+      position += length;
+    }
+    return records;
+  }
+
+  /**
+   * Reads a JSON or binary file into a tree without creating any classes from it.
+   *
+   * @param filename file to read from
+   * @param location File storage type.
+   * @return the root of the file, or null if it could not be read
+   */
+  public static JsonValue readTree(String filename, Location location) {
+    FileHandle file = getFileHandle(filename, location);
+    if (file == null || !file.exists()) {
+      logger.error("Failed to find {}", filename);
+      return null;
+    }
+    try {
+      byte[] data = readBytes(file);
+      if (BinarySaveReader.isBinary(data)) {
+        return new BinarySaveReader(data).parseParallel();
+      }
+      return new JsonReader().parse(new String(data, StandardCharsets.UTF_8));
+    } catch (Exception e) {
+      logger.error(e.getMessage());
+      return null;
+    }
+  }
+
+  /**
+   * Read generic Java classes from a tree read by {@link #readTree}.
+   *
+   * @param type class type
+   * @param tree tree to read from
+   * @param <T> Class type to read into
+   * @return instance of class, may be null
+   */
+  public static <T> T readClass(Class<T> type, JsonValue tree) {
+    try {
+      return json.readValue(type, null, tree);
+    } catch (Exception e) {
+      logger.error(e.getMessage());
+      return null;
+    }
+  }
+
+  /**
+   * Deletes a file if it exists
+   *
+   * @param filename file to delete
+   * @param location File storage type.
+   */
+  public static void delete(String filename, Location location) {
+    FileHandle file = getFileHandle(filename, location);
+    if (file != null && file.exists()) {
+      file.delete();
+    }
+  }
+
+  /**
+   * Writes an encoded object to a binary save file on a background thread.
+   *
+   * @param encoded object encoded by {@link #encodeBinary(Object)}.
+   * @param filename File to write to.
+   * @param location File storage type.
+   * @return A future of the number of bytes written, or -1 if the file could not be written
+   */
+  public static CompletableFuture<Long> writeBinaryAsync(BinarySaveWriter encoded, String filename,
+      Location location) {
+    return JobSystem.launchBlocking(() -> writeBinary(encoded, filename, location));
+  }
+
+  private static void replace(Path source, Path target) throws IOException {
+    try {
+      Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  /**
+   * Converts a JSON file into the binary save format. The JSON is converted as it is, without
+   * creating any of the classes it describes, so it can be used on saves outside of a game.
+   *
+   * @param jsonFilename JSON file to read
+   * @param binaryFilename binary file to write
+   * @param location File storage type of both files.
+   * @return true if the file was converted
+   */
+  public static boolean convertToBinary(String jsonFilename, String binaryFilename, Location location) {
+    FileHandle source = getFileHandle(jsonFilename, location);
+    FileHandle target = getFileHandle(binaryFilename, location);
+    if (source == null || target == null || !source.exists()) {
+      logger.error("Failed to convert {} to {}", jsonFilename, binaryFilename);
+      return false;
+    }
+    FileHandle temp = target.sibling(target.name() + ".tmp");
+    try (OutputStream out = new BufferedOutputStream(temp.write(false))) {
+      BinarySaveWriter writer = new BinarySaveWriter();
+      writer.writeTree(new JsonReader().parse(source));
+      writer.finish(out);
+    } catch (Exception e) {
+      logger.error("Failed to convert {} to {}: {}", jsonFilename, binaryFilename, e.getMessage());
+      temp.delete();
+      return false;
+    }
+    try {
+      replace(temp.file().toPath(), target.file().toPath());
+    } catch (IOException e) {
+      logger.error("Failed to replace {}: {}", binaryFilename, e.getMessage());
+      temp.delete();
+      return false;
+    }
+    logger.info("Converted {} ({} bytes) to {} ({} bytes)", jsonFilename, source.length(), binaryFilename,
+        target.length());
+    return true;
+  }
+
+  /**
+   * Checks whether a file exists and is in the binary save format
+   *
+   * @param filename file to check
+   * @param location File storage type.
+   * @return true if the file is a binary save
+   */
+  public static boolean isBinaryFile(String filename, Location location) {
+    return BinarySaveReader.isBinary(readStart(filename, location, 4));
+  }
+
+  /**
+   * Reads the first bytes of a file, without reading the rest of it
+   *
+   * @param filename file to read from
+   * @param location File storage type.
+   * @param length number of bytes to read
+   * @return the first bytes of the file, fewer if the file is shorter, or null if it could not be
+   *     read
+   */
+  public static byte[] readStart(String filename, Location location, int length) {
+    FileHandle file = getFileHandle(filename, location);
+    if (file == null || !file.exists() || file.isDirectory()) {
+      return null;
+    }
+    byte[] start = new byte[length];
+    int read = 0;
+    // Only as much of a compressed file as is needed is decompressed
+    try (InputStream in = decompress(new BufferedInputStream(file.read()))) {
+      while (read < length) {
+        int count = in.read(start, read, length - read);
+        if (count < 0) {
+          break;
+        }
+        read += count;
+      }
+    } catch (Exception e) {
+      return null;
+    }
+    return read == length ? start : Arrays.copyOf(start, read);
+  }
+
+  /**
+   * Sets how much saves written with the binary save format are compressed. Compressed files are
+   * detected when they are read, so changing the level does not affect reading older saves.
+   *
+   * @param level {@link Deflater} compression level from 1 (fastest) to 9 (smallest), or 0 to
+   *     write saves uncompressed
+   */
+  public static void setCompressionLevel(int level) {
+    if (level < Deflater.NO_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+      throw new IllegalArgumentException("Invalid compression level " + level);
+    }
+    compressionLevel = level;
+  }
+
+  /**
+   * Gets how much saves written with the binary save format are compressed
+   *
+   * @return {@link Deflater} compression level, 0 if saves are written uncompressed
+   */
+  public static int getCompressionLevel() {
+    return compressionLevel;
+  }
+
+  /**
+   * Wraps a stream so that what is written to it is compressed with GZIP at the current level.
+   * Closing the returned stream finishes the compressed data and closes the wrapped stream.
+   */
+  private static OutputStream compress(OutputStream out) throws IOException {
+    int level = compressionLevel;
+    if (level == Deflater.NO_COMPRESSION) {
+      return out;
+    }
+    return new GZIPOutputStream(out, COMPRESSION_BUFFER_SIZE) {
+      {
+        def.setLevel(level);
+      }
+    };
+  }
+
+  /**
+   * Wraps a stream so it is decompressed if it starts with the GZIP magic number. The stream must
+   * support mark, so its first bytes can be checked.
+   */
+  private static InputStream decompress(InputStream in) throws IOException {
+    in.mark(2);
+    int first = in.read();
+    int second = in.read();
+    in.reset();
+    if (first == (GZIPInputStream.GZIP_MAGIC & 0xff) && second == (GZIPInputStream.GZIP_MAGIC >>> 8)) {
+      return new GZIPInputStream(in, COMPRESSION_BUFFER_SIZE);
+    }
+    return in;
+  }
+
+  private static byte[] decompress(byte[] data) throws IOException {
+    if (data.length < 2 || (data[0] & 0xff) != (GZIPInputStream.GZIP_MAGIC & 0xff)
+        || (data[1] & 0xff) != (GZIPInputStream.GZIP_MAGIC >>> 8)) {
+      return data;
+    }
+    try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(data), COMPRESSION_BUFFER_SIZE)) {
+      return in.readAllBytes();
+    }
+  }
+
+  /** Reads a whole file, decompressing it if it is compressed */
+  private static byte[] readBytes(FileHandle file) throws IOException {
+    return decompress(file.readBytes());
+  }
+
+  /**
+   * Checks whether a file exists
+   *
+   * @param filename file to check
+   * @param location File storage type.
+   * @return true if the file exists
+   */
+  public static boolean exists(String filename, Location location) {
+    FileHandle file = getFileHandle(filename, location);
+    return file != null && file.exists();
+  }
+
   private static FileHandle getFileHandle(String filename, Location location) {
     switch (location) {
       case CLASSPATH:
@@ -1,10 +1,15 @@
 package com.csse3200.game.files;
 
-import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.concurrent.CompletableFuture;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.JsonValue;
 import com.csse3200.game.areas.weather.ClimateController;
+import com.csse3200.game.concurrency.JobSystem;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.EntityType;
 import com.csse3200.game.files.FileLoader.Location;
@@ -14,30 +19,196 @@ import com.csse3200.game.missions.MissionManager;
  * Reading, Writing, and applying user settings in the game.
  */
 public class SaveGame {
+  private static final Logger logger = LoggerFactory.getLogger(SaveGame.class);
 
   private SaveGame() {
     throw new IllegalStateException("Util class");
   }
 
-  private static final String ROOT_DIR = "saves";
-  private static final String SAVE_FILE = "saveFile.json";
+  private static final EnumSet<EntityType> TILE_TYPES = EnumSet.of(EntityType.TILE, EntityType.SHIP_PART_TILE);
+  private static final EnumSet<EntityType> PLACEABLE_TYPES = EnumSet.of(EntityType.CHEST, EntityType.LIGHT,
+      EntityType.FENCE, EntityType.GATE, EntityType.SPRINKLER, EntityType.PUMP, EntityType.GOLDEN_STATUE);
 
   /**
-   * Get the stored save file
+   * Get the stored save file. Both binary saves and older JSON saves can be read. Any journal
+   * entries written by autosaves since the save are applied on top of it.
    * 
    * @return Copy of the saved game state
    */
   public static GameState get(String path) {
-    return FileLoader.readClass(GameState.class, path, Location.LOCAL);
+    JsonValue save = decode(path);
+    if (save == null) {
+      return null;
+    }
+    return FileLoader.readClass(GameState.class, save);
   }
 
   /**
-   * Set the current game state
+   * Reads a save file and its journal into plain records, without creating any entities. Binary
+   * saves have their sections decoded in parallel. This does not touch the game, so it can be
+   * called from any thread.
+   *
+   * @param path path of the save
+   * @return the save's tree, read into a {@link GameState} on the render thread, or null if the
+   *     save could not be read
+   */
+  public static JsonValue decode(String path) {
+    JsonValue save = FileLoader.readTree(path, Location.LOCAL);
+    if (save == null) {
+      return null;
+    }
+    String journalPath = getJournalPath(path);
+    if (FileLoader.exists(journalPath, Location.LOCAL)) {
+      int applied = SaveJournal.apply(save, FileLoader.readBinaryRecords(journalPath, Location.LOCAL));
+      logger.debug("Applied {} journal entries from {}", applied, journalPath);
+    }
+    return save;
+  }
+
+  /**
+   * Set the current game state, written in the binary save format
    * 
    * @param gameState The gameState to store
+   * @return size of the written save in bytes, or -1 if it could not be written
+   */
+  public static long set(GameState gameState, String path) {
+    return FileLoader.writeBinaryClass(gameState, path, Location.LOCAL);
+  }
+
+  /**
+   * Encodes the game state into memory. This reads the live entities and components, so it must be
+   * called on the render thread, but it does no file I/O.
+   *
+   * @param gameState The gameState to encode
+   * @return snapshot of the game state which can be written from any thread
+   */
+  public static BinarySaveWriter snapshot(GameState gameState) {
+    return FileLoader.encodeBinary(gameState);
+  }
+
+  /**
+   * Encodes the game state into memory, with metadata at the start of the save so the save can be
+   * listed without reading all of it.
+   *
+   * @param gameState The gameState to encode
+   * @param metadata metadata of the save
+   * @return snapshot of the game state which can be written from any thread
+   */
+  public static BinarySaveWriter snapshot(GameState gameState, SaveMetadata metadata) {
+    BinarySaveWriter snapshot = FileLoader.encodeBinary(gameState);
+    snapshot.setMetadata(metadata);
+    return snapshot;
+  }
+
+  /**
+   * Reads the metadata of a save from the start of the file, without reading the rest of it
+   *
+   * @param path path of the save
+   * @return the save's metadata, or null if there is no save or it has no metadata
+   */
+  public static SaveMetadata readMetadata(String path) {
+    return BinarySaveReader.readMetadata(
+        FileLoader.readStart(path, Location.LOCAL, BinarySaveFormat.METADATA_HEADER_SIZE));
+  }
+
+  /**
+   * Reads the save slot index
+   *
+   * @param path path of the index
+   * @return the index, or null if there is no index or it could not be read
+   */
+  public static SaveSlotIndex readIndex(String path) {
+    if (!FileLoader.exists(path, Location.LOCAL)) {
+      return null;
+    }
+    return FileLoader.readClass(SaveSlotIndex.class, path, Location.LOCAL);
+  }
+
+  /**
+   * Writes the save slot index. This uses the shared JSON writer, so it must be called on the
+   * render thread.
+   *
+   * @param index the index
+   * @param path path of the index
+   */
+  public static void writeIndex(SaveSlotIndex index, String path) {
+    FileLoader.writeClass(index, path, Location.LOCAL);
+  }
+
+  /**
+   * Writes a snapshot from {@link #snapshot(GameState)} on a background thread. The previous save is
+   * only replaced once the new one has been completely written.
+   *
+   * @param snapshot snapshot of the game state
+   * @param path path to write the save to
+   * @return A future of the size of the written save in bytes, or -1 if it could not be written
+   */
+  public static CompletableFuture<Long> setAsync(BinarySaveWriter snapshot, String path) {
+    return FileLoader.writeBinaryAsync(snapshot, path, Location.LOCAL);
+  }
+
+  /**
+   * Appends a snapshot of a {@link JournalEntry} to the save's journal on a background thread.
+   *
+   * @param snapshot snapshot of the journal entry
+   * @param path path of the save the entry belongs to
+   * @return A future of the number of bytes appended, or -1 if it could not be written
+   */
+  public static CompletableFuture<Long> appendJournalAsync(BinarySaveWriter snapshot, String path) {
+    String journalPath = getJournalPath(path);
+    return JobSystem.launchBlocking(() -> FileLoader.appendBinary(snapshot, journalPath, Location.LOCAL));
+  }
+
+  /**
+   * Deletes the save's journal, once its entries are part of a full save
+   *
+   * @param path path of the save
+   */
+  public static void deleteJournal(String path) {
+    FileLoader.delete(getJournalPath(path), Location.LOCAL);
+  }
+
+  /**
+   * Gets the path of the journal that autosaves append to for a save
+   *
+   * @param path path of the save
+   * @return path of the journal
+   */
+  public static String getJournalPath(String path) {
+    int extension = path.lastIndexOf('.');
+    int separator = Math.max(path.lastIndexOf('/'), path.lastIndexOf('\\'));
+    return (extension > separator ? path.substring(0, extension) : path) + ".journal";
+  }
+
+  /**
+   * Checks whether an entity type is saved in the tiles of a {@link GameState}
+   *
+   * @param type entity type
+   * @return true for tile types
    */
-  public static void set(GameState gameState, String path) {
-    FileLoader.writeClass(gameState, path, Location.LOCAL);
+  public static boolean isTileType(EntityType type) {
+    return type != null && TILE_TYPES.contains(type);
+  }
+
+  /**
+   * Checks whether an entity type is saved in the placeables of a {@link GameState}
+   *
+   * @param type entity type
+   * @return true for placeable types
+   */
+  public static boolean isPlaceableType(EntityType type) {
+    return type != null && PLACEABLE_TYPES.contains(type);
+  }
+
+  /**
+   * Converts a JSON save from an older version of the game into the binary save format
+   *
+   * @param jsonPath path of the JSON save
+   * @param binaryPath path to write the binary save to
+   * @return true if the save was converted
+   */
+  public static boolean convert(String jsonPath, String binaryPath) {
+    return FileLoader.convertToBinary(jsonPath, binaryPath, Location.LOCAL);
   }
 
   /**
@@ -60,6 +231,10 @@ public class SaveGame {
     private Array<Entity> tiles;
     private Array<Entity> placeables;
 
+    private long generation;
+    /** Time spent playing the game in milliseconds */
+    private long playTime;
+
     public GameState() {
       // No constructor code needed
     }
@@ -200,13 +375,10 @@ public class SaveGame {
      */
     private Array<Entity> filterTiles(Array<Entity> entities) {
       // If you edit this original array you edit what is in the ResourceService
-      Array<Entity> tiles = new Array<>(entities);
-      for (int i = 0; i < tiles.size; i++) {
-        if (tiles.get(i).getType() != EntityType.TILE && tiles.get(i).getType() != EntityType.SHIP_PART_TILE) {
-          tiles.removeIndex(i);
-          // Moves the indexing down when removed so keep index same
-          i--;
-
+      Array<Entity> tiles = new Array<>();
+      for (Entity e : entities) {
+        if (isTileType(e.getType())) {
+          tiles.add(e);
         }
       }
       return tiles;
@@ -293,17 +465,88 @@ public class SaveGame {
      * @return the entities filtered in Array<Entity> for use in SaveLoadService.
      */
     private Array<Entity> filterPlaceables(Array<Entity> entities) {
-      Array<Entity> returnValue = new Array<>(entities);
-      ArrayList<EntityType> placeableTypes = new ArrayList<>(Arrays.asList(EntityType.CHEST, EntityType.LIGHT,
-              EntityType.FENCE, EntityType.GATE, EntityType.SPRINKLER, EntityType.PUMP, EntityType.GOLDEN_STATUE));
-      for (int i = 0; i < returnValue.size; i++) {
-        if (!placeableTypes.contains(returnValue.get(i).getType())) {
-          returnValue.removeIndex(i);
-          // Moves the indexing down when removed so keep index same
-          i--;
+      Array<Entity> returnValue = new Array<>();
+      for (Entity e : entities) {
+        if (isPlaceableType(e.getType())) {
+          returnValue.add(e);
         }
       }
       return returnValue;
     }
+
+    /**
+     * Gets the id of the full save this state belongs to. Journal entries are only applied to the
+     * save with the same generation.
+     * @return the save generation, 0 if the save was not written with one
+     */
+    public long getGeneration() {
+      return generation;
+    }
+
+    /**
+     * Sets the id of the full save this state belongs to
+     * @param generation the save generation
+     */
+    public void setGeneration(long generation) {
+      this.generation = generation;
+    }
+
+    /**
+     * Gets the time spent playing the game when it was saved
+     * @return play time in milliseconds
+     */
+    public long getPlayTime() {
+      return playTime;
+    }
+
+    /**
+     * Sets the time spent playing the game
+     * @param playTime play time in milliseconds
+     */
+    public void setPlayTime(long playTime) {
+      this.playTime = playTime;
+    }
+  }
+
+  /**
+   * Changes made since the last full save, appended to the save's journal by autosaves.
+   * The tiles and placeables only hold the entities that changed, and the removed arrays hold the
+   * x, y position of each tile or placeable that was removed. Every other field is stored in full.
+   */
+  public static class JournalEntry extends GameState {
+    private float[] removedTiles;
+    private float[] removedPlaceables;
+
+    /**
+     * Gets the positions of removed tiles
+     * @return x, y pairs of removed tile positions
+     */
+    public float[] getRemovedTiles() {
+      return removedTiles;
+    }
+
+    /**
+     * Sets the positions of removed tiles
+     * @param removedTiles x, y pairs of removed tile positions
+     */
+    public void setRemovedTiles(float[] removedTiles) {
+      this.removedTiles = removedTiles;
+    }
+
+    /**
+     * Gets the positions of removed placeables
+     * @return x, y pairs of removed placeable positions
+     */
+    public float[] getRemovedPlaceables() {
+      return removedPlaceables;
+    }
+
+    /**
+     * Sets the positions of removed placeables
+     * @param removedPlaceables x, y pairs of removed placeable positions
+     */
+    public void setRemovedPlaceables(float[] removedPlaceables) {
+      this.removedPlaceables = removedPlaceables;
+    }
   }
-}
\ No newline at end of file
+}
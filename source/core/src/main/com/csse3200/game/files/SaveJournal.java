@@ -0,0 +1,180 @@
+package com.csse3200.game.files;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.JsonValue.ValueType;
+import com.badlogic.gdx.utils.LongMap;
+
+/**
+ * Replays {@link SaveGame.JournalEntry} records on top of the full save they were written for.
+ *
+ * <p>Entries are merged into the save's tree before any entities are created from it, so loading a
+ * save with a journal costs the same as loading a full save of the same game.
+ */
+final class SaveJournal {
+  private static final String GENERATION = "generation";
+  private static final String[] KEYED_SECTIONS = {"tiles", "placeables"};
+  private static final String[] REMOVED_SECTIONS = {"removedTiles", "removedPlaceables"};
+
+  private SaveJournal() {
+    throw new IllegalStateException("Util class");
+  }
+
+  /**
+   * Applies journal entries to a save, in order. Entries written for a different generation of the
+   * save are skipped, since the save they were written for has been replaced.
+   *
+   * @param save tree of the full save, changed in place
+   * @param entries trees of the journal entries, taken apart while they are applied
+   * @return number of entries that were applied
+   */
+  static int apply(JsonValue save, Array<JsonValue> entries) {
+    long generation = save.getLong(GENERATION, 0);
+    int applied = 0;
+    for (JsonValue entry : entries) {
+      if (generation == 0 || entry.getLong(GENERATION, 0) != generation) {
+        continue;
+      }
+      applyEntry(save, entry);
+      applied++;
+    }
+    return applied;
+  }
+
+  private static void applyEntry(JsonValue save, JsonValue entry) {
+    for (int i = 0; i < KEYED_SECTIONS.length; i++) {
+      JsonValue changed = entry.get(KEYED_SECTIONS[i]);
+      JsonValue removed = entry.get(REMOVED_SECTIONS[i]);
+      setChild(save, KEYED_SECTIONS[i], merge(save.get(KEYED_SECTIONS[i]), changed, removed));
+    }
+
+    // Json leaves out fields that have their default value, so those are reset to their default
+    JsonValue saved = save.child;
+    while (saved != null) {
+      JsonValue next = saved.next;
+      if (!isKeyed(saved.name) && entry.get(saved.name) == null) {
+        save.remove(saved.name);
+      }
+      saved = next;
+    }
+
+    JsonValue child = entry.child;
+    while (child != null) {
+      JsonValue next = child.next;
+      if (!isKeyed(child.name)) {
+        // Every other section is written in full by each entry
+        setChild(save, child.name, child);
+      }
+      child = next;
+    }
+  }
+
+  /**
+   * Merges the changed and removed entities of a section into the saved section. Tiles and
+   * placeables never move, so they are matched by position.
+   */
+  private static JsonValue merge(JsonValue saved, JsonValue changed, JsonValue removed) {
+    Array<JsonValue> placed = new Array<>();
+    LongMap<JsonValue> changes = new LongMap<>();
+    if (changed != null && changed.isArray()) {
+      for (JsonValue entity = changed.child; entity != null; entity = entity.next) {
+        placed.add(entity);
+        changes.put(key(entity), entity);
+      }
+    }
+    LongMap<Boolean> removals = new LongMap<>();
+    if (removed != null && removed.isArray()) {
+      for (JsonValue x = removed.child; x != null && x.next != null; x = x.next.next) {
+        removals.put(key(x.asFloat(), x.next.asFloat()), Boolean.TRUE);
+      }
+    }
+
+    JsonValue merged = new JsonValue(ValueType.array);
+    JsonValue last = null;
+    if (saved != null && saved.isArray()) {
+      JsonValue entity = saved.child;
+      while (entity != null) {
+        JsonValue next = entity.next;
+        long key = key(entity);
+        JsonValue replacement = changes.remove(key);
+        if (replacement != null) {
+          last = append(merged, last, replacement);
+        } else if (!removals.containsKey(key)) {
+          last = append(merged, last, entity);
+        }
+        entity = next;
+      }
+    }
+    // Entities placed since the last entry
+    for (JsonValue entity : placed) {
+      if (changes.remove(key(entity)) != null) {
+        last = append(merged, last, entity);
+      }
+    }
+    return merged;
+  }
+
+  private static boolean isKeyed(String name) {
+    for (int i = 0; i < KEYED_SECTIONS.length; i++) {
+      if (KEYED_SECTIONS[i].equals(name) || REMOVED_SECTIONS[i].equals(name)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static long key(JsonValue entity) {
+    return key(entity.getFloat("x"), entity.getFloat("y"));
+  }
+
+  private static long key(float x, float y) {
+    return (long) Float.floatToIntBits(x) << 32 | (Float.floatToIntBits(y) & 0xffffffffL);
+  }
+
+  private static JsonValue append(JsonValue parent, JsonValue last, JsonValue value) {
+    value.parent = parent;
+    value.prev = last;
+    value.next = null;
+    value.setName(null);
+    if (last == null) {
+      parent.child = value;
+    } else {
+      last.next = value;
+    }
+    parent.size++;
+    return value;
+  }
+
+  /** Replaces the child of an object with the given name, or adds it if there is none */
+  private static void setChild(JsonValue parent, String name, JsonValue value) {
+    value.setName(name);
+    value.parent = parent;
+    JsonValue existing = parent.get(name);
+    if (existing != null) {
+      value.prev = existing.prev;
+      value.next = existing.next;
+      if (existing.prev == null) {
+        parent.child = value;
+      } else {
+        existing.prev.next = value;
+      }
+      if (existing.next != null) {
+        existing.next.prev = value;
+      }
+      return;
+    }
+    value.next = null;
+    value.prev = null;
+    if (parent.child == null) {
+      parent.child = value;
+    } else {
+      JsonValue last = parent.child;
+      while (last.next != null) {
+        last = last.next;
+      }
+      last.next = value;
+      value.prev = last;
+    }
+    parent.size++;
+  }
+}
@@ -0,0 +1,180 @@
+package com.csse3200.game.files;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import com.badlogic.gdx.graphics.Pixmap;
+
+/**
+ * Summary of a save, shown when listing save slots. It is written as a fixed-size block at the
+ * start of a binary save, so it can be read without reading the rest of the file, and is copied
+ * into the {@link SaveSlotIndex}.
+ */
+public class SaveMetadata {
+  public static final int THUMBNAIL_WIDTH = 64;
+  public static final int THUMBNAIL_HEIGHT = 48;
+  /** Size of the metadata when written to a save, in bytes */
+  public static final int SIZE = 4 + 4 + 1 + 1 + 4 + 8 + 8 + 1 + THUMBNAIL_WIDTH * THUMBNAIL_HEIGHT * 2;
+
+  private int slot;
+  private int day;
+  private int hour;
+  private int minute;
+  private float oxygen;
+  /** Time spent playing the game in milliseconds */
+  private long playTime;
+  /** When the save was written, in milliseconds since the epoch */
+  private long savedAt;
+  /** RGB565 pixels of the farm, top row first, or null if there is no thumbnail */
+  private transient short[] thumbnail;
+
+  public int getSlot() {
+    return slot;
+  }
+
+  public void setSlot(int slot) {
+    this.slot = slot;
+  }
+
+  public int getDay() {
+    return day;
+  }
+
+  public void setDay(int day) {
+    this.day = day;
+  }
+
+  public int getHour() {
+    return hour;
+  }
+
+  public void setHour(int hour) {
+    this.hour = hour;
+  }
+
+  public int getMinute() {
+    return minute;
+  }
+
+  public void setMinute(int minute) {
+    this.minute = minute;
+  }
+
+  public float getOxygen() {
+    return oxygen;
+  }
+
+  public void setOxygen(float oxygen) {
+    this.oxygen = oxygen;
+  }
+
+  public long getPlayTime() {
+    return playTime;
+  }
+
+  public void setPlayTime(long playTime) {
+    this.playTime = playTime;
+  }
+
+  public long getSavedAt() {
+    return savedAt;
+  }
+
+  public void setSavedAt(long savedAt) {
+    this.savedAt = savedAt;
+  }
+
+  /**
+   * Gets the thumbnail pixels. The thumbnail is only kept in the save file, not in the index.
+   *
+   * @return RGB565 pixels, {@link #THUMBNAIL_WIDTH} by {@link #THUMBNAIL_HEIGHT}, or null
+   */
+  public short[] getThumbnail() {
+    return thumbnail;
+  }
+
+  /**
+   * Sets the thumbnail pixel at a position, creating a blank thumbnail first if there is none
+   *
+   * @param x pixel x, from the left
+   * @param y pixel y, from the top
+   * @param rgba8888 colour of the pixel
+   */
+  public void setThumbnailPixel(int x, int y, int rgba8888) {
+    if (thumbnail == null) {
+      thumbnail = new short[THUMBNAIL_WIDTH * THUMBNAIL_HEIGHT];
+    }
+    int r = (rgba8888 >>> 27) & 0x1f;
+    int g = (rgba8888 >>> 18) & 0x3f;
+    int b = (rgba8888 >>> 11) & 0x1f;
+    thumbnail[y * THUMBNAIL_WIDTH + x] = (short) (r << 11 | g << 5 | b);
+  }
+
+  /**
+   * Creates a pixmap of the thumbnail, which the caller must dispose
+   *
+   * @return the thumbnail, or null if there is none
+   */
+  public Pixmap createThumbnailPixmap() {
+    if (thumbnail == null) {
+      return null;
+    }
+    Pixmap pixmap = new Pixmap(THUMBNAIL_WIDTH, THUMBNAIL_HEIGHT, Pixmap.Format.RGBA8888);
+    for (int y = 0; y < THUMBNAIL_HEIGHT; y++) {
+      for (int x = 0; x < THUMBNAIL_WIDTH; x++) {
+        int rgb565 = thumbnail[y * THUMBNAIL_WIDTH + x] & 0xffff;
+        int r = (rgb565 >>> 11) * 255 / 31;
+        int g = ((rgb565 >>> 5) & 0x3f) * 255 / 63;
+        int b = (rgb565 & 0x1f) * 255 / 31;
+        pixmap.drawPixel(x, y, r << 24 | g << 16 | b << 8 | 0xff);
+      }
+    }
+    return pixmap;
+  }
+
+  /**
+   * Writes exactly {@link #SIZE} bytes
+   *
+   * @param out stream to write to
+   * @throws IOException if the stream fails
+   */
+  void write(DataOutputStream out) throws IOException {
+    out.writeInt(slot);
+    out.writeInt(day);
+    out.writeByte(hour);
+    out.writeByte(minute);
+    out.writeFloat(oxygen);
+    out.writeLong(playTime);
+    out.writeLong(savedAt);
+    out.writeBoolean(thumbnail != null);
+    for (int i = 0; i < THUMBNAIL_WIDTH * THUMBNAIL_HEIGHT; i++) {
+      out.writeShort(thumbnail == null ? 0 : thumbnail[i]);
+    }
+  }
+
+  /**
+   * Reads metadata written by {@link #write(DataOutputStream)}
+   *
+   * @param in stream to read from
+   * @return the metadata
+   * @throws IOException if the stream ends early
+   */
+  static SaveMetadata read(DataInputStream in) throws IOException {
+    SaveMetadata metadata = new SaveMetadata();
+    metadata.slot = in.readInt();
+    metadata.day = in.readInt();
+    metadata.hour = in.readUnsignedByte();
+    metadata.minute = in.readUnsignedByte();
+    metadata.oxygen = in.readFloat();
+    metadata.playTime = in.readLong();
+    metadata.savedAt = in.readLong();
+    boolean hasThumbnail = in.readBoolean();
+    short[] pixels = new short[THUMBNAIL_WIDTH * THUMBNAIL_HEIGHT];
+    for (int i = 0; i < pixels.length; i++) {
+      pixels[i] = in.readShort();
+    }
+    metadata.thumbnail = hasThumbnail ? pixels : null;
+    return metadata;
+  }
+}
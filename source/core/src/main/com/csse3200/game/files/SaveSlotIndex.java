@@ -0,0 +1,78 @@
+package com.csse3200.game.files;
+
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Index of the save slots in use, holding the {@link SaveMetadata} of each slot. It is kept in a
+ * small JSON file next to the saves, so save slots can be listed without opening any of them.
+ */
+public class SaveSlotIndex {
+  private Array<SaveMetadata> slots = new Array<>();
+
+  /**
+   * Gets the metadata of a slot
+   *
+   * @param slot slot number
+   * @return the slot's metadata, or null if the slot is not in the index
+   */
+  public SaveMetadata get(int slot) {
+    for (SaveMetadata metadata : slots) {
+      if (metadata.getSlot() == slot) {
+        return metadata;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Adds or replaces the metadata of a slot
+   *
+   * @param metadata metadata of the slot, holding its slot number
+   */
+  public void put(SaveMetadata metadata) {
+    remove(metadata.getSlot());
+    int index = 0;
+    while (index < slots.size && slots.get(index).getSlot() < metadata.getSlot()) {
+      index++;
+    }
+    slots.insert(index, metadata);
+  }
+
+  /**
+   * Removes a slot from the index
+   *
+   * @param slot slot number
+   */
+  public void remove(int slot) {
+    for (int i = 0; i < slots.size; i++) {
+      if (slots.get(i).getSlot() == slot) {
+        slots.removeIndex(i);
+        return;
+      }
+    }
+  }
+
+  /**
+   * Gets the slot that was saved most recently
+   *
+   * @return metadata of the slot, or null if the index is empty
+   */
+  public SaveMetadata getLatest() {
+    SaveMetadata latest = null;
+    for (SaveMetadata metadata : slots) {
+      if (latest == null || metadata.getSavedAt() > latest.getSavedAt()) {
+        latest = metadata;
+      }
+    }
+    return latest;
+  }
+
+  /**
+   * Gets every slot in the index
+   *
+   * @return metadata of the slots, ordered by slot number
+   */
+  public Array<SaveMetadata> getSlots() {
+    return new Array<>(slots);
+  }
+}
@@ -48,6 +48,7 @@ public class UserSettings {
   public static void applySettings(Settings settings) {
     Gdx.graphics.setForegroundFPS(settings.fps);
     Gdx.graphics.setVSync(settings.vsync);
+    FileLoader.setCompressionLevel(Math.max(0, Math.min(9, settings.saveCompressionLevel)));
 
     if (settings.fullscreen) {
       DisplayMode displayMode = findMatching(settings.displayMode);
@@ -90,6 +91,10 @@ public class UserSettings {
      */
     public float uiScale = 1f;
     public float zoomScale = 1.5f;
+    /**
+     * Compression level of save files, from 1 (fastest) to 9 (smallest), or 0 for uncompressed saves.
+     */
+    public int saveCompressionLevel = FileLoader.DEFAULT_COMPRESSION_LEVEL;
     public DisplaySettings displayMode = null;
   }
 
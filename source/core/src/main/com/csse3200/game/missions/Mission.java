@@ -2,6 +2,8 @@ package com.csse3200.game.missions;
 
 import com.badlogic.gdx.utils.JsonValue;
 import com.csse3200.game.events.EventHandler;
+import com.csse3200.game.events.listeners.EventListener1;
+import com.csse3200.game.events.listeners.EventListener2;
 import com.csse3200.game.services.ServiceLocator;
 
 public abstract class Mission {
@@ -48,6 +50,44 @@ public abstract class Mission {
      */
     public abstract void registerMission(EventHandler missionManagerEvents);
 
+    /**
+     * Adds a listener to a {@link MissionManager.MissionEvent} with no arguments, which is given the number of times
+     * the event was triggered. On the {@link MissionManager}'s {@link MissionEventBus}, high-frequency events triggered
+     * together are delivered to the listener once. On any other {@link EventHandler}, the listener is given a count of
+     * 1 for each trigger.
+     *
+     * @param missionManagerEvents The {@link EventHandler} given to {@link #registerMission(EventHandler)}
+     * @param event The {@link MissionManager.MissionEvent} to listen to
+     * @param listener Function to call with the number of times the event was triggered
+     */
+    protected static void addCountedListener(EventHandler missionManagerEvents, MissionManager.MissionEvent event,
+                                             EventListener1<Integer> listener) {
+        if (missionManagerEvents instanceof MissionEventBus missionEventBus) {
+            missionEventBus.addCountedListener(event, listener);
+        } else {
+            missionManagerEvents.addListener(event.name(), () -> listener.handle(1));
+        }
+    }
+
+    /**
+     * Adds a listener to a {@link MissionManager.MissionEvent} with one argument, which is given the number of times
+     * the event was triggered with that argument. See {@link #addCountedListener(EventHandler,
+     * MissionManager.MissionEvent, EventListener1)}.
+     *
+     * @param missionManagerEvents The {@link EventHandler} given to {@link #registerMission(EventHandler)}
+     * @param event The {@link MissionManager.MissionEvent} to listen to
+     * @param listener Function to call with the argument and the number of times the event was triggered with it
+     * @param <T> Argument type
+     */
+    protected static <T> void addCountedListener(EventHandler missionManagerEvents, MissionManager.MissionEvent event,
+                                                 EventListener2<T, Integer> listener) {
+        if (missionManagerEvents instanceof MissionEventBus missionEventBus) {
+            missionEventBus.addCountedListener(event, listener);
+        } else {
+            missionManagerEvents.addListener(event.name(), (T arg) -> listener.handle(arg, 1));
+        }
+    }
+
     /**
      * Returns a boolean value representing whether the {@link Mission} has been completed.
      *
@@ -87,9 +127,9 @@ public abstract class Mission {
         }
 
         if (!isQuestGiverNotified && isCompleted()) {
-            ServiceLocator.getMissionManager().getEvents().trigger(
-                    MissionManager.MissionEvent.MISSION_COMPLETE.name(),
-                    getName());
+            MissionManager missionManager = ServiceLocator.getMissionManager();
+            missionManager.getEventBus().trigger(MissionManager.MissionEvent.MISSION_COMPLETE, getName());
+            missionManager.onMissionComplete(this);
             isQuestGiverNotified = true;
         }
     }
@@ -0,0 +1,354 @@
+package com.csse3200.game.missions;
+
+import com.csse3200.game.events.EventHandler;
+import com.csse3200.game.events.listeners.EventListener;
+import com.csse3200.game.events.listeners.EventListener0;
+import com.csse3200.game.events.listeners.EventListener1;
+import com.csse3200.game.events.listeners.EventListener2;
+import com.csse3200.game.missions.MissionManager.MissionEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The {@link EventHandler} of the {@link MissionManager}. Listeners for a {@link MissionEvent} with zero or one
+ * arguments are kept in an array indexed by the {@link MissionEvent}'s ordinal, so triggering one with
+ * {@link #trigger(MissionEvent)} or {@link #trigger(MissionEvent, Object)} does not hash its name. Listeners added
+ * for the {@link MissionEvent#name()} still work as before, and any other event name is handled by the
+ * {@link EventHandler} as normal.
+ *
+ * <p>Listeners added while a {@link Mission} is registered through {@link #register(Mission)} belong to that
+ * {@link Mission}, and can all be removed at once with {@link #unsubscribe(Mission)} and restored with
+ * {@link #resubscribe(Mission)}.
+ *
+ * <p>High-frequency events triggered inside {@link #batch(Runnable)} are merged, and delivered once the batch
+ * ends. Listeners added with {@link #addCountedListener(MissionEvent, EventListener1)} receive a merged event once
+ * along with how many times it was triggered, while any other listener is called once for each trigger.
+ */
+public class MissionEventBus extends EventHandler {
+
+	/**
+	 * Every {@link MissionEvent}, indexed by ordinal
+	 */
+	private static final MissionEvent[] EVENTS = MissionEvent.values();
+
+	/**
+	 * Every {@link MissionEvent}, indexed by name, so listeners and triggers using the name can be routed
+	 */
+	private static final Map<String, MissionEvent> EVENTS_BY_NAME = new HashMap<>();
+
+	/**
+	 * The {@link MissionEvent}s triggered often enough from gameplay to be merged inside a batch. Other events are
+	 * always delivered straight away, so events such as {@link MissionEvent#MISSION_COMPLETE} keep their order.
+	 */
+	private static final Set<MissionEvent> COALESCED_EVENTS = EnumSet.of(
+			MissionEvent.PLANT_CROP,
+			MissionEvent.FERTILISE_CROP,
+			MissionEvent.HARVEST_CROP,
+			MissionEvent.WATER_CROP,
+			MissionEvent.ITEMS_COLLECTED,
+			MissionEvent.FISH
+	);
+
+	private static final Subscription[] NO_SUBSCRIPTIONS = new Subscription[0];
+
+	static {
+		for (MissionEvent event : EVENTS) {
+			EVENTS_BY_NAME.put(event.name(), event);
+		}
+	}
+
+	/**
+	 * The listeners of each {@link MissionEvent}, indexed by ordinal. Each array is replaced rather than changed, so
+	 * listeners can be added or removed while an event is being delivered.
+	 */
+	private final Subscription[][] subscriptions = new Subscription[EVENTS.length][];
+
+	/**
+	 * Merged events waiting for the batch to end, in the order they were first triggered, with how many times each
+	 * was triggered
+	 */
+	private final Map<PendingEvent, Integer> pendingEvents = new LinkedHashMap<>();
+
+	/**
+	 * The listeners removed from each unsubscribed {@link Mission}, so they can be restored
+	 */
+	private final Map<Mission, List<Subscription>> unsubscribed = new IdentityHashMap<>();
+
+	/**
+	 * The {@link Mission} currently being registered, which owns any listeners added
+	 */
+	private Mission registering;
+
+	/**
+	 * How many batches are currently open
+	 */
+	private int batchDepth;
+
+	/**
+	 * Creates a {@link MissionEventBus} with no listeners
+	 */
+	public MissionEventBus() {
+		super();
+		Arrays.fill(subscriptions, NO_SUBSCRIPTIONS);
+	}
+
+	/**
+	 * Registers a {@link Mission} through its {@link Mission#registerMission(EventHandler)} method, so that every
+	 * listener it adds can later be removed with {@link #unsubscribe(Mission)}.
+	 * @param mission The {@link Mission} to register
+	 */
+	public void register(Mission mission) {
+		Mission previous = registering;
+		registering = mission;
+		try {
+			mission.registerMission(this);
+		} finally {
+			registering = previous;
+		}
+	}
+
+	/**
+	 * Removes every {@link MissionEvent} listener added while the {@link Mission} was registered through
+	 * {@link #register(Mission)}, keeping them so they can be restored with {@link #resubscribe(Mission)}. Does
+	 * nothing if it has no listeners. Listeners the {@link Mission} added anywhere else, such as on the
+	 * {@link com.csse3200.game.services.TimeService}, are not affected.
+	 * @param mission The {@link Mission} to stop listening for events
+	 */
+	public void unsubscribe(Mission mission) {
+		List<Subscription> removed = null;
+		for (int i = 0; i < subscriptions.length; i++) {
+			Subscription[] current = subscriptions[i];
+			int kept = 0;
+			Subscription[] remaining = new Subscription[current.length];
+			for (Subscription subscription : current) {
+				if (subscription.owner() != mission) {
+					remaining[kept++] = subscription;
+				} else {
+					if (removed == null) {
+						removed = unsubscribed.computeIfAbsent(mission, key -> new ArrayList<>());
+					}
+					removed.add(subscription);
+				}
+			}
+			if (kept < current.length) {
+				subscriptions[i] = kept == 0 ? NO_SUBSCRIPTIONS : Arrays.copyOf(remaining, kept);
+			}
+		}
+	}
+
+	/**
+	 * Restores the listeners of a {@link Mission} removed by {@link #unsubscribe(Mission)}. Does nothing if the
+	 * {@link Mission} has not been unsubscribed.
+	 * @param mission The {@link Mission} to listen for events again
+	 */
+	public void resubscribe(Mission mission) {
+		List<Subscription> removed = unsubscribed.remove(mission);
+		if (removed == null) {
+			return;
+		}
+		for (Subscription subscription : removed) {
+			add(subscription);
+		}
+	}
+
+	/**
+	 * Returns whether a {@link Mission}'s listeners have been removed by {@link #unsubscribe(Mission)}
+	 * @param mission The {@link Mission} to check
+	 * @return True if the {@link Mission} has been unsubscribed and not resubscribed since
+	 */
+	public boolean isUnsubscribed(Mission mission) {
+		return unsubscribed.containsKey(mission);
+	}
+
+	/**
+	 * Returns how many listeners a {@link MissionEvent} has
+	 * @param event The {@link MissionEvent} to count listeners of
+	 * @return The number of listeners of the {@link MissionEvent}
+	 */
+	public int getListenerCount(MissionEvent event) {
+		return subscriptions[event.ordinal()].length;
+	}
+
+	/**
+	 * Add a listener to a {@link MissionEvent} with no arguments which is told how many times the event was
+	 * triggered, so merged events can be handled at once
+	 * @param event The {@link MissionEvent} to listen to
+	 * @param listener Function to call with the number of times the event was triggered
+	 */
+	public void addCountedListener(MissionEvent event, EventListener1<Integer> listener) {
+		subscribe(event, listener, true);
+	}
+
+	/**
+	 * Add a listener to a {@link MissionEvent} with one argument which is told how many times the event was
+	 * triggered with that argument, so merged events can be handled at once
+	 * @param event The {@link MissionEvent} to listen to
+	 * @param listener Function to call with the argument and the number of times the event was triggered with it
+	 * @param <T> Argument type
+	 */
+	public <T> void addCountedListener(MissionEvent event, EventListener2<T, Integer> listener) {
+		subscribe(event, listener, true);
+	}
+
+	@Override
+	public void addListener(String eventName, EventListener0 listener) {
+		MissionEvent event = EVENTS_BY_NAME.get(eventName);
+		if (event == null) {
+			super.addListener(eventName, listener);
+		} else {
+			subscribe(event, listener, false);
+		}
+	}
+
+	@Override
+	public <T> void addListener(String eventName, EventListener1<T> listener) {
+		MissionEvent event = EVENTS_BY_NAME.get(eventName);
+		if (event == null) {
+			super.addListener(eventName, listener);
+		} else {
+			subscribe(event, listener, false);
+		}
+	}
+
+	@Override
+	public void trigger(String eventName) {
+		MissionEvent event = EVENTS_BY_NAME.get(eventName);
+		if (event == null) {
+			super.trigger(eventName);
+		} else {
+			trigger(event);
+		}
+	}
+
+	@Override
+	public <T> void trigger(String eventName, T arg0) {
+		MissionEvent event = EVENTS_BY_NAME.get(eventName);
+		if (event == null) {
+			super.trigger(eventName, arg0);
+		} else {
+			trigger(event, arg0);
+		}
+	}
+
+	/**
+	 * Trigger a {@link MissionEvent} with no arguments
+	 * @param event The {@link MissionEvent} to trigger
+	 */
+	public void trigger(MissionEvent event) {
+		if (batchDepth > 0 && COALESCED_EVENTS.contains(event)) {
+			pendingEvents.merge(new PendingEvent(event, false, null), 1, Integer::sum);
+		} else {
+			deliver(event, false, null, 1);
+		}
+	}
+
+	/**
+	 * Trigger a {@link MissionEvent} with one argument
+	 * @param event The {@link MissionEvent} to trigger
+	 * @param arg0 Argument to pass to the listeners
+	 * @param <T> Argument type
+	 */
+	public <T> void trigger(MissionEvent event, T arg0) {
+		if (batchDepth > 0 && COALESCED_EVENTS.contains(event)) {
+			pendingEvents.merge(new PendingEvent(event, true, arg0), 1, Integer::sum);
+		} else {
+			deliver(event, true, arg0, 1);
+		}
+	}
+
+	/**
+	 * Runs an action, merging the high-frequency {@link MissionEvent}s it triggers and delivering them once it has
+	 * finished. Events triggered with the same argument are delivered once, along with how many times they were
+	 * triggered. Batches may be nested, in which case the events are delivered when the outermost batch ends.
+	 * @param action The action to run
+	 */
+	public void batch(Runnable action) {
+		batchDepth++;
+		try {
+			action.run();
+		} finally {
+			if (--batchDepth == 0) {
+				deliverPendingEvents();
+			}
+		}
+	}
+
+	/**
+	 * Returns how many merged events are waiting for the current batch to end
+	 * @return The number of distinct events waiting to be delivered
+	 */
+	public int getPendingEventCount() {
+		return pendingEvents.size();
+	}
+
+	private void deliverPendingEvents() {
+		while (!pendingEvents.isEmpty()) {
+			// Listeners may trigger more events, which are delivered straight away since the batch has ended
+			Map<PendingEvent, Integer> toDeliver = new LinkedHashMap<>(pendingEvents);
+			pendingEvents.clear();
+			toDeliver.forEach((pending, count) -> deliver(pending.event(), pending.hasArg(), pending.arg(), count));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void deliver(MissionEvent event, boolean hasArg, Object arg0, int count) {
+		for (Subscription subscription : subscriptions[event.ordinal()]) {
+			EventListener listener = subscription.listener();
+			if (subscription.counted()) {
+				if (hasArg) {
+					((EventListener2<Object, Integer>) listener).handle(arg0, count);
+				} else {
+					((EventListener1<Integer>) listener).handle(count);
+				}
+			} else {
+				for (int i = 0; i < count; i++) {
+					if (hasArg) {
+						((EventListener1<Object>) listener).handle(arg0);
+					} else {
+						((EventListener0) listener).handle();
+					}
+				}
+			}
+		}
+	}
+
+	private void subscribe(MissionEvent event, EventListener listener, boolean counted) {
+		add(new Subscription(event, registering, listener, counted));
+	}
+
+	private void add(Subscription subscription) {
+		int index = subscription.event().ordinal();
+		Subscription[] current = subscriptions[index];
+		Subscription[] updated = Arrays.copyOf(current, current.length + 1);
+		updated[current.length] = subscription;
+		subscriptions[index] = updated;
+	}
+
+	/**
+	 * A listener of a {@link MissionEvent}
+	 * @param event The {@link MissionEvent} listened to
+	 * @param owner The {@link Mission} which added the listener, or null if it was not added during
+	 *              {@link #register(Mission)}
+	 * @param listener The function to call
+	 * @param counted Whether the listener takes the number of times the event was triggered
+	 */
+	private record Subscription(MissionEvent event, Mission owner, EventListener listener, boolean counted) {
+	}
+
+	/**
+	 * A merged event waiting for a batch to end
+	 * @param event The {@link MissionEvent} triggered
+	 * @param hasArg Whether the event was triggered with an argument
+	 * @param arg The argument, if any
+	 */
+	private record PendingEvent(MissionEvent event, boolean hasArg, Object arg) {
+	}
+}
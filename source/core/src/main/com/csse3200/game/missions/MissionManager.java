@@ -18,7 +18,8 @@ public class MissionManager implements Json.Serializable {
 	/**
 	 * An enum storing all possible events that the {@link MissionManager}'s {@link EventHandler} should listen to and
 	 * trigger. To add a listener to the {@link MissionManager}, create a new {@link MissionEvent} enum value, and add
-	 * a listener for the {@link #name()} of the enum value.
+	 * a listener for the {@link #name()} of the enum value. Events triggered from gameplay should be triggered with
+	 * the enum value itself through {@link #getEventBus()}, which avoids looking up the name.
 	 */
 	public enum MissionEvent {
 		// Triggers when a mission is completed, a single String representing name of completed mission is provided as
@@ -64,7 +65,7 @@ public class MissionManager implements Json.Serializable {
 	 * this {@link EventHandler} to update their state, when said events are triggered by in-game
 	 * interactions
 	 */
-	private final EventHandler events = new EventHandler();
+	private final MissionEventBus events = new MissionEventBus();
 
 	/**
 	 * A {@link List} of {@link Quest}s which are currently active
@@ -95,21 +96,33 @@ public class MissionManager implements Json.Serializable {
 	public MissionManager() {
 		ServiceLocator.getTimeService().getEvents().addListener("hourUpdate", this::updateActiveQuestTimes);
 		for (Achievement mission : achievements) {
-			mission.registerMission(events);
+			events.register(mission);
 		}
 	}
 
 	/**
 	 * Accepts a quest by adding it to the list of active quests in the game.  Also registers this quest in the game.
 	 * If this {@link Quest} is in the {@link List} of selectable {@link Quest}s, then this method will also remove the
-	 * {@link Quest} from the {@link List} of selectable {@link Quest}s.
+	 * {@link Quest} from the {@link List} of selectable {@link Quest}s. The {@link Quest} stops listening for
+	 * {@link MissionEvent}s once it has been completed or has expired.
 	 * @param quest The {@link Quest} to be added and registered
 	 */
 	public void acceptQuest(Quest quest) {
 		// Remove the quest from selectable quests if present
 		selectableQuests.remove(quest);
 		activeQuests.add(quest);
-		quest.registerMission(events);
+		events.register(quest);
+	}
+
+	/**
+	 * Reactivates an expired {@link Quest} through its {@link Quest#resetExpiry()} method, and has it listen for
+	 * {@link MissionEvent}s again.
+	 * @param quest The {@link Quest} to reactivate
+	 */
+	public void reactivateQuest(Quest quest) {
+		// Resubscribe first, so a quest which is completed as soon as it is reset is unsubscribed again
+		events.resubscribe(quest);
+		quest.resetExpiry();
 	}
 
 	/**
@@ -128,7 +141,7 @@ public class MissionManager implements Json.Serializable {
 	 */
 	public void addQuest(Quest quest) {
 		selectableQuests.add(quest);
-		events.trigger(MissionEvent.NEW_QUEST.name());
+		events.trigger(MissionEvent.NEW_QUEST);
 	}
 
 	/**
@@ -159,13 +172,36 @@ public class MissionManager implements Json.Serializable {
 	}
 
 	/**
-	 * Updates all active {@link Quest}s' durations through their {@link Quest#updateExpiry()} method.
+	 * Returns the {@link MissionManager}'s {@link MissionEventBus}, which is the same {@link EventHandler} as
+	 * {@link #getEvents()}. Use it to trigger {@link MissionEvent}s without looking up their names, and to batch
+	 * high-frequency events.
+	 * @return The {@link MissionEventBus} of the {@link MissionManager}
+	 */
+	public MissionEventBus getEventBus() {
+		return events;
+	}
+
+	/**
+	 * Stops an active {@link Quest} listening for {@link MissionEvent}s once it has been completed. Called by
+	 * {@link Mission#notifyUpdate()}.
+	 * @param mission The {@link Mission} which has been completed
+	 */
+	void onMissionComplete(Mission mission) {
+		if (mission instanceof Quest quest && activeQuests.contains(quest)) {
+			events.unsubscribe(quest);
+		}
+	}
+
+	/**
+	 * Updates all active {@link Quest}s' durations through their {@link Quest#updateExpiry()} method. Expired
+	 * {@link Quest}s stop listening for {@link MissionEvent}s until they are reactivated.
 	 */
 	private void updateActiveQuestTimes() {
 		for (Quest quest : activeQuests) {
 			quest.updateExpiry();
 			if (quest.isExpired()) {
-				events.trigger(MissionEvent.QUEST_EXPIRED.name());
+				events.unsubscribe(quest);
+				events.trigger(MissionEvent.QUEST_EXPIRED);
 				if (quest.isMandatory()) {
 					events.trigger("loseScreen", quest.getName());
 				}
@@ -39,7 +39,7 @@ public class CollectItemsAchievement extends Achievement {
      */
     @Override
     public void registerMission(EventHandler missionManagerEvents) {
-        missionManagerEvents.addListener(MissionManager.MissionEvent.ITEMS_COLLECTED.name(), this::updateState);
+        addCountedListener(missionManagerEvents, MissionManager.MissionEvent.ITEMS_COLLECTED, this::collectItems);
     }
 
     /**
@@ -47,9 +47,16 @@ public class CollectItemsAchievement extends Achievement {
      * and then notifyUpdate().
      */
     protected void updateState() {
-        if (++numberOfItemsCollected >= numberOfItemsToCollect) {
-            numberOfItemsCollected = numberOfItemsToCollect;
-        }
+        collectItems(1);
+    }
+
+    /**
+     * Adds a number of collected items to the numberOfItemsCollected and then calls notifyUpdate(), so items
+     * collected together only update the achievement once.
+     * @param numberOfItems - Number of items collected
+     */
+    protected void collectItems(int numberOfItems) {
+        numberOfItemsCollected = Math.min(numberOfItemsCollected + numberOfItems, numberOfItemsToCollect);
         notifyUpdate();
     }
 
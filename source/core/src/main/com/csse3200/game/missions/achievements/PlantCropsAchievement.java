@@ -40,9 +40,7 @@ public class PlantCropsAchievement extends Achievement {
      */
     @Override
     public void registerMission(EventHandler missionManagerEvents) {
-        missionManagerEvents.addListener(
-                MissionManager.MissionEvent.PLANT_CROP.name(),
-                this::updateState);
+        addCountedListener(missionManagerEvents, MissionManager.MissionEvent.PLANT_CROP, this::plantCrops);
     }
 
     /**
@@ -101,9 +99,17 @@ public class PlantCropsAchievement extends Achievement {
      *                {@link Achievement}.
      */
     protected void updateState(String ignored) {
-        if (++numberOfCropsPlanted >= target) {
-            numberOfCropsPlanted = target;
-        }
+        plantCrops(ignored, 1);
+    }
+
+    /**
+     * Adds a number of planted crops to the number of plants the player has planted.
+     * @param ignored The {@link String} representation of the plant type. Irrelevant for this
+     *                {@link Achievement}.
+     * @param numberOfCrops The number of crops planted
+     */
+    protected void plantCrops(String ignored, int numberOfCrops) {
+        numberOfCropsPlanted = Math.min(numberOfCropsPlanted + numberOfCrops, target);
         notifyUpdate();
     }
 
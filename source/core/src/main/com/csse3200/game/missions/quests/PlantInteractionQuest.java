@@ -83,17 +83,18 @@ public class PlantInteractionQuest extends Quest {
      */
     @Override
     public void registerMission(EventHandler missionManagerEvents) {
-        missionManagerEvents.addListener(interactionType.name(), this::updateState);
+        addCountedListener(missionManagerEvents, interactionType, this::updateState);
     }
 
     /**
-     * Updates the state by incrementing the number of plant interactions the player has made
+     * Updates the state by adding to the number of plant interactions the player has made
      * if its the correct plant type.
      * @param plantType The plant type
+     * @param count The number of interactions with plants of this type
      */
-    private void updateState(String plantType) {
-        if (plantTypes.contains(plantType) && ++numberOfInteractions >= interactionsTarget) {
-            numberOfInteractions = interactionsTarget;
+    private void updateState(String plantType, int count) {
+        if (plantTypes.contains(plantType)) {
+            numberOfInteractions = Math.min(numberOfInteractions + count, interactionsTarget);
         }
         notifyUpdate();
     }
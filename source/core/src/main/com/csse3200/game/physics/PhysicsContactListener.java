@@ -3,35 +3,99 @@ package com.csse3200.game.physics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.Contact;
 import com.badlogic.gdx.physics.box2d.ContactImpulse;
 import com.badlogic.gdx.physics.box2d.ContactListener;
 import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.Manifold;
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.physics.components.ColliderComponent;
 
 /**
  * Box2D collision events fire globally on the physics world, not per-object. The contact listener
  * receives these events, finds the entities involved in the collision, and triggers events on them.
  *
+ * <p>Fixtures of a {@link ColliderComponent} with collision listeners are routed directly to that
+ * collider, see {@link ColliderComponent#addCollisionListener}. Other fixtures fire events on their
+ * entity:
+ *
  * <p>On contact start: evt = "collisionStart", params = ({@link Fixture} thisFixture, {@link
  * Fixture} otherFixture)
  *
  * <p>On contact end: evt = "collisionEnd", params = ({@link Fixture} thisFixture, {@link Fixture}
  * otherFixture)
+ *
+ * <p>Contacts reported while the world is stepping are queued in pooled events and dispatched in a
+ * batch once the step has finished, so listeners are free to modify the world. Contacts between
+ * layers registered with {@link #ignoreLayerPair(short, short)} are not dispatched at all.
  */
 public class PhysicsContactListener implements ContactListener {
   private static final Logger logger = LoggerFactory.getLogger(PhysicsContactListener.class);
 
+  /** Pooled contact events. Only the first pendingCount are waiting to be dispatched. */
+  private final Array<ContactEvent> events = new Array<>(false, 32);
+  private int pendingCount;
+  private boolean deferring;
+
+  /** Pairs of layers whose contacts are not dispatched, stored as consecutive entries. */
+  private short[] ignoredPairs = new short[0];
+
+  /**
+   * Stops contacts between fixtures in two layers from being dispatched. The fixtures still collide
+   * physically.
+   *
+   * @param layerA first {@link PhysicsLayer}
+   * @param layerB second {@link PhysicsLayer}, may be the same as the first
+   */
+  public void ignoreLayerPair(short layerA, short layerB) {
+    short[] pairs = new short[ignoredPairs.length + 2];
+    System.arraycopy(ignoredPairs, 0, pairs, 0, ignoredPairs.length);
+    pairs[ignoredPairs.length] = layerA;
+    pairs[ignoredPairs.length + 1] = layerB;
+    ignoredPairs = pairs;
+  }
+
+  /**
+   * Called by the physics engine before stepping the world. Contacts are queued until {@link
+   * #flush()} is called.
+   */
+  public void beginStep() {
+    deferring = true;
+  }
+
+  /**
+   * Dispatches all contacts queued during the last step. Called by the physics engine after
+   * stepping the world.
+   */
+  public void flush() {
+    deferring = false;
+    for (int i = 0; i < pendingCount; i++) {
+      ContactEvent event = events.get(i);
+      // A listener earlier in the batch may have destroyed one of the fixtures
+      if (event.isAlive()) {
+        dispatch(event.fixtureA, event.fixtureB, event.start);
+      }
+      event.clear();
+    }
+    pendingCount = 0;
+  }
+
+  /**
+   * @return number of contacts waiting to be dispatched
+   */
+  public int getPendingCount() {
+    return pendingCount;
+  }
+
   @Override
   public void beginContact(Contact contact) {
-    triggerEventOn(contact.getFixtureA(), "collisionStart", contact.getFixtureB());
-    triggerEventOn(contact.getFixtureB(), "collisionStart", contact.getFixtureA());
+    handleContact(contact.getFixtureA(), contact.getFixtureB(), true);
   }
 
   @Override
   public void endContact(Contact contact) {
-    triggerEventOn(contact.getFixtureA(), "collisionEnd", contact.getFixtureB());
-    triggerEventOn(contact.getFixtureB(), "collisionEnd", contact.getFixtureA());
+    handleContact(contact.getFixtureA(), contact.getFixtureB(), false);
   }
 
   @Override
@@ -44,6 +108,56 @@ public class PhysicsContactListener implements ContactListener {
     // Nothing to do after resolving contact
   }
 
+  private void handleContact(Fixture fixtureA, Fixture fixtureB, boolean start) {
+    if (isIgnored(fixtureA, fixtureB)) {
+      return;
+    }
+    if (!deferring) {
+      // Contacts ended by destroying a body or fixture are reported outside of a step
+      dispatch(fixtureA, fixtureB, start);
+      return;
+    }
+
+    if (pendingCount == events.size) {
+      events.add(new ContactEvent());
+    }
+    events.get(pendingCount++).set(fixtureA, fixtureB, start);
+  }
+
+  private boolean isIgnored(Fixture fixtureA, Fixture fixtureB) {
+    if (ignoredPairs.length == 0) {
+      return false;
+    }
+    short categoryA = fixtureA.getFilterData().categoryBits;
+    short categoryB = fixtureB.getFilterData().categoryBits;
+    for (int i = 0; i < ignoredPairs.length; i += 2) {
+      short layerA = ignoredPairs[i];
+      short layerB = ignoredPairs[i + 1];
+      if ((PhysicsLayer.contains(layerA, categoryA) && PhysicsLayer.contains(layerB, categoryB))
+          || (PhysicsLayer.contains(layerB, categoryA) && PhysicsLayer.contains(layerA, categoryB))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void dispatch(Fixture fixtureA, Fixture fixtureB, boolean start) {
+    dispatchTo(fixtureA, fixtureB, start);
+    dispatchTo(fixtureB, fixtureA, start);
+  }
+
+  private void dispatchTo(Fixture fixture, Fixture otherFixture, boolean start) {
+    if (fixture.getUserData() instanceof ColliderComponent collider) {
+      if (start) {
+        collider.handleCollisionStart(fixture, otherFixture);
+      } else {
+        collider.handleCollisionEnd(fixture, otherFixture);
+      }
+      return;
+    }
+    triggerEventOn(fixture, start ? "collisionStart" : "collisionEnd", otherFixture);
+  }
+
   private void triggerEventOn(Fixture fixture, String evt, Fixture otherFixture) {
     BodyUserData userData = (BodyUserData) fixture.getBody().getUserData();
     if (userData != null && userData.entity != null) {
@@ -51,4 +165,36 @@ public class PhysicsContactListener implements ContactListener {
       userData.entity.getEvents().trigger(evt, fixture, otherFixture);
     }
   }
+
+  /** A contact reported during a step, waiting to be dispatched. */
+  private static class ContactEvent {
+    private Fixture fixtureA;
+    private Fixture fixtureB;
+    private Body bodyA;
+    private Body bodyB;
+    private boolean start;
+
+    private void set(Fixture fixtureA, Fixture fixtureB, boolean start) {
+      this.fixtureA = fixtureA;
+      this.fixtureB = fixtureB;
+      this.bodyA = fixtureA.getBody();
+      this.bodyB = fixtureB.getBody();
+      this.start = start;
+    }
+
+    /**
+     * Destroyed fixtures are removed from their body's fixture list before being pooled by Box2D.
+     */
+    private boolean isAlive() {
+      return bodyA.getFixtureList().contains(fixtureA, true)
+          && bodyB.getFixtureList().contains(fixtureB, true);
+    }
+
+    private void clear() {
+      fixtureA = null;
+      fixtureB = null;
+      bodyA = null;
+      bodyB = null;
+    }
+  }
 }
@@ -29,6 +29,7 @@ public class PhysicsEngine implements Disposable {
   private static final int POSITION_ITERATIONS = 2;
 
   private final World world;
+  private final PhysicsContactListener contactListener = new PhysicsContactListener();
   private final GameTime timeSource;
   private final SingleHitCallback singleHitCallback = new SingleHitCallback();
   private final AllHitCallback allHitCallback = new AllHitCallback();
@@ -40,7 +41,7 @@ public class PhysicsEngine implements Disposable {
 
   public PhysicsEngine(World world, GameTime timeSource) {
     this.world = world;
-    world.setContactListener(new PhysicsContactListener());
+    world.setContactListener(contactListener);
     this.timeSource = timeSource;
   }
 
@@ -56,7 +57,10 @@ public class PhysicsEngine implements Disposable {
     // Depending on how much time has passed, we may compute 0 or more physics steps in one go. If
     // we need to catch up, we'll compute multiple in a row before getting to rendering.
     while (accumulator >= PHYSICS_TIMESTEP) {
+      // Contacts are dispatched after the step rather than from inside the solver
+      contactListener.beginStep();
       world.step(PHYSICS_TIMESTEP, VELOCITY_ITERATIONS, POSITION_ITERATIONS);
+      contactListener.flush();
       accumulator -= PHYSICS_TIMESTEP;
     }
   }
@@ -85,6 +89,13 @@ public class PhysicsEngine implements Disposable {
     return world;
   }
 
+  /**
+   * @return the listener which dispatches contacts from the world
+   */
+  public PhysicsContactListener getContactListener() {
+    return contactListener;
+  }
+
   /**
    * Cast a ray in a straight line from one point to another, checking for a collision against any
    * colliders.
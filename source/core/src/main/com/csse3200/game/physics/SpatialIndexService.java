@@ -0,0 +1,261 @@
+package com.csse3200.game.physics;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.physics.components.HitboxComponent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Answers "which entities are within range" queries from a uniform grid instead of Box2D sensor
+ * fixtures. Entities with a {@link HitboxComponent} are inserted into the grid once per tick, then
+ * every registered {@link Sensor} is tested against the cells its circle covers. The entities which
+ * entered or left each sensor since the last tick are dispatched after all sensors have been
+ * checked, so callbacks are free to dispose entities or register new sensors.
+ *
+ * <p>Entities are treated as the rectangle from their position to their position plus their scale,
+ * which matches the default hitbox shape.
+ */
+public class SpatialIndexService {
+  /** Default size of the grid cells in world units. */
+  private static final float DEFAULT_CELL_SIZE = 2f;
+
+  private final float cellSize;
+  private final Set<HitboxComponent> targets = new LinkedHashSet<>();
+  private final Map<Long, Array<Entity>> cells = new HashMap<>();
+  /** Entities inside each sensor as of the last update. */
+  private final Map<Sensor, Set<Entity>> sensors = new LinkedHashMap<>();
+
+  private final Set<Entity> found = new HashSet<>();
+  private final List<Sensor> enterSensors = new ArrayList<>();
+  private final List<Entity> enterEntities = new ArrayList<>();
+  private final List<Sensor> exitSensors = new ArrayList<>();
+  private final List<Entity> exitEntities = new ArrayList<>();
+  private final Vector2 centre = new Vector2();
+
+  public SpatialIndexService() {
+    this(DEFAULT_CELL_SIZE);
+  }
+
+  /**
+   * @param cellSize size of the grid cells in world units
+   */
+  public SpatialIndexService(float cellSize) {
+    this.cellSize = cellSize;
+  }
+
+  /**
+   * Adds a hitbox's entity to the set of entities sensors can detect.
+   *
+   * @param hitbox the hitbox
+   */
+  public void addTarget(HitboxComponent hitbox) {
+    targets.add(hitbox);
+  }
+
+  /**
+   * Removes a hitbox's entity from the set of entities sensors can detect. Sensors it was inside are
+   * notified on the next update.
+   *
+   * @param hitbox the hitbox
+   */
+  public void removeTarget(HitboxComponent hitbox) {
+    targets.remove(hitbox);
+  }
+
+  /**
+   * Starts checking a sensor each update.
+   *
+   * @param sensor the sensor
+   */
+  public void addSensor(Sensor sensor) {
+    sensors.putIfAbsent(sensor, new HashSet<>());
+  }
+
+  /**
+   * Stops checking a sensor. No exit events are sent for the entities still inside it.
+   *
+   * @param sensor the sensor
+   */
+  public void removeSensor(Sensor sensor) {
+    sensors.remove(sensor);
+  }
+
+  /**
+   * Rebuilds the grid and notifies sensors of entities entering or leaving them. Should be called
+   * once per tick, after physics has moved entities.
+   */
+  public void update() {
+    rebuildGrid();
+
+    enterSensors.clear();
+    enterEntities.clear();
+    exitSensors.clear();
+    exitEntities.clear();
+    for (Map.Entry<Sensor, Set<Entity>> entry : sensors.entrySet()) {
+      Sensor sensor = entry.getKey();
+      Set<Entity> inside = entry.getValue();
+      query(sensor);
+
+      for (Iterator<Entity> iterator = inside.iterator(); iterator.hasNext(); ) {
+        Entity target = iterator.next();
+        if (!found.contains(target)) {
+          iterator.remove();
+          exitSensors.add(sensor);
+          exitEntities.add(target);
+        }
+      }
+      for (Entity target : found) {
+        if (inside.add(target)) {
+          enterSensors.add(sensor);
+          enterEntities.add(target);
+        }
+      }
+    }
+
+    for (int i = 0; i < exitSensors.size(); i++) {
+      Sensor sensor = exitSensors.get(i);
+      if (sensors.containsKey(sensor)) {
+        sensor.onExit(exitEntities.get(i));
+      }
+    }
+    for (int i = 0; i < enterSensors.size(); i++) {
+      Sensor sensor = enterSensors.get(i);
+      if (sensors.containsKey(sensor)) {
+        sensor.onEnter(enterEntities.get(i));
+      }
+    }
+  }
+
+  /**
+   * @return number of entities sensors can detect
+   */
+  public int getTargetCount() {
+    return targets.size();
+  }
+
+  /**
+   * @return number of registered sensors
+   */
+  public int getSensorCount() {
+    return sensors.size();
+  }
+
+  private void rebuildGrid() {
+    for (Array<Entity> cell : cells.values()) {
+      cell.clear();
+    }
+    for (HitboxComponent hitbox : targets) {
+      Entity target = hitbox.getEntity();
+      Vector2 position = target.getPosition();
+      Vector2 scale = target.getScale();
+      int minX = toCell(position.x);
+      int minY = toCell(position.y);
+      int maxX = toCell(position.x + scale.x);
+      int maxY = toCell(position.y + scale.y);
+      for (int x = minX; x <= maxX; x++) {
+        for (int y = minY; y <= maxY; y++) {
+          cells.computeIfAbsent(cellKey(x, y), key -> new Array<>(false, 4)).add(target);
+        }
+      }
+    }
+  }
+
+  /**
+   * Fills {@link #found} with the accepted entities overlapping a sensor's circle.
+   */
+  private void query(Sensor sensor) {
+    found.clear();
+    Entity self = sensor.getEntity();
+    sensor.getSensorCentre(centre);
+    float radius = sensor.getSensorRadius();
+    int minX = toCell(centre.x - radius);
+    int minY = toCell(centre.y - radius);
+    int maxX = toCell(centre.x + radius);
+    int maxY = toCell(centre.y + radius);
+    for (int x = minX; x <= maxX; x++) {
+      for (int y = minY; y <= maxY; y++) {
+        Array<Entity> cell = cells.get(cellKey(x, y));
+        if (cell == null) {
+          continue;
+        }
+        for (Entity target : cell) {
+          if (target != self && !found.contains(target) && overlaps(target, radius)
+              && sensor.accepts(target)) {
+            found.add(target);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Checks whether an entity's rectangle overlaps the circle around {@link #centre}.
+   */
+  private boolean overlaps(Entity target, float radius) {
+    Vector2 position = target.getPosition();
+    Vector2 scale = target.getScale();
+    float closestX = Math.max(position.x, Math.min(centre.x, position.x + scale.x));
+    float closestY = Math.max(position.y, Math.min(centre.y, position.y + scale.y));
+    float dx = centre.x - closestX;
+    float dy = centre.y - closestY;
+    return dx * dx + dy * dy <= radius * radius;
+  }
+
+  private int toCell(float value) {
+    return (int) Math.floor(value / cellSize);
+  }
+
+  private static long cellKey(int x, int y) {
+    return ((long) x << 32) | (y & 0xffffffffL);
+  }
+
+  /**
+   * A circular area which is told when entities enter or leave it.
+   */
+  public interface Sensor {
+    /**
+     * @return the entity the sensor belongs to, which it never detects
+     */
+    Entity getEntity();
+
+    /**
+     * @param out set to the world position of the centre of the sensor
+     */
+    void getSensorCentre(Vector2 out);
+
+    /**
+     * @return radius of the sensor in world units
+     */
+    float getSensorRadius();
+
+    /**
+     * @param target an entity overlapping the sensor
+     * @return true if the sensor should detect the entity
+     */
+    boolean accepts(Entity target);
+
+    /**
+     * Called when an entity starts overlapping the sensor.
+     *
+     * @param target the entity
+     */
+    void onEnter(Entity target);
+
+    /**
+     * Called when an entity stops overlapping the sensor, or is removed from the index.
+     *
+     * @param target the entity
+     */
+    void onExit(Entity target);
+  }
+}
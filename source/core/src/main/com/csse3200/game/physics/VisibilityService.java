@@ -0,0 +1,175 @@
+package com.csse3200.game.physics;
+
+import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.ai.pathfinding.PathfindingService;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.physics.raycast.RaycastHit;
+import com.csse3200.game.rendering.DebugRenderer;
+import com.csse3200.game.services.ServiceLocator;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Caches line of sight checks between pairs of entities so that repeated checks do not each cost a
+ * physics raycast. A result is reused for as long as neither entity has left the cell it was in when
+ * the ray was cast, up to a maximum age so that moving obstacles are eventually noticed. The cache is
+ * cleared whenever the terrain occupancy changes.
+ *
+ * <p>Each query is answered on its own: a query either reuses the cached result for its pair or
+ * casts one ray. Entities chasing the player inside the flow field do not query this service at all,
+ * since the flow field already knows which tiles can see the player.
+ */
+public class VisibilityService {
+  /** Default size of the cells positions are quantised to, in world units. */
+  private static final float DEFAULT_CELL_SIZE = 1f;
+  /** Number of frames a cached result can be reused for, even if neither entity moves. */
+  private static final int MAX_AGE_FRAMES = 30;
+  /** How often, in frames, results which have not been used recently are removed. */
+  private static final int PRUNE_INTERVAL_FRAMES = 300;
+
+  private final PhysicsEngine physics;
+  private final DebugRenderer debugRenderer;
+  private final float cellSize;
+  private final Map<Long, CachedResult> cache = new HashMap<>();
+  private final RaycastHit hit = new RaycastHit();
+
+  private int frame;
+  private int terrainVersion = -1;
+  private int queriesThisFrame;
+  private int raycastsThisFrame;
+  private int queriesLastFrame;
+  private int raycastsLastFrame;
+
+  /**
+   * @param physics physics engine used for raycasts
+   * @param debugRenderer debug renderer to draw rays to when active, may be null
+   */
+  public VisibilityService(PhysicsEngine physics, DebugRenderer debugRenderer) {
+    this(physics, debugRenderer, DEFAULT_CELL_SIZE);
+  }
+
+  /**
+   * @param physics physics engine used for raycasts
+   * @param debugRenderer debug renderer to draw rays to when active, may be null
+   * @param cellSize size of the cells positions are quantised to
+   */
+  public VisibilityService(PhysicsEngine physics, DebugRenderer debugRenderer, float cellSize) {
+    this.physics = physics;
+    this.debugRenderer = debugRenderer;
+    this.cellSize = cellSize;
+  }
+
+  /**
+   * Called once at the start of each frame, before entities are updated.
+   */
+  public void startFrame() {
+    queriesLastFrame = queriesThisFrame;
+    raycastsLastFrame = raycastsThisFrame;
+    queriesThisFrame = 0;
+    raycastsThisFrame = 0;
+    frame++;
+
+    PathfindingService pathfinding = ServiceLocator.getPathfindingService();
+    if (pathfinding != null && pathfinding.getVersion() != terrainVersion) {
+      terrainVersion = pathfinding.getVersion();
+      cache.clear();
+    }
+    if (frame % PRUNE_INTERVAL_FRAMES == 0) {
+      cache.values().removeIf(result -> frame - result.lastUsed > PRUNE_INTERVAL_FRAMES);
+    }
+  }
+
+  /**
+   * Checks whether one entity can see another, using the centre of each entity.
+   *
+   * @param from entity looking
+   * @param to entity being looked at
+   * @param layerMask physics layers which block line of sight
+   * @return true if nothing in the given layers is between the two entities
+   */
+  public boolean isVisible(Entity from, Entity to, short layerMask) {
+    queriesThisFrame++;
+    Vector2 fromPosition = from.getCenterPosition();
+    Vector2 toPosition = to.getCenterPosition();
+    int fromX = quantise(fromPosition.x);
+    int fromY = quantise(fromPosition.y);
+    int toX = quantise(toPosition.x);
+    int toY = quantise(toPosition.y);
+
+    // Line of sight is symmetric, so both directions share an entry
+    boolean swap = from.getId() > to.getId();
+    long key = swap ? pairKey(to.getId(), from.getId()) : pairKey(from.getId(), to.getId());
+    CachedResult result = cache.get(key);
+    if (result == null) {
+      result = new CachedResult();
+      cache.put(key, result);
+    } else if (frame - result.frame < MAX_AGE_FRAMES && result.layerMask == layerMask
+        && (swap ? result.matches(toX, toY, fromX, fromY) : result.matches(fromX, fromY, toX, toY))) {
+      result.lastUsed = frame;
+      return result.visible;
+    }
+
+    raycastsThisFrame++;
+    boolean blocked = physics.raycast(fromPosition, toPosition, layerMask, hit);
+    if (debugRenderer != null && debugRenderer.getActive()) {
+      debugRenderer.drawLine(fromPosition, blocked ? hit.point : toPosition);
+    }
+
+    if (swap) {
+      result.set(toX, toY, fromX, fromY);
+    } else {
+      result.set(fromX, fromY, toX, toY);
+    }
+    result.layerMask = layerMask;
+    result.visible = !blocked;
+    result.frame = frame;
+    result.lastUsed = frame;
+    return result.visible;
+  }
+
+  /**
+   * @return number of visibility queries made during the last frame
+   */
+  public int getQueriesLastFrame() {
+    return queriesLastFrame;
+  }
+
+  /**
+   * @return number of physics raycasts made during the last frame
+   */
+  public int getRaycastsLastFrame() {
+    return raycastsLastFrame;
+  }
+
+  private int quantise(float value) {
+    return (int) Math.floor(value / cellSize);
+  }
+
+  private static long pairKey(int first, int second) {
+    return ((long) first << 32) | (second & 0xffffffffL);
+  }
+
+  /** Result of a raycast between a pair of entities, and the cells they were in at the time. */
+  private static class CachedResult {
+    private int firstX;
+    private int firstY;
+    private int secondX;
+    private int secondY;
+    private short layerMask;
+    private boolean visible;
+    private int frame;
+    private int lastUsed;
+
+    private boolean matches(int fromX, int fromY, int toX, int toY) {
+      return firstX == fromX && firstY == fromY && secondX == toX && secondY == toY;
+    }
+
+    private void set(int fromX, int fromY, int toX, int toY) {
+      firstX = fromX;
+      firstY = fromY;
+      secondX = toX;
+      secondY = toY;
+    }
+  }
+}
@@ -10,7 +10,9 @@ import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.FixtureDef;
 import com.badlogic.gdx.physics.box2d.PolygonShape;
 import com.badlogic.gdx.physics.box2d.Shape;
+import com.badlogic.gdx.utils.Array;
 import com.csse3200.game.components.Component;
+import com.csse3200.game.events.listeners.EventListener2;
 import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.components.PhysicsComponent.AlignX;
 import com.csse3200.game.physics.components.PhysicsComponent.AlignY;
@@ -25,6 +27,7 @@ public class ColliderComponent extends Component {
 
   private final FixtureDef fixtureDef;
   private Fixture fixture;
+  private final Array<CollisionListener> collisionListeners = new Array<>(false, 2);
 
   public ColliderComponent() {
     fixtureDef = new FixtureDef();
@@ -39,6 +42,61 @@ public class ColliderComponent extends Component {
 
     Body physBody = entity.getComponent(PhysicsComponent.class).getBody();
     fixture = physBody.createFixture(fixtureDef);
+    if (collisionListeners.notEmpty()) {
+      fixture.setUserData(this);
+    }
+  }
+
+  /**
+   * Listen for collisions with this collider's fixture. Contacts are routed straight to the
+   * listeners rather than through "collisionStart" and "collisionEnd" events on the entity, so the
+   * listeners only see contacts where this fixture is the first argument, and events are no longer
+   * triggered on the entity for this fixture.
+   *
+   * @param layerMask Bitmask of {@link PhysicsLayer}s the other fixture must belong to
+   * @param onStart called when a contact starts, may be null
+   * @param onEnd called when a contact ends, may be null
+   * @return self
+   */
+  public ColliderComponent addCollisionListener(
+      short layerMask, EventListener2<Fixture, Fixture> onStart, EventListener2<Fixture, Fixture> onEnd) {
+    collisionListeners.add(new CollisionListener(layerMask, onStart, onEnd));
+    if (fixture != null) {
+      fixture.setUserData(this);
+    }
+    return this;
+  }
+
+  /**
+   * Called by the contact listener when a contact with this collider's fixture starts.
+   *
+   * @param me this collider's fixture
+   * @param other the other fixture
+   */
+  public void handleCollisionStart(Fixture me, Fixture other) {
+    short category = other.getFilterData().categoryBits;
+    for (int i = 0; i < collisionListeners.size; i++) {
+      CollisionListener listener = collisionListeners.get(i);
+      if (listener.onStart != null && PhysicsLayer.contains(listener.layerMask, category)) {
+        listener.onStart.handle(me, other);
+      }
+    }
+  }
+
+  /**
+   * Called by the contact listener when a contact with this collider's fixture ends.
+   *
+   * @param me this collider's fixture
+   * @param other the other fixture
+   */
+  public void handleCollisionEnd(Fixture me, Fixture other) {
+    short category = other.getFilterData().categoryBits;
+    for (int i = 0; i < collisionListeners.size; i++) {
+      CollisionListener listener = collisionListeners.get(i);
+      if (listener.onEnd != null && PhysicsLayer.contains(listener.layerMask, category)) {
+        listener.onEnd.handle(me, other);
+      }
+    }
   }
 
   /**
@@ -220,6 +278,20 @@ public class ColliderComponent extends Component {
     }
   }
 
+  /** Listeners added with {@link #addCollisionListener}. */
+  private static class CollisionListener {
+    private final short layerMask;
+    private final EventListener2<Fixture, Fixture> onStart;
+    private final EventListener2<Fixture, Fixture> onEnd;
+
+    private CollisionListener(
+        short layerMask, EventListener2<Fixture, Fixture> onStart, EventListener2<Fixture, Fixture> onEnd) {
+      this.layerMask = layerMask;
+      this.onStart = onStart;
+      this.onEnd = onEnd;
+    }
+  }
+
   private Shape makeBoundingBox() {
     PolygonShape bbox = new PolygonShape();
     Vector2 center = entity.getScale().scl(0.5f);
@@ -1,5 +1,8 @@
 package com.csse3200.game.physics.components;
 
+import com.csse3200.game.physics.SpatialIndexService;
+import com.csse3200.game.services.ServiceLocator;
+
 /**
  * Physics comp
  */
@@ -8,5 +11,29 @@ public class HitboxComponent extends ColliderComponent {
   public void create() {
     setSensor(true);
     super.create();
+
+    SpatialIndexService spatialIndex = ServiceLocator.getSpatialIndexService();
+    if (spatialIndex != null && isSpatialTarget()) {
+      spatialIndex.addTarget(this);
+    }
+  }
+
+  @Override
+  public void dispose() {
+    SpatialIndexService spatialIndex = ServiceLocator.getSpatialIndexService();
+    if (spatialIndex != null) {
+      spatialIndex.removeTarget(this);
+    }
+    super.dispose();
+  }
+
+  /**
+   * Whether this hitbox's entity can be detected by sensors in the spatial index. Subclasses which
+   * are themselves detection areas rather than hitboxes should return false.
+   *
+   * @return true if the entity should be added to the spatial index
+   */
+  protected boolean isSpatialTarget() {
+    return true;
   }
 }
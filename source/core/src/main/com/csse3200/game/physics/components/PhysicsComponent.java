@@ -14,8 +14,8 @@ import com.csse3200.game.services.ServiceLocator;
  * Lets an entity be controlled by physics. Do not directly modify the position of a physics-enabled
  * entity. Instead, use forces to move it.
  *
- * <p>Entities with a PhysicsComponent will fire "collisionStart" and "collisionEnd" events. See
- * {@link PhysicsContactListener }
+ * <p>Entities with a PhysicsComponent will fire "collisionStart" and "collisionEnd" events for
+ * fixtures which have no collision listeners. See {@link PhysicsContactListener }
  */
 public class PhysicsComponent extends Component {
   private static final float GROUND_FRICTION = 5f;
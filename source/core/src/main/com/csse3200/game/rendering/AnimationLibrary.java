@@ -0,0 +1,119 @@
+package com.csse3200.game.rendering;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.Animation.PlayMode;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Shared animations built from texture atlases. Every entity of the same kind adds the same
+ * animations to its {@link AnimationRenderComponent}, so instead of each component looking up the
+ * atlas regions and building its own {@link Animation}s, the library builds each animation once per
+ * atlas and hands out the same {@link AnimationSet} to every component that adds the same
+ * animations.
+ *
+ * <p>Atlases are held weakly, so animations for an atlas are dropped once the atlas is unloaded.
+ */
+public final class AnimationLibrary {
+  private static final Map<TextureAtlas, AtlasAnimations> atlases = new WeakHashMap<>();
+
+  private AnimationLibrary() {
+    throw new IllegalStateException("Instantiating static util class");
+  }
+
+  /**
+   * Gets the set with no animations for an atlas, which animations are added to with {@link
+   * AnimationSet#with(TextureAtlas, String, float, PlayMode)}.
+   *
+   * @param atlas texture atlas the animations come from
+   * @return the empty set for the atlas
+   */
+  public static synchronized AnimationSet getEmptySet(TextureAtlas atlas) {
+    return atlases.computeIfAbsent(atlas, a -> new AtlasAnimations()).emptySet;
+  }
+
+  /**
+   * Gets a shared animation from an atlas, building it the first time it is requested.
+   *
+   * @param atlas texture atlas containing the animation
+   * @param name name of the animation in the atlas
+   * @param frameDuration how long, in seconds, to show each frame
+   * @param playMode how the animation should be played
+   * @return the animation, or null if the atlas has no regions with the name
+   */
+  static synchronized Definition getDefinition(
+      TextureAtlas atlas, String name, float frameDuration, PlayMode playMode) {
+    AtlasAnimations animations = atlases.computeIfAbsent(atlas, a -> new AtlasAnimations());
+    Key key = new Key(name, frameDuration, playMode);
+    Definition definition = animations.definitions.get(key);
+    if (definition == null) {
+      Array<AtlasRegion> regions = atlas.findRegions(name);
+      if (regions == null || regions.size == 0) {
+        return null;
+      }
+      definition = new Definition(new Animation<>(frameDuration, regions, playMode));
+      animations.definitions.put(key, definition);
+    }
+    return definition;
+  }
+
+  /**
+   * @return number of atlases with animations in the library
+   */
+  public static synchronized int getAtlasCount() {
+    return atlases.size();
+  }
+
+  /**
+   * Drops every shared animation. Components keep the animations they already have.
+   */
+  public static synchronized void clear() {
+    atlases.clear();
+  }
+
+  /** Identifies an animation within an atlas. */
+  record Key(String name, float frameDuration, PlayMode playMode) {
+  }
+
+  /** Animations built from one atlas. Does not reference the atlas, so it can be collected. */
+  private static class AtlasAnimations {
+    private final Map<Key, Definition> definitions = new HashMap<>();
+    private final AnimationSet emptySet = new AnimationSet();
+  }
+
+  /** An animation with the size of each of its frames, so they don't need looking up per draw. */
+  static class Definition {
+    private final Animation<TextureRegion> animation;
+    private final int[] frameWidths;
+    private final int[] frameHeights;
+
+    private Definition(Animation<TextureRegion> animation) {
+      this.animation = animation;
+      TextureRegion[] frames = animation.getKeyFrames();
+      frameWidths = new int[frames.length];
+      frameHeights = new int[frames.length];
+      for (int i = 0; i < frames.length; i++) {
+        frameWidths[i] = frames[i].getRegionWidth();
+        frameHeights[i] = frames[i].getRegionHeight();
+      }
+    }
+
+    Animation<TextureRegion> getAnimation() {
+      return animation;
+    }
+
+    int getFrameWidth(int frame) {
+      return frameWidths[frame];
+    }
+
+    int getFrameHeight(int frame) {
+      return frameHeights[frame];
+    }
+  }
+}
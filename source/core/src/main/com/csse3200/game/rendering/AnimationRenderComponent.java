@@ -1,8 +1,5 @@
 package com.csse3200.game.rendering;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import com.badlogic.gdx.graphics.Color;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,10 +8,9 @@ import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.Animation.PlayMode;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.rendering.AnimationLibrary.Definition;
 import com.csse3200.game.services.GameTime;
 import com.csse3200.game.services.ServiceLocator;
 
@@ -34,6 +30,9 @@ import com.csse3200.game.services.ServiceLocator;
  * - libgdx texture packer (included in External Libraries/gdx-tools) <br>
  * - gdx-texture-packer-gui (recommended) https://github.com/crashinvaders/gdx-texture-packer-gui <br>
  * - other third-party tools, e.g. https://www.codeandweb.com/texturepacker <br>
+ *
+ * <p>Animations are shared through the {@link AnimationLibrary}, so entities which add the same
+ * animations from the same atlas share one {@link AnimationSet} rather than each building their own.
  */
 public class AnimationRenderComponent extends RenderComponent {
 
@@ -41,7 +40,8 @@ public class AnimationRenderComponent extends RenderComponent {
   private static final Logger logger = LoggerFactory.getLogger(AnimationRenderComponent.class);
   protected final GameTime timeSource;
   private final TextureAtlas atlas;
-  private final Map<String, Animation<TextureRegion>> animations;
+  private AnimationSet animations;
+  private Definition currentDefinition;
   protected Animation<TextureRegion> currentAnimation;
   private String currentAnimationName;
   protected float animationPlayTime;
@@ -49,6 +49,9 @@ public class AnimationRenderComponent extends RenderComponent {
   private boolean animationPaused = false;
   private float animationPauseStart;
   private BlinkComponent blinkComponent;
+  /** Size of the last frame drawn, so the entity is only rescaled when the frame size changes. */
+  private int lastFrameWidth = -1;
+  private int lastFrameHeight = -1;
 
   /**
    * Create the component for a given texture atlas.
@@ -65,14 +68,14 @@ public class AnimationRenderComponent extends RenderComponent {
    */
   public AnimationRenderComponent(TextureAtlas atlas, float scaleFactor) {
     this.atlas = atlas;
-    this.animations = new HashMap<>(4);
+    this.animations = AnimationLibrary.getEmptySet(atlas);
     this.scaleFactor = scaleFactor;
     timeSource = ServiceLocator.getTimeSource();
   }
 
   public AnimationRenderComponent(TextureAtlas atlas, float scaleFactor, int layer) {
     this.atlas = atlas;
-    this.animations = new HashMap<>(4);
+    this.animations = AnimationLibrary.getEmptySet(atlas);
     this.scaleFactor = scaleFactor;
     timeSource = ServiceLocator.getTimeSource();
     DEFAULT_LAYER = layer;
@@ -104,19 +107,19 @@ public class AnimationRenderComponent extends RenderComponent {
    * @return true if added successfully, false otherwise
    */
   public boolean addAnimation(String name, float frameDuration, PlayMode playMode) {
-    Array<AtlasRegion> regions = atlas.findRegions(name);
-    if (regions == null || regions.size == 0) {
-      logger.warn("Animation {} not found in texture atlas", name);
-      return false;
-    } else if (animations.containsKey(name)) {
+    if (animations.contains(name)) {
       logger.warn(
           "Animation {} already added in texture atlas. Animations should only be added once.",
           name);
       return false;
     }
+    AnimationSet added = animations.with(atlas, name, frameDuration, playMode);
+    if (added == null) {
+      logger.warn("Animation {} not found in texture atlas", name);
+      return false;
+    }
 
-    Animation<TextureRegion> animation = new Animation<>(frameDuration, regions, playMode);
-    animations.put(name, animation);
+    animations = added;
     logger.debug("Adding animation {}", name);
     return true;
   }
@@ -137,7 +140,10 @@ public class AnimationRenderComponent extends RenderComponent {
    */
   public boolean removeAnimation(String name) {
     logger.debug("Removing animation {}", name);
-    return animations.remove(name) != null;
+    AnimationSet remaining = animations.without(name);
+    boolean removed = remaining != animations;
+    animations = remaining;
+    return removed;
   }
 
   /**
@@ -146,7 +152,7 @@ public class AnimationRenderComponent extends RenderComponent {
    * @return true if added, false otherwise.
    */
   public boolean hasAnimation(String name) {
-    return animations.containsKey(name);
+    return animations.contains(name);
   }
 
   /**
@@ -154,15 +160,16 @@ public class AnimationRenderComponent extends RenderComponent {
    * @param name Name of the animation to play.
    */
   public void startAnimation(String name) {
-    Animation<TextureRegion> animation = animations.getOrDefault(name, null);
-    if (animation == null) {
+    Definition definition = animations.get(name);
+    if (definition == null) {
       logger.error(
           "Attempted to play unknown animation {}. Ensure animation is added before playback.",
           name);
       return;
     }
 
-    currentAnimation = animation;
+    currentDefinition = definition;
+    currentAnimation = definition.getAnimation();
     currentAnimationName = name;
     animationPlayTime = 0f;
     logger.debug("Starting animation {}", name);
@@ -178,6 +185,7 @@ public class AnimationRenderComponent extends RenderComponent {
     }
 
     logger.debug("Stopping animation {}", currentAnimationName);
+    currentDefinition = null;
     currentAnimation = null;
     currentAnimationName = null;
     animationPlayTime = 0f;
@@ -214,20 +222,25 @@ public class AnimationRenderComponent extends RenderComponent {
       if (currentAnimation == null) {
         return;
       }
-      TextureRegion region = currentAnimation.getKeyFrame(animationPlayTime);
+      int frame = currentAnimation.getKeyFrameIndex(animationPlayTime);
+      TextureRegion region = currentAnimation.getKeyFrames()[frame];
+      int frameWidth = currentDefinition.getFrameWidth(frame);
+      int frameHeight = currentDefinition.getFrameHeight(frame);
+      float width = frameWidth / this.scaleFactor;
+      float height = frameHeight / this.scaleFactor;
+      if (frameWidth != lastFrameWidth || frameHeight != lastFrameHeight) {
+        entity.setScale(width, height);
+        lastFrameWidth = frameWidth;
+        lastFrameHeight = frameHeight;
+      }
       Vector2 pos = entity.getPosition();
-      entity.setScale(
-               region.getRegionWidth() / this.scaleFactor,
-               region.getRegionHeight() / this.scaleFactor
-      );
-      Vector2 scale = entity.getScale();
 
       if (blinkComponent != null && blinkComponent.isBlinking()) {
         batch.setColor(blinkComponent.getColor());
       }
 
-      batch.draw(region, pos.x, pos.y, scale.x, scale.y);
-      batch.setColor(Color.WHITE.cpy());
+      batch.draw(region, pos.x, pos.y, width, height);
+      batch.setColor(Color.WHITE);
 
       animationPlayTime += timeSource.getDeltaTime();
   }
@@ -0,0 +1,93 @@
+package com.csse3200.game.rendering;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.badlogic.gdx.graphics.g2d.Animation.PlayMode;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.csse3200.game.rendering.AnimationLibrary.Definition;
+import com.csse3200.game.rendering.AnimationLibrary.Key;
+
+/**
+ * An immutable set of named animations from one atlas, shared between every {@link
+ * AnimationRenderComponent} which has added the same animations. Adding an animation gives a new
+ * set, which is remembered so the next component adding the same animation to this set gets the
+ * same one.
+ */
+public final class AnimationSet {
+  private final Map<String, Definition> animations;
+  /** Sets made by adding an animation to this one. */
+  private final Map<Key, AnimationSet> additions = new HashMap<>(2);
+
+  AnimationSet() {
+    this(Collections.emptyMap());
+  }
+
+  private AnimationSet(Map<String, Definition> animations) {
+    this.animations = animations;
+  }
+
+  /**
+   * Gets the set with an animation added to this one.
+   *
+   * @param atlas texture atlas containing the animation, the same for every call on a set
+   * @param name name of the animation in the atlas
+   * @param frameDuration how long, in seconds, to show each frame
+   * @param playMode how the animation should be played
+   * @return the new set, or null if the atlas has no regions with the name
+   */
+  public AnimationSet with(TextureAtlas atlas, String name, float frameDuration, PlayMode playMode) {
+    Key key = new Key(name, frameDuration, playMode);
+    synchronized (additions) {
+      AnimationSet set = additions.get(key);
+      if (set != null) {
+        return set;
+      }
+      Definition definition = AnimationLibrary.getDefinition(atlas, name, frameDuration, playMode);
+      if (definition == null) {
+        return null;
+      }
+      Map<String, Definition> combined = new HashMap<>(animations);
+      combined.put(name, definition);
+      set = new AnimationSet(Collections.unmodifiableMap(combined));
+      additions.put(key, set);
+      return set;
+    }
+  }
+
+  /**
+   * Gets a set without one of this set's animations. These are not shared, since animations are
+   * rarely removed.
+   *
+   * @param name name of the animation to remove
+   * @return the new set, or this set if it has no animation with the name
+   */
+  public AnimationSet without(String name) {
+    if (!animations.containsKey(name)) {
+      return this;
+    }
+    Map<String, Definition> remaining = new HashMap<>(animations);
+    remaining.remove(name);
+    return new AnimationSet(Collections.unmodifiableMap(remaining));
+  }
+
+  /**
+   * @param name name of an animation
+   * @return true if the set has the animation
+   */
+  public boolean contains(String name) {
+    return animations.containsKey(name);
+  }
+
+  /**
+   * @return number of animations in the set
+   */
+  public int size() {
+    return animations.size();
+  }
+
+  Definition get(String name) {
+    return animations.get(name);
+  }
+}
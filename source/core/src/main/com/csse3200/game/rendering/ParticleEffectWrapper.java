@@ -22,6 +22,12 @@ public class ParticleEffectWrapper {
 	 */
 	private final String type;
 
+	/**
+	 * Position the effect was started at, if it isn't attached to an entity
+	 */
+	private float x;
+	private float y;
+
 
 	/**
 	 * Wraps a pooled particle effect with a category and a type
@@ -58,4 +64,30 @@ public class ParticleEffectWrapper {
 	public String getType() {
 		return type;
 	}
+
+	/**
+	 * Sets the position the effect was started at
+	 * @param x x position of the effect
+	 * @param y y position of the effect
+	 */
+	public void setPosition(float x, float y) {
+		this.x = x;
+		this.y = y;
+	}
+
+	/**
+	 * Gets the x position the effect was started at
+	 * @return x position of the effect
+	 */
+	public float getX() {
+		return x;
+	}
+
+	/**
+	 * Gets the y position the effect was started at
+	 * @return y position of the effect
+	 */
+	public float getY() {
+		return y;
+	}
 }
@@ -33,21 +33,6 @@ public class ControlsScreen extends ScreenAdapter {
    */
   public static final int FRAME_COUNT = 71;
 
-  /**
-   * A list of textures that must be loaded for this screen
-   */
-  private static final String[] mainMenuTextures = {"images/galaxy_home_still.png"};
-
-  /**
-   * A list of textures that must be loaded for the animation
-   */
-  private static final String[] transitionTextures = new String[FRAME_COUNT];
-
-  /**
-   * A common name prefix for all the animation textures
-   */
-  private static final String ANIMATION_PREFIX = "images/menu_animations/menu_animations";
-
   private SpriteBatch batch;
 
   public ControlsScreen(GdxGame game) {
@@ -56,7 +41,6 @@ public class ControlsScreen extends ScreenAdapter {
     logger.debug("Initialising controls screen services");
     ServiceLocator.registerTimeSource(new GameTime());
     ServiceLocator.registerInputService(new InputService());
-    ServiceLocator.registerResourceService(new ResourceService());
     ServiceLocator.registerEntityService(new EntityService());
     ServiceLocator.registerRenderService(new RenderService());
     ServiceLocator.registerTimeService(new TimeService());
@@ -84,43 +68,27 @@ public class ControlsScreen extends ScreenAdapter {
     renderer.dispose();
     ServiceLocator.getRenderService().dispose();
     ServiceLocator.getEntityService().dispose();
+    unloadAssets();
     ServiceLocator.clear();
   }
 
   /**
-   * Loads the texture assets required for the screen
+   * Loads the texture assets required for the screen, including the frames of the animation. They
+   * are shared with the other menu screens, so they are already loaded when coming from one.
    */
   private void loadAssets() {
     logger.debug("Loading assets");
     ResourceService resourceService = ServiceLocator.getResourceService();
-    resourceService.loadTextures(mainMenuTextures);
-    loadFrames();
-    ServiceLocator.getResourceService().loadAll();
-  }
-
-  /**
-   * Loads the texture frames required for the animation on this screen.
-   */
-  private void loadFrames() {
-    logger.debug("Loading animation frames");
-    ResourceService resourceService = ServiceLocator.getResourceService();
-
-    // Add the name of each animation texture to the transitionTextures array
-    for (int i = 0; i < FRAME_COUNT; i++) {
-      ControlsScreen.transitionTextures[i] = ANIMATION_PREFIX + i + ".png";
-    }
-    resourceService.loadTextures(transitionTextures);
-    ServiceLocator.getResourceService().loadAll();
+    resourceService.acquireGroup(MainMenuScreen.ASSET_GROUP);
+    resourceService.loadAll();
   }
 
   /**
-   * Remove the loaded image textures from the ResourceService
+   * Releases the screen's textures, which are unloaded unless the next screen uses them too
    */
   private void unloadAssets() {
     logger.debug("Unloading assets");
-    ResourceService resourceService = ServiceLocator.getResourceService();
-    resourceService.unloadAssets(mainMenuTextures);
-    resourceService.unloadAssets(transitionTextures);
+    ServiceLocator.getResourceService().releaseGroup(MainMenuScreen.ASSET_GROUP);
   }
 
   /**
@@ -141,6 +109,6 @@ public class ControlsScreen extends ScreenAdapter {
    * @return the transition textures
    */
   public static String[] getTransitionTextures() {
-    return transitionTextures;
+    return MainMenuScreen.getTransitionTextures();
   }
 }
@@ -25,13 +25,12 @@ public class EndCreditsScreen extends ScreenAdapter {
     private static final Logger logger = LoggerFactory.getLogger(EndCreditsScreen.class);
     private final GdxGame game;
     private final Renderer renderer;
-    private static final String[] creditScreenTextures = {"images/intro_background_v2.png"};
+    private static final String ASSET_GROUP = "end-credits";
 
     public EndCreditsScreen(GdxGame game) {
         this.game = game;
         logger.debug("Initialising credits screen services");
         ServiceLocator.registerInputService(new InputService());
-        ServiceLocator.registerResourceService(new ResourceService());
         ServiceLocator.registerEntityService(new EntityService());
         ServiceLocator.registerRenderService(new RenderService());
         ServiceLocator.registerTimeSource(new GameTime());
@@ -76,14 +75,13 @@ public class EndCreditsScreen extends ScreenAdapter {
     private void loadAssets() {
         logger.debug("Loading assets");
         ResourceService resourceService = ServiceLocator.getResourceService();
-        resourceService.loadTextures(creditScreenTextures);
-        ServiceLocator.getResourceService().loadAll();
+        resourceService.acquireGroup(ASSET_GROUP);
+        resourceService.loadAll();
     }
 
     private void unloadAssets() {
         logger.debug("Unloading assets");
-        ResourceService resourceService = ServiceLocator.getResourceService();
-        resourceService.unloadAssets(creditScreenTextures);
+        ServiceLocator.getResourceService().releaseGroup(ASSET_GROUP);
     }
 
     private void createUI() {
@@ -28,11 +28,9 @@ public class IntroScreen extends ScreenAdapter {
     private static final Logger logger = LoggerFactory.getLogger(IntroScreen.class);
 
     /**
-     * An array of paths to image textures needed for this screen
+     * The asset group holding the image textures needed for this screen
      */
-    private static final String[] introScreenAssets = {"images/intro_background_v2.png",
-            "images/intro_planet.png", "images/crash-animation/Cockpit_Bottom.png",
-            "images/crash-animation/Cockpit_Top.png", "images/crash-animation/bright_light.png"};
+    private static final String ASSET_GROUP = "intro";
     private final GdxGame game;
     private final Renderer renderer;
 
@@ -41,7 +39,6 @@ public class IntroScreen extends ScreenAdapter {
 
         logger.debug("Initialising controls screen services");
         ServiceLocator.registerInputService(new InputService());
-        ServiceLocator.registerResourceService(new ResourceService());
         ServiceLocator.registerEntityService(new EntityService());
         ServiceLocator.registerRenderService(new RenderService());
         ServiceLocator.registerTimeSource(new GameTime());
@@ -82,8 +79,8 @@ public class IntroScreen extends ScreenAdapter {
     private void loadAssets() {
         logger.debug("Loading assets");
         ResourceService resourceService = ServiceLocator.getResourceService();
-        resourceService.loadTextures(introScreenAssets);
-        ServiceLocator.getResourceService().loadAll();
+        resourceService.acquireGroup(ASSET_GROUP);
+        resourceService.loadAll();
         
         // Load sound effects
         List<SoundFile> effects = new ArrayList<>();
@@ -98,12 +95,11 @@ public class IntroScreen extends ScreenAdapter {
     }
 
     /**
-     * Remove all the loaded image textures from the ResouceService, and thus game memory.
+     * Release the image textures, so they are removed from game memory unless the next screen uses them.
      */
     private void unloadAssets() {
         logger.debug("Unloading assets");
-        ResourceService resourceService = ServiceLocator.getResourceService();
-        resourceService.unloadAssets(introScreenAssets);
+        ServiceLocator.getResourceService().releaseGroup(ASSET_GROUP);
     }
 
     /**
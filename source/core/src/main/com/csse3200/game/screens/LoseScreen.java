@@ -23,13 +23,12 @@ public class LoseScreen extends ScreenAdapter {
     private static final Logger logger = LoggerFactory.getLogger(LoseScreen.class);
     private final GdxGame game;
     private final Renderer renderer;
-    private static final String[] loseScreenTextures = {"images/intro_background_v2.png", "images/dead_planet2.png"};
+    private static final String ASSET_GROUP = "lose";
 
     public LoseScreen(GdxGame game) {
         this.game = game;
         logger.debug("Initialising lose screen services");
         ServiceLocator.registerInputService(new InputService());
-        ServiceLocator.registerResourceService(new ResourceService());
         ServiceLocator.registerEntityService(new EntityService());
         ServiceLocator.registerRenderService(new RenderService());
         renderer = RenderFactory.createRenderer();
@@ -72,14 +71,13 @@ public class LoseScreen extends ScreenAdapter {
     private void loadAssets() {
         logger.debug("Loading assets");
         ResourceService resourceService = ServiceLocator.getResourceService();
-        resourceService.loadTextures(loseScreenTextures);
-        ServiceLocator.getResourceService().loadAll();
+        resourceService.acquireGroup(ASSET_GROUP);
+        resourceService.loadAll();
     }
 
     private void unloadAssets() {
         logger.debug("Unloading assets");
-        ResourceService resourceService = ServiceLocator.getResourceService();
-        resourceService.unloadAssets(loseScreenTextures);
+        ServiceLocator.getResourceService().releaseGroup(ASSET_GROUP);
     }
 
     private void createUI() {
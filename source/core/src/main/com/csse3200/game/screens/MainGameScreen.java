@@ -12,8 +12,14 @@ import com.badlogic.gdx.ScreenAdapter;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.csse3200.game.GdxGame;
+import com.csse3200.game.ai.pathfinding.FlowFieldService;
+import com.csse3200.game.ai.pathfinding.PathfindingService;
+import com.csse3200.game.ai.tasks.AITaskScheduler;
+import com.csse3200.game.components.tasks.ChaseTask;
+import com.csse3200.game.components.tasks.MoveToPlantTask;
 import com.csse3200.game.areas.SpaceGameArea;
 import com.csse3200.game.areas.terrain.TerrainFactory;
+import com.csse3200.game.components.gamearea.LoadProgressDisplay;
 import com.csse3200.game.components.gamearea.PerformanceDisplay;
 import com.csse3200.game.components.maingame.MainGameActions;
 import com.csse3200.game.components.maingame.PauseMenuActions;
@@ -25,7 +31,10 @@ import com.csse3200.game.input.InputDecorator;
 import com.csse3200.game.input.InputService;
 import com.csse3200.game.missions.MissionManager;
 import com.csse3200.game.physics.PhysicsEngine;
+import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.PhysicsService;
+import com.csse3200.game.physics.SpatialIndexService;
+import com.csse3200.game.physics.VisibilityService;
 import com.csse3200.game.rendering.RenderService;
 import com.csse3200.game.rendering.Renderer;
 import com.csse3200.game.services.sound.SoundService;
@@ -35,7 +44,6 @@ import com.csse3200.game.services.LightService;
 import com.csse3200.game.services.OxygenDisplay;
 import com.csse3200.game.services.ParticleService;
 import com.csse3200.game.services.PlanetOxygenService;
-import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.services.TimeService;
 import com.csse3200.game.services.plants.PlantCommandService;
@@ -53,45 +61,8 @@ import com.csse3200.game.ui.terminal.TerminalDisplay;
 
 public class MainGameScreen extends ScreenAdapter {
     private static final Logger logger = LoggerFactory.getLogger(MainGameScreen.class);
-    private static final String[] mainGameTextures = {
-            //"images/heart.png",
-            "images/time_system_ui/clock_frame.png",
-            "images/time_system_ui/indicator_0.png",
-            "images/time_system_ui/indicator_1.png",
-            "images/time_system_ui/indicator_2.png",
-            "images/time_system_ui/indicator_3.png",
-            "images/time_system_ui/indicator_4.png",
-            "images/time_system_ui/indicator_5.png",
-            "images/time_system_ui/indicator_6.png",
-            "images/time_system_ui/indicator_7.png",
-            "images/time_system_ui/indicator_8.png",
-            "images/time_system_ui/indicator_9.png",
-            "images/time_system_ui/indicator_10.png",
-            "images/time_system_ui/indicator_11.png",
-            "images/time_system_ui/indicator_12.png",
-            "images/time_system_ui/indicator_13.png",
-            "images/time_system_ui/indicator_14.png",
-            "images/time_system_ui/indicator_15.png",
-            "images/time_system_ui/indicator_16.png",
-            "images/time_system_ui/indicator_17.png",
-            "images/time_system_ui/indicator_18.png",
-            "images/time_system_ui/indicator_19.png",
-            "images/time_system_ui/indicator_20.png",
-            "images/time_system_ui/indicator_21.png",
-            "images/time_system_ui/indicator_22.png",
-            "images/time_system_ui/indicator_23.png",
-            "images/status_ui/status_frame.png",
-            "images/status_ui/health_fill.png",
-            "images/status_ui/health_icon.png",
-            "images/status_ui/hunger_fill.png",
-            "images/status_ui/hunger_icon.png",
-            "images/status_ui/oxygen_fill.png",
-            "images/status_ui/oxygen_icon.png",
-            "images/weather_event/weather-border.png",
-            "images/weather_event/acid-rain.png",
-            "images/weather_event/solar-flare.png"
-
-    };
+    /** Asset group of the UI, the clock's planets and the weather event overlays */
+    private static final String ASSET_GROUP = "main-game";
     private static final Vector2 CAMERA_POSITION = new Vector2(7.5f, 7.5f);
 
     private final GdxGame game;
@@ -105,6 +76,9 @@ public class MainGameScreen extends ScreenAdapter {
         CREDIT
     }
     private ScreenType currentScreenType = ScreenType.MAIN_GAME;
+    /** When the screen started being set up, to measure the time until its first frame */
+    private final long createdAt = System.nanoTime();
+    private float timeToFirstFrame = -1f;
 
     public MainGameScreen(GdxGame game) {
         this.game = game;
@@ -112,12 +86,21 @@ public class MainGameScreen extends ScreenAdapter {
         logger.debug("Initialising main game screen services");
         ServiceLocator.registerTimeSource(new GameTime());
 
+        // Chasing raycasts and plant searches are too expensive to re-evaluate every frame
+        AITaskScheduler aiTaskScheduler = new AITaskScheduler();
+        aiTaskScheduler.setInterval(ChaseTask.class, 200L);
+        aiTaskScheduler.setInterval(MoveToPlantTask.class, 500L);
+        ServiceLocator.registerAITaskScheduler(aiTaskScheduler);
+
         PhysicsService physicsService = new PhysicsService();
         ServiceLocator.registerPhysicsService(physicsService);
         physicsEngine = physicsService.getPhysics();
+        // Nothing listens for contacts between these layers
+        physicsEngine.getContactListener().ignoreLayerPair(PhysicsLayer.OBSTACLE, PhysicsLayer.OBSTACLE);
+        physicsEngine.getContactListener().ignoreLayerPair(PhysicsLayer.ITEM, PhysicsLayer.OBSTACLE);
+        physicsEngine.getContactListener().ignoreLayerPair(PhysicsLayer.ITEM, PhysicsLayer.ITEM);
 
         ServiceLocator.registerInputService(new InputService());
-        ServiceLocator.registerResourceService(new ResourceService());
 
         ServiceLocator.registerEntityService(new EntityService());
         ServiceLocator.registerRenderService(new RenderService());
@@ -141,6 +124,8 @@ public class MainGameScreen extends ScreenAdapter {
         renderer = RenderFactory.createRenderer();
         renderer.getCamera().getEntity().setPosition(CAMERA_POSITION);
         renderer.getDebug().renderPhysicsWorld(physicsEngine.getWorld());
+        ServiceLocator.registerVisibilityService(new VisibilityService(physicsEngine, renderer.getDebug()));
+        ServiceLocator.registerSpatialIndexService(new SpatialIndexService());
         ServiceLocator.registerCameraComponent(renderer.getCamera());
 
         ServiceLocator.registerLightService(new LightService());
@@ -152,6 +137,14 @@ public class MainGameScreen extends ScreenAdapter {
         TerrainFactory terrainFactory = new TerrainFactory(renderer.getCamera());
         SpaceGameArea spaceGameArea = new SpaceGameArea(terrainFactory);
         spaceGameArea.create();
+        PathfindingService pathfindingService = new PathfindingService(spaceGameArea.getMap());
+        ServiceLocator.registerPathfindingService(pathfindingService);
+        ServiceLocator.registerFlowFieldService(new FlowFieldService(pathfindingService, spaceGameArea.getPlayer()));
+        ServiceLocator.registerMinimapService(new MinimapService(spaceGameArea.getMap()));
+        ServiceLocator.registerSaveChangeTracker(new SaveChangeTracker());
+        if (ServiceLocator.getSaveLoadService() != null) {
+            ServiceLocator.getSaveLoadService().startAutosave(ServiceLocator.getTimeService());
+        }
         renderer.getCamera().setTrackEntity(spaceGameArea.getPlayer());
 
         createUI();
@@ -198,13 +191,30 @@ public class MainGameScreen extends ScreenAdapter {
     public void render(float delta) {
         switch (currentScreenType) {
             case MAIN_GAME -> {
+                if (ServiceLocator.getSaveLoadService() != null) {
+                    ServiceLocator.getSaveLoadService().update();
+                }
+                ServiceLocator.getResourceService().update();
                 if (!ServiceLocator.getTimeService().isPaused()) {
+                    ServiceLocator.getAITaskScheduler().startFrame();
+                    ServiceLocator.getVisibilityService().startFrame();
                     physicsEngine.update();
-                    ServiceLocator.getEntityService().update();
+                    ServiceLocator.getSpatialIndexService().update();
+                    ServiceLocator.getPathfindingService().update();
+                    ServiceLocator.getFlowFieldService().update();
+                    // Mission events from the whole frame are merged, so a tractor pass harvesting a row of
+                    // crops updates each quest once per crop type rather than once per crop
+                    ServiceLocator.getMissionManager().getEventBus().batch(ServiceLocator.getEntityService()::update);
+                    ServiceLocator.getSoundService().update();
                     ServiceLocator.getGameArea().getClimateController().updateClimate();
                 }
                 ServiceLocator.getTimeService().update();
                 renderer.render();
+                if (timeToFirstFrame < 0) {
+                    timeToFirstFrame = (System.nanoTime() - createdAt) / 1_000_000f;
+                    logger.info("Main game screen drew its first frame {} ms after it was created, {} assets still streaming",
+                            timeToFirstFrame, ServiceLocator.getResourceService().getStreamQueueSize());
+                }
                 if (Boolean.TRUE.equals(PauseMenuActions.getQuitGameStatus())) {
                     entity.getEvents().trigger("exit");
                     PauseMenuActions.setQuitGameStatus();
@@ -225,11 +235,17 @@ public class MainGameScreen extends ScreenAdapter {
     @Override
     public void pause() {
         logger.info("Game paused");
+        if (ServiceLocator.getParticleService() != null) {
+            ServiceLocator.getParticleService().setBackgrounded(true);
+        }
     }
 
     @Override
     public void resume() {
         logger.info("Game resumed");
+        if (ServiceLocator.getParticleService() != null) {
+            ServiceLocator.getParticleService().setBackgrounded(false);
+        }
     }
 
     @Override
@@ -242,24 +258,36 @@ public class MainGameScreen extends ScreenAdapter {
             ServiceLocator.getEntityService().dispose();
         }
         ServiceLocator.getRenderService().dispose();
-        ServiceLocator.getResourceService().dispose();
+        if (ServiceLocator.getMinimapService() != null) {
+            ServiceLocator.getMinimapService().dispose();
+        }
+        if (ServiceLocator.getLightService() != null) {
+            ServiceLocator.getLightService().dispose();
+        }
+        ServiceLocator.getSoundService().cancelAll();
         ServiceLocator.getSoundService().getEffectsMusicService().dispose();
         ServiceLocator.getSoundService().getBackgroundMusicService().dispose();
 
         ServiceLocator.clear();
     }
 
+    /**
+     * Gets how long the screen took from being created to drawing its first frame
+     *
+     * @return time in milliseconds, or -1 if the first frame has not been drawn
+     */
+    public float getTimeToFirstFrame() {
+        return timeToFirstFrame;
+    }
+
     private void loadAssets() {
         logger.debug("Loading assets");
-        ResourceService resourceService = ServiceLocator.getResourceService();
-        resourceService.loadTextures(mainGameTextures);
-        ServiceLocator.getResourceService().loadAll();
+        ServiceLocator.getResourceService().acquireGroup(ASSET_GROUP);
     }
 
     private void unloadAssets() {
         logger.debug("Unloading assets");
-        ResourceService resourceService = ServiceLocator.getResourceService();
-        resourceService.unloadAssets(mainGameTextures);
+        ServiceLocator.getResourceService().releaseGroup(ASSET_GROUP);
     }
 
 
@@ -276,6 +304,7 @@ public class MainGameScreen extends ScreenAdapter {
         Entity ui = new Entity();
         ui.addComponent(new InputDecorator(stage, 10))
                 .addComponent(new PerformanceDisplay())
+                .addComponent(new LoadProgressDisplay())
                 .addComponent(new MainGameActions(this.game))
                 .addComponent(new Terminal())
                 .addComponent(inputComponent)
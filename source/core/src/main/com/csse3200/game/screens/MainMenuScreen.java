@@ -30,16 +30,16 @@ public class MainMenuScreen extends ScreenAdapter {
   private final GdxGame game;
   private final Renderer renderer;
   public static final int FRAME_COUNT = 71;
-  private static final String[] mainMenuTextures = {"images/galaxy_home_still.png"};
-  private static final String[] transitionTextures = new String[FRAME_COUNT];
-  private static final String ANIMATION_PREFIX = "images/menu_animations/menu_animations";
+  /** Asset group of the menu background and its transition animation, shared by the menu screens */
+  public static final String ASSET_GROUP = "menu";
+  /** Asset group of the transition animation frames, in order */
+  public static final String TRANSITION_GROUP = "menu-transition";
 
   public MainMenuScreen(GdxGame game) {
     this.game = game;
     logger.debug("Initialising main menu screen services");
     ServiceLocator.registerTimeSource(new GameTime());
     ServiceLocator.registerInputService(new InputService());
-    ServiceLocator.registerResourceService(new ResourceService());
     ServiceLocator.registerEntityService(new EntityService());
     ServiceLocator.registerRenderService(new RenderService());
     ServiceLocator.registerTimeService(new TimeService());
@@ -88,26 +88,13 @@ public class MainMenuScreen extends ScreenAdapter {
   private void loadAssets() {
     logger.debug("Loading assets");
     ResourceService resourceService = ServiceLocator.getResourceService();
-    resourceService.loadTextures(mainMenuTextures);
-    loadFrames();
-    ServiceLocator.getResourceService().loadAll();
-  }
-
-  private void loadFrames() {
-    logger.debug("Loading assets");
-    ResourceService resourceService = ServiceLocator.getResourceService();
-
-    for (int i = 0; i < FRAME_COUNT; i++) {
-      MainMenuScreen.transitionTextures[i] = ANIMATION_PREFIX + i + ".png";
-    }
-    resourceService.loadTextures(transitionTextures);
-    ServiceLocator.getResourceService().loadAll();
+    resourceService.acquireGroup(ASSET_GROUP);
+    resourceService.loadAll();
   }
 
   private void unloadAssets() {
     logger.debug("Unloading assets");
-    ResourceService resourceService = ServiceLocator.getResourceService();
-    resourceService.unloadAssets(mainMenuTextures);
+    ServiceLocator.getResourceService().releaseGroup(ASSET_GROUP);
   }
 
   /**
@@ -125,10 +112,10 @@ public class MainMenuScreen extends ScreenAdapter {
   }
 
   /**
-   * Get the transition textures for control screen
-   * @return the transition textures
+   * Get the transition textures for the menu screens
+   * @return the transition textures, in order
    */
   public static String[] getTransitionTextures() {
-    return transitionTextures;
+    return ServiceLocator.getResourceService().getManifest().getGroup(TRANSITION_GROUP).textures;
   }
 }
\ No newline at end of file
@@ -23,9 +23,6 @@ import com.csse3200.game.services.TimeService;
 public class SettingsScreen extends ScreenAdapter {
   private static final Logger logger = LoggerFactory.getLogger(SettingsScreen.class);
   public static final int FRAME_COUNT = 71;
-  private static final String[] mainMenuTextures = {"images/galaxy_home_still.png"};
-  private static String[] transitionTextures = new String[FRAME_COUNT];
-  private static final String ANIMATION_PREFIX = "images/menu_animations/menu_animations";
   private final GdxGame game;
   private final Renderer renderer;
 
@@ -33,7 +30,6 @@ public class SettingsScreen extends ScreenAdapter {
     this.game = game;
     logger.debug("Initialising settings screen services");
     ServiceLocator.registerInputService(new InputService());
-    ServiceLocator.registerResourceService(new ResourceService());
     ServiceLocator.registerEntityService(new EntityService());
     ServiceLocator.registerRenderService(new RenderService());
     ServiceLocator.registerTimeSource(new GameTime());
@@ -61,31 +57,19 @@ public class SettingsScreen extends ScreenAdapter {
     renderer.dispose();
     ServiceLocator.getRenderService().dispose();
     ServiceLocator.getEntityService().dispose();
+    unloadAssets();
     ServiceLocator.clear();
   }
   private void loadAssets() {
     logger.debug("Loading assets");
     ResourceService resourceService = ServiceLocator.getResourceService();
-    resourceService.loadTextures(mainMenuTextures);
-    loadFrames();
-    ServiceLocator.getResourceService().loadAll();
-  }
-
-  private void loadFrames() {
-    logger.debug("Loading assets");
-    ResourceService resourceService = ServiceLocator.getResourceService();
-
-    for (int i = 0; i < FRAME_COUNT; i++) {
-      SettingsScreen.transitionTextures[i] = ANIMATION_PREFIX + i + ".png";
-    }
-    resourceService.loadTextures(transitionTextures);
-    ServiceLocator.getResourceService().loadAll();
+    resourceService.acquireGroup(MainMenuScreen.ASSET_GROUP);
+    resourceService.loadAll();
   }
 
   private void unloadAssets() {
     logger.debug("Unloading assets");
-    ResourceService resourceService = ServiceLocator.getResourceService();
-    resourceService.unloadAssets(mainMenuTextures);
+    ServiceLocator.getResourceService().releaseGroup(MainMenuScreen.ASSET_GROUP);
   }
 
 
@@ -106,6 +90,6 @@ public class SettingsScreen extends ScreenAdapter {
    * @return the transition textures
    */
   public static String[] getTransitionTextures() {
-    return transitionTextures;
+    return MainMenuScreen.getTransitionTextures();
   }
 }
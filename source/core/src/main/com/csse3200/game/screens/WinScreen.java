@@ -23,13 +23,12 @@ public class WinScreen extends ScreenAdapter {
     private static final Logger logger = LoggerFactory.getLogger(WinScreen.class);
     private final GdxGame game;
     private final Renderer renderer;
-    private static final String[] winScreenTextures = {"images/intro_background_v2.png", "images/good_planet.png"};
+    private static final String ASSET_GROUP = "win";
 
     public WinScreen(GdxGame game) {
         this.game = game;
         logger.debug("Initialising win screen services");
         ServiceLocator.registerInputService(new InputService());
-        ServiceLocator.registerResourceService(new ResourceService());
         ServiceLocator.registerEntityService(new EntityService());
         ServiceLocator.registerRenderService(new RenderService());
         renderer = RenderFactory.createRenderer();
@@ -72,14 +71,13 @@ public class WinScreen extends ScreenAdapter {
     private void loadAssets() {
         logger.debug("Loading assets");
         ResourceService resourceService = ServiceLocator.getResourceService();
-        resourceService.loadTextures(winScreenTextures);
-        ServiceLocator.getResourceService().loadAll();
+        resourceService.acquireGroup(ASSET_GROUP);
+        resourceService.loadAll();
     }
 
     private void unloadAssets() {
         logger.debug("Unloading assets");
-        ResourceService resourceService = ServiceLocator.getResourceService();
-        resourceService.unloadAssets(winScreenTextures);
+        ServiceLocator.getResourceService().releaseGroup(ASSET_GROUP);
     }
 
     private void createUI() {
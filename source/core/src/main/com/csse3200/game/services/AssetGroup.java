@@ -0,0 +1,21 @@
+package com.csse3200.game.services;
+
+/**
+ * A named group of assets from the {@link AssetManifest}, loaded and unloaded together. A group can
+ * depend on other groups, which are acquired with it, so assets shared between screens are listed
+ * once in a group of their own.
+ */
+public class AssetGroup {
+  public String name;
+  /** Groups acquired whenever this group is */
+  public String[] dependsOn = {};
+  /** How urgently the group's own assets are needed once it is acquired */
+  public ResourceService.Priority priority = ResourceService.Priority.CRITICAL;
+
+  public String[] textures = {};
+  public String[] textureAtlases = {};
+  public String[] sounds = {};
+  public String[] music = {};
+  public String[] particleEffects = {};
+  public String[] skins = {};
+}
@@ -0,0 +1,84 @@
+package com.csse3200.game.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.csse3200.game.files.FileLoader;
+
+/**
+ * Every asset the game loads, split into {@link AssetGroup}s. The manifest is read from
+ * {@link #DEFAULT_PATH}, and the build checks that every file it lists exists, so a missing asset
+ * fails the build instead of the screen that loads it.
+ */
+public class AssetManifest {
+  private static final Logger logger = LoggerFactory.getLogger(AssetManifest.class);
+  public static final String DEFAULT_PATH = "configs/assets.json";
+
+  private static AssetManifest defaultManifest;
+
+  private Array<AssetGroup> groups = new Array<>();
+  private transient ObjectMap<String, AssetGroup> groupsByName;
+
+  /**
+   * Gets the manifest at {@link #DEFAULT_PATH}, reading it the first time it is needed
+   *
+   * @return the game's asset manifest, empty if it could not be read
+   */
+  public static synchronized AssetManifest getDefault() {
+    if (defaultManifest == null) {
+      defaultManifest = load(DEFAULT_PATH);
+    }
+    return defaultManifest;
+  }
+
+  /**
+   * Reads a manifest
+   *
+   * @param path internal path of the manifest
+   * @return the manifest, empty if it could not be read
+   */
+  public static AssetManifest load(String path) {
+    AssetManifest manifest = FileLoader.readClass(AssetManifest.class, path);
+    if (manifest == null) {
+      logger.error("Could not read the asset manifest {}", path);
+      return new AssetManifest();
+    }
+    return manifest;
+  }
+
+  /**
+   * Gets a group by name
+   *
+   * @param name name of the group
+   * @return the group, or null if there is no group with that name
+   */
+  public AssetGroup getGroup(String name) {
+    if (groupsByName == null) {
+      groupsByName = new ObjectMap<>();
+      for (AssetGroup group : groups) {
+        groupsByName.put(group.name, group);
+      }
+    }
+    return groupsByName.get(name);
+  }
+
+  public Array<AssetGroup> getGroups() {
+    return groups;
+  }
+
+  /**
+   * Adds a group, replacing any group with the same name
+   *
+   * @param group group to add
+   */
+  public void addGroup(AssetGroup group) {
+    AssetGroup existing = getGroup(group.name);
+    if (existing != null) {
+      groups.removeValue(existing, true);
+    }
+    groups.add(group);
+    groupsByName.put(group.name, group);
+  }
+}
@@ -2,10 +2,12 @@ package com.csse3200.game.services;
 
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.Group;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.Array;
 import com.csse3200.game.ui.UIComponent;
 
@@ -23,7 +25,7 @@ public class GameTimeDisplay extends UIComponent {
     Table table = new Table();
     Group group = new Group();
     private Image clockImage;
-    private Array<Image> planetImages;
+    private Array<TextureRegion> planetRegions;
     private Image planetImage;
     private Array<Label> timeLabels;
     private Label timeLabel;
@@ -61,11 +63,10 @@ public class GameTimeDisplay extends UIComponent {
         clockImage = new Image(ServiceLocator.getResourceService().getAsset(
                 "images/time_system_ui/clock_frame.png", Texture.class));
 
-        // Load planet images for each hour
-        planetImages = new Array<>();
+        // Planet images for the other hours are only shown later, so they can keep streaming in
+        planetRegions = new Array<>();
         for (int i = 0; i < 24; i++) {
-            planetImages.add(new Image(ServiceLocator.getResourceService().getAsset(
-                    String.format("images/time_system_ui/indicator_%d.png", i), Texture.class)));
+            planetRegions.add(ServiceLocator.getResourceService().getRegion(getPlanetTexture(i)));
         }
 
         // Create labels for each hour
@@ -83,16 +84,20 @@ public class GameTimeDisplay extends UIComponent {
         }
 
         // Initialise planet image for 6 am
-        planetImage = planetImages.get(6);
+        planetImage = new Image(ServiceLocator.getResourceService().getAsset(getPlanetTexture(6), Texture.class));
         planetImage.getColor().a = 1.0f; // Set the first image to be fully visible
     }
 
+    private static String getPlanetTexture(int hour) {
+        return String.format("images/time_system_ui/indicator_%d.png", hour);
+    }
+
     /**
      * Updates the display to show the current game time and transition effects.
      */
     public void updateDisplay() {
         boolean firstRun = false;
-        if (planetImages == null) {
+        if (planetRegions == null) {
             createTexture();
             firstRun = true;
         }
@@ -107,7 +112,7 @@ public class GameTimeDisplay extends UIComponent {
             sequenceAction.addAction(Actions.fadeOut(0.5f));
 
             // Change the planet image to the new one
-            sequenceAction.addAction(Actions.run(() -> planetImage.setDrawable(planetImages.get(time).getDrawable())));
+            sequenceAction.addAction(Actions.run(() -> planetImage.setDrawable(new TextureRegionDrawable(planetRegions.get(time)))));
 
             // Fade in the new planet image
             sequenceAction.addAction(Actions.fadeIn(0.5f));
@@ -1,25 +1,160 @@
 package com.csse3200.game.services;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.math.GridPoint2;
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.csse3200.game.areas.GameArea;
+import com.csse3200.game.areas.terrain.TerrainFactory;
+
+import java.util.Arrays;
 
 import box2dLight.RayHandler;
 
+/**
+ * Renders the game's lights and ambient lighting.
+ *
+ * <p>Lights which don't move, such as placed lamps, belong to the static ray handler. They are baked
+ * once into a light map covering the whole game map, in world space, so the baked light map stays
+ * valid while the camera moves. It is only baked again when a static light is added, removed, moved
+ * or changed, which light components report with {@link #markStaticChanged()}. The lights are x-ray
+ * lights, so obstacles changing doesn't change what they light.
+ *
+ * <p>Moving lights, such as the player's, belong to the dynamic ray handler and are rendered every
+ * frame. They are only updated, which casts their rays again, when the camera moves or a light changes,
+ * which light components report with {@link #markChanged()}. Moving lights outside the camera view are
+ * skipped using {@link #isVisible(Vector2, float)}.
+ *
+ * <p>Each frame the ambient light, the baked light map and the dynamic lights are added together in a
+ * light buffer, which is then multiplied over the scene.
+ */
 public class LightService {
 	/**
-	 * Box2dLights ray handler that handles all of the rendering of the lights
+	 * Fewest rays used for a light, see {@link #getRayCount(float)}
+	 */
+	private static final int MIN_RAYS = 8;
+
+	/**
+	 * Most rays used for a light, see {@link #getRayCount(float)}
+	 */
+	private static final int MAX_RAYS = 32;
+
+	/**
+	 * Rays used per world unit of light distance
+	 */
+	private static final float RAYS_PER_UNIT = 4f;
+
+	private static final int MINUTES_IN_DAY = 24 * 60;
+
+	/**
+	 * Pixels of the baked light map per world unit
+	 */
+	private static final int BAKE_PIXELS_PER_UNIT = 16;
+
+	/**
+	 * Largest width or height of the baked light map in pixels
+	 */
+	private static final int MAX_BAKE_SIZE = 2048;
+
+	/**
+	 * Size of the area baked in world units when there is no game map to cover
+	 */
+	private static final int DEFAULT_BAKE_SIZE = 100;
+
+	/**
+	 * Ambient brightness at each minute of the day, before any weather effects
+	 */
+	private static final float[] DAYLIGHT_CURVE = new float[MINUTES_IN_DAY];
+
+	static {
+		for (int minute = 0; minute < MINUTES_IN_DAY; minute++) {
+			float timeOfDay = minute / 60f;
+			float brightness = MathUtils.sin((float) (Math.PI * (timeOfDay - 13.0f) / 24.0f));
+			brightness = 0.8f * brightness * brightness;
+			brightness = 1 - (float) Math.pow(brightness, 1.5f);
+			DAYLIGHT_CURVE[minute] = (float) Math.pow(brightness, 1.5f);
+		}
+	}
+
+	/**
+	 * Box2dLights ray handler that handles all of the rendering of the moving lights
 	 */
 	private final RayHandler rayHandler;
 
+	/**
+	 * Box2dLights ray handler of the lights which don't move, which are baked into a light map
+	 */
+	private RayHandler staticRayHandler;
+
+	/**
+	 * Area of the world covered by the baked light map
+	 */
+	private final Rectangle bakeBounds = new Rectangle();
+
+	/**
+	 * Projection the baked light map was rendered with
+	 */
+	private final Matrix4 bakeMatrix = new Matrix4();
+
+	/**
+	 * Projection covering the screen from 0 to 1, used to draw full screen light maps
+	 */
+	private final Matrix4 screenMatrix = new Matrix4().setToOrtho2D(0, 0, 1, 1);
+
+	/**
+	 * Buffer the ambient light and light maps are added together in, before being drawn over the scene
+	 */
+	private FrameBuffer lightBuffer;
+	private SpriteBatch batch;
+
 	/**
 	 * Game camera
 	 */
 	private final OrthographicCamera camera;
 
-	private Color colourOffset;
+	private final Color colourOffset = new Color(Color.CLEAR);
 	private float brightnessMultiplier;
 
+	/**
+	 * Current global ambient light, updated when the time or a lighting effect changes
+	 */
+	private final Color ambientLight = new Color();
+
+	/**
+	 * Whether the moving lights need to be updated again
+	 */
+	private boolean lightsDirty = true;
+
+	/**
+	 * Whether the static lights need to be baked again
+	 */
+	private boolean staticLightsDirty = true;
+
+	/**
+	 * Number of times the static lights have been baked
+	 */
+	private int bakeCount;
+
+	/**
+	 * Camera matrix the moving lights were last updated with
+	 */
+	private final float[] lastCombined = new float[16];
+
+	/**
+	 * Time taken to render the lighting last frame, in nanoseconds
+	 */
+	private long lastRenderTime;
+	private boolean lightUpdateSkipped;
+
 	/**
 	 * Creates a LightService which is accessed via the ServiceLocator and used to create lights
 	 */
@@ -30,37 +165,222 @@ public class LightService {
 		this.camera = (OrthographicCamera) ServiceLocator.getCameraComponent().getCamera();
 
 		rayHandler.setCulling(true);
-		rayHandler.setAmbientLight(0.3f, 0.3f, 0.7f, 0.1f);
 
-		colourOffset = Color.CLEAR;
 		brightnessMultiplier = 1.0f;
+
+		ServiceLocator.getTimeService().getEvents().addListener("minuteUpdate", this::updateAmbientLight);
+		ServiceLocator.getTimeService().getEvents().addListener("hourUpdate", this::updateAmbientLight);
+		updateAmbientLight();
 	}
 
 	/**
-	 * Renders the lighting involved in the game and sets the ambient light to be based on the time of day
+	 * Renders the lighting involved in the game, with the ambient light based on the time of day
 	 */
 	public void renderLight() {
-		float time = ServiceLocator.getTimeService().getHour() + (float) ServiceLocator.getTimeService().getMinute() / 60;
-		rayHandler.setAmbientLight(getAmbientLight(time));
+		long start = TimeUtils.nanoTime();
+		ensureLightBuffer();
+		if (staticLightsDirty) {
+			bakeStaticLights();
+		}
+
+		if (!Arrays.equals(camera.combined.val, lastCombined)) {
+			System.arraycopy(camera.combined.val, 0, lastCombined, 0, lastCombined.length);
+			lightsDirty = true;
+		}
+
 		rayHandler.setCombinedMatrix(camera);
-		rayHandler.updateAndRender();
+		lightUpdateSkipped = !lightsDirty;
+		if (lightsDirty) {
+			rayHandler.update();
+			lightsDirty = false;
+		}
+		rayHandler.prepareRender();
+
+		addLightMaps();
+		batch.setBlendFunction(GL20.GL_DST_COLOR, GL20.GL_ZERO);
+		batch.setProjectionMatrix(screenMatrix);
+		batch.begin();
+		batch.draw(lightBuffer.getColorBufferTexture(), 0, 0, 1, 1, 0, 0, 1, 1);
+		batch.end();
+		batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+		lastRenderTime = TimeUtils.timeSinceNanos(start);
+	}
+
+	/**
+	 * Adds the ambient light, the baked light map and the moving lights' light map together in the light
+	 * buffer
+	 */
+	private void addLightMaps() {
+		lightBuffer.begin();
+		Gdx.gl.glClearColor(ambientLight.r, ambientLight.g, ambientLight.b, 1f);
+		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+		batch.setBlendFunction(GL20.GL_ONE, GL20.GL_ONE);
+		batch.setProjectionMatrix(camera.combined);
+		batch.begin();
+		// The baked light map is drawn in world space, so it lines up wherever the camera is
+		batch.draw(getStaticRayHandler().getLightMapTexture(), bakeBounds.x, bakeBounds.y,
+				bakeBounds.width, bakeBounds.height, 0, 0, 1, 1);
+		batch.setProjectionMatrix(screenMatrix);
+		batch.draw(rayHandler.getLightMapTexture(), 0, 0, 1, 1, 0, 0, 1, 1);
+		batch.end();
+		lightBuffer.end();
+	}
+
+	/**
+	 * Renders the static lights into the baked light map, covering the whole game map
+	 */
+	private void bakeStaticLights() {
+		RayHandler handler = getStaticRayHandler();
+		handler.setCombinedMatrix(bakeMatrix, bakeBounds.x + bakeBounds.width / 2,
+				bakeBounds.y + bakeBounds.height / 2, bakeBounds.width, bakeBounds.height);
+		handler.update();
+		handler.prepareRender();
+		staticLightsDirty = false;
+		bakeCount++;
+	}
+
+	/**
+	 * Creates the light buffer and batch the first time lighting is rendered, and creates the light
+	 * buffer again if the screen has been resized
+	 */
+	private void ensureLightBuffer() {
+		int width = Math.max(1, Gdx.graphics.getBackBufferWidth());
+		int height = Math.max(1, Gdx.graphics.getBackBufferHeight());
+		if (lightBuffer != null && lightBuffer.getWidth() == width && lightBuffer.getHeight() == height) {
+			return;
+		}
+		if (lightBuffer != null) {
+			lightBuffer.dispose();
+		}
+		lightBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, width, height, false);
+		if (batch == null) {
+			batch = new SpriteBatch();
+		}
+	}
+
+	/**
+	 * Tells the service a moving light has been added, removed, moved or changed, so the moving lights are
+	 * updated again next frame
+	 */
+	public void markChanged() {
+		lightsDirty = true;
+	}
+
+	/**
+	 * Tells the service a static light has been added, removed, moved or changed, so the static lights are
+	 * baked again next frame
+	 */
+	public void markStaticChanged() {
+		staticLightsDirty = true;
+	}
+
+	/**
+	 * Gets the number of times the static lights have been baked into the light map
+	 * @return number of bakes
+	 */
+	public int getBakeCount() {
+		return bakeCount;
+	}
+
+	/**
+	 * Checks whether a light could be seen by the camera. Lights which can't be seen don't need to be
+	 * moved until they come back into view.
+	 * @param position position of the light
+	 * @param distance distance/spread of the light
+	 * @return true if the light overlaps the camera view
+	 */
+	public boolean isVisible(Vector2 position, float distance) {
+		float halfWidth = camera.viewportWidth * camera.zoom / 2 + distance;
+		float halfHeight = camera.viewportHeight * camera.zoom / 2 + distance;
+		return Math.abs(position.x - camera.position.x) <= halfWidth
+				&& Math.abs(position.y - camera.position.y) <= halfHeight;
+	}
+
+	/**
+	 * Gets the number of rays to use for a light. Small lights look the same with far fewer rays, so
+	 * the ray count grows with the distance/spread of the light.
+	 * @param distance distance/spread of the light
+	 * @return number of rays for the light
+	 */
+	public static int getRayCount(float distance) {
+		return MathUtils.clamp(MathUtils.ceil(distance * RAYS_PER_UNIT), MIN_RAYS, MAX_RAYS);
+	}
+
+	/**
+	 * Gets the time taken to render the lighting last frame
+	 * @return time in milliseconds
+	 */
+	public float getLastRenderTime() {
+		return lastRenderTime / 1000000f;
+	}
+
+	/**
+	 * Determines whether last frame rendered the moving lights without updating them
+	 * @return true if the moving lights were not updated
+	 */
+	public boolean wasLightUpdateSkipped() {
+		return lightUpdateSkipped;
 	}
 
 	/**
 	 * Getter method for the ray handler
-	 * @return ray handler instance used for creating lights
+	 * @return ray handler instance used for creating lights which move
 	 */
 	public RayHandler getRayHandler() {
 		return rayHandler;
 	}
 
+	/**
+	 * Gets the ray handler of the static lights, creating it the first time it is needed. The baked light
+	 * map covers the game map if there is one when the ray handler is created.
+	 * @return ray handler instance used for creating lights which don't move
+	 */
+	public RayHandler getStaticRayHandler() {
+		if (staticRayHandler == null) {
+			GameArea gameArea = ServiceLocator.getGameArea();
+			if (gameArea != null && gameArea.getMap() != null) {
+				GridPoint2 mapSize = gameArea.getMap().getMapSize();
+				bakeBounds.set(0, 0, mapSize.x * TerrainFactory.WORLD_TILE_SIZE,
+						mapSize.y * TerrainFactory.WORLD_TILE_SIZE);
+			} else {
+				bakeBounds.set(0, 0, DEFAULT_BAKE_SIZE, DEFAULT_BAKE_SIZE);
+			}
+			bakeMatrix.setToOrtho2D(bakeBounds.x, bakeBounds.y, bakeBounds.width, bakeBounds.height);
+
+			int width = Math.min(MAX_BAKE_SIZE, MathUtils.ceil(bakeBounds.width * BAKE_PIXELS_PER_UNIT));
+			int height = Math.min(MAX_BAKE_SIZE, MathUtils.ceil(bakeBounds.height * BAKE_PIXELS_PER_UNIT));
+			staticRayHandler = new RayHandler(ServiceLocator.getPhysicsService().getPhysics().getWorld(),
+					width, height);
+			// Every static light is baked, not only those the camera can see
+			staticRayHandler.setCulling(false);
+		}
+		return staticRayHandler;
+	}
+
+	/**
+	 * Disposes of the ray handlers and the light buffer
+	 */
+	public void dispose() {
+		rayHandler.dispose();
+		if (staticRayHandler != null) {
+			staticRayHandler.dispose();
+		}
+		if (lightBuffer != null) {
+			lightBuffer.dispose();
+		}
+		if (batch != null) {
+			batch.dispose();
+		}
+	}
+
 	/**
 	 * Sets the global ambient colour offset. This offset will be added to the global ambient lighting (after any
 	 * brightness multipliers are applied).
 	 * @param colourOffset The global ambient light colour offset. Set to {@link Color#CLEAR} for default.
 	 */
 	public void setColourOffset(Color colourOffset) {
-		this.colourOffset = colourOffset;
+		this.colourOffset.set(colourOffset);
+		updateAmbientLight();
 	}
 
 	/**
@@ -70,19 +390,34 @@ public class LightService {
 	 */
 	public void setBrightnessMultiplier(float brightnessMultiplier) {
 		this.brightnessMultiplier = brightnessMultiplier;
+		updateAmbientLight();
 	}
 
-	private Color getAmbientLight(float timeOfDay) {
-		// Calculate expected brightness
-		float brightness = MathUtils.sin((float) (Math.PI * (timeOfDay - 13.0f) / 24.0f));
-		brightness = 0.8f * brightness * brightness;
-		brightness = 1 - (float) Math.pow(brightness, 1.5f);
-		brightness = (float) Math.pow(brightness, 1.5f);
+	/**
+	 * Gets the current global ambient light, which is based on the time of day and any lighting effects
+	 * @return the ambient light. This is reused, so copy it to keep it.
+	 */
+	public Color getAmbientLight() {
+		return ambientLight;
+	}
 
-		// Apply brightness multiplier
-		brightness *= brightnessMultiplier;
-		// Apply and return ambient light with colour offset
-		return new Color(brightness + colourOffset.r, brightness + colourOffset.g, brightness + colourOffset.b,
+	/**
+	 * Gets the ambient brightness at a time of day, before any lighting effects are applied
+	 * @param hour in-game hour
+	 * @param minute in-game minute
+	 * @return brightness between 0 and 1
+	 */
+	public static float getDaylight(int hour, int minute) {
+		return DAYLIGHT_CURVE[Math.floorMod(hour * 60 + minute, MINUTES_IN_DAY)];
+	}
+
+	/**
+	 * Recalculates the ambient light from the daylight curve, brightness multiplier and colour offset
+	 */
+	private void updateAmbientLight() {
+		TimeService timeService = ServiceLocator.getTimeService();
+		float brightness = getDaylight(timeService.getHour(), timeService.getMinute()) * brightnessMultiplier;
+		ambientLight.set(brightness + colourOffset.r, brightness + colourOffset.g, brightness + colourOffset.b,
 				1.0f + colourOffset.a);
 	}
 
@@ -0,0 +1,213 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.math.GridPoint2;
+import com.csse3200.game.areas.terrain.GameMap;
+import com.csse3200.game.areas.terrain.TerrainTile;
+import com.csse3200.game.areas.terrain.TerrainTile.TerrainCategory;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Keeps a texture of the whole {@link GameMap} with one pixel per tile, for the map screen to draw
+ * as a single image. The texture is built once, and afterwards only the pixels of tiles reported
+ * through {@link #onTileChanged(TerrainTile)} are redrawn. The texture is only re-uploaded when it
+ * is next requested after a change.
+ *
+ * <p>Tiles are coloured by terrain category. Tiles with a crop tile on them are drawn as tilled
+ * soil, and tiles with any other occupant, such as fences or sprinklers, are drawn as structures.
+ */
+public class MinimapService {
+	private static final Logger logger = LoggerFactory.getLogger(MinimapService.class);
+	private static final int TILLED_COLOUR = 0x5c3d1eff;
+	private static final int STRUCTURE_COLOUR = 0x3a3a3aff;
+	private static final int EMPTY_COLOUR = 0x000000ff;
+
+	private final GameMap map;
+	private int width;
+	private int height;
+	/** Pixel colours, with row 0 at the top so the top of the map is the top of the texture. */
+	private Pixmap pixmap;
+	private Texture texture;
+	/** Whether the pixmap has changed since it was last uploaded to the texture. */
+	private boolean dirty;
+	/** Index of each tile, y * width + x with y = 0 at the bottom of the map. */
+	private final Map<TerrainTile, Integer> tileIndices = new IdentityHashMap<>();
+
+	/**
+	 * @param map the game map to draw. The texture is built lazily on first use.
+	 */
+	public MinimapService(GameMap map) {
+		this.map = map;
+	}
+
+	/**
+	 * Gets the minimap texture, uploading any tiles which have changed since the last call.
+	 *
+	 * @return texture with one pixel per tile, or null if the map has not been created yet
+	 */
+	public Texture getTexture() {
+		if (!ensurePixmap()) {
+			return null;
+		}
+		if (texture == null) {
+			texture = new Texture(pixmap);
+			texture.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
+		} else if (dirty) {
+			texture.draw(pixmap, 0, 0);
+		}
+		dirty = false;
+		return texture;
+	}
+
+	/**
+	 * Notifies the service that the terrain or occupancy of a tile has changed, so its pixel is
+	 * redrawn.
+	 *
+	 * @param tile the tile which changed
+	 */
+	public void onTileChanged(TerrainTile tile) {
+		if (pixmap == null) {
+			return;
+		}
+		Integer index = tileIndices.get(tile);
+		if (index == null) {
+			return;
+		}
+		int colour = getTileColour(tile);
+		int x = index % width;
+		int y = height - 1 - index / width;
+		if (pixmap.getPixel(x, y) != colour) {
+			pixmap.drawPixel(x, y, colour);
+			dirty = true;
+		}
+	}
+
+	/**
+	 * @return whether tiles have changed since the texture was last requested
+	 */
+	public boolean isDirty() {
+		return dirty;
+	}
+
+	/**
+	 * @return width of the map in tiles, or 0 if the map has not been created yet
+	 */
+	public int getWidth() {
+		return width;
+	}
+
+	/**
+	 * @return height of the map in tiles, or 0 if the map has not been created yet
+	 */
+	public int getHeight() {
+		return height;
+	}
+
+	/**
+	 * Gets the colour a tile is currently drawn with.
+	 *
+	 * @param x tile x position, from the left of the map
+	 * @param y tile y position, from the bottom of the map
+	 * @return RGBA8888 colour of the tile
+	 */
+	public int getColour(int x, int y) {
+		if (!ensurePixmap()) {
+			return EMPTY_COLOUR;
+		}
+		return pixmap.getPixel(x, height - 1 - y);
+	}
+
+	/**
+	 * Frees the texture and pixmap.
+	 */
+	public void dispose() {
+		if (texture != null) {
+			texture.dispose();
+			texture = null;
+		}
+		if (pixmap != null) {
+			pixmap.dispose();
+			pixmap = null;
+		}
+		tileIndices.clear();
+	}
+
+	/**
+	 * Builds the pixmap from every tile in the map, if it has not been built yet.
+	 *
+	 * @return true if the pixmap is ready
+	 */
+	private boolean ensurePixmap() {
+		if (pixmap != null) {
+			return true;
+		}
+		GridPoint2 size = map.getMapSize();
+		if (map.getTerrainComponent() == null || size.x <= 0 || size.y <= 0) {
+			return false;
+		}
+
+		width = size.x;
+		height = size.y;
+		pixmap = new Pixmap(width, height, Pixmap.Format.RGBA8888);
+		pixmap.setBlending(Pixmap.Blending.None);
+		GridPoint2 point = new GridPoint2();
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				TerrainTile tile = map.getTile(point.set(x, y));
+				if (tile == null) {
+					pixmap.drawPixel(x, height - 1 - y, EMPTY_COLOUR);
+				} else {
+					pixmap.drawPixel(x, height - 1 - y, getTileColour(tile));
+					tileIndices.put(tile, y * width + x);
+				}
+			}
+		}
+		dirty = true;
+		logger.debug("Built {}x{} minimap", width, height);
+		return true;
+	}
+
+	/**
+	 * Gets the colour a tile should be drawn with on the minimap.
+	 *
+	 * @param tile the tile
+	 * @return RGBA8888 colour
+	 */
+	public static int getTileColour(TerrainTile tile) {
+		Entity occupant = tile.getOccupant();
+		if (occupant != null) {
+			return occupant.getType() == EntityType.TILE ? TILLED_COLOUR : STRUCTURE_COLOUR;
+		}
+		return getTerrainColour(tile.getTerrainCategory());
+	}
+
+	/**
+	 * @param category terrain category
+	 * @return RGBA8888 colour for the terrain category
+	 */
+	public static int getTerrainColour(TerrainCategory category) {
+		return switch (category) {
+			case PATH -> 0xc2a878ff;
+			case BEACHSAND -> 0xe8d9a0ff;
+			case GRASS -> 0x5a9a3cff;
+			case DIRT -> 0x8a6238ff;
+			case SHALLOWWATER -> 0x5fb4d8ff;
+			case DESERT -> 0xd8b46aff;
+			case SNOW -> 0xf0f4f8ff;
+			case ICE -> 0xb8e0f0ff;
+			case DEEPWATER -> 0x1f5a9aff;
+			case ROCK -> 0x707070ff;
+			case LAVA -> 0xe0501eff;
+			case LAVAGROUND -> 0x5a2a20ff;
+			case GRAVEL -> 0x9a948aff;
+			case FLOWINGWATER -> 0x3c8cc8ff;
+		};
+	}
+}
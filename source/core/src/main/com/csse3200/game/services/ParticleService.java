@@ -1,11 +1,15 @@
 package com.csse3200.game.services;
 
+import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.g2d.ParticleEffect;
 import com.badlogic.gdx.graphics.g2d.ParticleEffectPool;
+import com.badlogic.gdx.graphics.g2d.ParticleEmitter;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
 import com.csse3200.game.components.ParticleEffectComponent;
+import com.csse3200.game.entities.Entity;
 import com.csse3200.game.rendering.ParticleEffectWrapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,9 +17,38 @@ import org.slf4j.LoggerFactory;
 import java.util.*;
 import java.util.function.Predicate;
 
+/**
+ * Manages and renders all particle effects in the game.
+ *
+ * <p>Effects attached to entities and effects started at a position are only simulated while they are
+ * near the camera view. Active particles are counted every frame, and when there are more than
+ * {@link #PARTICLE_BUDGET} the lowest priority effects are shed: weather effects emit fewer
+ * particles first, then the lowest priority positional effects are stopped. While the game is paused or
+ * minimised, weather effects are only simulated every few frames.
+ */
 public class ParticleService {
 	private static final Logger logger = LoggerFactory.getLogger(ParticleService.class);
 
+	/**
+	 * Most particles that can be active at once before lower priority effects are shed
+	 */
+	public static final int PARTICLE_BUDGET = 6000;
+
+	/**
+	 * Lowest fraction of their normal emission that weather effects are cut down to when shedding
+	 */
+	private static final float MIN_WEATHER_SCALE = 0.1f;
+
+	/**
+	 * Extra distance around the camera view in which effects are still simulated
+	 */
+	private static final float CULL_MARGIN = 2f;
+
+	/**
+	 * While the game is paused or minimised, weather effects are only simulated once every this many frames
+	 */
+	private static final int IDLE_UPDATE_INTERVAL = 4;
+
 	public static final String WEATHER_EVENT = "WEATHER_EVENT";
 	public static final String ENTITY_EFFECT = "ENTITY_EFFECT";
 	public static final String START_EVENT = "startVisualEffect";
@@ -41,37 +74,67 @@ public class ParticleService {
 	 */
 	private final EnumMap<ParticleEffectType, ParticleEffectPool> particleEffectPools;
 
+	/**
+	 * Active particles of each effect type last frame, indexed by ordinal
+	 */
+	private final int[] particleCounts = new int[ParticleEffectType.values().length];
+	private int totalParticles;
+
+	/**
+	 * Fraction of their normal emission that weather effects are currently emitting
+	 */
+	private float weatherScale = 1f;
+
+	/**
+	 * Whether the game window is minimised or in the background
+	 */
+	private boolean backgrounded;
+	private int idleFrames;
+	private float idleDelta;
+
 	/**
 	 * Enum for each type of particle effect known to the particle system
 	 */
 	public enum ParticleEffectType {
-		RAIN(WEATHER_EVENT, "particle-effects/acidRain.p", 1, 10),
-		BLIZZARD(WEATHER_EVENT, "particle-effects/snowEffect.p", 1, 10),
-		SUCCESS_EFFECT(ENTITY_EFFECT, "particle-effects/successEffect.p", 1, 10),
-		TELEPORT_EFFECT(ENTITY_EFFECT, "particle-effects/teleportEffect.p", 1, 10),
-		ATTACK_EFFECT(ENTITY_EFFECT, "particle-effects/attackEffect.p", 1, 10),
-		FEED_EFFECT(ENTITY_EFFECT, "particle-effects/feedEffect.p", 1, 10),
-		DIRT_EFFECT(ENTITY_EFFECT, "particle-effects/dirtEffect.p", 1, 10);
+		RAIN(WEATHER_EVENT, "particle-effects/acidRain.p", 1, 10, 0),
+		BLIZZARD(WEATHER_EVENT, "particle-effects/snowEffect.p", 1, 10, 0),
+		SUCCESS_EFFECT(ENTITY_EFFECT, "particle-effects/successEffect.p", 1, 10, 2),
+		TELEPORT_EFFECT(ENTITY_EFFECT, "particle-effects/teleportEffect.p", 1, 10, 3),
+		ATTACK_EFFECT(ENTITY_EFFECT, "particle-effects/attackEffect.p", 1, 10, 3),
+		FEED_EFFECT(ENTITY_EFFECT, "particle-effects/feedEffect.p", 1, 10, 2),
+		DIRT_EFFECT(ENTITY_EFFECT, "particle-effects/dirtEffect.p", 1, 10, 1);
 
 		private final String category;
 		private final String effectPath;
 		private final int minCapacity;
 		private final int maxCapacity;
+		private final int priority;
 
-		ParticleEffectType(String category, String effectPath, int minCapacity, int maxCapacity) {
+		ParticleEffectType(String category, String effectPath, int minCapacity, int maxCapacity, int priority) {
 			this.category = category;
 			this.effectPath = effectPath;
 			this.minCapacity = minCapacity;
 			this.maxCapacity = maxCapacity;
+			this.priority = priority;
 		}
 
 		public String getCategory() {
 			return category;
 		}
+
+		/**
+		 * Gets the priority of the effect type. Effects with a lower priority are shed first when there are
+		 * too many particles.
+		 *
+		 * @return priority of the effect type
+		 */
+		public int getPriority() {
+			return priority;
+		}
 	}
 
 	/**
-	 * Creates a particle service, loading in all particle effect assets and creating pools for those particle effects.
+	 * Creates a particle service, queueing all particle effect assets to be streamed in.
 	 */
 	public ParticleService() {
 		queuedEffects = new ArrayList<>();
@@ -86,17 +149,9 @@ public class ParticleService {
 			i++;
 		}
 
-		// Load all of the particle effects
-		ServiceLocator.getResourceService().loadParticleEffects(particleNames);
-
-		// Block until all particle effects are loaded
-		ServiceLocator.getResourceService().loadAll();
-
-		// Creates pools for all the particles
-		for (ParticleEffectType effectType : ParticleEffectType.values()) {
-			particleEffects.put(effectType, ServiceLocator.getResourceService().getAsset(effectType.effectPath, ParticleEffect.class));
-			particleEffectPools.put(effectType, new ParticleEffectPool(particleEffects.get(effectType), effectType.minCapacity, effectType.maxCapacity));
-		}
+		// Stream the particle effects in rather than blocking the screen until they load. Their pools are
+		// created when each effect is first used.
+		ServiceLocator.getResourceService().loadParticleEffects(particleNames, ResourceService.Priority.BACKGROUND);
 
 		effectComponents = new ArrayList<>();
 		positionalEffects = new ArrayList<>();
@@ -109,18 +164,44 @@ public class ParticleService {
 	 * @param delta delta time value used to update the particle effects
 	 */
 	public void render(SpriteBatch batch, float delta) {
-		Vector3 position = ServiceLocator.getCameraComponent().getCamera().position;
+		Camera camera = ServiceLocator.getCameraComponent().getCamera();
+		Vector3 position = camera.position;
+		Arrays.fill(particleCounts, 0);
+
+		// Weather is only simulated every few frames while nobody is playing
+		boolean updateWeather = true;
+		float weatherDelta = delta;
+		if (isIdle()) {
+			idleDelta += delta;
+			weatherDelta = idleDelta;
+			updateWeather = ++idleFrames >= IDLE_UPDATE_INTERVAL;
+			if (updateWeather) {
+				idleFrames = 0;
+				idleDelta = 0;
+			}
+		}
 		for (ParticleEffectWrapper wrapper : queuedEffects) {
-			wrapper.getPooledEffect().setPosition(position.x, position.y);
-			wrapper.getPooledEffect().draw(batch, delta);
-			if (wrapper.getPooledEffect().isComplete()) {
-				wrapper.getPooledEffect().reset();
+			ParticleEffectPool.PooledEffect effect = wrapper.getPooledEffect();
+			effect.setPosition(position.x, position.y);
+			if (updateWeather) {
+				effect.draw(batch, weatherDelta);
+			} else {
+				effect.draw(batch);
 			}
+			if (effect.isComplete()) {
+				effect.reset();
+			}
+			addParticleCount(wrapper);
 		}
 
-		// Render the particle effects attached to specific components
+		// Render the particle effects attached to specific components, if they can be seen
 		for (ParticleEffectComponent component : effectComponents) {
+			Entity entity = component.getEntity();
+			if (entity != null && !isVisible(camera, entity.getCenterPosition().x, entity.getCenterPosition().y)) {
+				continue;
+			}
 			component.render(batch, delta);
+			component.countParticles(particleCounts);
 		}
 
 		// Render the particles at a certain position
@@ -131,12 +212,148 @@ public class ParticleService {
 			if (wrapper.getPooledEffect().isComplete()) {
 				wrapper.getPooledEffect().free();
 				itr.remove();
-			} else {
+			} else if (isVisible(camera, wrapper.getX(), wrapper.getY())) {
+				// Effects which can't be seen are kept, but not updated until they come back into view
 				wrapper.getPooledEffect().draw(batch, delta);
+				addParticleCount(wrapper);
+			}
+		}
+
+		totalParticles = 0;
+		for (int count : particleCounts) {
+			totalParticles += count;
+		}
+		shedParticles();
+	}
+
+	/**
+	 * Marks the game as minimised or in the background, so weather effects are simulated less often
+	 *
+	 * @param backgrounded whether the game is in the background
+	 */
+	public void setBackgrounded(boolean backgrounded) {
+		this.backgrounded = backgrounded;
+	}
+
+	/**
+	 * Gets the number of active particles of a type as of the last frame
+	 *
+	 * @param effectType type of effect
+	 * @return number of active particles
+	 */
+	public int getParticleCount(ParticleEffectType effectType) {
+		return particleCounts[effectType.ordinal()];
+	}
+
+	/**
+	 * Gets the number of active particles across all effects as of the last frame
+	 *
+	 * @return number of active particles
+	 */
+	public int getTotalParticleCount() {
+		return totalParticles;
+	}
+
+	/**
+	 * Counts the active particles in an effect
+	 *
+	 * @param effect particle effect
+	 * @return number of active particles in all of its emitters
+	 */
+	public static int countParticles(ParticleEffect effect) {
+		Array<ParticleEmitter> emitters = effect.getEmitters();
+		int count = 0;
+		for (int i = 0; i < emitters.size; i++) {
+			count += emitters.get(i).getActiveCount();
+		}
+		return count;
+	}
+
+	private void addParticleCount(ParticleEffectWrapper wrapper) {
+		particleCounts[ParticleEffectType.valueOf(wrapper.getType()).ordinal()] +=
+				countParticles(wrapper.getPooledEffect());
+	}
+
+	private boolean isIdle() {
+		return backgrounded || (ServiceLocator.getTimeService() != null && ServiceLocator.getTimeService().isPaused());
+	}
+
+	private boolean isVisible(Camera camera, float x, float y) {
+		return camera.frustum.sphereInFrustum(x, y, 0, CULL_MARGIN);
+	}
+
+	/**
+	 * Keeps the number of active particles within the budget. Weather effects emit fewer particles while
+	 * over budget and recover once there is room, then the lowest priority positional effects are stopped.
+	 */
+	private void shedParticles() {
+		float scale = weatherScale;
+		if (totalParticles > PARTICLE_BUDGET) {
+			scale = Math.max(MIN_WEATHER_SCALE, scale * 0.9f);
+		} else if (totalParticles < PARTICLE_BUDGET * 0.8f) {
+			scale = Math.min(1f, scale * 1.05f);
+		}
+		if (scale != weatherScale) {
+			weatherScale = scale;
+			for (ParticleEffectWrapper wrapper : queuedEffects) {
+				scaleEmission(wrapper, weatherScale);
+			}
+		}
+
+		while (totalParticles > PARTICLE_BUDGET) {
+			ParticleEffectWrapper lowest = null;
+			int lowestPriority = Integer.MAX_VALUE;
+			for (ParticleEffectWrapper wrapper : positionalEffects) {
+				int priority = ParticleEffectType.valueOf(wrapper.getType()).priority;
+				if (priority < lowestPriority) {
+					lowest = wrapper;
+					lowestPriority = priority;
+				}
 			}
+			if (lowest == null) {
+				return;
+			}
+			int count = countParticles(lowest.getPooledEffect());
+			particleCounts[ParticleEffectType.valueOf(lowest.getType()).ordinal()] -= count;
+			totalParticles -= count;
+			logger.debug("Shedding {} particle effect", lowest.getType());
+			lowest.getPooledEffect().free();
+			positionalEffects.remove(lowest);
+		}
+	}
+
+	/**
+	 * Sets an effect's emission rate to a fraction of the rate it was loaded with
+	 */
+	private void scaleEmission(ParticleEffectWrapper wrapper, float scale) {
+		Array<ParticleEmitter> original = particleEffects.get(ParticleEffectType.valueOf(wrapper.getType())).getEmitters();
+		Array<ParticleEmitter> emitters = wrapper.getPooledEffect().getEmitters();
+		for (int i = 0; i < emitters.size && i < original.size; i++) {
+			ParticleEmitter.ScaledNumericValue emission = emitters.get(i).getEmission();
+			ParticleEmitter.ScaledNumericValue originalEmission = original.get(i).getEmission();
+			emission.setHigh(originalEmission.getHighMin() * scale, originalEmission.getHighMax() * scale);
+			emission.setLow(originalEmission.getLowMin() * scale, originalEmission.getLowMax() * scale);
 		}
 	}
 
+	/**
+	 * Gets the pool of an effect type, creating it the first time the effect is used. If the effect has
+	 * not streamed in yet, it is loaded straight away.
+	 *
+	 * @param effectType type of effect
+	 * @return pool of the effect
+	 */
+	private ParticleEffectPool getPool(ParticleEffectType effectType) {
+		ParticleEffectPool pool = particleEffectPools.get(effectType);
+		if (pool == null) {
+			ParticleEffect effect = ServiceLocator.getResourceService().getAsset(effectType.effectPath, ParticleEffect.class);
+			particleEffects.put(effectType, effect);
+			pool = new ParticleEffectPool(effect, effectType.minCapacity, effectType.maxCapacity);
+			particleEffectPools.put(effectType, pool);
+		}
+		return pool;
+	}
+
 	/**
 	 * Starts a particle effect, creating an effect wrapper and adding it to the queue
 	 *
@@ -144,10 +361,12 @@ public class ParticleService {
 	 */
 	public void startEffect(ParticleEffectType effectType) {
 		// Grabs the effect from the effect pool using the enum
-		ParticleEffectWrapper effectWrapper = new ParticleEffectWrapper(particleEffectPools.get(effectType).obtain(), effectType.category, effectType.name());
+		ParticleEffectWrapper effectWrapper = new ParticleEffectWrapper(getPool(effectType).obtain(), effectType.category, effectType.name());
 		// Adds the effect to the queued effects so the particle service knows to draw it
 		queuedEffects.add(effectWrapper);
 		effectWrapper.getPooledEffect().scaleEffect(0.1f);
+		// Always rescaled, since a pooled effect keeps the emission it had when it was freed
+		scaleEmission(effectWrapper, weatherScale);
 		effectWrapper.getPooledEffect().start();
 	}
 
@@ -189,7 +408,7 @@ public class ParticleService {
 	 */
 	public ParticleEffectPool.PooledEffect getEffect(ParticleEffectType effectType) {
 		logger.debug("Obtaining effect for type - {}", effectType.name());
-		return particleEffectPools.get(effectType).obtain();
+		return getPool(effectType).obtain();
 	}
 
 	/**
@@ -200,13 +419,30 @@ public class ParticleService {
 	 * @param position   position to render the particle effect at
 	 */
 	public void startEffectAtPosition(ParticleEffectType effectType, Vector2 position) {
+		// Stop the oldest effect of this type if there are already as many as the pool holds
+		int instances = 0;
+		ParticleEffectWrapper oldest = null;
+		for (int i = 0; i < positionalEffects.size(); i++) {
+			ParticleEffectWrapper wrapper = positionalEffects.get(i);
+			if (wrapper.getType().equals(effectType.name())) {
+				if (oldest == null) {
+					oldest = wrapper;
+				}
+				instances++;
+			}
+		}
+		if (oldest != null && instances >= effectType.maxCapacity) {
+			oldest.getPooledEffect().free();
+			positionalEffects.remove(oldest);
+		}
+
 		// Grabs the effect from the effect pool using the enum
-		ParticleEffectWrapper effectWrapper = new ParticleEffectWrapper(particleEffectPools.get(effectType).
-				obtain(), effectType.category, effectType.name());
+		ParticleEffectWrapper effectWrapper = new ParticleEffectWrapper(getPool(effectType).obtain(), effectType.category, effectType.name());
 		// Adds the effect to the queued effects so the particle service knows to draw it
 		positionalEffects.add(effectWrapper);
 		effectWrapper.getPooledEffect().scaleEffect(0.1f);
 		effectWrapper.getPooledEffect().setPosition(position.x, position.y);
+		effectWrapper.setPosition(position.x, position.y);
 		effectWrapper.getPooledEffect().start();
 
 	}
@@ -8,18 +8,66 @@ import org.slf4j.LoggerFactory;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.badlogic.gdx.utils.TimeUtils;
 
 /**
  * Service for loading resources, e.g. textures, texture atlases, sounds, music, etc. Add new load
  * methods when new types of resources are added to the game.
+ *
+ * <p>Assets can be loaded with a {@link Priority}. Critical assets are loaded straight away, while
+ * the rest are streamed in by {@link #update()} a little each frame, most urgent first, so a screen
+ * can start drawing before everything it might need has loaded.
+ *
+ * <p>Screens load their assets as groups from the {@link AssetManifest}. Groups are reference
+ * counted, so an asset shared by two screens stays loaded when one is swapped for the other, and
+ * only assets no longer used by any group are unloaded by {@link #unloadUnreferenced()}.
  */
 public class ResourceService implements Disposable {
 
   private static final Logger logger = LoggerFactory.getLogger(ResourceService.class);
+  /** Default time spent streaming assets each frame, in milliseconds */
+  public static final int DEFAULT_FRAME_BUDGET = 2;
+
+  /**
+   * How urgently an asset is needed
+   */
+  public enum Priority {
+    /** Needed before the next frame is drawn, so loaded straight away */
+    CRITICAL,
+    /** Will be shown soon, so streamed in before background assets */
+    VISIBLE_SOON,
+    /** Only needed later, so streamed in once everything more urgent has loaded */
+    BACKGROUND
+  }
+
   private final AssetManager assetManager;
+  /** Assets waiting to be streamed in, ordered by priority and then by when they were requested */
+  private final Array<AssetRequest> streamQueue = new Array<>();
+  private final ObjectMap<String, AssetRequest> streamRequests = new ObjectMap<>();
+  /** Regions handed out for textures that have not loaded yet, to be pointed at them once they have */
+  private final ObjectMap<String, Array<TextureRegion>> placeholderRegions = new ObjectMap<>();
+  private Texture placeholder;
+  private int frameBudget = DEFAULT_FRAME_BUDGET;
+  private int streamedAssets;
+
+  private AssetManifest manifest;
+  /** How many times each group has been acquired and not yet released */
+  private final ObjectIntMap<String> groupReferences = new ObjectIntMap<>();
+  /** How many acquired groups use each asset */
+  private final ObjectIntMap<String> assetReferences = new ObjectIntMap<>();
+  /** Assets loaded by name rather than through a group */
+  private final ObjectSet<String> ungroupedAssets = new ObjectSet<>();
+  /** Assets nothing uses any more, waiting for {@link #unloadUnreferenced()} */
+  private final ObjectSet<String> unreferencedAssets = new ObjectSet<>();
 
   public ResourceService() {
     this(new AssetManager());
@@ -43,9 +91,39 @@ public class ResourceService implements Disposable {
    * @see AssetManager#get(String, Class)
    */
   public <T> T getAsset(String filename, Class<T> type) {
+    if (streamRequests.containsKey(filename)
+        || (!assetManager.isLoaded(filename, type) && assetManager.contains(filename, type))) {
+      // Needed before it finished streaming in, so it can no longer wait
+      logger.debug("{} was needed before it was streamed in", filename);
+      loadAsset(filename, type, Priority.CRITICAL);
+    }
     return assetManager.get(filename, type);
   }
 
+  /**
+   * Gets a region of a texture without waiting for the texture to load. If the texture has not
+   * loaded yet, the region shows a blank placeholder until it has, and the texture is moved ahead
+   * of any background assets. The region is updated in place, so it can be drawn straight away.
+   *
+   * @param filename texture path
+   * @return region covering the whole texture, or the placeholder until the texture is loaded
+   */
+  public TextureRegion getRegion(String filename) {
+    if (assetManager.isLoaded(filename, Texture.class)) {
+      return new TextureRegion(assetManager.get(filename, Texture.class));
+    }
+    retainUngrouped(filename);
+    loadAsset(filename, Texture.class, Priority.VISIBLE_SOON);
+    TextureRegion region = new TextureRegion(getPlaceholder());
+    Array<TextureRegion> regions = placeholderRegions.get(filename);
+    if (regions == null) {
+      regions = new Array<>();
+      placeholderRegions.put(filename, regions);
+    }
+    regions.add(region);
+    return region;
+  }
+
   /**
    * Check if an asset has been loaded already
    * @param resourceName path of the asset
@@ -74,11 +152,80 @@ public class ResourceService implements Disposable {
    */
   public void loadAll() {
     logger.debug("Loading all assets");
+    while (queueNextStream()) {
+      // Blocking, so every streamed asset is handed to the asset manager at once
+    }
     try {
       assetManager.finishLoading();
     } catch (Exception e) {
       logger.error(e.getMessage());
     }
+    updatePlaceholders();
+  }
+
+  /**
+   * Streams in queued assets for up to the frame budget. Called once a frame. Assets are handed to
+   * the asset manager one at a time, so an urgent asset requested later does not wait behind
+   * everything queued before it.
+   *
+   * @return true once there is nothing left to stream in
+   */
+  public boolean update() {
+    long end = TimeUtils.millis() + frameBudget;
+    long remaining = frameBudget;
+    while (remaining > 0) {
+      if (assetManager.getQueuedAssets() == 0 && !queueNextStream()) {
+        break;
+      }
+      try {
+        assetManager.update((int) remaining);
+      } catch (Exception e) {
+        logger.error(e.getMessage());
+      }
+      remaining = end - TimeUtils.millis();
+    }
+    updatePlaceholders();
+    return isStreamingFinished();
+  }
+
+  /**
+   * Checks whether every asset that was streamed in has loaded
+   *
+   * @return true if no assets are waiting to stream in
+   */
+  public boolean isStreamingFinished() {
+    return streamQueue.isEmpty() && assetManager.isFinished();
+  }
+
+  /**
+   * Gets how many assets are still waiting to be streamed in
+   *
+   * @return assets queued with a priority below critical that have not been handed to the asset manager
+   */
+  public int getStreamQueueSize() {
+    return streamQueue.size;
+  }
+
+  /**
+   * Gets how many assets have been streamed in rather than loaded straight away
+   *
+   * @return streamed assets since the service was created
+   */
+  public int getStreamedAssets() {
+    return streamedAssets;
+  }
+
+  /**
+   * Sets how long to spend streaming in assets each frame
+   *
+   * @param frameBudget time in milliseconds
+   */
+  public void setFrameBudget(int frameBudget) {
+    this.frameBudget = frameBudget;
+  }
+
+  public int getFrameBudget() {
+    return frameBudget;
   }
 
   /**
@@ -98,6 +245,186 @@ public class ResourceService implements Disposable {
     return assetManager.isFinished();
   }
 
+  /**
+   * Sets the manifest groups are acquired from. The default manifest is used until this is called.
+   *
+   * @param manifest manifest of the assets
+   */
+  public void setManifest(AssetManifest manifest) {
+    this.manifest = manifest;
+  }
+
+  public AssetManifest getManifest() {
+    if (manifest == null) {
+      manifest = AssetManifest.getDefault();
+    }
+    return manifest;
+  }
+
+  /**
+   * Acquires a group of assets from the manifest, along with the groups it depends on. The first
+   * time a group is acquired its assets are loaded with the group's priority. Every acquire must be
+   * matched by a {@link #releaseGroup(String)}.
+   *
+   * @param name name of the group
+   */
+  public void acquireGroup(String name) {
+    AssetGroup group = getManifest().getGroup(name);
+    if (group == null) {
+      logger.error("There is no asset group named {}", name);
+      return;
+    }
+    for (String dependency : group.dependsOn) {
+      acquireGroup(dependency);
+    }
+    if (groupReferences.getAndIncrement(name, 0, 1) > 0) {
+      return;
+    }
+    logger.debug("Acquiring asset group {}", name);
+    acquireAssets(group.textures, Texture.class, group.priority);
+    acquireAssets(group.textureAtlases, TextureAtlas.class, group.priority);
+    acquireAssets(group.sounds, Sound.class, group.priority);
+    acquireAssets(group.music, Music.class, group.priority);
+    acquireAssets(group.particleEffects, ParticleEffect.class, group.priority);
+    acquireAssets(group.skins, Skin.class, group.priority);
+  }
+
+  /**
+   * Releases a group acquired with {@link #acquireGroup(String)}, along with the groups it depends
+   * on. Assets no other group uses are not unloaded until {@link #unloadUnreferenced()}, so they are
+   * kept if the next screen acquires them again.
+   *
+   * @param name name of the group
+   */
+  public void releaseGroup(String name) {
+    AssetGroup group = getManifest().getGroup(name);
+    int references = groupReferences.get(name, 0);
+    if (group == null || references == 0) {
+      logger.warn("Asset group {} was released but is not acquired", name);
+      return;
+    }
+    if (references == 1) {
+      logger.debug("Releasing asset group {}", name);
+      groupReferences.remove(name, 0);
+      releaseAssets(group.textures);
+      releaseAssets(group.textureAtlases);
+      releaseAssets(group.sounds);
+      releaseAssets(group.music);
+      releaseAssets(group.particleEffects);
+      releaseAssets(group.skins);
+    } else {
+      groupReferences.put(name, references - 1);
+    }
+    for (String dependency : group.dependsOn) {
+      releaseGroup(dependency);
+    }
+  }
+
+  /**
+   * Gets how many times a group is acquired
+   *
+   * @param name name of the group
+   * @return number of acquires not yet released
+   */
+  public int getGroupReferences(String name) {
+    return groupReferences.get(name, 0);
+  }
+
+  /**
+   * Gets the names of the groups that are acquired
+   *
+   * @return group names
+   */
+  public Array<String> getAcquiredGroups() {
+    return groupReferences.keys().toArray();
+  }
+
+  /**
+   * Releases every asset that was loaded by name rather than through a group. They are unloaded by
+   * the next {@link #unloadUnreferenced()} unless they are loaded again first. Called when the
+   * screen that loaded them is disposed.
+   */
+  public void releaseUngroupedAssets() {
+    for (String assetName : ungroupedAssets) {
+      unreferencedAssets.add(assetName);
+    }
+    ungroupedAssets.clear();
+  }
+
+  /**
+   * Unloads every asset that was released and has not been acquired or loaded again since
+   *
+   * @return number of assets unloaded
+   */
+  public int unloadUnreferenced() {
+    int unloaded = unreferencedAssets.size;
+    if (unloaded > 0) {
+      logger.debug("Unloading {} unreferenced assets", unloaded);
+      for (String assetName : unreferencedAssets) {
+        unloadAsset(assetName);
+      }
+      unreferencedAssets.clear();
+    }
+    return unloaded;
+  }
+
+  /**
+   * Gets how many assets are loaded, including assets loaded as dependencies of others
+   *
+   * @return number of loaded assets
+   */
+  public int getLoadedAssets() {
+    return assetManager.getLoadedAssets();
+  }
+
+  /**
+   * Estimates how much memory the loaded textures use on the GPU, including atlas pages
+   *
+   * @return estimated size in bytes
+   */
+  public long getTextureMemory() {
+    long bytes = 0;
+    for (Texture texture : assetManager.getAll(Texture.class, new Array<>())) {
+      bytes += getTextureMemory(texture);
+    }
+    return bytes;
+  }
+
+  /**
+   * Estimates how much memory a texture uses on the GPU
+   *
+   * @param texture loaded texture
+   * @return estimated size in bytes
+   */
+  static long getTextureMemory(Texture texture) {
+    long bytes = (long) texture.getWidth() * texture.getHeight()
+        * getBytesPerPixel(texture.getTextureData().getFormat());
+    if (texture.getTextureData().useMipMaps()) {
+      // Each mipmap level is a quarter of the one above it
+      bytes = bytes * 4 / 3;
+    }
+    return bytes;
+  }
+
+  private static int getBytesPerPixel(Pixmap.Format format) {
+    if (format == null) {
+      return 4;
+    }
+    switch (format) {
+      case Alpha:
+      case Intensity:
+        return 1;
+      case LuminanceAlpha:
+      case RGB565:
+      case RGBA4444:
+        return 2;
+      case RGB888:
+        return 3;
+      default:
+        return 4;
+    }
+  }
+
   /**
    * Clears all loaded assets and assets in the preloading queue.
    *
@@ -105,9 +432,50 @@ public class ResourceService implements Disposable {
    */
   public void clearAllAssets() {
     logger.debug("Clearing all assets");
+    streamQueue.clear();
+    streamRequests.clear();
+    placeholderRegions.clear();
+    groupReferences.clear();
+    assetReferences.clear();
+    ungroupedAssets.clear();
+    unreferencedAssets.clear();
     assetManager.clear();
   }
 
+  private void acquireAssets(String[] assetNames, Class<?> type, Priority priority) {
+    for (String assetName : assetNames) {
+      assetReferences.getAndIncrement(assetName, 0, 1);
+      ungroupedAssets.remove(assetName);
+      unreferencedAssets.remove(assetName);
+      // Also moves the asset up if another group has already queued it less urgently
+      loadAsset(assetName, type, priority);
+    }
+  }
+
+  private void releaseAssets(String[] assetNames) {
+    for (String assetName : assetNames) {
+      int references = assetReferences.get(assetName, 0) - 1;
+      if (references > 0) {
+        assetReferences.put(assetName, references);
+      } else {
+        assetReferences.remove(assetName, 0);
+        unreferencedAssets.add(assetName);
+      }
+    }
+  }
+
+  /**
+   * Keeps an asset loaded by name from being unloaded as unreferenced
+   *
+   * @param assetName asset name
+   */
+  private void retainUngrouped(String assetName) {
+    unreferencedAssets.remove(assetName);
+    if (!assetReferences.containsKey(assetName)) {
+      ungroupedAssets.add(assetName);
+    }
+  }
+
   /**
    * Loads a single asset into the asset manager.
    *
@@ -124,6 +492,105 @@ public class ResourceService implements Disposable {
     }
   }
 
+  /**
+   * Loads a single asset with a priority. Critical assets are loaded before this returns, and the
+   * rest are queued to be streamed in by {@link #update()}. Requesting an asset that is already
+   * queued moves it up if the new priority is more urgent.
+   *
+   * @param assetName asset name
+   * @param type      asset type
+   * @param priority  how urgently the asset is needed
+   * @param <T>       type
+   */
+  private <T> void loadAsset(String assetName, Class<T> type, Priority priority) {
+    AssetRequest request = streamRequests.get(assetName);
+    if (request != null) {
+      if (priority.compareTo(request.priority) >= 0) {
+        return;
+      }
+      streamQueue.removeValue(request, true);
+      streamRequests.remove(assetName);
+    } else if (assetManager.contains(assetName, type)) {
+      if (priority == Priority.CRITICAL && !assetManager.isLoaded(assetName, type)) {
+        finishLoadingAsset(assetName);
+      }
+      return;
+    }
+
+    if (priority == Priority.CRITICAL) {
+      loadAsset(assetName, type);
+      finishLoadingAsset(assetName);
+      return;
+    }
+
+    logger.debug("Queueing {} to stream in: {}", priority, assetName);
+    request = new AssetRequest(assetName, type, priority);
+    int index = streamQueue.size;
+    while (index > 0 && streamQueue.get(index - 1).priority.compareTo(priority) > 0) {
+      index--;
+    }
+    streamQueue.insert(index, request);
+    streamRequests.put(assetName, request);
+  }
+
+  private void finishLoadingAsset(String assetName) {
+    try {
+      assetManager.finishLoadingAsset(assetName);
+    } catch (Exception e) {
+      logger.error("Could not load {}: {}", assetName, e.getMessage());
+    }
+  }
+
+  /**
+   * Hands the most urgent queued asset to the asset manager
+   *
+   * @return false if there was nothing queued
+   */
+  private boolean queueNextStream() {
+    if (streamQueue.isEmpty()) {
+      return false;
+    }
+    AssetRequest request = streamQueue.removeIndex(0);
+    streamRequests.remove(request.name);
+    loadAsset(request.name, request.type);
+    streamedAssets++;
+    return true;
+  }
+
+  /**
+   * Points placeholder regions at their textures once the textures have loaded
+   */
+  private void updatePlaceholders() {
+    if (placeholderRegions.isEmpty()) {
+      return;
+    }
+    ObjectMap.Entries<String, Array<TextureRegion>> entries = placeholderRegions.entries();
+    while (entries.hasNext()) {
+      ObjectMap.Entry<String, Array<TextureRegion>> entry = entries.next();
+      if (assetManager.isLoaded(entry.key, Texture.class)) {
+        Texture texture = assetManager.get(entry.key, Texture.class);
+        for (TextureRegion region : entry.value) {
+          region.setRegion(texture);
+        }
+        entries.remove();
+      } else if (!assetManager.contains(entry.key, Texture.class) && !streamRequests.containsKey(entry.key)) {
+        // The texture failed to load, so the placeholder stays
+        entries.remove();
+      }
+    }
+  }
+
+  private Texture getPlaceholder() {
+    if (placeholder == null) {
+      Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+      pixmap.setColor(0, 0, 0, 0);
+      pixmap.fill();
+      placeholder = new Texture(pixmap);
+      pixmap.dispose();
+    }
+    return placeholder;
+  }
+
   /**
    * Loads multiple assets into the asset manager.
    *
@@ -133,10 +600,26 @@ public class ResourceService implements Disposable {
    */
   private <T> void loadAssets(String[] assetNames, Class<T> type) {
     for (String resource : assetNames) {
+      retainUngrouped(resource);
       loadAsset(resource, type);
     }
   }
 
+  /**
+   * Loads multiple assets with a priority.
+   *
+   * @param assetNames list of asset names
+   * @param type       asset type
+   * @param priority   how urgently the assets are needed
+   * @param <T>        type
+   */
+  private <T> void loadAssets(String[] assetNames, Class<T> type, Priority priority) {
+    for (String resource : assetNames) {
+      retainUngrouped(resource);
+      loadAsset(resource, type, priority);
+    }
+  }
+
   /**
    * Loads a list of texture assets into the asset manager.
    *
@@ -146,6 +629,16 @@ public class ResourceService implements Disposable {
     loadAssets(textureNames, Texture.class);
   }
 
+  /**
+   * Loads a list of texture assets with a priority.
+   *
+   * @param textureNames texture filenames
+   * @param priority     how urgently the textures are needed
+   */
+  public void loadTextures(String[] textureNames, Priority priority) {
+    loadAssets(textureNames, Texture.class, priority);
+  }
+
   /**
    * Loads a list of texture atlas assets into the asset manager.
    *
@@ -155,6 +648,16 @@ public class ResourceService implements Disposable {
     loadAssets(textureAtlasNames, TextureAtlas.class);
   }
 
+  /**
+   * Loads a list of texture atlas assets with a priority.
+   *
+   * @param textureAtlasNames texture atlas filenames
+   * @param priority          how urgently the atlases are needed
+   */
+  public void loadTextureAtlases(String[] textureAtlasNames, Priority priority) {
+    loadAssets(textureAtlasNames, TextureAtlas.class, priority);
+  }
+
   /**
    * Loads a list of sounds into the asset manager.
    *
@@ -164,6 +667,16 @@ public class ResourceService implements Disposable {
     loadAssets(soundNames, Sound.class);
   }
 
+  /**
+   * Loads a list of sounds with a priority.
+   *
+   * @param soundNames sound filenames
+   * @param priority   how urgently the sounds are needed
+   */
+  public void loadSounds(String[] soundNames, Priority priority) {
+    loadAssets(soundNames, Sound.class, priority);
+  }
+
   /**
    * Loads a list of music assets into the asset manager.
    *
@@ -181,22 +694,49 @@ public class ResourceService implements Disposable {
     loadAssets(particleNames, ParticleEffect.class);
   }
 
+  /**
+   * Loads a list of particle effect assets with a priority
+   * @param particleNames particle effect filenames
+   * @param priority      how urgently the effects are needed
+   */
+  public void loadParticleEffects(String[] particleNames, Priority priority) {
+    loadAssets(particleNames, ParticleEffect.class, priority);
+  }
+
   public void loadSkins(String[] skinNames) {
     loadAssets(skinNames, Skin.class);
   }
 
   /**
-   * Disposes of assets and all of their dependencies from the resource manager
+   * Disposes of assets and all of their dependencies from the resource manager. Assets used by an
+   * acquired group are left loaded, as the group still needs them.
    * @param assetNames list of asset names to dispose of
    */
   public void unloadAssets(String[] assetNames) {
     for (String assetName : assetNames) {
-      logger.debug("Unloading {}", assetName);
-      try {
-        assetManager.unload(assetName);
-      } catch (Exception e) {
-        logger.error("Could not unload {}", assetName);
+      if (assetReferences.containsKey(assetName)) {
+        logger.warn("{} is used by an acquired asset group, so it was not unloaded", assetName);
+        continue;
       }
+      ungroupedAssets.remove(assetName);
+      unreferencedAssets.remove(assetName);
+      unloadAsset(assetName);
+    }
+  }
+
+  private void unloadAsset(String assetName) {
+    logger.debug("Unloading {}", assetName);
+    placeholderRegions.remove(assetName);
+    AssetRequest request = streamRequests.remove(assetName);
+    if (request != null) {
+      // Never handed to the asset manager, so there is nothing to unload
+      streamQueue.removeValue(request, true);
+      return;
+    }
+    try {
+      assetManager.unload(assetName);
+    } catch (Exception e) {
+      logger.error("Could not unload {}", assetName);
     }
   }
 
@@ -206,6 +746,25 @@ public class ResourceService implements Disposable {
    */
   @Override
   public void dispose() {
-    assetManager.clear();
+    clearAllAssets();
+    if (placeholder != null) {
+      placeholder.dispose();
+      placeholder = null;
+    }
+  }
+
+  /**
+   * An asset waiting to be streamed in
+   */
+  private static class AssetRequest {
+    private final String name;
+    private final Class<?> type;
+    private final Priority priority;
+
+    private AssetRequest(String name, Class<?> type, Priority priority) {
+      this.name = name;
+      this.type = type;
+      this.priority = priority;
+    }
   }
 }
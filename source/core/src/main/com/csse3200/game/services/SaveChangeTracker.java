@@ -0,0 +1,150 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.csse3200.game.areas.terrain.CropTileComponent;
+import com.csse3200.game.components.player.InventoryComponent;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.files.SaveGame;
+
+/**
+ * Records which tiles and placeables have changed since the last save, so autosaves only need to
+ * write those to the save's journal.
+ *
+ * <p>Tiles and placeables are marked as changed when they are registered or unregistered with the
+ * {@link com.csse3200.game.entities.EntityService}, when a crop tile is watered, fertilised,
+ * planted or harvested, and when a placeable's inventory changes. A crop tile's water drains and
+ * its plant grows every frame without marking it, so {@link #markGrowingTilesChanged()} marks every
+ * crop tile that could have changed that way just before an autosave.
+ */
+public class SaveChangeTracker {
+  private final ObjectSet<Entity> tiles = new ObjectSet<>();
+  private final ObjectSet<Entity> changedTiles = new ObjectSet<>();
+  private final ObjectSet<Entity> changedPlaceables = new ObjectSet<>();
+  private final FloatArray removedTiles = new FloatArray();
+  private final FloatArray removedPlaceables = new FloatArray();
+
+  /**
+   * Called when an entity is registered with the entity service.
+   *
+   * @param entity registered entity
+   */
+  public void onEntityRegistered(Entity entity) {
+    if (SaveGame.isTileType(entity.getType())) {
+      tiles.add(entity);
+    } else if (SaveGame.isPlaceableType(entity.getType())) {
+      entity.getEvents().addListener(InventoryComponent.UPDATE_INVENTORY, () -> markChanged(entity));
+    }
+    markChanged(entity);
+  }
+
+  /**
+   * Called when an entity is unregistered from the entity service.
+   *
+   * @param entity unregistered entity
+   */
+  public void onEntityUnregistered(Entity entity) {
+    Vector2 position = entity.getPosition();
+    if (SaveGame.isTileType(entity.getType())) {
+      tiles.remove(entity);
+      changedTiles.remove(entity);
+      removedTiles.add(position.x, position.y);
+    } else if (SaveGame.isPlaceableType(entity.getType())) {
+      changedPlaceables.remove(entity);
+      removedPlaceables.add(position.x, position.y);
+    }
+  }
+
+  /**
+   * Marks a tile or placeable as changed. Other entities are ignored, since they are always saved
+   * in full.
+   *
+   * @param entity changed entity
+   */
+  public void markChanged(Entity entity) {
+    if (SaveGame.isTileType(entity.getType())) {
+      changedTiles.add(entity);
+    } else if (SaveGame.isPlaceableType(entity.getType())) {
+      changedPlaceables.add(entity);
+    }
+  }
+
+  /**
+   * Marks every crop tile with a plant or any water in it as changed. Their water level and plants
+   * change every frame without being marked, so they are assumed to have changed since the last
+   * save. Dry, empty tiles don't change by themselves, and a tile is marked once its water runs out.
+   */
+  public void markGrowingTilesChanged() {
+    for (Entity tile : tiles) {
+      CropTileComponent cropTile = tile.getComponent(CropTileComponent.class);
+      if (cropTile != null && (cropTile.getPlant() != null || cropTile.getWaterContent() > 0)) {
+        changedTiles.add(tile);
+      }
+    }
+  }
+
+  /**
+   * Gets the tiles that changed since the last save
+   *
+   * @return changed tiles
+   */
+  public Array<Entity> getChangedTiles() {
+    return toArray(changedTiles);
+  }
+
+  /**
+   * Gets the placeables that changed since the last save
+   *
+   * @return changed placeables
+   */
+  public Array<Entity> getChangedPlaceables() {
+    return toArray(changedPlaceables);
+  }
+
+  /**
+   * Gets the positions of the tiles removed since the last save
+   *
+   * @return x, y pairs of positions
+   */
+  public float[] getRemovedTiles() {
+    return removedTiles.toArray();
+  }
+
+  /**
+   * Gets the positions of the placeables removed since the last save
+   *
+   * @return x, y pairs of positions
+   */
+  public float[] getRemovedPlaceables() {
+    return removedPlaceables.toArray();
+  }
+
+  /**
+   * Gets the number of tiles and placeables that have changed or been removed
+   *
+   * @return number of changes
+   */
+  public int getChangeCount() {
+    return changedTiles.size + changedPlaceables.size + (removedTiles.size + removedPlaceables.size) / 2;
+  }
+
+  /**
+   * Forgets all changes, once they have been saved
+   */
+  public void clear() {
+    changedTiles.clear();
+    changedPlaceables.clear();
+    removedTiles.clear();
+    removedPlaceables.clear();
+  }
+
+  private static Array<Entity> toArray(ObjectSet<Entity> entities) {
+    Array<Entity> array = new Array<>(entities.size);
+    for (Entity entity : entities) {
+      array.add(entity);
+    }
+    return array;
+  }
+}
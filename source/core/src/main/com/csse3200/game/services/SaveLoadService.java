@@ -1,20 +1,30 @@
 package com.csse3200.game.services;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.JsonValue;
 import com.csse3200.game.components.AuraLightComponent;
 import com.csse3200.game.components.combat.CombatStatsComponent;
 import com.csse3200.game.components.player.HungerComponent;
 import com.csse3200.game.components.player.InventoryComponent;
 import com.csse3200.game.components.player.PlayerActions;
 import com.csse3200.game.components.tractor.TractorActions;
+import com.csse3200.game.concurrency.JobSystem;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.files.BinarySaveWriter;
+import com.csse3200.game.files.FileLoader;
 import com.csse3200.game.files.SaveGame;
 import com.csse3200.game.files.SaveGame.GameState;
+import com.csse3200.game.files.SaveMetadata;
+import com.csse3200.game.files.SaveSlotIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 
 /* A note of the registering of this service:
@@ -26,15 +36,215 @@ import java.util.HashMap;
 public class SaveLoadService {
     private static final Logger logger = LoggerFactory.getLogger(SaveLoadService.class);
     private static final String ROOT_DIR = "saves";
-    private static final String SAVE_FILE = "saveFile.json";
+    private static final String SAVE_FILE = "saveFile.sav";
+    /** Name of every save slot after the first, filled in with the slot number */
+    private static final String SLOT_FILE = "saveFile%d.sav";
+    private static final String INDEX_FILE = "slots.json";
+    /** Number of save slots */
+    public static final int SLOT_COUNT = 3;
+    /** Save file written by versions of the game before the binary save format */
+    private static final String LEGACY_SAVE_FILE = "saveFile.json";
+
+    /** In-game minutes between autosaves */
+    private static final int AUTOSAVE_INTERVAL = 30;
+    /** Number of journal entries autosaves append before writing a full save instead */
+    private static final int COMPACT_INTERVAL = 12;
+    /** Milliseconds of each frame spent creating the entities of a save being loaded */
+    private static final float LOAD_FRAME_BUDGET = 4f;
+
+    /** Snapshot time of the last save in milliseconds, which is the frame hitch the save causes */
+    private float lastSnapshotTime;
+    /** The save currently being written, saves are written one after another */
+    private CompletableFuture<Long> pendingSave = CompletableFuture.completedFuture(0L);
+
+    /** Generation of the last full save written this game, 0 if there is none */
+    private long generation;
+    /** Path of the last full save written this game */
+    private String generationPath;
+    private int journalEntries;
+    private volatile boolean journalFailed;
+    private int lastAutosaveMinute;
+
+    /** Save slot that saves and autosaves are written to */
+    private int currentSlot = 1;
+    /** Time spent playing the current game in milliseconds */
+    private long playTime;
+    private SaveSlotIndex slotIndex;
+
+    /** The save currently being loaded, or null if no save is being loaded */
+    private SaveLoadTask loading;
+    /** Whether the game was paused before the save being loaded started replacing it */
+    private boolean wasPaused;
 
     /**
-     * Saves the current state of the game into a GameState
+     * Saves the current state of the game into a GameState.
+     * The state is captured straight away on the calling thread, and written to the file on a
+     * background thread. This is a full save, so it replaces the save's journal. If it can't be
+     * written, the next autosave writes a full save rather than adding to the journal. Nothing is
+     * saved while a save is being loaded, since the game is only partly built.
+     *
+     * @param path path to save to
+     * @param onComplete called on the render thread with whether the save was written, may be null
      */
-    public void save(String path) {
+    public void save(String path, Consumer<Boolean> onComplete) {
+        if (loading != null) {
+            logger.warn("Still loading {}, not saving to {}", loading.getPath(), path);
+            if (onComplete != null) {
+                onComplete.accept(false);
+            }
+            return;
+        }
         // Make a new GameState
         SaveGame.GameState state = new GameState();
+        Array<Entity> entities = ServiceLocator.getEntityService().getEntities();
+        fillState(state);
+        state.setTiles(entities);
+        state.setPlaceables(entities);
+        state.setGeneration(Math.max(System.currentTimeMillis(), generation + 1));
+
+        // Capture the state, this is the only part of saving that runs on the render thread
+        SaveMetadata metadata = createMetadata(getSlot(path));
+        BinarySaveWriter snapshot = snapshot(state, metadata);
+        long savedGeneration = state.getGeneration();
+        generation = savedGeneration;
+        generationPath = path;
+        journalEntries = 0;
+        journalFailed = false;
+
+        Consumer<Boolean> onSaved = saved -> {
+            if (!saved && generation == savedGeneration) {
+                // No file has this generation, so journal entries stamped with it would be dropped
+                // on load. The next autosave writes a full save instead.
+                generation = 0;
+                generationPath = null;
+            }
+            if (onComplete != null) {
+                onComplete.accept(saved);
+            }
+        };
+
+        // Write the state to a file once any earlier save has been written
+        write(path, metadata, onSaved, () -> SaveGame.setAsync(snapshot, path).thenApply(size -> {
+            if (size >= 0) {
+                // The journal's entries are now part of the full save
+                SaveGame.deleteJournal(path);
+            }
+            return size;
+        }));
+    }
+
+    public void save(String path) {
+        save(path, null);
+    }
+
+    /**
+     * Saves the game to a save slot, which later saves and autosaves are also written to
+     *
+     * @param slot save slot, from 1 to {@link #SLOT_COUNT}
+     * @param onComplete called on the render thread with whether the save was written, may be null
+     */
+    public void saveSlot(int slot, Consumer<Boolean> onComplete) {
+        currentSlot = slot;
+        save(getSlotPath(slot), onComplete);
+    }
+
+    public void save(Consumer<Boolean> onComplete) {
+        save(getSlotPath(currentSlot), onComplete);
+    }
+
+    public void save() {
+        save(getSlotPath(currentSlot), null);
+    }
+
+    /**
+     * Saves the game without rewriting the whole world. Only the tiles and placeables that changed
+     * since the last save are appended to the save's journal, along with the player, NPCs, time and
+     * missions. Every few entries, or when there is no full save for this game yet, a full save is
+     * written instead and the journal is cleared. Nothing is saved while a save is being loaded.
+     */
+    public void autosave() {
+        if (loading != null) {
+            // The next autosave is written once the save has finished loading
+            return;
+        }
+        String path = getSlotPath(currentSlot);
+        SaveChangeTracker tracker = ServiceLocator.getSaveChangeTracker();
+        if (tracker == null || generation == 0 || !path.equals(generationPath)
+                || journalEntries >= COMPACT_INTERVAL || journalFailed) {
+            save(path, null);
+            return;
+        }
+
+        SaveGame.JournalEntry entry = new SaveGame.JournalEntry();
+        fillState(entry);
+        tracker.markGrowingTilesChanged();
+        entry.setTiles(tracker.getChangedTiles());
+        entry.setPlaceables(tracker.getChangedPlaceables());
+        entry.setRemovedTiles(tracker.getRemovedTiles());
+        entry.setRemovedPlaceables(tracker.getRemovedPlaceables());
+        entry.setGeneration(generation);
+        int changes = tracker.getChangeCount();
+
+        // The slot index is kept up to date, the full save's own metadata is only updated by full saves
+        SaveMetadata metadata = createMetadata(currentSlot);
+        BinarySaveWriter snapshot = snapshot(entry, null);
+        journalEntries++;
+        logger.debug("Autosaving {} changed tiles and placeables", changes);
+
+        write(path, metadata, null, () -> SaveGame.appendJournalAsync(snapshot, path).thenApply(size -> {
+            if (size < 0) {
+                // Later entries could not be read after a broken one
+                journalFailed = true;
+            }
+            return size;
+        }));
+    }
+
+    /**
+     * Starts autosaving a new game every few in-game minutes
+     *
+     * @param timeService time service of the game
+     */
+    public void startAutosave(TimeService timeService) {
+        // A new game has no full save to append to yet
+        generation = 0;
+        generationPath = null;
+        journalEntries = 0;
+        playTime = 0;
+        lastAutosaveMinute = getGameMinute(timeService);
+        timeService.getEvents().addListener("minuteUpdate", () -> {
+            int minute = getGameMinute(timeService);
+            if (minute - lastAutosaveMinute >= AUTOSAVE_INTERVAL) {
+                lastAutosaveMinute = minute;
+                autosave();
+            }
+        });
+    }
+
+    /**
+     * Checks whether a save is still being written in the background
+     *
+     * @return true if a save has not finished being written
+     */
+    public boolean isSaving() {
+        return !pendingSave.isDone();
+    }
+
+    /**
+     * Gets how long the last save spent capturing the game state on the render thread
+     *
+     * @return time in milliseconds
+     */
+    public float getLastSnapshotTime() {
+        return lastSnapshotTime;
+    }
 
+    /**
+     * Fills in the parts of the game state that are always saved in full
+     *
+     * @param state state to fill in
+     */
+    private void fillState(GameState state) {
         state.setDay(ServiceLocator.getTimeService().getDay());
         state.setHour(ServiceLocator.getTimeService().getHour());
         state.setMinute(ServiceLocator.getTimeService().getMinute());
@@ -48,42 +258,253 @@ public class SaveLoadService {
         state.setTractor(ServiceLocator.getGameArea().getTractor());
 
         state.setEntities(ServiceLocator.getEntityService().getEntities());
-        state.setTiles(ServiceLocator.getEntityService().getEntities());
-        state.setPlaceables(ServiceLocator.getEntityService().getEntities());
+        state.setPlayTime(playTime);
+    }
 
-        // Write the state to a file
-        SaveGame.set(state, path);
+    /**
+     * Creates the metadata written at the start of a save and kept in the slot index
+     *
+     * @param slot save slot being written, 0 if the save is not in a slot
+     */
+    private SaveMetadata createMetadata(int slot) {
+        SaveMetadata metadata = new SaveMetadata();
+        metadata.setSlot(slot);
+        metadata.setDay(ServiceLocator.getTimeService().getDay());
+        metadata.setHour(ServiceLocator.getTimeService().getHour());
+        metadata.setMinute(ServiceLocator.getTimeService().getMinute());
+        metadata.setOxygen(ServiceLocator.getPlanetOxygenService().getOxygen());
+        metadata.setPlayTime(playTime);
+        metadata.setSavedAt(System.currentTimeMillis());
 
-        logger.debug("The current game state has been saved to the file assets/saves/saveFile.json");
+        // The thumbnail is a scaled down copy of the minimap
+        MinimapService minimap = ServiceLocator.getMinimapService();
+        if (minimap != null && minimap.getWidth() > 0 && minimap.getHeight() > 0) {
+            for (int y = 0; y < SaveMetadata.THUMBNAIL_HEIGHT; y++) {
+                int mapY = minimap.getHeight() - 1 - y * minimap.getHeight() / SaveMetadata.THUMBNAIL_HEIGHT;
+                for (int x = 0; x < SaveMetadata.THUMBNAIL_WIDTH; x++) {
+                    int mapX = x * minimap.getWidth() / SaveMetadata.THUMBNAIL_WIDTH;
+                    metadata.setThumbnailPixel(x, y, minimap.getColour(mapX, mapY));
+                }
+            }
+        }
+        return metadata;
     }
 
-    public void save() {
-        save(ROOT_DIR + File.separator + SAVE_FILE);
+    /**
+     * Captures the state on the render thread, and forgets the changes it includes
+     */
+    private BinarySaveWriter snapshot(GameState state, SaveMetadata metadata) {
+        long start = System.nanoTime();
+        BinarySaveWriter snapshot = SaveGame.snapshot(state, metadata);
+        lastSnapshotTime = (System.nanoTime() - start) / 1_000_000f;
+        logger.debug("Captured the current game state in {} ms", lastSnapshotTime);
+        SaveChangeTracker tracker = ServiceLocator.getSaveChangeTracker();
+        if (tracker != null) {
+            tracker.clear();
+        }
+        return snapshot;
+    }
+
+    /**
+     * Runs a write once any earlier save has been written. Once it has been written, the save's slot
+     * is updated in the slot index on the render thread.
+     */
+    private void write(String path, SaveMetadata metadata, Consumer<Boolean> onComplete,
+            Supplier<CompletableFuture<Long>> write) {
+        pendingSave = pendingSave
+                .thenCompose(previous -> write.get())
+                .whenComplete((size, error) -> {
+                    boolean saved = error == null && size >= 0;
+                    if (saved) {
+                        logger.debug("The current game state has been saved to {} ({} bytes)", path, size);
+                    } else {
+                        logger.error("Couldn't save the game to {}", path, error);
+                    }
+                    Gdx.app.postRunnable(() -> {
+                        if (saved && metadata.getSlot() > 0) {
+                            getSlotIndex().put(metadata);
+                            SaveGame.writeIndex(getSlotIndex(), getIndexPath());
+                        }
+                        if (onComplete != null) {
+                            onComplete.accept(saved);
+                        }
+                    });
+                })
+                .exceptionally(error -> -1L);
+    }
+
+    private static int getGameMinute(TimeService timeService) {
+        return (timeService.getDay() * 24 + timeService.getHour()) * 60 + timeService.getMinute();
     }
 
     /**
-     * Load function which based on contents in saveFile.json
-     * Makes the game state match saveFile.json
+     * Starts loading a save. The save is read and decoded on worker threads once any save still
+     * being written has finished, then the game is replaced with it over the next few frames by
+     * {@link #update()}.
+     *
+     * @param path path of the save to load
+     * @param onComplete called on the render thread with whether the save was loaded, may be null
      */
+    public void load(String path, Consumer<Boolean> onComplete) {
+        if (loading != null) {
+            logger.warn("Already loading {}, not loading {}", loading.getPath(), path);
+            if (onComplete != null) {
+                onComplete.accept(false);
+            }
+            return;
+        }
+        // A save that is still being written would otherwise be missed
+        CompletableFuture<JsonValue> decoded = pendingSave
+                .thenCompose(previous -> JobSystem.launchBlocking(() -> SaveGame.decode(path)))
+                .exceptionally(error -> {
+                    logger.error("Couldn't decode {}", path, error);
+                    return null;
+                });
+        loading = new SaveLoadTask(path, decoded, onComplete);
+    }
+
     public void load(String path) {
+        load(path, null);
+    }
+
+    /**
+     * Continues loading a save, if one is being loaded. Once the save has been decoded the current
+     * game's entities are removed, and the saved entities are created a few each frame. The game is
+     * paused until every entity has been created. Otherwise the play time of the game is counted.
+     * Called once per frame on the render thread.
+     */
+    public void update() {
+        if (loading == null) {
+            if (!ServiceLocator.getTimeService().isPaused()) {
+                playTime += (long) (Gdx.graphics.getDeltaTime() * 1000);
+            }
+            return;
+        }
+        if (!loading.isDecoded()) {
+            return;
+        }
+        if (loading.getState() == null && !startBuilding()) {
+            return;
+        }
+        if (loading.createEntities(LOAD_FRAME_BUDGET)) {
+            finishLoading();
+        }
+    }
+
+    /**
+     * Checks whether a save is being loaded
+     *
+     * @return true if a save has not finished loading
+     */
+    public boolean isLoading() {
+        return loading != null;
+    }
+
+    /**
+     * Gets how far through loading the current save is
+     *
+     * @return progress from 0 to 1, or 1 if no save is being loaded
+     */
+    public float getLoadProgress() {
+        return loading == null ? 1f : loading.getProgress();
+    }
+
+    /**
+     * Replaces the current game with the decoded save, apart from the entities in the save which are
+     * created later in batches
+     *
+     * @return true if the save could be read
+     */
+    private boolean startBuilding() {
+        JsonValue save = loading.takeSave();
+        if (save == null) {
+            logger.error("Couldn't read the file {}", loading.getPath());
+            failLoading();
+            return false;
+        }
+
         // Get all entities currently in game:
         Array<Entity> currentGameEntities = ServiceLocator.getEntityService().getEntities();
         // Remove them
         ServiceLocator.getGameArea().setTractor(null);
         ServiceLocator.getGameArea().removeLoadableEntities(currentGameEntities);
 
-        SaveGame.GameState state = SaveGame.get(path);
+        wasPaused = ServiceLocator.getTimeService().isPaused();
+        ServiceLocator.getTimeService().setPaused(true);
+
+        SaveGame.GameState state = FileLoader.readClass(SaveGame.GameState.class, save);
         if (state == null) {
-            logger.error("Couldn't read the file assets/saves/saveFile.json");
-            return;
+            logger.error("Couldn't read the game state in {}", loading.getPath());
+            ServiceLocator.getTimeService().setPaused(wasPaused);
+            failLoading();
+            return false;
+        }
+        loading.setState(state);
+        logger.debug("Decoded {} in {} ms, creating {} entities", loading.getPath(), loading.getElapsedTime(),
+                loading.getEntityCount());
+        return true;
+    }
+
+    private void failLoading() {
+        SaveLoadTask failed = loading;
+        loading = null;
+        failed.complete(false);
+    }
+
+    private void finishLoading() {
+        SaveLoadTask loaded = loading;
+        loading = null;
+        updateGame(loaded.getState());
+        playTime = loaded.getState().getPlayTime();
+        ServiceLocator.getTimeService().setPaused(wasPaused);
+
+        // The loaded entities are already saved, and the next autosave writes a full save
+        generation = 0;
+        SaveChangeTracker tracker = ServiceLocator.getSaveChangeTracker();
+        if (tracker != null) {
+            tracker.clear();
         }
+        logger.debug("The game state has been loaded from {} in {} ms", loaded.getPath(), loaded.getElapsedTime());
+        loaded.complete(true);
+    }
 
-        updateGame(state);
-        logger.debug("The game state has been loaded from the file assets/saves/saveFile.json");
+    /**
+     * Loads the save slot that was saved most recently. A JSON save from an older version of the
+     * game is converted to the binary format in the first slot first.
+     *
+     * @param onComplete called on the render thread with whether the save was loaded, may be null
+     */
+    public void load(Consumer<Boolean> onComplete) {
+        SaveMetadata latest = getSlotIndex().getLatest();
+        if (latest != null) {
+            loadSlot(latest.getSlot(), onComplete);
+            return;
+        }
+        String path = getSlotPath(1);
+        String legacyPath = ROOT_DIR + File.separator + LEGACY_SAVE_FILE;
+        if (!FileLoader.exists(path, FileLoader.Location.LOCAL)
+                && FileLoader.exists(legacyPath, FileLoader.Location.LOCAL)
+                && !SaveGame.convert(legacyPath, path)) {
+            // Conversion failed, the JSON save can still be read directly
+            path = legacyPath;
+        }
+        currentSlot = 1;
+        load(path, onComplete);
     }
 
     public void load() {
-        load(ROOT_DIR + File.separator + SAVE_FILE);
+        load((Consumer<Boolean>) null);
+    }
+
+    /**
+     * Loads a save slot. Later saves and autosaves are written to the same slot.
+     *
+     * @param slot save slot, from 1 to {@link #SLOT_COUNT}
+     * @param onComplete called on the render thread with whether the save was loaded, may be null
+     */
+    public void loadSlot(int slot, Consumer<Boolean> onComplete) {
+        currentSlot = slot;
+        load(getSlotPath(slot), onComplete);
     }
 
     /**
@@ -93,12 +514,113 @@ public class SaveLoadService {
      * @return true if there exists a valid save file, false otherwise
      */
     public boolean validSaveFile(){
-        return validSaveFile(ROOT_DIR + File.separator + SAVE_FILE);
+        // Saves written before the slot index have no metadata, but can still be loaded into the first slot
+        return getSlotIndex().getLatest() != null
+                || FileLoader.exists(getSlotPath(1), FileLoader.Location.LOCAL)
+                || FileLoader.exists(ROOT_DIR + File.separator + LEGACY_SAVE_FILE, FileLoader.Location.LOCAL);
     }
 
+    /**
+     * Checks whether a file is a save that can be loaded. Binary saves are checked by reading their
+     * metadata, without reading the world. Older JSON saves have to be read in full.
+     *
+     * @param path path of the save
+     * @return true if the save can be loaded
+     */
     public boolean validSaveFile(String path) {
-        SaveGame.GameState state = SaveGame.get(path);
-        return state != null;
+        if (FileLoader.isBinaryFile(path, FileLoader.Location.LOCAL)) {
+            return SaveGame.readMetadata(path) != null;
+        }
+        return FileLoader.exists(path, FileLoader.Location.LOCAL) && SaveGame.decode(path) != null;
+    }
+
+    /**
+     * Checks whether a save slot holds a save that can be loaded, by reading the save's metadata
+     *
+     * @param slot save slot
+     * @return true if the slot can be loaded
+     */
+    public boolean validSlot(int slot) {
+        return slot >= 1 && slot <= SLOT_COUNT && SaveGame.readMetadata(getSlotPath(slot)) != null;
+    }
+
+    /**
+     * Gets the save slots that hold a save, from the slot index
+     *
+     * @return metadata of the slots in use, ordered by slot number
+     */
+    public Array<SaveMetadata> getSlots() {
+        return getSlotIndex().getSlots();
+    }
+
+    /**
+     * Gets the save slot that was saved most recently
+     *
+     * @return metadata of the slot, or null if no slot holds a save
+     */
+    public SaveMetadata getLatestSlot() {
+        return getSlotIndex().getLatest();
+    }
+
+    /**
+     * Gets the save slot that saves and autosaves are written to
+     *
+     * @return slot number
+     */
+    public int getCurrentSlot() {
+        return currentSlot;
+    }
+
+    /**
+     * Gets the path of a save slot's save file
+     *
+     * @param slot slot number, from 1
+     * @return path of the save
+     */
+    public String getSlotPath(int slot) {
+        // The first slot keeps the name of the single save file older versions of the game wrote
+        return ROOT_DIR + File.separator + (slot == 1 ? SAVE_FILE : String.format(SLOT_FILE, slot));
+    }
+
+    private int getSlot(String path) {
+        for (int slot = 1; slot <= SLOT_COUNT; slot++) {
+            if (getSlotPath(slot).equals(path)) {
+                return slot;
+            }
+        }
+        return 0;
+    }
+
+    private String getIndexPath() {
+        return ROOT_DIR + File.separator + INDEX_FILE;
+    }
+
+    /**
+     * Gets the slot index, reading it the first time it is needed. If there is no index, it is rebuilt
+     * from the metadata at the start of each slot's save.
+     */
+    private SaveSlotIndex getSlotIndex() {
+        if (slotIndex != null) {
+            return slotIndex;
+        }
+        slotIndex = SaveGame.readIndex(getIndexPath());
+        boolean rebuilt = slotIndex == null;
+        if (rebuilt) {
+            slotIndex = new SaveSlotIndex();
+        }
+        for (int slot = 1; slot <= SLOT_COUNT; slot++) {
+            if (!FileLoader.exists(getSlotPath(slot), FileLoader.Location.LOCAL)) {
+                // The save was deleted since the index was written
+                slotIndex.remove(slot);
+            } else if (rebuilt) {
+                SaveMetadata metadata = SaveGame.readMetadata(getSlotPath(slot));
+                if (metadata != null) {
+                    metadata.setSlot(slot);
+                    slotIndex.put(metadata);
+                }
+            }
+        }
+        return slotIndex;
     }
 
     /**
@@ -171,7 +693,7 @@ public class SaveLoadService {
      * @param state the state of the saved game
      */
     private void updateTime(GameState state) {
-        ServiceLocator.getTimeService().loadTime(state.getDay(), state.getHour(), state.getDay());
+        ServiceLocator.getTimeService().loadTime(state.getDay(), state.getHour(), state.getMinute());
     }
 
     /**
@@ -0,0 +1,139 @@
+package com.csse3200.game.services;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.JsonValue;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.files.FileLoader;
+import com.csse3200.game.files.SaveGame.GameState;
+
+/**
+ * A save being loaded by {@link SaveLoadService}. The save is read and decoded on worker threads,
+ * then its entities are created on the render thread a few at a time, so loading a large farm does
+ * not freeze the game for the whole load.
+ */
+class SaveLoadTask {
+  /** Sections of the save holding entities, in the order they were created before staged loading */
+  private static final String[] ENTITY_SECTIONS = {"entities", "tiles", "placeables"};
+  /** Share of the progress bar taken by reading and decoding the save */
+  private static final float DECODE_PROGRESS = 0.1f;
+
+  private final String path;
+  private final CompletableFuture<JsonValue> decoded;
+  private final Consumer<Boolean> onComplete;
+  private final long start;
+
+  private final Array<JsonValue> pending = new Array<>();
+  private int created;
+  private GameState state;
+
+  /**
+   * @param path path of the save being loaded
+   * @param decoded the save's tree, decoded on a worker thread
+   * @param onComplete called with whether the save was loaded, may be null
+   */
+  SaveLoadTask(String path, CompletableFuture<JsonValue> decoded, Consumer<Boolean> onComplete) {
+    this.path = path;
+    this.decoded = decoded;
+    this.onComplete = onComplete;
+    this.start = System.nanoTime();
+  }
+
+  String getPath() {
+    return path;
+  }
+
+  /**
+   * Checks whether the save has been read and decoded
+   *
+   * @return true once the worker threads are done with the save
+   */
+  boolean isDecoded() {
+    return decoded.isDone();
+  }
+
+  /**
+   * Gets the decoded save, with the entity sections taken out into the queue of entities to create.
+   * Must only be called once {@link #isDecoded()} is true.
+   *
+   * @return the rest of the save, or null if it could not be read
+   */
+  JsonValue takeSave() {
+    JsonValue save = decoded.getNow(null);
+    if (save == null) {
+      return null;
+    }
+    for (String name : ENTITY_SECTIONS) {
+      JsonValue section = save.get(name);
+      if (section == null) {
+        continue;
+      }
+      save.remove(name);
+      for (JsonValue entity = section.child; entity != null; entity = entity.next) {
+        pending.add(entity);
+      }
+    }
+    return save;
+  }
+
+  GameState getState() {
+    return state;
+  }
+
+  void setState(GameState state) {
+    this.state = state;
+  }
+
+  /**
+   * Creates queued entities until they have all been created or the frame's budget is used up. At
+   * least one entity is created each call, so the load always finishes.
+   *
+   * @param budget time to spend in milliseconds
+   * @return true once every entity has been created
+   */
+  boolean createEntities(float budget) {
+    long end = System.nanoTime() + (long) (budget * 1_000_000);
+    while (created < pending.size) {
+      // Entity.read spawns the entity it describes into the game area
+      FileLoader.readClass(Entity.class, pending.get(created));
+      pending.set(created, null);
+      created++;
+      if (System.nanoTime() >= end) {
+        break;
+      }
+    }
+    return created >= pending.size;
+  }
+
+  /**
+   * Gets how far through loading the save is. Decoding counts for the first tenth, and creating
+   * entities for the rest.
+   *
+   * @return progress from 0 to 1
+   */
+  float getProgress() {
+    if (state == null) {
+      return 0f;
+    }
+    if (pending.isEmpty()) {
+      return 1f;
+    }
+    return DECODE_PROGRESS + (1f - DECODE_PROGRESS) * created / pending.size;
+  }
+
+  int getEntityCount() {
+    return pending.size;
+  }
+
+  float getElapsedTime() {
+    return (System.nanoTime() - start) / 1_000_000f;
+  }
+
+  void complete(boolean loaded) {
+    if (onComplete != null) {
+      onComplete.accept(loaded);
+    }
+  }
+}
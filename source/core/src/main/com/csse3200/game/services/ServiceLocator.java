@@ -1,6 +1,9 @@
 package com.csse3200.game.services;
 
 import com.csse3200.game.GdxGame;
+import com.csse3200.game.ai.pathfinding.FlowFieldService;
+import com.csse3200.game.ai.pathfinding.PathfindingService;
+import com.csse3200.game.ai.tasks.AITaskScheduler;
 import com.csse3200.game.services.sound.SoundService;
 import com.csse3200.game.components.inventory.InventoryDisplayManager;
 import com.csse3200.game.services.plants.PlantCommandService;
@@ -16,6 +19,8 @@ import com.csse3200.game.entities.EntityService;
 import com.csse3200.game.input.InputService;
 import com.csse3200.game.missions.MissionManager;
 import com.csse3200.game.physics.PhysicsService;
+import com.csse3200.game.physics.SpatialIndexService;
+import com.csse3200.game.physics.VisibilityService;
 import com.csse3200.game.rendering.RenderService;
 
 /**
@@ -57,6 +62,13 @@ public class ServiceLocator {
   private static boolean cutSceneRunning; // true for running and false otherwise
 
   private static ParticleService particleService;
+  private static PathfindingService pathfindingService;
+  private static FlowFieldService flowFieldService;
+  private static AITaskScheduler aiTaskScheduler;
+  private static VisibilityService visibilityService;
+  private static SpatialIndexService spatialIndexService;
+  private static MinimapService minimapService;
+  private static SaveChangeTracker saveChangeTracker;
   public static PlantCommandService getPlantCommandService() {
     return plantCommandService;
   }
@@ -129,6 +141,34 @@ public class ServiceLocator {
     return particleService;
   }
 
+  public static PathfindingService getPathfindingService() {
+    return pathfindingService;
+  }
+
+  public static MinimapService getMinimapService() {
+    return minimapService;
+  }
+
+  public static SaveChangeTracker getSaveChangeTracker() {
+    return saveChangeTracker;
+  }
+
+  public static FlowFieldService getFlowFieldService() {
+    return flowFieldService;
+  }
+
+  public static AITaskScheduler getAITaskScheduler() {
+    return aiTaskScheduler;
+  }
+
+  public static VisibilityService getVisibilityService() {
+    return visibilityService;
+  }
+
+  public static SpatialIndexService getSpatialIndexService() {
+    return spatialIndexService;
+  }
+
   /**
    * Sets the cutscene status to either running or not running.
    * @param isRunning true if cutscene is running, false otherwise
@@ -239,6 +279,41 @@ public class ServiceLocator {
     particleService = source;
   }
 
+  public static void registerPathfindingService(PathfindingService source) {
+    logger.debug("Registering pathfinding service {}", source);
+    pathfindingService = source;
+  }
+
+  public static void registerMinimapService(MinimapService source) {
+    logger.debug("Registering minimap service {}", source);
+    minimapService = source;
+  }
+
+  public static void registerSaveChangeTracker(SaveChangeTracker source) {
+    logger.debug("Registering save change tracker {}", source);
+    saveChangeTracker = source;
+  }
+
+  public static void registerFlowFieldService(FlowFieldService source) {
+    logger.debug("Registering flow field service {}", source);
+    flowFieldService = source;
+  }
+
+  public static void registerAITaskScheduler(AITaskScheduler source) {
+    logger.debug("Registering AI task scheduler {}", source);
+    aiTaskScheduler = source;
+  }
+
+  public static void registerVisibilityService(VisibilityService source) {
+    logger.debug("Registering visibility service {}", source);
+    visibilityService = source;
+  }
+
+  public static void registerSpatialIndexService(SpatialIndexService source) {
+    logger.debug("Registering spatial index service {}", source);
+    spatialIndexService = source;
+  }
+
   /**
    * Registers the save/load service.
    * @param source the service to register
@@ -268,6 +343,13 @@ public class ServiceLocator {
     soundService = null;
     lightService = null;
     particleService = null;
+    pathfindingService = null;
+    flowFieldService = null;
+    aiTaskScheduler = null;
+    visibilityService = null;
+    spatialIndexService = null;
+    minimapService = null;
+    saveChangeTracker = null;
     timeService = null;
     uiService = null;
   }
@@ -7,8 +7,8 @@ import org.slf4j.LoggerFactory;
 public class TimeService {
 	private static final Logger logger = LoggerFactory.getLogger(TimeService.class);
 	private static final int MS_IN_MINUTE = 500;
-	private static final int MORNING_HOUR = 6;
-	private static final int NIGHT_HOUR = 20;
+	public static final int MORNING_HOUR = 6;
+	public static final int NIGHT_HOUR = 20;
 
 	private int minute;
 	private int hour;
@@ -5,35 +5,86 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.maps.tiled.TiledMap;
-import com.badlogic.gdx.maps.tiled.TiledMapTile;
-import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
 import com.badlogic.gdx.math.GridPoint2;
-import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.scenes.scene2d.Group;
+import com.badlogic.gdx.scenes.scene2d.Touchable;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
-import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.scenes.scene2d.ui.Stack;
 import com.badlogic.gdx.scenes.scene2d.ui.Window;
+import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
+import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.areas.terrain.GameMap;
 import com.csse3200.game.components.player.KeyboardPlayerInputComponent;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.EntityType;
 import com.csse3200.game.ui.UIComponent;
-import net.dermetfan.utils.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Map;
 
+/**
+ * Full screen map of the game area, toggled by the player. The terrain is a single image from the
+ * {@link MinimapService}, which keeps it up to date as tiles change, with icons for the player,
+ * plants, quest givers and the ship drawn over it. Opening the map only uploads changed tiles and
+ * moves the icons, so it does not need to rebuild anything.
+ */
 public class ToggleableMap extends UIComponent {
 
     final private String toggleOpen = "toggleOpen";
     private static final Logger logger = LoggerFactory.getLogger(ToggleableMap.class);
     
     /**
-     * The table used to display the map.
+     * Height of the window around the map which is not used by the map, in pixels.
      */
-    Table tableMap = new Table();
+    private static final float MAP_MARGIN = 80f;
+
+    /**
+     * Width and height of the player's icon in tiles.
+     */
+    private static final float PLAYER_ICON_TILES = 2f;
+
+    /**
+     * Image of the terrain, one pixel per tile, from the minimap service.
+     */
+    private Image terrainImage;
+
+    /**
+     * The texture currently shown by the terrain image.
+     */
+    private Texture terrainTexture;
+
+    /**
+     * Entity icons drawn over the terrain.
+     */
+    private Group iconOverlay;
+
+    /**
+     * Icon images on the overlay, reused each time the map is opened.
+     */
+    private final Array<Image> icons = new Array<>();
+
+    /**
+     * Number of icons shown by the last update.
+     */
+    private int iconsShown;
+
+    /**
+     * Icon for each type of entity shown on the map.
+     */
+    private final Map<EntityType, Drawable> iconDrawables = new EnumMap<>(EntityType.class);
+
+    /**
+     * Size of a tile on screen, in pixels.
+     */
+    private float tileScale = 1f;
+
+    /**
+     * Time taken to open the map the last time it was opened, in milliseconds.
+     */
+    private float lastOpenTime;
 
     /**
      * The size of the map.
@@ -55,11 +106,6 @@ public class ToggleableMap extends UIComponent {
      */
     private Image transparentRectangle;
 
-    /**
-     * The mini-map to be displayed.
-     */
-    TiledMap tiledMap;
-
     /**
      * Whether the mini-map is open or not.
      */
@@ -79,9 +125,8 @@ public class ToggleableMap extends UIComponent {
         logger.debug("Adding listener to toggleOpen event");
         ServiceLocator.getPlayerMapService().getEvents().addListener(toggleOpen, this::toggleOpen);
         window = new Window("", skin, "wooden");
-        createNewMap();
         //starts closed so no updateDisplay()
-        tiledMap = ServiceLocator.getGameArea().getMap().getTiledMap();
+        createNewMap();
     }
 
     /**
@@ -119,7 +164,6 @@ public class ToggleableMap extends UIComponent {
             logger.debug("Remove external UI");
             removeExternalUI();
         }
-        mapSize = ServiceLocator.getGameArea().getMap().getMapSize();
         if (Boolean.TRUE.equals(isOpen)) {
             logger.debug("Create toggleable map");
             createMap();
@@ -133,169 +177,149 @@ public class ToggleableMap extends UIComponent {
     }
 
     /**
-     * Check if the given position is in the list of player's position
-     * @param listPlayerPos list of player's position
-     * @param gpPos position to check
-     * @return true if the given position is in the list of player's position
+     * Gets the minimap icon for an entity type.
+     * @param type type of the entity
+     * @return path of the icon texture, or null if entities of this type are not shown
      */
-    public boolean inPlayerPos(ArrayList<GridPoint2> listPlayerPos, GridPoint2 gpPos) {
-        for (GridPoint2 pos : listPlayerPos) {
-            if (pos.equals(gpPos)) {
-                return true;
-            }
+    static String getIconPath(EntityType type) {
+        if (type == null) {
+            return null;
         }
-        return false;
+        return switch (type) {
+            case PLAYER -> "images/miniMap/playerIcon.png";
+            case PLANT -> "images/miniMap/plantIcon.png";
+            case QUESTGIVER -> "images/miniMap/questGiverIcon.png";
+            case SHIP -> "images/miniMap/shipIcon.png";
+            default -> null;
+        };
     }
 
     /**
-     * Get the list of position around the given position
-     * @param gpPos position to get around
-     * @return list of position around the given position
+     * Gets the drawable for an entity type's icon, loading it on first use.
+     * @param type type of the entity
+     * @return the icon, or null if entities of this type are not shown
      */
-    private ArrayList<GridPoint2> cellAround(GridPoint2 gpPos) {
-        logger.debug("Retrieving cells surrounding player position");
-        ArrayList<GridPoint2> listPlayerPos = new ArrayList<>();
-        listPlayerPos.add(gpPos);
-        listPlayerPos.add(new GridPoint2(gpPos.x +1, gpPos.y)); // right
-        listPlayerPos.add(new GridPoint2(gpPos.x, gpPos.y +1)); // up
-        listPlayerPos.add(new GridPoint2(gpPos.x +1, gpPos.y +1)); // right up
-        return listPlayerPos;
+    private Drawable getIcon(EntityType type) {
+        String path = getIconPath(type);
+        if (path == null) {
+            return null;
+        }
+        return iconDrawables.computeIfAbsent(type, t -> new TextureRegionDrawable(
+                ServiceLocator.getResourceService().getAsset(path, Texture.class)));
     }
 
     /**
-     * Add image to the table
-     * @param xPos x position
-     * @param yPos y position
-     * @param tile tile to add if the position is not in the list of entity's position
-     * @param listEntityPosType list of entity's position
-     * @return true if the image is added to the table
+     * Places an icon on the overlay, reusing one from a previous update where possible.
+     * @param icon icon to show
+     * @param tile tile position of the entity
+     * @param sizeInTiles width and height of the icon in tiles
      */
-    private boolean addImageToTable(int xPos, int yPos, TiledMapTile tile, ArrayList<Pair<GridPoint2, EntityType>> listEntityPosType) {
-        boolean isAdded = false;
-        for (Pair<GridPoint2, EntityType> pair : listEntityPosType) {
-            if (pair.getKey().equals(new GridPoint2(xPos, yPos)) && pair.getValue() != null) {
-                switch (pair.getValue()) {
-                    case PLANT -> {
-                        tableMap.add(new Image(new TextureRegion(ServiceLocator.getResourceService().getAsset("images/miniMap/plantIcon.png", Texture.class))));
-                        logger.info("tile at ({}, {}) is plantIcon", xPos, yPos);
-                        isAdded = true;
-                    }
-                    case QUESTGIVER -> {
-                        tableMap.add(new Image(new TextureRegion(ServiceLocator.getResourceService().getAsset("images/miniMap/questGiverIcon.png", Texture.class))));
-                        logger.info("tile at ({}, {}) is questGiverIcon", xPos, yPos);
-                        isAdded = true;
-                    }
-                    case SHIP -> {
-                        // create new image from "assets/wiki/placeables/fences/f.png"
-                        tableMap.add(new Image(new TextureRegion(ServiceLocator.getResourceService().getAsset("images/miniMap/shipIcon.png", Texture.class))));
-                        logger.info("tile at ({}, {}) is an shipIcon", xPos, yPos);
-                        isAdded = true;
-                    }
-                    default -> {
-                        tableMap.add(new Image(tile.getTextureRegion()));
-                        isAdded = true;
-                    }
-                }
-                break;
-            }
+    private void placeIcon(Drawable icon, GridPoint2 tile, float sizeInTiles) {
+        Image image;
+        if (iconsShown < icons.size) {
+            image = icons.get(iconsShown);
+            image.setDrawable(icon);
+        } else {
+            image = new Image(icon);
+            icons.add(image);
+            iconOverlay.addActor(image);
         }
-        return isAdded;
+        iconsShown++;
+        float size = sizeInTiles * tileScale;
+        // centre the icon on the tile
+        image.setBounds((tile.x + 0.5f) * tileScale - size / 2, (tile.y + 0.5f) * tileScale - size / 2, size, size);
+        image.setVisible(true);
     }
 
     /**
-     * Creates assets used
+     * Moves the entity icons on the overlay to where their entities are now. Only the player,
+     * plants, quest givers and the ship are shown.
      */
-    public void createAssets() {
-        mapSize = ServiceLocator.getGameArea().getMap().getMapSize();
-        tableMap = new Table();
-        tiledMap = ServiceLocator.getGameArea().getMap().getTiledMap();
-        TiledMapTileLayer layer = (TiledMapTileLayer) tiledMap.getLayers().get(0);
-        // iterate through the layers and add them to the table (not sure if this works)
-
-        Vector2 vPos = ServiceLocator.getGameArea().getPlayer().getPosition();
-        gpPos = ServiceLocator.getGameArea().getMap().vectorToTileCoordinates(vPos);
-        gpPos = new GridPoint2(gpPos.x +1, gpPos.y +1);
-        // create array of player's position and all positions around it
-        ArrayList<GridPoint2> listPlayerPos = cellAround(gpPos);
-
+    private void updateIcons() {
+        iconsShown = 0;
+        GameMap map = ServiceLocator.getGameArea().getMap();
+        Entity player = ServiceLocator.getGameArea().getPlayer();
         Array<Entity> entityArray = ServiceLocator.getEntityService().getEntities();
-        // create an (position, type) pair array
-        ArrayList<Pair<GridPoint2, EntityType>> listEntityPosType = new ArrayList<>();
         for (Entity entity : entityArray) {
-            Vector2 vPosEntity = entity.getPosition();
-            GridPoint2 gpPosEntity = ServiceLocator.getGameArea().getMap().vectorToTileCoordinates(vPosEntity);
-            listEntityPosType.add(new Pair<>(gpPosEntity, entity.getType()));
+            Drawable icon = getIcon(entity.getType());
+            if (icon != null && entity != player) {
+                placeIcon(icon, map.vectorToTileCoordinates(entity.getPosition()), 1f);
+            }
+        }
+        // The player is drawn last so it is on top, and larger so it is easy to find
+        if (player != null) {
+            gpPos = map.vectorToTileCoordinates(player.getPosition());
+            placeIcon(getIcon(EntityType.PLAYER), gpPos, PLAYER_ICON_TILES);
+        }
+        for (int i = iconsShown; i < icons.size; i++) {
+            icons.get(i).setVisible(false);
         }
+    }
 
-        for (int yPos = mapSize.x -1; yPos >= 0; yPos --) {
-            for (int xPos = 0; xPos <= mapSize.y -1; xPos++) {
-                TiledMapTileLayer.Cell cell = layer.getCell(xPos, yPos);
-                if (cell != null) {
-                    TiledMapTile tile = cell.getTile();
-                    // check if the tile is in the list of player's position
-                    if (inPlayerPos(listPlayerPos, new GridPoint2(xPos, yPos))) {
-                        // create new image from "assets/wiki/placeables/fences/f.png"
-                        tableMap.add(new Image(new TextureRegion(ServiceLocator.getResourceService().getAsset("images/miniMap/playerIcon.png", Texture.class))));
-                        logger.info("tile at ({}, {}) is an entity", xPos, yPos);
-                    } else {
-                        // check if the tile is in the list of entity's position
-                        boolean isAdded = addImageToTable(xPos, yPos, tile, listEntityPosType);
-                        if (!isAdded) {
-                            tableMap.add(new Image(tile.getTextureRegion()));
-                        }
-                    }
-                }
-                else logger.info("Cell at ({},{}) is null", xPos, yPos);
-            }
-            tableMap.row(); // new row
+    /**
+     * Updates the map image with any tiles that have changed and refreshes the entity icons.
+     */
+    public void createAssets() {
+        Texture texture = ServiceLocator.getMinimapService().getTexture();
+        if (texture != null && texture != terrainTexture) {
+            terrainTexture = texture;
+            terrainImage.setDrawable(new TextureRegionDrawable(texture));
         }
+        updateIcons();
     }
 
     /**
      * Create the window used to display the map.
      */
     private void createMap() {
+        long start = System.nanoTime();
         pauseGame();
         logger.debug("Pause game for toggleable map");
 
-        logger.debug("Creating toggleable map");
         createAssets();
-        window.reset();
-        window.getTitleLabel().setText("MAP");
         window.setVisible(isOpen);
-        float mapHeight = tableMap.getChild(0).getHeight();
-        float mapWidth = tableMap.getChild(0).getWidth();
-        window.setSize((Gdx.graphics.getHeight() * (mapWidth / mapHeight)),
-                Gdx.graphics.getHeight() * (mapHeight / mapWidth));
-        window.padBottom(10f);
-        window.setPosition((Gdx.graphics.getWidth())/5f, 20f);
-        window.setMovable(false);
-        window.setResizable(false);
-        window.add(tableMap);
+        // brings the map in front of anything added since it was last opened
         stage.addActor(window);
         mapRunning = true;
+        lastOpenTime = (System.nanoTime() - start) / 1_000_000f;
+        logger.debug("Opened toggleable map in {}ms", lastOpenTime);
     }
 
     private void createNewMap() {
         logger.debug("Creating NEW toggleable map");
-        createAssets();
+        MinimapService minimapService = ServiceLocator.getMinimapService();
+        minimapService.getTexture();
+        mapSize = new GridPoint2(minimapService.getWidth(), minimapService.getHeight());
         dimScreen();
+
+        float mapHeight = Gdx.graphics.getHeight() - MAP_MARGIN;
+        tileScale = mapHeight / Math.max(1, Math.max(mapSize.x, mapSize.y));
+        float mapWidth = tileScale * mapSize.x;
+        mapHeight = tileScale * mapSize.y;
+        terrainImage = new Image();
+        iconOverlay = new Group();
+        iconOverlay.setTouchable(Touchable.disabled);
+        Stack mapStack = new Stack(terrainImage, iconOverlay);
+
         window.reset();
         window.getTitleLabel().setText("MAP");
         window.setVisible(isOpen);
-        float mapHeight = tableMap.getChild(0).getHeight();
-        float mapWidth = tableMap.getChild(0).getWidth();
-        window.setSize((Gdx.graphics.getHeight() * (mapWidth / mapHeight)),
-                Gdx.graphics.getHeight() * (mapHeight / mapWidth));
         window.padBottom(10f);
+        window.add(mapStack).size(mapWidth, mapHeight);
+        window.pack();
         window.setPosition((Gdx.graphics.getWidth())/5f, 20f);
         window.setMovable(false);
         window.setResizable(false);
-        window.add(tableMap);
 
         stage.addActor(window);
     }
 
+    /**
+     * @return time taken to open the map the last time it was opened, in milliseconds
+     */
+    public float getLastOpenTime() {
+        return lastOpenTime;
+    }
 
     /**
      * Draws the actors to the game.
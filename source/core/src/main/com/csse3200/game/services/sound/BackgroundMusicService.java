@@ -2,55 +2,98 @@ package com.csse3200.game.services.sound;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Music;
+import com.csse3200.game.concurrency.JobSystem;
+import com.csse3200.game.services.TimeService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.security.SecureRandom;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * A MusicService that handles playback for long background music files which are streamed from disk.
  * A maximum of 10 tracks can be loaded at any given time, with only one track playing.
+ * <p>
+ * Loading a track only registers it. Tracks are opened when they are first needed, and the track most likely to
+ * play next is opened ahead of time on a background thread, so switching tracks does not stall the game. At most
+ * {@link #MAX_OPEN_TRACKS} tracks are kept open, as each holds its own decoder and stream buffers. Changing the
+ * type of music fades the old track out while the new one fades in, timed by {@link #update(float)}.
  */
 public class BackgroundMusicService implements MusicService {
-    
+
     private static final Logger logger = LoggerFactory.getLogger(BackgroundMusicService.class);
     /** The maximum number of tracks loadable at once. */
     private static final int MAX_TRACKS = 10;
-    
+    /** The maximum number of tracks kept open: one playing, one fading out and one ready to play next. */
+    public static final int MAX_OPEN_TRACKS = 3;
+    /** Seconds of game time taken to fade from one track to the next. */
+    public static final float CROSSFADE_DURATION = 2f;
+    /** The in-game minute of the hour before morning or night at which the next type of music is opened. */
+    public static final int PREFETCH_MINUTE = 45;
+    /** The volume of background music when it is not muted. */
+    private static final float VOLUME = 0.1f;
+
     /** An array list of up to 10 background music SoundFiles. */
     private ArrayList<BackgroundSoundFile> tracks;
-    
-    /** A map of sound files to their corresponding Music instances. */
-    private Map<BackgroundSoundFile, Music> loadedMusic;
-    
-    /** A map of music types to a list of the Music instances of that type. */
-    private Map<BackgroundMusicType, ArrayList<Music>> categorisedMusic;
-    
+
+    /** A map of open sound files to their corresponding Music instances, least recently used first. */
+    private LinkedHashMap<BackgroundSoundFile, Music> loadedMusic;
+
+    /** Tracks being opened on a background thread. */
+    private Map<BackgroundSoundFile, CompletableFuture<Music>> pendingMusic;
+
+    /** A map of music types to a list of the loaded tracks of that type. */
+    private Map<BackgroundMusicType, ArrayList<BackgroundSoundFile>> categorisedMusic;
+
     /** The number of tracks loaded at a given time. */
     private int numLoaded;
-    
+
     /** A flag that controls whether background music has volume. */
     private boolean muteStatus;
-    
+
     /** A flag to determine whether background music is paused. */
     private boolean pauseStatus;
-    
+
     /** The most recently played/playing SoundFile key. */
     private BackgroundSoundFile currentlyActive;
-    
+
     /** The currently active Music instance. */
     private Music currentMusic;
-    
+
+    /** The track fading out while the current one fades in, or null if there is no crossfade. */
+    private Music fadingMusic;
+
+    /** Seconds of game time since the crossfade started. */
+    private float fadeTime;
+
     /** The current type of background music playing. */
     private BackgroundMusicType currentType;
 
+    /** The hour whose music has already been opened ahead of time, or -1 if none has been. */
+    private int prefetchedHour = -1;
+
+    /** Starts opening a track in the background. */
+    private final Function<Supplier<Music>, CompletableFuture<Music>> launcher;
+
     private Random rand = new SecureRandom();
 
     public BackgroundMusicService() {
+        this(JobSystem::launchBlocking);
+    }
+
+    /**
+     * Creates the service with its own way of opening tracks in the background, so tests can open them straight away
+     * @param launcher runs the given job, returning its result when it is done
+     */
+    BackgroundMusicService(Function<Supplier<Music>, CompletableFuture<Music>> launcher) {
         logger.debug("Initialising BackgroundMusicService");
+        this.launcher = launcher;
         this.tracks = new ArrayList<>();
-        this.loadedMusic = new EnumMap<>(BackgroundSoundFile.class);
+        this.loadedMusic = new LinkedHashMap<>(MAX_OPEN_TRACKS + 1, 0.75f, true);
+        this.pendingMusic = new EnumMap<>(BackgroundSoundFile.class);
         this.categorisedMusic = new EnumMap<>(BackgroundMusicType.class);
         // Add a map key for every music type for later sorting of loaded music, to be stored
         // in the value array.
@@ -63,37 +106,32 @@ public class BackgroundMusicService implements MusicService {
         this.currentlyActive = null;
         this.currentMusic = null;
     }
-    
+
     /**
      * Begins playing loaded Music instances of the provided type. Will continuously play
      * songs at random of the given type until stop() is called. After which play will need to
-     * be called again to resume playback.
+     * be called again to resume playback. If another track is already playing, it fades out
+     * as the new track fades in.
      * @param type The type of background music to be played.
      * @throws IllegalStateException If there are no available Music instances of the type given.
      */
     public void play(BackgroundMusicType type) throws IllegalStateException {
         logger.debug("Attempting to play background music of a given type.");
-        this.stopCurrentlyPlaying();
-        currentType = type;
         if (categorisedMusic.get(type).isEmpty()) {
             throw new IllegalStateException("No tracks loaded of type " + type);
+        }
+        currentType = type;
+        boolean crossfade = currentMusic != null && currentMusic.isPlaying() && !pauseStatus;
+        if (crossfade) {
+            stopFading();
+            fadingMusic = currentMusic;
+            fadeTime = 0f;
         } else {
-            // If the current music instance in not set, or, is not playing and also
-            // is not paused.
-            if (currentMusic == null || (!currentMusic.isPlaying() && !pauseStatus)) {
-                // Select a random loaded song of the given type.
-                logger.debug("Selecting random background track of the given type {}.",
-                        type);
-                currentMusic = categorisedMusic.get(type)
-                        .get(rand.nextInt(categorisedMusic.get(type).size()));
-                // Set the completion listener to clean up after end of playback.
-                setupCompletionListener(currentMusic);
-                adjustVolume();
-                currentMusic.play(); // Play the music.
-            }
+            stopCurrentlyPlaying();
         }
+        startTrack(chooseTrack(type), crossfade);
     }
-    
+
     /**
      * Plays a given sound file, checking whether it is valid to play as well as looping
      * the playback if specified.
@@ -109,10 +147,10 @@ public class BackgroundMusicService implements MusicService {
         if (!this.isMuted()) {
             if (sound instanceof BackgroundSoundFile backgroundSoundFile) {
                 logger.debug("Creating Music instance.");
-                Music music = loadedMusic.get(backgroundSoundFile);
-                if (music != null) { // If a loaded Key-Value pair is present for this sound file
+                if (tracks.contains(backgroundSoundFile)) { // If this sound file has been loaded
                     logger.debug("Background music play checks successful. " +
                             "Attempting to play file");
+                    Music music = openTrack(backgroundSoundFile);
                     music.setLooping(looping); // Set whether the track loops
                     music.play(); // Play the music instance of the sound file
                     this.currentlyActive = backgroundSoundFile; //Update currently playing
@@ -125,7 +163,7 @@ public class BackgroundMusicService implements MusicService {
         }
         return 0; // Play ID not needed for background music
     }
-    
+
     /**
      * Plays a given sound file without the specification of a looping boolean, defaults this
      * value to false.
@@ -138,7 +176,7 @@ public class BackgroundMusicService implements MusicService {
     public long play(SoundFile sound) throws InvalidSoundFileException {
         return this.play(sound, false);
     }
-    
+
     /**
      * Attempts to pause a specific track. This is more important for Effects. Use pause()
      * to pause whichever track is currently active.
@@ -148,32 +186,38 @@ public class BackgroundMusicService implements MusicService {
     @Override
     public void pause(SoundFile sound) throws InvalidSoundFileException {
         if (sound.equals(currentlyActive)) {
-            loadedMusic.get(sound).pause();
-            pauseStatus = true;
+            pause();
         } else {
             throw new InvalidSoundFileException("Given parameter is not currently playing");
         }
     }
-    
+
     /**
      * Pauses whichever track is currently playing.
      */
     public void pause() {
-        loadedMusic.get(currentlyActive).pause();
-        pauseStatus = true;
+        stopFading();
+        Music music = loadedMusic.get(currentlyActive);
+        if (music != null) {
+            music.pause();
+            pauseStatus = true;
+        }
     }
-    
+
     /**
      * Unpauses current music if it is paused.
      */
     public void unPause() {
         if (pauseStatus) {
-            loadedMusic.get(currentlyActive).play();
+            Music music = loadedMusic.get(currentlyActive);
+            if (music != null) {
+                music.play();
+            }
             pauseStatus = false;
         }
         // Do nothing if not paused.
     }
-    
+
     /**
      * Attempts to stop playback for a given sound file.
      * @param sound - An enum value that implements the SoundFile interface.
@@ -187,17 +231,29 @@ public class BackgroundMusicService implements MusicService {
             stopCurrentlyPlaying();
         }
     }
-    
+
     /**
      * Stops the currently active background music.
      */
     private void stopCurrentlyPlaying() {
-        if (currentlyActive != null) {
+        stopFading();
+        if (currentlyActive != null && loadedMusic.containsKey(currentlyActive)) {
             loadedMusic.get(currentlyActive).stop();
-            currentMusic = null;
         }
+        currentMusic = null;
     }
-    
+
+    /**
+     * Stops the track fading out, if there is one.
+     */
+    private void stopFading() {
+        if (fadingMusic != null) {
+            fadingMusic.stop();
+            fadingMusic = null;
+            adjustVolume();
+        }
+    }
+
     /**
      * Sets the mute status of the background music to the given boolean value.
      * True being muted.
@@ -208,17 +264,23 @@ public class BackgroundMusicService implements MusicService {
         this.muteStatus = muted;
         adjustVolume();
     }
-    
+
     public void adjustVolume() {
+        if (currentMusic == null) {
+            return;
+        }
         if (this.isMuted()) { // Apply mute status
             logger.debug("Muting current background music instance.");
-            currentMusic.setVolume(0.0f);
         } else {
             logger.debug("Setting volume scaling to 1.0 for background music.");
-            currentMusic.setVolume(0.1f);
+        }
+        float fade = fadingMusic == null ? 1f : Math.min(fadeTime / CROSSFADE_DURATION, 1f);
+        currentMusic.setVolume(getVolume() * fade);
+        if (fadingMusic != null) {
+            fadingMusic.setVolume(getVolume() * (1f - fade));
         }
     }
-    
+
     /**
      * Returns the current mute status.
      * @return the current mute status.
@@ -227,7 +289,7 @@ public class BackgroundMusicService implements MusicService {
     public boolean isMuted() {
         return this.muteStatus;
     }
-    
+
     /**
      * Checks if the given sound file is playing.
      * @param sound - An enum value that implements the SoundFile interface
@@ -238,17 +300,18 @@ public class BackgroundMusicService implements MusicService {
     @Override
     public boolean isPlaying(SoundFile sound) throws InvalidSoundFileException {
         if (sound instanceof BackgroundSoundFile backgroundSoundFile
-                && loadedMusic.get(backgroundSoundFile) != null) {
-            return loadedMusic.get(backgroundSoundFile).isPlaying();
+                && tracks.contains(backgroundSoundFile)) {
+            Music music = loadedMusic.get(backgroundSoundFile);
+            return music != null && music.isPlaying();
         } else {
             throw new InvalidSoundFileException("SoundFile not loaded or not an instance of " +
                     "BackgroundSoundFile.");
         }
     }
-    
+
     /**
      * Note: Only loads first 10 songs in list. Creates a private map of BackgroundSoundTypes
-     * as keys to a list of Music instances of that type.
+     * as keys to a list of the tracks of that type. Tracks are not opened until they are needed.
      * @param sounds - A list of SoundFiles to be loaded into memory
      * @throws InvalidSoundFileException if the provided list contains any non-BackgroundSoundFile
      * instances.
@@ -262,21 +325,121 @@ public class BackgroundMusicService implements MusicService {
                 break;
             }
             if (sound instanceof BackgroundSoundFile backgroundSoundFile) {
+                if (tracks.contains(backgroundSoundFile)) {
+                    continue;
+                }
                 logger.debug("Loading a background track.");
                 tracks.add(backgroundSoundFile);
-                Music music = Gdx.audio.newMusic(Gdx.files.internal(backgroundSoundFile.getFilePath()));
-                //Music music = ServiceLocator.getResourceService()
-                //        .getAsset(sound.getFilePath(), Music.class);
-                loadedMusic.put(backgroundSoundFile, music);
-                logger.debug("Categorising Music instance by BackgroundMusicType.");
-                categorisedMusic.get((backgroundSoundFile).getType()).add(music);
+                logger.debug("Categorising track by BackgroundMusicType.");
+                categorisedMusic.get((backgroundSoundFile).getType()).add(backgroundSoundFile);
                 numLoaded++;
             } else {
                 throw new InvalidSoundFileException("Not an instance of BackgroundSoundFile");
             }
         }
     }
-    
+
+    /**
+     * Starts opening a track of the given type on a background thread, so it is ready when it is played.
+     * Nothing is done if a track of that type is already open or being opened.
+     * @param type The type of background music that will be played next.
+     */
+    public void prefetch(BackgroundMusicType type) {
+        List<BackgroundSoundFile> candidates = categorisedMusic.get(type);
+        for (BackgroundSoundFile track : candidates) {
+            if (track != currentlyActive && (loadedMusic.containsKey(track) || pendingMusic.containsKey(track))) {
+                return;
+            }
+        }
+        List<BackgroundSoundFile> unopened = new ArrayList<>();
+        for (BackgroundSoundFile track : candidates) {
+            if (track != currentlyActive && !loadedMusic.containsKey(track)) {
+                unopened.add(track);
+            }
+        }
+        if (unopened.isEmpty()) {
+            return;
+        }
+        BackgroundSoundFile track = unopened.get(rand.nextInt(unopened.size()));
+        logger.debug("Opening background track {} ahead of time", track);
+        pendingMusic.put(track, launcher.apply(() -> Gdx.audio.newMusic(Gdx.files.internal(track.getFilePath()))));
+    }
+
+    /**
+     * Switches between day and night music as the in-game time changes, opening the next track shortly before
+     * the hour it is needed. Types with no tracks loaded fall back to {@link BackgroundMusicType#NORMAL}.
+     * @param timeService The in-game time to follow
+     */
+    public void followTimeOfDay(TimeService timeService) {
+        timeService.getEvents().addListener("minuteUpdate", () -> {
+            int nextHour = (timeService.getHour() + 1) % 24;
+            if (timeService.getMinute() < PREFETCH_MINUTE || prefetchedHour == nextHour) {
+                return;
+            }
+            if (nextHour == TimeService.MORNING_HOUR) {
+                prefetchedHour = nextHour;
+                prefetch(getTypeForTimeOfDay(true));
+            } else if (nextHour == TimeService.NIGHT_HOUR) {
+                prefetchedHour = nextHour;
+                prefetch(getTypeForTimeOfDay(false));
+            }
+        });
+        timeService.getEvents().addListener("morningTime", () -> changeType(getTypeForTimeOfDay(true)));
+        timeService.getEvents().addListener("nightTime", () -> changeType(getTypeForTimeOfDay(false)));
+    }
+
+    /**
+     * Moves the crossfade on and takes in tracks finished opening in the background. Called every frame.
+     * @param delta Seconds of game time since the last update
+     */
+    public void update(float delta) {
+        Iterator<Map.Entry<BackgroundSoundFile, CompletableFuture<Music>>> pending =
+                pendingMusic.entrySet().iterator();
+        while (pending.hasNext()) {
+            Map.Entry<BackgroundSoundFile, CompletableFuture<Music>> entry = pending.next();
+            if (entry.getValue().isDone()) {
+                pending.remove();
+                Music music = getOpenedMusic(entry.getKey(), entry.getValue());
+                if (music != null) {
+                    cacheTrack(entry.getKey(), music);
+                }
+            }
+        }
+
+        if (fadingMusic != null) {
+            fadeTime += delta;
+            if (fadeTime >= CROSSFADE_DURATION) {
+                stopFading();
+            } else {
+                adjustVolume();
+            }
+        }
+    }
+
+    /**
+     * Get how many tracks are open
+     * @return The number of tracks holding a decoder, at most {@link #MAX_OPEN_TRACKS}
+     */
+    public int getOpenTrackCount() {
+        return loadedMusic.size();
+    }
+
+    /**
+     * Checks whether a crossfade is in progress
+     * @return True if a track is fading out
+     */
+    public boolean isCrossfading() {
+        return fadingMusic != null;
+    }
+
+    /**
+     * Get the type of background music being played
+     * @return The current type, or null if play() has not been called
+     */
+    public BackgroundMusicType getCurrentType() {
+        return currentType;
+    }
+
     /**
      * Sets up the completion listener for a Music instance to end playback, allowing the
      * next track to play.
@@ -286,11 +449,143 @@ public class BackgroundMusicService implements MusicService {
         music.setOnCompletionListener(new Music.OnCompletionListener() {
             @Override
             public void onCompletion(Music music) {
-                play(currentType);
+                if (music != currentMusic) {
+                    return; // A track that was faded out
+                }
+                // The next track was opened when this one started, so it begins without a gap
+                currentMusic = null;
+                startTrack(chooseTrack(currentType), false);
             }
         });
     }
-    
+
+    /**
+     * Switches to another type of music, if it is not already playing
+     * @param type The type of background music to play
+     */
+    private void changeType(BackgroundMusicType type) {
+        if (type != currentType && currentMusic != null) {
+            play(type);
+        }
+    }
+
+    /**
+     * Get the type of music to play at a time of day
+     * @param day True for day, false for night
+     * @return The type, or NORMAL if there are no tracks of the type
+     */
+    private BackgroundMusicType getTypeForTimeOfDay(boolean day) {
+        BackgroundMusicType type = day ? BackgroundMusicType.DAY : BackgroundMusicType.NIGHT;
+        return categorisedMusic.get(type).isEmpty() ? BackgroundMusicType.NORMAL : type;
+    }
+
+    /**
+     * Picks the next track of a type, preferring one that is already open and not the track that just played
+     * @param type The type of background music
+     * @return The track to play
+     */
+    private BackgroundSoundFile chooseTrack(BackgroundMusicType type) {
+        List<BackgroundSoundFile> candidates = new ArrayList<>(categorisedMusic.get(type));
+        if (candidates.size() > 1) {
+            candidates.remove(currentlyActive);
+        }
+        for (BackgroundSoundFile track : candidates) {
+            if (loadedMusic.containsKey(track) || pendingMusic.containsKey(track)) {
+                return track;
+            }
+        }
+        logger.debug("Selecting random background track of the given type {}.", type);
+        return candidates.get(rand.nextInt(candidates.size()));
+    }
+
+    /**
+     * Starts playing a track and opens the one after it in the background
+     * @param track The track to play
+     * @param fadeIn True to start silent and fade in, false to start at full volume
+     */
+    private void startTrack(BackgroundSoundFile track, boolean fadeIn) {
+        currentMusic = openTrack(track);
+        currentlyActive = track;
+        pauseStatus = false;
+        // Set the completion listener to clean up after end of playback.
+        setupCompletionListener(currentMusic);
+        currentMusic.setLooping(false);
+        if (fadeIn) {
+            currentMusic.setVolume(0f);
+        } else {
+            adjustVolume();
+        }
+        currentMusic.play(); // Play the music.
+        prefetch(currentType);
+    }
+
+    /**
+     * Gets the Music instance of a track, opening it now if it is not already open
+     * @param track The track to open
+     * @return The track's Music instance
+     */
+    private Music openTrack(BackgroundSoundFile track) {
+        Music music = loadedMusic.get(track);
+        if (music != null) {
+            return music;
+        }
+        CompletableFuture<Music> pending = pendingMusic.remove(track);
+        if (pending != null) {
+            // Already on its way, so waiting for it is quicker than starting again
+            music = getOpenedMusic(track, pending);
+        }
+        if (music == null) {
+            logger.debug("Opening background track {} on the game thread", track);
+            music = Gdx.audio.newMusic(Gdx.files.internal(track.getFilePath()));
+        }
+        cacheTrack(track, music);
+        return music;
+    }
+
+    /**
+     * Gets the result of opening a track in the background
+     * @param track The track that was opened
+     * @param future The background job opening it
+     * @return The Music instance, or null if it could not be opened
+     */
+    private Music getOpenedMusic(BackgroundSoundFile track, CompletableFuture<Music> future) {
+        try {
+            return future.join();
+        } catch (RuntimeException e) {
+            logger.error("Failed to open background track {}", track, e);
+            return null;
+        }
+    }
+
+    /**
+     * Keeps a track open, closing the least recently used tracks that are not playing if too many are open
+     * @param track The track that was opened
+     * @param music The track's Music instance
+     */
+    private void cacheTrack(BackgroundSoundFile track, Music music) {
+        loadedMusic.put(track, music);
+        Iterator<Map.Entry<BackgroundSoundFile, Music>> open = loadedMusic.entrySet().iterator();
+        while (loadedMusic.size() > MAX_OPEN_TRACKS && open.hasNext()) {
+            Map.Entry<BackgroundSoundFile, Music> entry = open.next();
+            Music evicted = entry.getValue();
+            if (entry.getKey() != track && evicted != currentMusic && evicted != fadingMusic
+                    && !evicted.isPlaying()) {
+                logger.debug("Closing background track {}", entry.getKey());
+                open.remove();
+                evicted.stop();
+                evicted.dispose();
+            }
+        }
+    }
+
+    /**
+     * Get the volume of background music
+     * @return The volume, or 0 if muted
+     */
+    private float getVolume() {
+        return isMuted() ? 0f : VOLUME;
+    }
+
     /**
      * Disposes of all loaded Music instances.
      * Resets internally stored sound file maps.
@@ -302,12 +597,21 @@ public class BackgroundMusicService implements MusicService {
         stopCurrentlyPlaying();
         this.currentMusic = null;
         this.currentlyActive = null;
-        for (BackgroundSoundFile track : tracks) {
-            loadedMusic.get(track).stop();
-            loadedMusic.get(track).dispose();
+        for (Music music : loadedMusic.values()) {
+            music.stop();
+            music.dispose();
+        }
+        for (CompletableFuture<Music> pending : pendingMusic.values()) {
+            // Still being opened, so close it once it is
+            pending.thenAccept(Music::dispose);
         }
         this.tracks = new ArrayList<>();
-        this.loadedMusic = new EnumMap<>(BackgroundSoundFile.class);
+        this.loadedMusic = new LinkedHashMap<>(MAX_OPEN_TRACKS + 1, 0.75f, true);
+        this.pendingMusic = new EnumMap<>(BackgroundSoundFile.class);
         this.categorisedMusic = new EnumMap<>(BackgroundMusicType.class);
+        for (BackgroundMusicType type : BackgroundMusicType.values()) {
+            this.categorisedMusic.put(type, new ArrayList<>());
+        }
+        this.numLoaded = 0;
     }
 }
@@ -2,24 +2,86 @@ package com.csse3200.game.services.sound;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.LongSupplier;
 
 /**
  * A MusicService that handles playback for short (less than or equal to 5s) sound effects that are played from memory.
  * All files must be in the WAV format to ensure consistent playback.
  * There is no limit on the number of sound effects that can be loaded,
  * but loading too many will cause performance issues, so please be judicious.
+ *
+ * <p>Every effect played is a voice, and only {@link #MAX_VOICES} voices play at once, with at most
+ * {@link #getVoiceLimit(EffectSoundFile)} of any one effect. When a limit is reached the oldest voice of the
+ * lowest {@link Priority} is stopped to make room, unless the new effect is less important than all of them.
+ * The same effect requested again within a frame reuses the voice already playing. Effects played at a position
+ * get quieter with distance from the player and are not played at all beyond {@link #HEARING_DISTANCE}.
  */
 public class EffectsMusicService implements MusicService {
 
     private static final Logger logger = LoggerFactory.getLogger(EffectsMusicService.class);
 
+    /** The most voices played at once, matching the sources the desktop backend allocates by default */
+    public static final int MAX_VOICES = 16;
+    /** The most voices of a single effect played at once, unless the effect sets its own limit */
+    public static final int DEFAULT_VOICE_LIMIT = 4;
+    /**
+     * How long a voice is assumed to play for. libGDX cannot tell when a sound has finished, and effects are
+     * at most 5 seconds, most of them far shorter.
+     */
+    public static final long DEFAULT_VOICE_DURATION = 2000;
+    /** Requests for an effect this soon after it was started reuse the voice instead, about one frame */
+    public static final long DEDUPLICATION_WINDOW = 16;
+    /** Effects closer than this to the player play at full volume */
+    public static final float FULL_VOLUME_DISTANCE = 2f;
+    /** Effects further than this from the player are not played */
+    public static final float HEARING_DISTANCE = 10f;
+
+    /**
+     * How important an effect is, deciding which voices are stopped when too many are playing
+     */
+    public enum Priority {
+        /** Ambient effects repeated by many entities, such as plants */
+        LOW,
+        NORMAL,
+        /** Feedback on what the player just did or what just happened to them */
+        HIGH
+    }
+
+    private static final Map<EffectSoundFile, Priority> priorities = new EnumMap<>(EffectSoundFile.class);
+    private static final Map<EffectSoundFile, Integer> voiceLimits = new EnumMap<>(EffectSoundFile.class);
+
+    static {
+        for (EffectSoundFile soundFile : EffectSoundFile.values()) {
+            if (soundFile.name().startsWith("PLANT_") || soundFile.name().endsWith("_LORE")) {
+                // Every plant near the player can play these at the same time
+                priorities.put(soundFile, Priority.LOW);
+                voiceLimits.put(soundFile, 2);
+            }
+        }
+        EffectSoundFile[] highPriority = {EffectSoundFile.PLAYER_DAMAGE, EffectSoundFile.PLAYER_DEATH,
+                EffectSoundFile.INVENTORY_OPEN, EffectSoundFile.HOTKEY_SELECT, EffectSoundFile.SWITCH_TOOLBAR,
+                EffectSoundFile.DRAG_ITEM, EffectSoundFile.DROP_ITEM, EffectSoundFile.DELETE_ITEM,
+                EffectSoundFile.TAMED_ANIMAL, EffectSoundFile.GOD_DID, EffectSoundFile.SHIP_CLUE_SOLVED,
+                EffectSoundFile.SHIP_INSTALL_PART, EffectSoundFile.SHIP_FEATURE_UNLOCKED, EffectSoundFile.SHIP_TELEPORT,
+                EffectSoundFile.SHIP_CRASH, EffectSoundFile.SHIP_RATTLE, EffectSoundFile.LEGO_BREAK};
+        for (EffectSoundFile soundFile : highPriority) {
+            priorities.put(soundFile, Priority.HIGH);
+        }
+    }
+
     /**
      * EffectSoundFiles that are loaded in memory and associated Sound object.
      * These are the only sounds that can be played.
@@ -36,35 +98,38 @@ public class EffectsMusicService implements MusicService {
      */
     private boolean muteStatus;
 
+    /**
+     * Every voice that is assumed to still be playing, oldest first
+     */
+    private final List<Voice> voices = new ArrayList<>();
+
+    /**
+     * Gives the current time in milliseconds, used to work out which voices have finished
+     */
+    private final LongSupplier clock;
+
+    private long voicesStolen;
+    private long voicesCulled;
+    private long voicesDeduplicated;
+
     public EffectsMusicService() {
+        this(TimeUtils::millis);
+    }
+
+    /**
+     * Creates the service with a clock of its own, so tests can control when voices finish
+     * @param clock gives the current time in milliseconds
+     */
+    EffectsMusicService(LongSupplier clock) {
         this.loadedSounds = new HashMap<>();
         this.playingSounds = new HashMap<>();
         this.muteStatus = false;
+        this.clock = clock;
     }
 
     @Override
     public long play(SoundFile soundFile, boolean looping) throws InvalidSoundFileException {
-        long playStatus = -1;
-        if (!this.isMuted()) {
-            if (soundFile instanceof EffectSoundFile effectsoundfile) {
-                if (this.loadedSounds.containsKey(soundFile)) {
-                    Sound sound = this.loadedSounds.get(soundFile); // get the sound object for the chosen effect
-                    long id = sound.play(); // play the sound
-                    sound.setLooping(id, looping); // control whether the effect is looping
-                    if (looping) { //only looping audio can be tracked
-                        this.addPlayingSound((EffectSoundFile) soundFile, id); // log which effects are looping
-                    }
-                    playStatus = id; // set the return value to the id of the playing sound
-                } else {
-                    throw new InvalidSoundFileException("The SoundFile provided is not loaded");
-                }
-            } else {
-                throw new InvalidSoundFileException();
-            }
-        } else {
-            logger.debug("Playback is muted");
-        }
-        return playStatus;
+        return this.play(soundFile, looping, 1f, 0f);
     }
 
     @Override
@@ -72,6 +137,81 @@ public class EffectsMusicService implements MusicService {
         return this.play(sound, false);
     }
 
+    /**
+     * Play a sound effect made at a position in the world. It is quieter the further it is from the player, panned
+     * towards the side it came from, and not played at all if it is out of earshot.
+     * @param soundFile The SoundFile to play
+     * @param position Where in the world the sound is made
+     * @return The instance id of the playing sound, or -1 if it was muted, out of earshot or had no free voice
+     * @throws InvalidSoundFileException If the SoundFile is not a loaded EffectSoundFile
+     */
+    public long play(SoundFile soundFile, Vector2 position) throws InvalidSoundFileException {
+        Vector2 listener = getListenerPosition();
+        if (listener == null || position == null) {
+            return this.play(soundFile, false);
+        }
+        float distance = listener.dst(position);
+        if (distance > HEARING_DISTANCE) {
+            voicesCulled++;
+            return -1;
+        }
+        float volume = 1f - MathUtils.clamp(
+                (distance - FULL_VOLUME_DISTANCE) / (HEARING_DISTANCE - FULL_VOLUME_DISTANCE), 0f, 1f);
+        float pan = MathUtils.clamp((position.x - listener.x) / HEARING_DISTANCE, -1f, 1f);
+        return this.play(soundFile, false, volume, pan);
+    }
+
+    private long play(SoundFile soundFile, boolean looping, float volume, float pan) throws InvalidSoundFileException {
+        if (this.isMuted()) {
+            logger.debug("Playback is muted");
+            return -1;
+        }
+        if (!(soundFile instanceof EffectSoundFile effectSoundFile)) {
+            throw new InvalidSoundFileException();
+        }
+        Sound sound = this.loadedSounds.get(effectSoundFile); // get the sound object for the chosen effect
+        if (sound == null) {
+            throw new InvalidSoundFileException("The SoundFile provided is not loaded");
+        }
+
+        long now = clock.getAsLong();
+        this.removeFinishedVoices(now);
+        if (!looping) {
+            Voice duplicate = this.findRecentVoice(effectSoundFile, now);
+            if (duplicate != null) {
+                // Already started this frame, so a second voice would only make it louder
+                voicesDeduplicated++;
+                if (volume > duplicate.volume) {
+                    duplicate.volume = volume;
+                    sound.setVolume(duplicate.id, volume);
+                }
+                return duplicate.id;
+            }
+        }
+
+        Priority priority = getPriority(effectSoundFile);
+        if (this.getVoiceCount(effectSoundFile) >= getVoiceLimit(effectSoundFile)
+                && !this.stealVoice(effectSoundFile, priority)) {
+            logger.debug("No free voice to play {}", effectSoundFile);
+            return -1;
+        }
+        if (this.voices.size() >= MAX_VOICES && !this.stealVoice(null, priority)) {
+            logger.debug("No free voice to play {}", effectSoundFile);
+            return -1;
+        }
+
+        long id = sound.play(volume, 1f, pan); // play the sound
+        if (id == -1) {
+            return -1;
+        }
+        sound.setLooping(id, looping); // control whether the effect is looping
+        if (looping) { //only looping audio can be tracked
+            this.addPlayingSound(effectSoundFile, id); // log which effects are looping
+        }
+        this.voices.add(new Voice(effectSoundFile, id, priority, looping, now, volume));
+        return id;
+    }
+
     /**
      * Functionally identical to the {@link #stop(SoundFile) stop()} method for the EffectsMusicService
      * @param sound - An enum value that implements the SoundFile interface
@@ -84,7 +224,8 @@ public class EffectsMusicService implements MusicService {
 
     @Override
     public void stop(SoundFile soundFile) throws InvalidSoundFileException {
-        for (long id : this.getPlayingList((EffectSoundFile) soundFile)) {
+        // Copied, as stopping a sound removes it from the list
+        for (long id : new ArrayList<>(this.getPlayingList((EffectSoundFile) soundFile))) {
             this.stop(soundFile, id);
         }
     }
@@ -100,6 +241,7 @@ public class EffectsMusicService implements MusicService {
             Sound sound = this.loadedSounds.get((EffectSoundFile) soundFile);
             sound.stop(id);
             this.removePlayingSound((EffectSoundFile) soundFile, id);
+            this.voices.removeIf(voice -> voice.soundFile == soundFile && voice.id == id);
         } else {
             throw new InvalidSoundFileException();
         }
@@ -107,13 +249,13 @@ public class EffectsMusicService implements MusicService {
 
     @Override
     public void setMuted(boolean muted) {
-        if (muted == false) {
-            for (EffectSoundFile soundFile : this.playingSounds.keySet()) {
-                try {
-                    this.stop(soundFile);
-                } catch (InvalidSoundFileException e) {
-                    throw new RuntimeException(e);
-                }
+        if (muted) {
+            for (Voice voice : this.voices) {
+                this.loadedSounds.get(voice.soundFile).stop(voice.id);
+            }
+            this.voices.clear();
+            for (List<Long> playingList : this.playingSounds.values()) {
+                playingList.clear();
             }
         }
         this.muteStatus = muted;
@@ -185,6 +327,134 @@ public class EffectsMusicService implements MusicService {
         for (Sound sound : this.loadedSounds.values()) {
             sound.dispose();
         }
+        this.voices.clear();
+    }
+
+    /**
+     * Get the priority of a sound effect
+     * @param soundFile The EffectSoundFile to check
+     * @return How important the effect is when voices run out
+     */
+    public static Priority getPriority(EffectSoundFile soundFile) {
+        return priorities.getOrDefault(soundFile, Priority.NORMAL);
+    }
+
+    /**
+     * Get the most voices of a sound effect that can play at once
+     * @param soundFile The EffectSoundFile to check
+     * @return The voice limit of the effect
+     */
+    public static int getVoiceLimit(EffectSoundFile soundFile) {
+        return voiceLimits.getOrDefault(soundFile, DEFAULT_VOICE_LIMIT);
+    }
+
+    /**
+     * Get how many voices are playing, for the profiler
+     * @return The number of voices assumed to still be playing
+     */
+    public int getActiveVoiceCount() {
+        this.removeFinishedVoices(clock.getAsLong());
+        return this.voices.size();
+    }
+
+    /**
+     * Get how many voices of a sound effect are playing
+     * @param soundFile The EffectSoundFile to check
+     * @return The number of voices of the effect assumed to still be playing
+     */
+    public int getVoiceCount(EffectSoundFile soundFile) {
+        int count = 0;
+        for (Voice voice : this.voices) {
+            if (voice.soundFile == soundFile) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get how many voices have been stopped early to make room for more important ones
+     * @return The number of voices stolen since the service was created
+     */
+    public long getVoicesStolen() {
+        return voicesStolen;
+    }
+
+    /**
+     * Get how many effects were not played because they were out of earshot
+     * @return The number of effects culled since the service was created
+     */
+    public long getVoicesCulled() {
+        return voicesCulled;
+    }
+
+    /**
+     * Get how many effects reused a voice started in the same frame instead of starting their own
+     * @return The number of effects de-duplicated since the service was created
+     */
+    public long getVoicesDeduplicated() {
+        return voicesDeduplicated;
+    }
+
+    /**
+     * Get where the player is hearing sounds from
+     * @return The player's position, or null if there is no player
+     */
+    private Vector2 getListenerPosition() {
+        if (ServiceLocator.getGameArea() == null) {
+            return null;
+        }
+        Entity player = ServiceLocator.getGameArea().getPlayer();
+        return player == null ? null : player.getCenterPosition();
+    }
+
+    /**
+     * Forgets the voices that will have finished by now. Looping voices play until they are stopped.
+     * @param now The current time in milliseconds
+     */
+    private void removeFinishedVoices(long now) {
+        this.voices.removeIf(voice -> !voice.looping && now - voice.startedAt >= DEFAULT_VOICE_DURATION);
+    }
+
+    /**
+     * Finds a voice of a sound effect started within the last frame
+     * @param soundFile The EffectSoundFile to look for
+     * @param now The current time in milliseconds
+     * @return The voice, or null if there is none
+     */
+    private Voice findRecentVoice(EffectSoundFile soundFile, long now) {
+        for (Voice voice : this.voices) {
+            if (voice.soundFile == soundFile && !voice.looping && now - voice.startedAt < DEDUPLICATION_WINDOW) {
+                return voice;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Stops the oldest voice of the lowest priority to make room for a new one. Looping voices are never stopped,
+     * and neither are voices more important than the new one.
+     * @param soundFile Only stop voices of this effect, or null to consider every voice
+     * @param priority The priority of the voice that needs room
+     * @return Whether a voice was stopped
+     */
+    private boolean stealVoice(EffectSoundFile soundFile, Priority priority) {
+        Voice victim = null;
+        // Voices are oldest first, so only a strictly lower priority replaces the victim
+        for (Voice voice : this.voices) {
+            if (!voice.looping && (soundFile == null || voice.soundFile == soundFile)
+                    && voice.priority.compareTo(priority) <= 0
+                    && (victim == null || voice.priority.compareTo(victim.priority) < 0)) {
+                victim = voice;
+            }
+        }
+        if (victim == null) {
+            return false;
+        }
+        this.loadedSounds.get(victim.soundFile).stop(victim.id);
+        this.voices.remove(victim);
+        voicesStolen++;
+        return true;
     }
 
     /**
@@ -213,4 +483,26 @@ public class EffectsMusicService implements MusicService {
     private void removePlayingSound(EffectSoundFile soundFile, long id) {
         this.getPlayingList(soundFile).remove(id);
     }
+
+    /**
+     * A sound effect instance that is playing
+     */
+    private static class Voice {
+        private final EffectSoundFile soundFile;
+        private final long id;
+        private final Priority priority;
+        private final boolean looping;
+        private final long startedAt;
+        private float volume;
+
+        private Voice(EffectSoundFile soundFile, long id, Priority priority, boolean looping, long startedAt,
+                float volume) {
+            this.soundFile = soundFile;
+            this.id = id;
+            this.priority = priority;
+            this.looping = looping;
+            this.startedAt = startedAt;
+            this.volume = volume;
+        }
+    }
 }
@@ -0,0 +1,83 @@
+package com.csse3200.game.services.sound;
+
+import com.badlogic.gdx.math.Vector2;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A sequence of sound effects played one after another by the {@link SoundService}, each a set delay after the
+ * one before it. Cues are played on game time, so nothing has to wait on the game thread between the sounds.
+ * <pre>{@code
+ * SoundCue cue = new SoundCue()
+ *         .then(EffectSoundFile.COW_FEED)
+ *         .then(0.1f, EffectSoundFile.TAMED_ANIMAL);
+ * ServiceLocator.getSoundService().play(cue);
+ * }</pre>
+ */
+public class SoundCue {
+    /**
+     * The effects in the cue, in the order they are played
+     */
+    private final List<Step> steps = new ArrayList<>();
+
+    /**
+     * Where in the world the effects are made, or null to play them at full volume
+     */
+    private Vector2 position;
+
+    /**
+     * Adds an effect played straight after the previous one starts
+     * @param effect The effect to play
+     * @return This cue, to chain more effects on
+     */
+    public SoundCue then(EffectSoundFile effect) {
+        return this.then(0f, effect);
+    }
+
+    /**
+     * Adds an effect played a while after the previous one starts
+     * @param delay Seconds of game time between the previous effect and this one
+     * @param effect The effect to play
+     * @return This cue, to chain more effects on
+     */
+    public SoundCue then(float delay, EffectSoundFile effect) {
+        this.steps.add(new Step(Math.max(delay, 0f), effect));
+        return this;
+    }
+
+    /**
+     * Plays every effect in the cue at a position in the world, so they are quieter further from the player
+     * @param position Where the effects are made
+     * @return This cue, to chain more effects on
+     */
+    public SoundCue at(Vector2 position) {
+        this.position = position == null ? null : position.cpy();
+        return this;
+    }
+
+    /**
+     * Get the effects in the cue
+     * @return The effects in the order they are played
+     */
+    public List<Step> getSteps() {
+        return Collections.unmodifiableList(this.steps);
+    }
+
+    /**
+     * Get where the effects are made
+     * @return The position of the cue, or null if it plays at full volume
+     */
+    public Vector2 getPosition() {
+        return this.position;
+    }
+
+    /**
+     * An effect in a cue
+     * @param delay Seconds of game time after the previous effect starts
+     * @param effect The effect to play
+     */
+    public record Step(float delay, EffectSoundFile effect) {
+    }
+}
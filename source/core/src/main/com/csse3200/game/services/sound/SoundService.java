@@ -1,8 +1,14 @@
 package com.csse3200.game.services.sound;
 
+import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
 public class SoundService {
     private static final Logger logger = LoggerFactory.getLogger(SoundService.class);
 
@@ -15,12 +21,37 @@ public class SoundService {
      */
     private final EffectsMusicService effectsMusicService;
 
+    /**
+     * Effects waiting to be played, the soonest first
+     */
+    private final PriorityQueue<ScheduledSound> scheduledSounds = new PriorityQueue<>(
+            Comparator.comparingDouble(ScheduledSound::playAt).thenComparingLong(ScheduledSound::order));
+
+    /**
+     * Seconds of game time passed, counted by {@link #update()} so delays stop while the game is paused
+     */
+    private double time;
+
+    /**
+     * How many effects have been scheduled, so effects due at the same time play in the order they were scheduled
+     */
+    private long scheduled;
+
     /**
      * Instantiate a new SoundService
      */
     public SoundService() {
-        this.backgroundMusicService = new BackgroundMusicService();
-        this.effectsMusicService = new EffectsMusicService();
+        this(new BackgroundMusicService(), new EffectsMusicService());
+    }
+
+    /**
+     * Instantiate a SoundService with the given music services, so tests can replace them
+     * @param backgroundMusicService The service playing background music
+     * @param effectsMusicService The service playing sound effects
+     */
+    SoundService(BackgroundMusicService backgroundMusicService, EffectsMusicService effectsMusicService) {
+        this.backgroundMusicService = backgroundMusicService;
+        this.effectsMusicService = effectsMusicService;
     }
 
     /**
@@ -38,4 +69,102 @@ public class SoundService {
     public EffectsMusicService getEffectsMusicService() {
         return this.effectsMusicService;
     }
+
+    /**
+     * Play a sound effect after a delay, without waiting for it
+     * @param effect The effect to play
+     * @param delay Seconds of game time to wait before playing it
+     */
+    public void playAfter(EffectSoundFile effect, float delay) {
+        this.playAfter(effect, delay, null);
+    }
+
+    /**
+     * Play a sound effect made at a position in the world after a delay, without waiting for it
+     * @param effect The effect to play
+     * @param delay Seconds of game time to wait before playing it
+     * @param position Where the effect is made, or null to play it at full volume
+     */
+    public void playAfter(EffectSoundFile effect, float delay, Vector2 position) {
+        this.play(new SoundCue().then(delay, effect).at(position));
+    }
+
+    /**
+     * Start playing a cue. Its first effect plays on the next update unless it has a delay.
+     * The effects play even if whatever started the cue is disposed before they are due.
+     * @param cue The effects to play
+     */
+    public void play(SoundCue cue) {
+        double playAt = this.time;
+        for (SoundCue.Step step : cue.getSteps()) {
+            playAt += step.delay();
+            this.scheduledSounds.add(new ScheduledSound(step.effect(), cue.getPosition(), playAt, scheduled++, cue));
+        }
+    }
+
+    /**
+     * Stop the effects of a cue that have not played yet
+     * @param cue The cue to cancel
+     */
+    public void cancel(SoundCue cue) {
+        this.scheduledSounds.removeIf(sound -> sound.cue() == cue);
+    }
+
+    /**
+     * Stop every effect that has not played yet, such as when the game area is left
+     */
+    public void cancelAll() {
+        this.scheduledSounds.clear();
+    }
+
+    /**
+     * Get how many effects are waiting to be played
+     * @return The number of scheduled effects
+     */
+    public int getScheduledSoundCount() {
+        return this.scheduledSounds.size();
+    }
+
+    /**
+     * Play the effects that are due and move background music crossfades on, using the time passed since the
+     * last frame
+     */
+    public void update() {
+        GameTime timeSource = ServiceLocator.getTimeSource();
+        if (timeSource != null) {
+            this.update(timeSource.getDeltaTime());
+        }
+    }
+
+    /**
+     * Play the effects that are due and move background music crossfades on
+     * @param delta Seconds of game time passed since the last update
+     */
+    void update(float delta) {
+        this.backgroundMusicService.update(delta);
+        this.time += delta;
+        while (!this.scheduledSounds.isEmpty() && this.scheduledSounds.peek().playAt() <= this.time) {
+            ScheduledSound sound = this.scheduledSounds.poll();
+            try {
+                if (sound.position() == null) {
+                    this.effectsMusicService.play(sound.effect());
+                } else {
+                    this.effectsMusicService.play(sound.effect(), sound.position());
+                }
+            } catch (InvalidSoundFileException e) {
+                logger.error("Failed to play scheduled sound {}", sound.effect(), e);
+            }
+        }
+    }
+
+    /**
+     * An effect waiting to be played
+     * @param effect The effect to play
+     * @param position Where the effect is made, or null to play it at full volume
+     * @param playAt The game time in seconds to play it at
+     * @param order When it was scheduled relative to other effects
+     * @param cue The cue it belongs to
+     */
+    private record ScheduledSound(EffectSoundFile effect, Vector2 position, double playAt, long order, SoundCue cue) {
+    }
 }
@@ -0,0 +1,56 @@
+package com.csse3200.game.ui.terminal.commands;
+
+import java.util.ArrayList;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.services.ResourceService;
+import com.csse3200.game.services.ServiceLocator;
+
+/**
+ * A command for reporting the loaded assets, the asset groups in use and how much memory the loaded
+ * textures take up.
+ */
+public class AssetsCommand implements Command {
+  private static final Logger logger = LoggerFactory.getLogger(AssetsCommand.class);
+  private static final float BYTES_PER_MB = 1024f * 1024f;
+
+  /**
+   * Logs the loaded assets and acquired asset groups
+   * @param args command arguments
+   * @return command was successful
+   */
+  @Override
+  public boolean action(ArrayList<String> args) {
+    if (!isValid(args)) {
+      logger.debug("Invalid arguments received for 'assets' command: {}", args);
+      return false;
+    }
+    ResourceService resourceService = ServiceLocator.getResourceService();
+    if (resourceService == null) {
+      logger.info("No resource service is registered");
+      return false;
+    }
+
+    logger.info("{} assets loaded, {} waiting to stream in, textures using {} MB",
+        resourceService.getLoadedAssets(), resourceService.getStreamQueueSize(),
+        String.format("%.1f", resourceService.getTextureMemory() / BYTES_PER_MB));
+    Array<String> groups = resourceService.getAcquiredGroups();
+    groups.sort();
+    for (String group : groups) {
+      logger.info("  {} acquired {} time(s)", group, resourceService.getGroupReferences(group));
+    }
+    return true;
+  }
+
+  /**
+   * Validates the command arguments. The command takes no arguments.
+   * @param args command arguments
+   * @return is valid
+   */
+  boolean isValid(ArrayList<String> args) {
+    return args.isEmpty();
+  }
+}
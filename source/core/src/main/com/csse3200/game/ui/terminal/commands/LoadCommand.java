@@ -1,14 +1,20 @@
 package com.csse3200.game.ui.terminal.commands;
 
 import java.util.ArrayList;
+import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.files.SaveMetadata;
+import com.csse3200.game.services.SaveLoadService;
 import com.csse3200.game.services.ServiceLocator;
 
 /**
- * A command for loading the games previous state
+ * A command for loading the games previous state. With no arguments the most recent save is
+ * loaded, "load list" lists the save slots, and "load 2" loads the second slot. Any other argument
+ * is loaded as the path of a save file.
  */
 public class LoadCommand implements Command {
   private static final Logger logger = LoggerFactory.getLogger(LoadCommand.class);
@@ -22,12 +28,58 @@ public class LoadCommand implements Command {
       logger.debug("Invalid arguments received for 'load' command: {}", args);
       return false;
     }
-    if (args.size() == 1) {
-      if (ServiceLocator.getSaveLoadService().validSaveFile(args.get(0))) {
-        ServiceLocator.getSaveLoadService().load(args.get(0));
+    SaveLoadService saveLoadService = ServiceLocator.getSaveLoadService();
+    Consumer<Boolean> onComplete = loaded -> logger.info(loaded ? "Game loaded" : "Game could not be loaded");
+    if (args.isEmpty()) {
+      saveLoadService.load(onComplete);
+      return true;
+    }
+    if (args.get(0).equals("list")) {
+      listSlots(saveLoadService);
+      return true;
+    }
+    int slot = parseSlot(args.get(0));
+    if (slot > 0) {
+      if (!saveLoadService.validSlot(slot)) {
+        logger.info("Save slot {} is empty", slot);
+        return false;
       }
+      saveLoadService.loadSlot(slot, onComplete);
+      return true;
+    }
+    if (!saveLoadService.validSaveFile(args.get(0))) {
+      return false;
     }
-    ServiceLocator.getSaveLoadService().load();
+    saveLoadService.load(args.get(0), onComplete);
     return true;
+  }
+
+  private void listSlots(SaveLoadService saveLoadService) {
+    // Only the slot index is read, not the saves themselves
+    Array<SaveMetadata> slots = saveLoadService.getSlots();
+    for (int slot = 1; slot <= SaveLoadService.SLOT_COUNT; slot++) {
+      SaveMetadata metadata = null;
+      for (SaveMetadata saved : slots) {
+        if (saved.getSlot() == slot) {
+          metadata = saved;
+        }
+      }
+      if (metadata == null) {
+        logger.info("Slot {}: empty", slot);
+      } else {
+        logger.info("Slot {}: day {} {}:{}, oxygen {}%, played {} min", slot, metadata.getDay(),
+            metadata.getHour(), String.format("%02d", metadata.getMinute()), (int) metadata.getOxygen(),
+            metadata.getPlayTime() / 60_000);
+      }
+    }
+  }
+
+  private static int parseSlot(String arg) {
+    try {
+      int slot = Integer.parseInt(arg);
+      return slot >= 1 && slot <= SaveLoadService.SLOT_COUNT ? slot : -1;
+    } catch (NumberFormatException e) {
+      return -1;
     }
   }
+}
@@ -1,14 +1,16 @@
 package com.csse3200.game.ui.terminal.commands;
 
 import java.util.ArrayList;
+import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.csse3200.game.services.SaveLoadService;
 import com.csse3200.game.services.ServiceLocator;
 
 /**
- * A command for saving the games current state
+ * A command for saving the games current state, to the current save slot or to the slot given
  */
 public class SaveCommand implements Command {
   private static final Logger logger = LoggerFactory.getLogger(SaveCommand.class);
@@ -18,11 +20,27 @@ public class SaveCommand implements Command {
    * @param args command arguments
    */
   public boolean action(ArrayList<String> args) {
-    if (!args.isEmpty()) {
+    if (args.size() > 1) {
       logger.debug("Invalid arguments received for 'save' command: {}", args);
       return false;
     }
-    ServiceLocator.getSaveLoadService().save();
+    Consumer<Boolean> onComplete = saved -> logger.info(saved ? "Game saved" : "Game could not be saved");
+    if (args.isEmpty()) {
+      ServiceLocator.getSaveLoadService().save(onComplete);
+      return true;
+    }
+    int slot;
+    try {
+      slot = Integer.parseInt(args.get(0));
+    } catch (NumberFormatException e) {
+      logger.debug("Argument provided was not a valid save slot");
+      return false;
+    }
+    if (slot < 1 || slot > SaveLoadService.SLOT_COUNT) {
+      logger.debug("Save slot must be between 1 and {}", SaveLoadService.SLOT_COUNT);
+      return false;
+    }
+    ServiceLocator.getSaveLoadService().saveSlot(slot, onComplete);
     return true;
     }
   }
@@ -0,0 +1,113 @@
+package com.csse3200.game.ai.pathfinding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.areas.terrain.GameMap;
+import com.csse3200.game.areas.terrain.TerrainComponent;
+import com.csse3200.game.areas.terrain.TerrainFactory;
+import com.csse3200.game.components.CameraComponent;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.services.ResourceService;
+import com.csse3200.game.services.ServiceLocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class FlowFieldServiceTest {
+  private GameMap gameMap;
+  private Entity target;
+  private FlowFieldService flowField;
+
+  @BeforeEach
+  void setUp() {
+    ResourceService resourceService = new ResourceService();
+    resourceService.loadTextures(TerrainFactory.getMapTextures());
+    resourceService.loadAll();
+    ServiceLocator.registerResourceService(resourceService);
+
+    TerrainComponent terrainComponent = mock(TerrainComponent.class);
+    doReturn(TerrainFactory.WORLD_TILE_SIZE).when(terrainComponent).getTileSize();
+    gameMap = new GameMap(new TerrainFactory(new CameraComponent()));
+    gameMap.setTerrainComponent(terrainComponent);
+    gameMap.loadTestTerrain("configs/TestMaps/allDirt20x20_map.txt");
+
+    resourceService.unloadAssets(TerrainFactory.getMapTextures());
+    resourceService.dispose();
+
+    PathfindingService pathfinding = new PathfindingService(gameMap);
+    ServiceLocator.registerPathfindingService(pathfinding);
+
+    // Centre of the target is in the middle of tile (10, 10)
+    target = new Entity();
+    target.setPosition(10f, 10f);
+    flowField = new FlowFieldService(pathfinding, target, 5, 1);
+  }
+
+  @Test
+  void shouldStepTowardsTarget() {
+    flowField.update();
+
+    Vector2 step = new Vector2();
+    assertTrue(flowField.getNextStep(new Vector2(6.5f, 10.5f), step));
+    assertEquals(new Vector2(7.5f, 10.5f), step);
+
+    Vector2 direction = new Vector2();
+    assertTrue(flowField.getDirection(new Vector2(10.5f, 6.5f), direction));
+    assertEquals(0f, direction.x, 0.001f);
+    assertEquals(1f, direction.y, 0.001f);
+  }
+
+  @Test
+  void shouldNotStepOnTargetTileOrOutsideRadius() {
+    flowField.update();
+
+    Vector2 step = new Vector2();
+    assertFalse(flowField.getNextStep(new Vector2(10.2f, 10.8f), step));
+    assertFalse(flowField.covers(new Vector2(0.5f, 0.5f)));
+    assertFalse(flowField.getNextStep(new Vector2(0.5f, 0.5f), step));
+  }
+
+  @Test
+  void shouldNotStepWhenWalledOff() {
+    for (int y = 5; y <= 15; y++) {
+      gameMap.getTile(new GridPoint2(8, y)).setOccupied();
+    }
+    flowField.update();
+
+    assertFalse(flowField.getNextStep(new Vector2(6.5f, 10.5f), new Vector2()));
+    assertTrue(flowField.getNextStep(new Vector2(12.5f, 10.5f), new Vector2()));
+  }
+
+  @Test
+  void shouldApproximateLineOfSight() {
+    gameMap.getTile(new GridPoint2(8, 10)).setOccupied();
+    flowField.update();
+
+    assertFalse(flowField.isVisible(new Vector2(6.5f, 10.5f)));
+    assertTrue(flowField.isVisible(new Vector2(10.5f, 13.5f)));
+    assertTrue(flowField.isVisible(new Vector2(13.5f, 10.5f)));
+  }
+
+  @Test
+  void shouldOnlyRebuildWhenTargetOrTerrainChanges() {
+    flowField.update();
+    flowField.update();
+    assertEquals(1, flowField.getRebuildCount());
+
+    target.setPosition(12f, 10f);
+    flowField.update();
+    assertEquals(2, flowField.getRebuildCount());
+
+    gameMap.getTile(new GridPoint2(3, 3)).setOccupied();
+    flowField.update();
+    assertEquals(3, flowField.getRebuildCount());
+  }
+}
@@ -0,0 +1,142 @@
+package com.csse3200.game.ai.pathfinding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.areas.terrain.GameMap;
+import com.csse3200.game.areas.terrain.TerrainComponent;
+import com.csse3200.game.areas.terrain.TerrainFactory;
+import com.csse3200.game.components.CameraComponent;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.services.ResourceService;
+import com.csse3200.game.services.ServiceLocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+
+@ExtendWith(GameExtension.class)
+class PathfindingServiceTest {
+  private GameMap gameMap;
+  private PathfindingService pathfinding;
+
+  @BeforeEach
+  void setUp() {
+    ResourceService resourceService = new ResourceService();
+    resourceService.loadTextures(TerrainFactory.getMapTextures());
+    resourceService.loadAll();
+    ServiceLocator.registerResourceService(resourceService);
+
+    TerrainComponent terrainComponent = mock(TerrainComponent.class);
+    doReturn(TerrainFactory.WORLD_TILE_SIZE).when(terrainComponent).getTileSize();
+    gameMap = new GameMap(new TerrainFactory(new CameraComponent()));
+    gameMap.setTerrainComponent(terrainComponent);
+    gameMap.loadTestTerrain("configs/TestMaps/allDirt20x20_map.txt");
+
+    resourceService.unloadAssets(TerrainFactory.getMapTextures());
+    resourceService.dispose();
+
+    pathfinding = new PathfindingService(gameMap);
+    ServiceLocator.registerPathfindingService(pathfinding);
+  }
+
+  /** Blocks the column x = 10 apart from the top row. */
+  private void buildWall() {
+    for (int y = 0; y < 19; y++) {
+      gameMap.getTile(new GridPoint2(10, y)).setOccupied();
+    }
+  }
+
+  private void resolve(PathRequest request) {
+    for (int i = 0; i < 100 && !request.isDone(); i++) {
+      pathfinding.update();
+    }
+  }
+
+  @Test
+  void shouldFindStraightPath() {
+    PathRequest request = pathfinding.requestPath(new Vector2(2.5f, 5.5f), new Vector2(17.5f, 5.5f));
+    assertEquals(PathRequest.Status.PENDING, request.getStatus());
+
+    resolve(request);
+    assertEquals(PathRequest.Status.FOUND, request.getStatus());
+    // Nothing in the way, so smoothing leaves only the goal
+    assertEquals(List.of(new Vector2(17.5f, 5.5f)), request.getWaypoints());
+  }
+
+  @Test
+  void shouldPathAroundBlockedTiles() {
+    buildWall();
+    assertFalse(pathfinding.isTraversable(10, 5));
+    assertTrue(pathfinding.isTraversable(10, 19));
+
+    PathRequest request = pathfinding.requestPath(new Vector2(2.5f, 5.5f), new Vector2(17.5f, 5.5f));
+    resolve(request);
+
+    assertEquals(PathRequest.Status.FOUND, request.getStatus());
+    List<Vector2> waypoints = request.getWaypoints();
+    assertTrue(waypoints.size() > 1);
+    assertTrue(waypoints.stream().anyMatch(point -> point.y >= 19f));
+    assertEquals(new Vector2(17.5f, 5.5f), waypoints.get(waypoints.size() - 1));
+  }
+
+  @Test
+  void shouldShareRequestsForSameTiles() {
+    PathRequest first = pathfinding.requestPath(new Vector2(2.2f, 5.2f), new Vector2(17.5f, 5.5f));
+    PathRequest second = pathfinding.requestPath(new Vector2(2.8f, 5.8f), new Vector2(17.1f, 5.9f));
+    assertSame(first, second);
+  }
+
+  @Test
+  void shouldRespectExpansionBudget() {
+    buildWall();
+    pathfinding.setExpansionBudget(1);
+    PathRequest request = pathfinding.requestPath(new Vector2(2.5f, 5.5f), new Vector2(17.5f, 5.5f));
+
+    pathfinding.update();
+    assertEquals(1, pathfinding.getExpansionsLastFrame());
+    assertEquals(PathRequest.Status.PENDING, request.getStatus());
+    assertEquals(1, pathfinding.getPendingCount());
+  }
+
+  @Test
+  void shouldInvalidateWhenTerrainChanges() {
+    PathRequest request = pathfinding.requestPath(new Vector2(2.5f, 5.5f), new Vector2(17.5f, 5.5f));
+    resolve(request);
+    assertFalse(pathfinding.isStale(request));
+
+    gameMap.getTile(new GridPoint2(10, 5)).setOccupied();
+    assertTrue(pathfinding.isStale(request));
+    assertFalse(pathfinding.isTraversable(10, 5));
+
+    gameMap.getTile(new GridPoint2(10, 5)).setUnOccupied();
+    assertTrue(pathfinding.isTraversable(10, 5));
+  }
+
+  @Test
+  void shouldFailOutsideMap() {
+    PathRequest request = pathfinding.requestPath(new Vector2(2.5f, 5.5f), new Vector2(-3f, 5.5f));
+    assertEquals(PathRequest.Status.NOT_FOUND, request.getStatus());
+  }
+
+  @Test
+  void shouldFailWhenGoalIsEnclosed() {
+    for (int x = 14; x <= 16; x++) {
+      for (int y = 4; y <= 6; y++) {
+        if (x != 15 || y != 5) {
+          gameMap.getTile(new GridPoint2(x, y)).setOccupied();
+        }
+      }
+    }
+    PathRequest request = pathfinding.requestPath(new Vector2(2.5f, 5.5f), new Vector2(15.5f, 5.5f));
+    resolve(request);
+    assertEquals(PathRequest.Status.NOT_FOUND, request.getStatus());
+  }
+}
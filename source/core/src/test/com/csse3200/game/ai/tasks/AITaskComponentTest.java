@@ -1,5 +1,6 @@
 package com.csse3200.game.ai.tasks;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -8,7 +9,10 @@ import static org.mockito.Mockito.when;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import com.csse3200.game.entities.Entity;
 import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.ServiceLocator;
 
 @ExtendWith(GameExtension.class)
 class AITaskComponentTest {
@@ -80,4 +84,117 @@ class AITaskComponentTest {
 
     verify(task).stop();
   }
+
+  @Test
+  void shouldCachePrioritiesBetweenIntervals() {
+    GameTime gameTime = mock(GameTime.class);
+    when(gameTime.getTime()).thenReturn(0L);
+    ServiceLocator.registerTimeSource(gameTime);
+    AITaskScheduler scheduler = new AITaskScheduler();
+    ServiceLocator.registerAITaskScheduler(scheduler);
+
+    PriorityTask task = mock(PriorityTask.class);
+    when(task.getPriority()).thenReturn(1);
+    when(task.getStatus()).thenReturn(Task.Status.ACTIVE);
+    scheduler.setInterval(task.getClass(), 100L);
+
+    AITaskComponent taskComponent = new AITaskComponent();
+    taskComponent.addTask(task);
+
+    scheduler.startFrame();
+    taskComponent.update();
+    verify(task, times(1)).getPriority();
+
+    // Still inside the interval, so the cached priority is used
+    when(gameTime.getTime()).thenReturn(50L);
+    scheduler.startFrame();
+    taskComponent.update();
+    verify(task, times(1)).getPriority();
+    verify(task, times(2)).update();
+
+    when(gameTime.getTime()).thenReturn(150L);
+    scheduler.startFrame();
+    taskComponent.update();
+    verify(task, times(2)).getPriority();
+  }
+
+  @Test
+  void shouldReevaluateOnEvent() {
+    GameTime gameTime = mock(GameTime.class);
+    when(gameTime.getTime()).thenReturn(0L);
+    ServiceLocator.registerTimeSource(gameTime);
+    AITaskScheduler scheduler = new AITaskScheduler();
+    ServiceLocator.registerAITaskScheduler(scheduler);
+
+    PriorityTask task = mock(PriorityTask.class);
+    when(task.getPriority()).thenReturn(1);
+    when(task.getStatus()).thenReturn(Task.Status.ACTIVE);
+    scheduler.setInterval(task.getClass(), 1000L);
+
+    AITaskComponent taskComponent = new AITaskComponent();
+    taskComponent.addTask(task);
+    Entity entity = new Entity().addComponent(taskComponent);
+    entity.create();
+
+    scheduler.startFrame();
+    taskComponent.update();
+    entity.getEvents().trigger(AITaskComponent.EVT_REEVALUATE);
+    taskComponent.update();
+    verify(task, times(2)).getPriority();
+  }
+
+  @Test
+  void shouldReevaluateWhenHealthChanges() {
+    GameTime gameTime = mock(GameTime.class);
+    when(gameTime.getTime()).thenReturn(0L);
+    ServiceLocator.registerTimeSource(gameTime);
+    AITaskScheduler scheduler = new AITaskScheduler();
+    ServiceLocator.registerAITaskScheduler(scheduler);
+
+    PriorityTask task = mock(PriorityTask.class);
+    when(task.getPriority()).thenReturn(1);
+    when(task.getStatus()).thenReturn(Task.Status.ACTIVE);
+    scheduler.setInterval(task.getClass(), 1000L);
+
+    AITaskComponent taskComponent = new AITaskComponent();
+    taskComponent.addTask(task);
+    Entity entity = new Entity().addComponent(taskComponent);
+    entity.create();
+
+    scheduler.startFrame();
+    taskComponent.update();
+    entity.getEvents().trigger("updateHealth", 50);
+    taskComponent.update();
+    verify(task, times(2)).getPriority();
+  }
+
+  @Test
+  void shouldLimitEvaluationsToBudget() {
+    GameTime gameTime = mock(GameTime.class);
+    when(gameTime.getTime()).thenReturn(0L);
+    ServiceLocator.registerTimeSource(gameTime);
+    AITaskScheduler scheduler = new AITaskScheduler();
+    scheduler.setBudget(1);
+    ServiceLocator.registerAITaskScheduler(scheduler);
+
+    PriorityTask first = mock(PriorityTask.class);
+    PriorityTask second = mock(PriorityTask.class);
+    when(first.getPriority()).thenReturn(1);
+    when(second.getPriority()).thenReturn(2);
+    when(second.getStatus()).thenReturn(Task.Status.ACTIVE);
+    scheduler.setInterval(first.getClass(), 10L);
+
+    AITaskComponent taskComponent = new AITaskComponent();
+    taskComponent.addTask(first).addTask(second);
+    scheduler.startFrame();
+    taskComponent.update();
+
+    // Both tasks are due, but only one evaluation fits in the budget
+    when(gameTime.getTime()).thenReturn(100L);
+    scheduler.startFrame();
+    taskComponent.update();
+    assertEquals(2, scheduler.getEvaluationsLastFrame());
+    scheduler.startFrame();
+    assertEquals(1, scheduler.getEvaluationsLastFrame());
+  }
 }
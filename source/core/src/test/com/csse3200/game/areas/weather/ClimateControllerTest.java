@@ -13,6 +13,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -474,4 +475,23 @@ class ClimateControllerTest {
 		verify(lightService,times(1)).setColourOffset(Color.BLUE);
 	}
 
-}
\ No newline at end of file
+	@Test
+	void testLightingEffectIsSampledWhenStarted() {
+		when(gameTime.getDeltaTime()).thenReturn(0.5f);
+		int[] gradientCalls = {0};
+		controller.getEvents().trigger("lightingEffect", 2.0f, (Function<Float, Color>) t -> {
+			gradientCalls[0]++;
+			return new Color(t, 0.0f, 0.0f, 0.0f);
+		});
+		int samples = gradientCalls[0];
+
+		controller.updateClimate();
+		controller.updateClimate();
+
+		// The gradient is not evaluated again while the effect plays
+		assertEquals(samples, gradientCalls[0]);
+		ArgumentCaptor<Color> colour = ArgumentCaptor.forClass(Color.class);
+		verify(lightService, times(2)).setColourOffset(colour.capture());
+		assertEquals(0.5f, colour.getValue().r, 0.001f);
+	}
+}
@@ -16,6 +16,8 @@ import org.mockito.MockedConstruction;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyFloat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(GameExtension.class)
@@ -99,15 +101,69 @@ class AuraLightComponentTest {
 			Entity entity = createEntity();
 			AuraLightComponent component = entity.getComponent(AuraLightComponent.class);
 			light = mock.constructed().get(0);
+			component.toggleLight();
+			when(lightService.isVisible(any(Vector2.class), anyFloat())).thenReturn(true);
 
-			Vector2 position = new Vector2(0, 0);
-			Vector2 centrePosition = new Vector2(0.5f, 0.5f);
+			Vector2 position = new Vector2(1, 1);
+			Vector2 centrePosition = new Vector2(1.5f, 1.5f);
 
 			entity.setPosition(position);
 			component.update();
 
-			// Once when created, once when updated
-			verify(light, times(2)).setPosition(centrePosition);
+			verify(light, times(1)).setPosition(centrePosition);
+		}
+	}
+
+	@Test
+	void testUpdateSkipsUnmovedLight() {
+		try (MockedConstruction<PointLight> mock = mockConstruction(PointLight.class)) {
+			Entity entity = createEntity();
+			AuraLightComponent component = entity.getComponent(AuraLightComponent.class);
+			light = mock.constructed().get(0);
+			component.toggleLight();
+			when(lightService.isVisible(any(Vector2.class), anyFloat())).thenReturn(true);
+
+			component.update();
+
+			// Once when created and toggled on, never on update
+			verify(light, times(2)).setPosition(new Vector2(0.5f, 0.5f));
+		}
+	}
+
+	@Test
+	void testUpdateSkipsHiddenLight() {
+		try (MockedConstruction<PointLight> mock = mockConstruction(PointLight.class)) {
+			Entity entity = createEntity();
+			AuraLightComponent component = entity.getComponent(AuraLightComponent.class);
+			light = mock.constructed().get(0);
+			component.toggleLight();
+			when(lightService.isVisible(any(Vector2.class), anyFloat())).thenReturn(false);
+
+			entity.setPosition(new Vector2(100, 100));
+			component.update();
+
+			verify(light, never()).setPosition(new Vector2(100.5f, 100.5f));
+		}
+	}
+
+	@Test
+	void testStaticLight() {
+		try (MockedConstruction<PointLight> mock = mockConstruction(PointLight.class)) {
+			when(lightService.isVisible(any(Vector2.class), anyFloat())).thenReturn(false);
+			Entity entity = new Entity().addComponent(new AuraLightComponent(4f, Color.TAN, true));
+			entity.create();
+			AuraLightComponent component = entity.getComponent(AuraLightComponent.class);
+			light = mock.constructed().get(0);
+			component.toggleLight();
+
+			// Static lights are moved even when hidden, since they are baked over the whole map
+			entity.setPosition(new Vector2(100, 100));
+			component.update();
+
+			verify(light, times(1)).setPosition(new Vector2(100.5f, 100.5f));
+			verify(lightService).getStaticRayHandler();
+			verify(lightService, times(4)).markStaticChanged();
+			verify(lightService, never()).markChanged();
 		}
 	}
 
@@ -1,8 +1,11 @@
 package com.csse3200.game.components;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyFloat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -108,15 +111,48 @@ class ConeLightComponentTest {
 			Entity entity = createEntity();
 			ConeLightComponent component = entity.getComponent(ConeLightComponent.class);
 			light = mock.constructed().get(0);
+			component.toggleLight();
+			when(lightService.isVisible(any(Vector2.class), anyFloat())).thenReturn(true);
 
-			Vector2 position = new Vector2(0, 0);
-			Vector2 centrePosition = new Vector2(0.5f, 0.5f);
+			Vector2 position = new Vector2(1, 1);
+			Vector2 centrePosition = new Vector2(1.5f, 1.5f);
 
 			entity.setPosition(position);
 			component.update();
 
-			// Once on create, once on update
-			verify(light, times(2)).setPosition(centrePosition);
+			verify(light, times(1)).setPosition(centrePosition);
+		}
+	}
+
+	@Test
+	void testUpdateSkipsUnmovedLight() {
+		try (MockedConstruction<ConeLight> mock = mockConstruction(ConeLight.class)) {
+			Entity entity = createEntity();
+			ConeLightComponent component = entity.getComponent(ConeLightComponent.class);
+			light = mock.constructed().get(0);
+			component.toggleLight();
+			when(lightService.isVisible(any(Vector2.class), anyFloat())).thenReturn(true);
+
+			component.update();
+
+			// Once on create and toggled on, never on update
+			verify(light, times(2)).setPosition(new Vector2(0.5f, 0.5f));
+		}
+	}
+
+	@Test
+	void testUpdateSkipsHiddenLight() {
+		try (MockedConstruction<ConeLight> mock = mockConstruction(ConeLight.class)) {
+			Entity entity = createEntity();
+			ConeLightComponent component = entity.getComponent(ConeLightComponent.class);
+			light = mock.constructed().get(0);
+			component.toggleLight();
+			when(lightService.isVisible(any(Vector2.class), anyFloat())).thenReturn(false);
+
+			entity.setPosition(new Vector2(100, 100));
+			component.update();
+
+			verify(light, never()).setPosition(new Vector2(100.5f, 100.5f));
 		}
 	}
 
@@ -14,6 +14,7 @@ import com.badlogic.gdx.physics.box2d.Fixture;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.extensions.GameExtension;
 import com.csse3200.game.physics.PhysicsService;
+import com.csse3200.game.physics.PhysicsTestUtils;
 import com.csse3200.game.physics.components.HitboxComponent;
 import com.csse3200.game.physics.components.PhysicsComponent;
 import com.csse3200.game.services.ServiceLocator;
@@ -33,7 +34,7 @@ class TouchAttackComponentTest {
 
     Fixture entityFixture = entity.getComponent(HitboxComponent.class).getFixture();
     Fixture targetFixture = target.getComponent(HitboxComponent.class).getFixture();
-    entity.getEvents().trigger("collisionStart", entityFixture, targetFixture);
+    PhysicsTestUtils.beginContact(entityFixture, targetFixture);
 
     Assertions.assertEquals(0, target.getComponent(CombatStatsComponent.class).getHealth());
   }
@@ -47,7 +48,7 @@ class TouchAttackComponentTest {
 
     Fixture entityFixture = entity.getComponent(HitboxComponent.class).getFixture();
     Fixture targetFixture = target.getComponent(HitboxComponent.class).getFixture();
-    entity.getEvents().trigger("collisionStart", entityFixture, targetFixture);
+    PhysicsTestUtils.beginContact(entityFixture, targetFixture);
 
     assertEquals(10, target.getComponent(CombatStatsComponent.class).getHealth());
   }
@@ -67,7 +68,7 @@ class TouchAttackComponentTest {
     Fixture targetFixture = target.getComponent(HitboxComponent.class).getFixture();
 
     // This should not cause an exception, but the attack should be ignored
-    entity.getEvents().trigger("collisionStart", entityFixture, targetFixture);
+    PhysicsTestUtils.beginContact(entityFixture, targetFixture);
   }
 
   Entity createAttacker(short targetLayer) {
@@ -0,0 +1,111 @@
+package com.csse3200.game.components.npc;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.areas.GameArea;
+import com.csse3200.game.areas.weather.BlizzardEvent;
+import com.csse3200.game.areas.weather.ClimateController;
+import com.csse3200.game.components.CameraComponent;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.rendering.RenderService;
+import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.TimeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(GameExtension.class)
+class FireflySwarmComponentTest {
+    private FireflySwarmComponent swarm;
+    private TimeService timeService;
+    private ClimateController climateController;
+
+    @BeforeEach
+    void setup() {
+        AtlasRegion region = mock(AtlasRegion.class);
+        doReturn(32).when(region).getRegionWidth();
+        doReturn(32).when(region).getRegionHeight();
+        TextureAtlas atlas = mock(TextureAtlas.class);
+        doReturn(new Array<>(new AtlasRegion[] {region})).when(atlas).findRegions("default");
+
+        timeService = mock(TimeService.class);
+        ServiceLocator.registerTimeService(timeService);
+        GameTime gameTime = mock(GameTime.class);
+        doReturn(1f).when(gameTime).getDeltaTime();
+        ServiceLocator.registerTimeSource(gameTime);
+        GameArea gameArea = mock(GameArea.class);
+        climateController = mock(ClimateController.class);
+        doReturn(climateController).when(gameArea).getClimateController();
+        ServiceLocator.registerGameArea(gameArea);
+        ServiceLocator.registerRenderService(new RenderService());
+
+        swarm = new FireflySwarmComponent(atlas, 10);
+        new Entity().addComponent(swarm).create();
+    }
+
+    @Test
+    void shouldNotSpawnPastCapacity() {
+        for (int i = 0; i < swarm.getCapacity(); i++) {
+            assertTrue(swarm.spawn(1f, 1f));
+        }
+        assertFalse(swarm.spawn(1f, 1f));
+        assertEquals(10, swarm.getCount());
+    }
+
+    @Test
+    void shouldStayInBounds() {
+        swarm.setBounds(2f, 2f);
+        swarm.spawn(0f, 0f);
+        swarm.spawn(2f, 2f);
+        for (int tick = 0; tick < 100; tick++) {
+            swarm.update();
+            for (int i = 0; i < swarm.getCount(); i++) {
+                assertTrue(swarm.getX(i) >= 0f && swarm.getX(i) <= 2f);
+                assertTrue(swarm.getY(i) >= 0f && swarm.getY(i) <= 2f);
+            }
+        }
+    }
+
+    @Test
+    void shouldClearDuringDay() {
+        swarm.spawn(1f, 1f);
+        doReturn(true).when(timeService).isDay();
+        swarm.update();
+        assertEquals(0, swarm.getCount());
+    }
+
+    @Test
+    void shouldSurviveDayDuringBlizzard() {
+        swarm.spawn(1f, 1f);
+        doReturn(true).when(timeService).isDay();
+        doReturn(mock(BlizzardEvent.class)).when(climateController).getCurrentWeatherEvent();
+        swarm.update();
+        assertEquals(1, swarm.getCount());
+    }
+
+    @Test
+    void shouldOnlyDrawVisibleFireflies() {
+        OrthographicCamera camera = new OrthographicCamera(10f, 10f);
+        CameraComponent cameraComponent = mock(CameraComponent.class);
+        doReturn(camera).when(cameraComponent).getCamera();
+        ServiceLocator.registerCameraComponent(cameraComponent);
+
+        swarm.spawn(1f, 1f);
+        swarm.spawn(2f, -3f);
+        swarm.spawn(50f, 50f);
+        SpriteBatch batch = mock(SpriteBatch.class);
+        swarm.render(batch);
+        verify(batch, times(2)).draw(any(TextureRegion.class), anyFloat(), anyFloat(), anyFloat(), anyFloat());
+    }
+}
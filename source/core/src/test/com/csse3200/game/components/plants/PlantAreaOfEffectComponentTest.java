@@ -2,12 +2,15 @@ package com.csse3200.game.components.plants;
 
 import com.badlogic.gdx.physics.box2d.Fixture;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityType;
 import com.csse3200.game.extensions.GameExtension;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 /**
@@ -91,5 +94,43 @@ public class PlantAreaOfEffectComponentTest {
         plantAreaOfEffectComponent.onCollisionEnd(me, other);
         assertEquals(0, plantAreaOfEffectComponent.getEntitiesInRange().size());
     }
-    
+
+    /**
+     * Verifies that the spatial index sensor is a point, the same as the sensor fixture.
+     */
+    @Test
+    public void testSensorRadiusIsPoint() {
+        plantAreaOfEffectComponent.setRadius(3f);
+        assertEquals(0f, plantAreaOfEffectComponent.getSensorRadius());
+    }
+
+    /**
+     * Verifies that the player is in range between entering and leaving the spatial index sensor.
+     */
+    @Test
+    public void testPlayerEnterAndExit() {
+        when(entity.getType()).thenReturn(EntityType.PLAYER);
+        assertFalse(plantAreaOfEffectComponent.isPlayerInRange());
+
+        plantAreaOfEffectComponent.onEnter(entity);
+        assertTrue(plantAreaOfEffectComponent.isPlayerInRange());
+        assertEquals(1, plantAreaOfEffectComponent.getEntitiesInRange().size());
+
+        plantAreaOfEffectComponent.onExit(entity);
+        assertFalse(plantAreaOfEffectComponent.isPlayerInRange());
+        assertEquals(0, plantAreaOfEffectComponent.getEntitiesInRange().size());
+    }
+
+    /**
+     * Verifies that other entities entering the spatial index sensor do not count as the player.
+     */
+    @Test
+    public void testOtherEntityEnter() {
+        when(entity.getType()).thenReturn(EntityType.COW);
+
+        plantAreaOfEffectComponent.onEnter(entity);
+        assertFalse(plantAreaOfEffectComponent.isPlayerInRange());
+        assertEquals(1, plantAreaOfEffectComponent.getEntitiesInRange().size());
+    }
+
 }
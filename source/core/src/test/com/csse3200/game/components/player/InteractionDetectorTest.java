@@ -20,6 +20,7 @@ import com.csse3200.game.components.InteractionDetector;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.extensions.GameExtension;
 import com.csse3200.game.physics.PhysicsService;
+import com.csse3200.game.physics.PhysicsTestUtils;
 import com.csse3200.game.physics.components.ColliderComponent;
 import com.csse3200.game.physics.components.HitboxComponent;
 import com.csse3200.game.physics.components.PhysicsComponent;
@@ -56,34 +57,34 @@ class InteractionDetectorTest {
         Fixture entity1Fixture = entity1.getComponent(HitboxComponent.class).getFixture();
         Fixture entity2Fixture = entity2.getComponent(HitboxComponent.class).getFixture();
 
-        // Test event listeners work as it inherits from HitBoxComponent so collisions are assumed to work as intended.
-        // trigger collisionStart
-        interactionEntity.getEvents().trigger("collisionStart", interactionFixture, entity1Fixture);
-        interactionEntity.getEvents().trigger("collisionStart", interactionFixture, entity2Fixture);
+        // Test collision listeners work as it inherits from HitBoxComponent so collisions are assumed to work as intended.
+        // report contact start
+        PhysicsTestUtils.beginContact(interactionFixture, entity1Fixture);
+        PhysicsTestUtils.beginContact(entity2Fixture, interactionFixture);
 
         // Check entities are added to entitiesInRange
         assertTrue(interactor.getEntitiesInRange().contains(entity1));
         assertTrue(interactor.getEntitiesInRange().contains(entity2));
 
-        // trigger collisionEnd
-        interactionEntity.getEvents().trigger("collisionEnd", interactionFixture, entity1Fixture);
+        // report contact end
+        PhysicsTestUtils.endContact(interactionFixture, entity1Fixture);
 
         // Check entity1 no longer in range
         assertFalse(interactor.getEntitiesInRange().contains(entity1));
         assertTrue(interactor.getEntitiesInRange().contains(entity2));
 
-        // trigger collision with fixture != Interaction fixture
+        // report contact with fixture != Interaction fixture
         Fixture colliderFixture = interactionEntity.getComponent(ColliderComponent.class).getFixture();
-        interactionEntity.getEvents().trigger("collisionStart", colliderFixture, entity1Fixture);
-        interactionEntity.getEvents().trigger("collisionEnd", colliderFixture, entity2Fixture);
+        PhysicsTestUtils.beginContact(colliderFixture, entity1Fixture);
+        PhysicsTestUtils.endContact(colliderFixture, entity2Fixture);
 
         // Check no changes made
         assertFalse(interactor.getEntitiesInRange().contains(entity1));
         assertTrue(interactor.getEntitiesInRange().contains(entity2));
 
         // Check empty list returned
-        interactionEntity.getEvents().trigger("collisionEnd", interactionFixture, entity1Fixture);
-        interactionEntity.getEvents().trigger("collisionEnd", interactionFixture, entity2Fixture);
+        PhysicsTestUtils.endContact(interactionFixture, entity1Fixture);
+        PhysicsTestUtils.endContact(interactionFixture, entity2Fixture);
         assertTrue(interactor.getEntitiesInRange().isEmpty());
     }
 
@@ -18,6 +18,7 @@ import com.csse3200.game.extensions.GameExtension;
 import com.csse3200.game.input.InputService;
 import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.PhysicsService;
+import com.csse3200.game.physics.PhysicsTestUtils;
 import com.csse3200.game.physics.components.HitboxComponent;
 import com.csse3200.game.physics.components.PhysicsComponent;
 import com.csse3200.game.rendering.RenderService;
@@ -96,34 +97,41 @@ class ItemPickupComponentTest {
     @Test
     void shouldPickupItem() {
         // Try add the item to inventory
-        picker.getEvents().trigger("collisionStart", picker.getComponent(HitboxComponent.class).getFixture(),
+        PhysicsTestUtils.beginContact(picker.getComponent(HitboxComponent.class).getFixture(),
                 pickupItem.getComponent(HitboxComponent.class).getFixture());
         assertTrue(picker.getComponent(InventoryComponent.class).hasItem(pickupItem));
     }
 
     @Test
     void shouldNotPickupItem() {
-        // Try add the item to inventory
-        picker.getEvents().trigger("collisionStart", pickupItem.getComponent(HitboxComponent.class).getFixture(),
-                picker.getComponent(HitboxComponent.class).getFixture());
+        // Contact with a fixture other than the picker's hitbox
+        Entity other = new Entity()
+                .addComponent(new PhysicsComponent())
+                .addComponent(new HitboxComponent());
+        other.create();
+        PhysicsTestUtils.beginContact(pickupItem.getComponent(HitboxComponent.class).getFixture(),
+                other.getComponent(HitboxComponent.class).getFixture());
         assertFalse(picker.getComponent(InventoryComponent.class).hasItem(pickupItem));
 
         pickupItem.getComponent(HitboxComponent.class).setLayer(PhysicsLayer.OBSTACLE);
-        picker.getEvents().trigger("collisionStart", picker.getComponent(HitboxComponent.class).getFixture(),
-                picker.getComponent(HitboxComponent.class).getFixture());
+        PhysicsTestUtils.beginContact(picker.getComponent(HitboxComponent.class).getFixture(),
+                pickupItem.getComponent(HitboxComponent.class).getFixture());
         assertFalse(picker.getComponent(InventoryComponent.class).hasItem(pickupItem));
     }
 
     @Test
     void shouldNotPickupNotItem() {
-        Entity notItem = new Entity().addComponent(new HitboxComponent());
+        Entity notItem = new Entity()
+                .addComponent(new PhysicsComponent())
+                .addComponent(new HitboxComponent());
+        notItem.create();
         // Try add the item to inventory
-        picker.getEvents().trigger("collisionStart", notItem.getComponent(HitboxComponent.class).getFixture(),
-                picker.getComponent(HitboxComponent.class).getFixture());
+        PhysicsTestUtils.beginContact(picker.getComponent(HitboxComponent.class).getFixture(),
+                notItem.getComponent(HitboxComponent.class).getFixture());
         assertFalse(picker.getComponent(InventoryComponent.class).hasItem(notItem));
 
         notItem.getComponent(HitboxComponent.class).setLayer(PhysicsLayer.OBSTACLE);
-        picker.getEvents().trigger("collisionStart", picker.getComponent(HitboxComponent.class).getFixture(),
+        PhysicsTestUtils.beginContact(notItem.getComponent(HitboxComponent.class).getFixture(),
                 picker.getComponent(HitboxComponent.class).getFixture());
         assertFalse(picker.getComponent(InventoryComponent.class).hasItem(notItem));
     }
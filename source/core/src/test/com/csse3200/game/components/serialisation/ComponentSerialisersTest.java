@@ -0,0 +1,440 @@
+package com.csse3200.game.components.serialisation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.MockedStatic;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.JsonWriter;
+import com.csse3200.game.areas.GameArea;
+import com.csse3200.game.areas.terrain.CropTileComponent;
+import com.csse3200.game.areas.terrain.ShipPartTileComponent;
+import com.csse3200.game.areas.weather.ClimateController;
+import com.csse3200.game.components.Component;
+import com.csse3200.game.components.ConeLightComponent;
+import com.csse3200.game.components.combat.CombatStatsComponent;
+import com.csse3200.game.components.items.ClueComponent;
+import com.csse3200.game.components.items.ItemComponent;
+import com.csse3200.game.components.items.ItemType;
+import com.csse3200.game.components.items.WateringCanLevelComponent;
+import com.csse3200.game.components.npc.TamableComponent;
+import com.csse3200.game.components.plants.PlantComponent;
+import com.csse3200.game.components.plants.PlantComponent.GrowthStage;
+import com.csse3200.game.components.player.HungerComponent;
+import com.csse3200.game.components.player.InventoryComponent;
+import com.csse3200.game.components.ship.ShipAnimationController;
+import com.csse3200.game.components.ship.ShipDisplay;
+import com.csse3200.game.components.ship.ShipLightComponent;
+import com.csse3200.game.components.ship.ShipProgressComponent;
+import com.csse3200.game.components.ship.ShipProgressComponent.Feature;
+import com.csse3200.game.components.ship.ShipTimeSkipComponent;
+import com.csse3200.game.components.tractor.TractorActions;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityType;
+import com.csse3200.game.entities.factories.ShipDebrisFactory;
+import com.csse3200.game.events.EventHandler;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.files.BinarySaveReader;
+import com.csse3200.game.files.BinarySaveWriter;
+import com.csse3200.game.services.FactoryService;
+import com.csse3200.game.services.PlayerHungerService;
+import com.csse3200.game.services.ResourceService;
+import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.TimeService;
+import com.csse3200.game.services.plants.PlantCommandService;
+import com.csse3200.game.services.plants.PlantInfoService;
+
+@ExtendWith(GameExtension.class)
+class ComponentSerialisersTest {
+  private GameArea gameArea;
+
+  @BeforeEach
+  void beforeEach() {
+    ServiceLocator.registerPlayerHungerService(new PlayerHungerService());
+    gameArea = mock(GameArea.class);
+    ServiceLocator.registerGameArea(gameArea);
+  }
+
+  @AfterEach
+  void afterEach() {
+    ServiceLocator.clear();
+  }
+
+  @Test
+  void shouldRoundTripPlayerComponents() throws IOException {
+    CombatStatsComponent combatStats = new CombatStatsComponent(100, 10);
+    combatStats.setHealth(42);
+    HungerComponent hunger = new HungerComponent(100);
+    hunger.setHungerLevel(17);
+
+    JsonValue components = writeBinary(combatStats, hunger);
+
+    CombatStatsComponent readStats = new CombatStatsComponent(0, 0);
+    readStats.read(null, components);
+    HungerComponent readHunger = new HungerComponent(0);
+    readHunger.read(null, components);
+    assertEquals(42, readStats.getHealth());
+    assertEquals(17, readHunger.getHungerLevel());
+  }
+
+  @Test
+  void shouldRoundTripItemComponents() throws IOException {
+    WateringCanLevelComponent wateringCan = new WateringCanLevelComponent(50);
+    wateringCan.setCurrentLevel(12.5f);
+    ClueComponent clue = new ClueComponent();
+    clue.setCurrentBaseLocation(new Vector2(20, 75));
+
+    JsonValue components = writeBinary(wateringCan, clue);
+
+    WateringCanLevelComponent readWateringCan = new WateringCanLevelComponent(50);
+    readWateringCan.read(null, components);
+    ClueComponent readClue = new ClueComponent();
+    readClue.read(null, components);
+    assertEquals(12.5f, readWateringCan.getCurrentLevel());
+    assertEquals(new Vector2(20, 75), readClue.getCurrentBaseLocation());
+  }
+
+  @Test
+  void shouldRoundTripTamedAnimals() throws IOException {
+    TamableComponent tamable = new TamableComponent(new Entity(), 3, 0.5, "Ear of Cosmic Cob");
+    tamable.setTame(true);
+
+    JsonValue components = writeBinary(tamable);
+
+    // Tamed animals were written as "tamed" but read as "Tamed", so they never loaded as tamed
+    assertTrue(components.get("TamableComponent").has("tamed"));
+    TamableComponent readTamable = new TamableComponent(new Entity(), 3, 0.5, "Ear of Cosmic Cob");
+    readTamable.read(null, components);
+    assertTrue(readTamable.isTamed());
+  }
+
+  @Test
+  void shouldRoundTripTractor() throws IOException {
+    TractorActions actions = new TractorActions();
+    actions.setMuted(false);
+    ConeLightComponent light = mock(ConeLightComponent.class);
+    when(light.getActive()).thenReturn(true);
+    when(light.getDistance()).thenReturn(8f);
+
+    JsonValue components = writeBinary(actions);
+    writeBinary(components, ComponentSerialisers.get(ConeLightComponent.class), light);
+
+    TractorActions readActions = new TractorActions();
+    readActions.read(null, components);
+    ConeLightComponent readLight = mock(ConeLightComponent.class);
+    ComponentSerialisers.get(ConeLightComponent.class).read(readLight, null, components);
+    assertFalse(readActions.isMuted());
+    verify(readLight).setActive(true);
+    verify(readLight).setDistance(8f);
+  }
+
+  @Test
+  void shouldRoundTripShip() throws IOException {
+    Entity ship = new Entity();
+    ShipProgressComponent progress = new ShipProgressComponent();
+    ShipTimeSkipComponent timeSkip = new ShipTimeSkipComponent();
+    ship.addComponent(progress);
+    progress.create();
+    progress.setProgress(7);
+    progress.getUnlockedFeatures().add(Feature.LIGHT);
+    progress.getUnlockedFeatures().add(Feature.BED);
+    timeSkip.setUnlocked(true);
+
+    ShipLightComponent light = mock(ShipLightComponent.class);
+    when(light.isUnlocked()).thenReturn(true);
+    when(light.getActive()).thenReturn(false);
+    ShipDisplay display = mock(ShipDisplay.class);
+    when(display.isLightUnlocked()).thenReturn(true);
+    when(display.isSleepUnlocked()).thenReturn(true);
+    when(display.getRepairsMade()).thenReturn(7);
+    ShipAnimationController animation = mock(ShipAnimationController.class);
+    when(animation.getAnimation()).thenReturn("ship_3");
+
+    JsonValue components = writeBinary(progress, timeSkip);
+    writeBinary(components, ComponentSerialisers.get(ShipLightComponent.class), light);
+    writeBinary(components, ComponentSerialisers.get(ShipDisplay.class), display);
+    writeBinary(components, ComponentSerialisers.get(ShipAnimationController.class), animation);
+
+    Entity readShip = new Entity();
+    ShipProgressComponent readProgress = new ShipProgressComponent();
+    readShip.addComponent(readProgress);
+    readProgress.create();
+    readProgress.read(null, components);
+    ShipTimeSkipComponent readTimeSkip = new ShipTimeSkipComponent();
+    readTimeSkip.read(null, components);
+    assertEquals(7, readProgress.getProgress());
+    assertEquals(progress.getUnlockedFeatures(), readProgress.getUnlockedFeatures());
+    assertTrue(readTimeSkip.isUnlocked());
+    assertFalse(readTimeSkip.isTimeSkipInProgress());
+
+    ShipLightComponent readLight = mock(ShipLightComponent.class);
+    ComponentSerialisers.get(ShipLightComponent.class).read(readLight, null, components);
+    verify(readLight).setUnlocked(true);
+    verify(readLight).setActive(false);
+    ShipDisplay readDisplay = mock(ShipDisplay.class);
+    ComponentSerialisers.get(ShipDisplay.class).read(readDisplay, null, components);
+    verify(readDisplay).setLightUnlocked(true);
+    verify(readDisplay).setSleepUnlocked(true);
+    verify(readDisplay).setRepairsMade(7);
+    ShipAnimationController readAnimation = mock(ShipAnimationController.class);
+    ComponentSerialisers.get(ShipAnimationController.class).read(readAnimation, null, components);
+    verify(readAnimation).setAnimation("ship_3");
+  }
+
+  @Test
+  void shouldRoundTripCropTileWithPlant() throws IOException {
+    registerPlantServices();
+    CropTileComponent tile = new CropTileComponent(1.5f, 0.8f);
+    tile.setFertilised(true);
+    Entity plant = createPlant(tile);
+    plant.create();
+    PlantComponent plantComponent = plant.getComponent(PlantComponent.class);
+    plantComponent.setPlantHealth(42);
+    plantComponent.setCurrentGrowthLevel(25);
+    plantComponent.setCurrentMaxHealth(60);
+    plantComponent.setNumOfDaysAsAdult(2);
+    plantComponent.setIsEating(true);
+    plantComponent.setCountMinutesOfDigestion(9);
+    plantComponent.setForced(true);
+    plantComponent.loadGrowthStage(GrowthStage.JUVENILE);
+    tile.setPlant(plant);
+
+    JsonValue components = writeBinary(tile);
+
+    CropTileComponent readTile = new CropTileComponent();
+    try (MockedStatic<FactoryService> factoryService = mockStatic(FactoryService.class)) {
+      Map<String, Function<CropTileComponent, Entity>> plantFactories = Map.of("Test",
+          ComponentSerialisersTest::createPlant);
+      factoryService.when(FactoryService::getPlantFactories).thenReturn(plantFactories);
+      readTile.read(null, components);
+    }
+    assertEquals(1.5f, readTile.getWaterContent());
+    assertEquals(0.8f, readTile.getSoilQuality());
+    assertTrue(readTile.isFertilised());
+
+    Entity readPlant = readTile.getPlant();
+    assertNotNull(readPlant);
+    verify(gameArea).spawnEntity(readPlant);
+    PlantComponent readPlantComponent = readPlant.getComponent(PlantComponent.class);
+    assertEquals(readTile, readPlantComponent.getCropTile());
+    assertEquals(42, readPlantComponent.getPlantHealth());
+    assertEquals(25, readPlantComponent.getCurrentGrowthLevel());
+    assertEquals(60, readPlantComponent.getCurrentMaxHealth());
+    assertEquals(2, readPlantComponent.getNumOfDaysAsAdult());
+    assertTrue(readPlantComponent.getIsEating());
+    assertEquals(9, readPlantComponent.getCountMinutesOfDigestion());
+    assertTrue(readPlantComponent.isForced());
+    assertFalse(readPlantComponent.isPlantDestroyed());
+    assertFalse(readPlantComponent.isDeadBeforeMaturity());
+    assertEquals(GrowthStage.JUVENILE, readPlantComponent.getGrowthStage());
+  }
+
+  @Test
+  void shouldRoundTripEmptyCropTile() throws IOException {
+    CropTileComponent tile = new CropTileComponent(0.5f, 1f);
+
+    JsonValue components = writeBinary(tile);
+
+    CropTileComponent readTile = new CropTileComponent();
+    readTile.setPlant(new Entity());
+    readTile.read(null, components);
+    assertEquals(0.5f, readTile.getWaterContent());
+    assertFalse(readTile.isFertilised());
+    assertNull(readTile.getPlant());
+  }
+
+  @Test
+  void shouldRoundTripInventory() throws IOException {
+    ServiceLocator.registerResourceService(new ResourceService());
+    ServiceLocator.getResourceService().loadTextures(new String[] {"images/tool_shovel.png"});
+    ServiceLocator.getResourceService().loadAll();
+    InventoryComponent inventory = new InventoryComponent();
+    HashMap<String, Integer> itemCount = new HashMap<>();
+    HashMap<String, Entity> heldItemsEntity = new HashMap<>();
+    HashMap<Integer, String> itemPlace = new HashMap<>();
+    itemCount.put("hoe", 1);
+    itemCount.put("egg", 4);
+    heldItemsEntity.put("hoe", createItem("hoe"));
+    heldItemsEntity.put("egg", createItem("egg"));
+    itemPlace.put(0, "hoe");
+    itemPlace.put(5, "egg");
+    itemPlace.put(6, null);
+    inventory.setItemCount(itemCount);
+    inventory.setHeldItemsEntity(heldItemsEntity);
+    inventory.setItemPlace(itemPlace);
+
+    JsonValue components = writeBinary(inventory);
+
+    InventoryComponent readInventory = new InventoryComponent();
+    try (MockedStatic<FactoryService> factoryService = mockStatic(FactoryService.class)) {
+      Map<String, Supplier<Entity>> itemFactories = Map.of(
+          "hoe", () -> createItem("hoe"),
+          "egg", () -> createItem("egg"));
+      factoryService.when(FactoryService::getItemFactories).thenReturn(itemFactories);
+      readInventory.read(null, components);
+    }
+    assertEquals(itemCount, readInventory.getItemCount());
+    assertEquals(Map.of(0, "hoe", 5, "egg"), readInventory.getItemPlace());
+    assertEquals("egg", readInventory.getHeldItemsEntity().get("egg").getComponent(ItemComponent.class).getItemName());
+    verify(gameArea).spawnEntity(readInventory.getHeldItemsEntity().get("hoe"));
+  }
+
+  @Test
+  void shouldRoundTripShipPartTile() throws IOException {
+    Entity partTile = new Entity().addComponent(new ShipPartTileComponent());
+    partTile.create();
+    partTile.getComponent(ShipPartTileComponent.class).addShipDebris(new Entity(EntityType.SHIP_DEBRIS));
+    Entity emptyTile = new Entity().addComponent(new ShipPartTileComponent());
+    emptyTile.create();
+
+    JsonValue components = writeBinary(partTile.getComponent(ShipPartTileComponent.class));
+    JsonValue emptyComponents = writeBinary(emptyTile.getComponent(ShipPartTileComponent.class));
+
+    Entity readTile = new Entity().addComponent(new ShipPartTileComponent());
+    readTile.create();
+    readTile.setPosition(3, 4);
+    Entity readEmptyTile = new Entity().addComponent(new ShipPartTileComponent());
+    readEmptyTile.create();
+    Entity debris = new Entity(EntityType.SHIP_DEBRIS);
+    try (MockedStatic<ShipDebrisFactory> debrisFactory = mockStatic(ShipDebrisFactory.class)) {
+      debrisFactory.when(ShipDebrisFactory::createShipDebris).thenReturn(debris);
+      readTile.getComponent(ShipPartTileComponent.class).read(null, components);
+      readEmptyTile.getComponent(ShipPartTileComponent.class).read(null, emptyComponents);
+    }
+    assertEquals(debris, readTile.getComponent(ShipPartTileComponent.class).getShipDebris());
+    assertEquals(new Vector2(3, 4), debris.getPosition());
+    assertNull(readEmptyTile.getComponent(ShipPartTileComponent.class).getShipDebris());
+  }
+
+  @Test
+  void shouldWriteSameLayoutAsJson() {
+    CombatStatsComponent combatStats = new CombatStatsComponent(100, 10);
+    combatStats.setHealth(42);
+    StringWriter text = new StringWriter();
+    Json json = new Json(JsonWriter.OutputType.json);
+    json.setWriter(text);
+
+    json.writeObjectStart();
+    combatStats.write(json);
+    json.writeObjectEnd();
+
+    assertEquals("{\"CombatStatsComponent\":{\"health\":42}}", text.toString());
+  }
+
+  @Test
+  void shouldLeaveMissingFieldsUnchanged() {
+    JsonValue components = new JsonReader().parse("{ShipDisplay:{repairs:3},WateringCanLevelComponent:{}}");
+    ShipDisplay display = mock(ShipDisplay.class);
+    WateringCanLevelComponent wateringCan = new WateringCanLevelComponent(50);
+    HungerComponent hunger = new HungerComponent(60);
+
+    ComponentSerialisers.get(ShipDisplay.class).read(display, null, components);
+    wateringCan.read(null, components);
+    hunger.read(null, components);
+
+    verify(display).setRepairsMade(3);
+    verify(display, never()).setLightUnlocked(true);
+    verify(display, never()).setLightUnlocked(false);
+    assertEquals(50f, wateringCan.getCurrentLevel());
+    assertEquals(60, hunger.getHungerLevel());
+  }
+
+  @Test
+  void shouldOnlyMatchRegisteredClasses() {
+    assertNotNull(ComponentSerialisers.get(CombatStatsComponent.class));
+    assertNull(ComponentSerialisers.get(Component.class));
+    assertFalse(ComponentSerialisers.write(new Component(), new Json()));
+    assertFalse(ComponentSerialisers.read(new Component(), null, new JsonValue(JsonValue.ValueType.object)));
+  }
+
+  /**
+   * Registers the services a plant uses when it is created
+   */
+  private void registerPlantServices() {
+    TimeService timeService = mock(TimeService.class);
+    when(timeService.getEvents()).thenReturn(new EventHandler());
+    ServiceLocator.registerTimeService(timeService);
+    PlantCommandService plantCommandService = mock(PlantCommandService.class);
+    when(plantCommandService.getEvents()).thenReturn(new EventHandler());
+    ServiceLocator.registerPlantCommandService(plantCommandService);
+    ServiceLocator.registerPlantInfoService(mock(PlantInfoService.class));
+    ClimateController climateController = mock(ClimateController.class);
+    when(climateController.getEvents()).thenReturn(new EventHandler());
+    when(gameArea.getClimateController()).thenReturn(climateController);
+  }
+
+  private static Entity createPlant(CropTileComponent tile) {
+    return new Entity(EntityType.PLANT)
+        .addComponent(new PlantComponent(100, "Test", "FOOD", "Test plant", 1f, 5, 200, tile));
+  }
+
+  private static Entity createItem(String name) {
+    // Texture is not used
+    return new Entity(EntityType.ITEM)
+        .addComponent(new ItemComponent(name, ItemType.HOE, "images/tool_shovel.png"));
+  }
+
+  /**
+   * Writes components to a binary save and reads them back
+   *
+   * @return the saved components, keyed by class name
+   */
+  private static JsonValue writeBinary(Component... components) throws IOException {
+    Json json = new Json();
+    BinarySaveWriter writer = new BinarySaveWriter();
+    json.setWriter(writer);
+    json.writeObjectStart();
+    json.writeObjectStart("components");
+    for (Component component : components) {
+      component.write(json);
+    }
+    json.writeObjectEnd();
+    json.writeObjectEnd();
+    return finish(writer).get("components");
+  }
+
+  /**
+   * Writes a mocked component with its serialiser and adds it to already saved components
+   */
+  private static <T extends Component> void writeBinary(JsonValue components, ComponentSerialiser<T> serialiser,
+      T component) throws IOException {
+    Json json = new Json();
+    BinarySaveWriter writer = new BinarySaveWriter();
+    json.setWriter(writer);
+    json.writeObjectStart();
+    serialiser.write(component, json);
+    json.writeObjectEnd();
+    JsonValue written = finish(writer).get(serialiser.getName());
+    components.addChild(serialiser.getName(), written);
+  }
+
+  private static JsonValue finish(BinarySaveWriter writer) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    writer.finish(out);
+    return new BinarySaveReader(out.toByteArray()).parse();
+  }
+}
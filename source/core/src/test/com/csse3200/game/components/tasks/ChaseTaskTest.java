@@ -5,6 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.ai.pathfinding.FlowFieldService;
+import com.csse3200.game.ai.pathfinding.PathfindingService;
 import com.csse3200.game.areas.TestGameArea;
 import com.csse3200.game.areas.terrain.GameMap;
 import com.csse3200.game.areas.terrain.TerrainComponent;
@@ -19,6 +22,7 @@ import com.csse3200.game.ai.tasks.AITaskComponent;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.extensions.GameExtension;
 import com.csse3200.game.physics.PhysicsService;
+import com.csse3200.game.physics.components.ColliderComponent;
 import com.csse3200.game.physics.components.PhysicsComponent;
 import com.csse3200.game.physics.components.PhysicsMovementComponent;
 import com.csse3200.game.rendering.DebugRenderer;
@@ -118,6 +122,54 @@ class ChaseTaskTest {
     assertTrue(chaseTask.getPriority() < 0);
   }
 
+  @Test
+  void shouldFollowPathOutsideFlowField() {
+    Entity target = new Entity();
+    target.setPosition(0f, 4f);
+    PathfindingService pathfinding = mock(PathfindingService.class);
+    ServiceLocator.registerPathfindingService(pathfinding);
+    FlowFieldService flowField = mock(FlowFieldService.class);
+    when(flowField.getTarget()).thenReturn(target);
+    ServiceLocator.registerFlowFieldService(flowField);
+
+    Entity entity = makePhysicsEntity().addComponent(new ColliderComponent());
+    entity.create();
+    ChaseTask chaseTask = new ChaseTask(target, 10, 5, 10, Vector2Utils.ONE);
+    chaseTask.create(() -> entity);
+
+    // The flow field doesn't reach the entity, so it has to find its own way around obstacles
+    chaseTask.start();
+    verify(pathfinding).requestPath(any(Vector2.class), any(Vector2.class));
+  }
+
+  @Test
+  void shouldOnlyFollowPathAfterLeavingFlowField() {
+    Entity target = new Entity();
+    target.setPosition(0f, 4f);
+    PathfindingService pathfinding = mock(PathfindingService.class);
+    ServiceLocator.registerPathfindingService(pathfinding);
+    FlowFieldService flowField = mock(FlowFieldService.class);
+    when(flowField.getTarget()).thenReturn(target);
+    doAnswer(invocation -> {
+      invocation.getArgument(1, Vector2.class).set(0f, 1f);
+      return true;
+    }).when(flowField).getDirection(any(Vector2.class), any(Vector2.class));
+    ServiceLocator.registerFlowFieldService(flowField);
+
+    Entity entity = makePhysicsEntity().addComponent(new ColliderComponent());
+    entity.create();
+    ChaseTask chaseTask = new ChaseTask(target, 10, 5, 10, Vector2Utils.ONE);
+    chaseTask.create(() -> entity);
+
+    chaseTask.start();
+    chaseTask.update();
+    verify(pathfinding, never()).requestPath(any(Vector2.class), any(Vector2.class));
+
+    doReturn(false).when(flowField).getDirection(any(Vector2.class), any(Vector2.class));
+    chaseTask.update();
+    verify(pathfinding).requestPath(any(Vector2.class), any(Vector2.class));
+  }
+
   private Entity makePhysicsEntity() {
     return new Entity()
         .addComponent(new PhysicsComponent())
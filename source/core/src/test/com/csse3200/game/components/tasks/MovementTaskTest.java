@@ -20,11 +20,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.ai.pathfinding.PathfindingService;
 import com.csse3200.game.ai.tasks.Task.Status;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.events.listeners.EventListener1;
 import com.csse3200.game.extensions.GameExtension;
 import com.csse3200.game.physics.PhysicsService;
+import com.csse3200.game.physics.components.ColliderComponent;
 import com.csse3200.game.physics.components.PhysicsComponent;
 import com.csse3200.game.physics.components.PhysicsMovementComponent;
 import com.csse3200.game.rendering.DebugRenderer;
@@ -222,6 +224,38 @@ class MovementTaskTest {
     assertEquals(Status.FAILED, task.getStatus());
   }
 
+  @Test
+  void shouldRequestPathForEntityWithCollider() {
+    PathfindingService pathfinding = mock(PathfindingService.class);
+    ServiceLocator.registerPathfindingService(pathfinding);
+    MovementTask task = new MovementTask(new Vector2(10f, 10f));
+    Entity entity = new Entity()
+            .addComponent(new PhysicsComponent())
+            .addComponent(new ColliderComponent())
+            .addComponent(new PhysicsMovementComponent());
+    entity.create();
+
+    task.create(() -> entity);
+    task.start();
+    verify(pathfinding).requestPath(any(Vector2.class), eq(new Vector2(10.5f, 10.5f)));
+  }
+
+  @Test
+  void shouldNotRequestPathForEntityWithoutCollider() {
+    // Flying NPCs have no collider, so they move over tiles that paths go around
+    PathfindingService pathfinding = mock(PathfindingService.class);
+    ServiceLocator.registerPathfindingService(pathfinding);
+    MovementTask task = new MovementTask(new Vector2(10f, 10f));
+    Entity entity = new Entity()
+            .addComponent(new PhysicsComponent())
+            .addComponent(new PhysicsMovementComponent());
+    entity.create();
+
+    task.create(() -> entity);
+    task.start();
+    verify(pathfinding, never()).requestPath(any(Vector2.class), any(Vector2.class));
+  }
+
   @AfterEach
   public void cleanUp() {
     // Clears all loaded services
@@ -7,7 +7,7 @@ import com.csse3200.game.areas.SpaceGameArea;
 import com.csse3200.game.areas.terrain.GameMap;
 import com.csse3200.game.areas.terrain.TerrainTile;
 import com.csse3200.game.areas.weather.ClimateController;
-import com.csse3200.game.entities.factories.NPCFactory;
+import com.csse3200.game.components.npc.FireflySwarmComponent;
 import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.services.TimeService;
@@ -45,20 +45,20 @@ class FireflySpawnerTest {
         GameMap mockMap = mock(GameMap.class);
         TerrainTile tile = mock(TerrainTile.class);
         doReturn(mockMap).when(mockGameArea).getMap();
-        doNothing().when(mockGameArea).spawnEntityAt(any(Entity.class), any(GridPoint2.class), any(boolean.class), any(boolean.class));
         doReturn(new GridPoint2(5, 5)).when(mockMap).getMapSize();
         doReturn(tile).when(mockMap).getTile(any(GridPoint2.class));
+        doReturn(new Vector2(2, 3)).when(mockMap).tileCoordinatesToVector(any(GridPoint2.class));
         doReturn(true).when(tile).isTraversable();
-        FireflySpawner spawner = spy(new FireflySpawner());
-        try {
-            ServiceLocator.getTimeService().getEvents().trigger("nightTime");
-        } catch (Exception e) {
-            // Tried to make a firefly but couldn't get lights (would pass in real game) and since this just tests the one comp it is all good
-            return;
-        } catch (ExceptionInInitializerError e) {
-            // Tried to make a firefly but couldn't load file(would pass in real game) and since this just tests the one comp it is all good
-            return;
-        }
-        fail();
+        FireflySwarmComponent swarm = mock(FireflySwarmComponent.class);
+        new FireflySpawner() {
+            @Override
+            protected FireflySwarmComponent createSwarm() {
+                return swarm;
+            }
+        };
+        ServiceLocator.getTimeService().getEvents().trigger("nightTime");
+        verify(swarm, times(FireflySpawner.MAX_FIREFLIES)).spawn(floatThat(x -> x >= 2 && x <= 3),
+                floatThat(y -> y >= 3 && y <= 4));
+        verify(mockGameArea, never()).spawnEntityAt(any(Entity.class), any(GridPoint2.class), any(boolean.class), any(boolean.class));
     }
 }
@@ -0,0 +1,213 @@
+package com.csse3200.game.files;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.JsonWriter;
+import com.badlogic.gdx.utils.SerializationException;
+import com.csse3200.game.extensions.GameExtension;
+
+@ExtendWith(GameExtension.class)
+class BinarySaveFormatTest {
+  private static final Logger logger = LoggerFactory.getLogger(BinarySaveFormatTest.class);
+
+  @Test
+  void shouldRoundTripValues() throws IOException {
+    String text = "{day:3,hour:-2,oxygen:87.5,name:\"Golden Statue\",done:true,missing:null,"
+        + "big:12345678901,list:[1,\"a\",{x:1.25,y:false}],empty:{}}";
+    JsonValue source = new JsonReader().parse(text);
+
+    JsonValue decoded = new BinarySaveReader(encode(source)).parse();
+
+    assertEquals(source.toJson(JsonWriter.OutputType.json), decoded.toJson(JsonWriter.OutputType.json));
+    assertEquals(3, decoded.getInt("day"));
+    assertEquals(-2, decoded.getInt("hour"));
+    assertEquals(87.5f, decoded.getFloat("oxygen"));
+    assertEquals(12345678901L, decoded.getLong("big"));
+    assertEquals(3, decoded.get("list").size);
+    assertEquals("a", decoded.get("list").get(1).asString());
+  }
+
+  @Test
+  void shouldReadSingleSection() throws IOException {
+    JsonValue source = new JsonReader().parse("{day:4,tiles:[{x:1},{x:2}],player:{health:50}}");
+    BinarySaveReader reader = new BinarySaveReader(encode(source));
+
+    assertEquals(3, reader.getSectionNames().size);
+    assertEquals(50, reader.parseSection("player").getInt("health"));
+    assertEquals(2, reader.parseSection("tiles").size);
+    assertEquals(4, reader.parseSection("day").asInt());
+    assertNull(reader.parseSection("tractor"));
+  }
+
+  @Test
+  void shouldDecodeSectionsInParallel() throws IOException {
+    Json json = new Json();
+    BinarySaveWriter writer = new BinarySaveWriter();
+    json.setWriter(writer);
+    writeFarm(json, 500);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    writer.finish(out);
+    BinarySaveReader reader = new BinarySaveReader(out.toByteArray());
+
+    JsonValue parallel = reader.parseParallel();
+
+    assertEquals(reader.parse().toJson(JsonWriter.OutputType.json), parallel.toJson(JsonWriter.OutputType.json));
+    assertEquals(3, parallel.size);
+    assertEquals(500, parallel.get("tiles").size);
+  }
+
+  @Test
+  void shouldEncodeJsonWrites() throws IOException {
+    Json json = new Json();
+    TestStats written = new TestStats();
+    written.stat1 = 7;
+    BinarySaveWriter writer = new BinarySaveWriter();
+    json.toJson(written, TestStats.class, null, writer);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    writer.finish(out);
+
+    TestStats stats = json.readValue(TestStats.class, null, new BinarySaveReader(out.toByteArray()).parse());
+    assertEquals(7, stats.stat1);
+    assertEquals(2, stats.stat2);
+  }
+
+  @Test
+  void shouldReadMetadataFromStartOfSave() throws IOException {
+    SaveMetadata metadata = new SaveMetadata();
+    metadata.setSlot(2);
+    metadata.setDay(9);
+    metadata.setHour(14);
+    metadata.setMinute(30);
+    metadata.setOxygen(61.5f);
+    metadata.setPlayTime(3_600_000L);
+    metadata.setThumbnailPixel(3, 4, 0xff0000ff);
+    BinarySaveWriter writer = new BinarySaveWriter();
+    writer.writeTree(new JsonReader().parse("{day:9,tiles:[{x:1}]}"));
+    writer.setMetadata(metadata);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    writer.finish(out);
+    byte[] data = out.toByteArray();
+
+    SaveMetadata header = BinarySaveReader.readMetadata(Arrays.copyOf(data, BinarySaveFormat.METADATA_HEADER_SIZE));
+
+    assertEquals(2, header.getSlot());
+    assertEquals(9, header.getDay());
+    assertEquals(14, header.getHour());
+    assertEquals(30, header.getMinute());
+    assertEquals(61.5f, header.getOxygen());
+    assertEquals(3_600_000L, header.getPlayTime());
+    assertEquals((short) 0xf800, header.getThumbnail()[4 * SaveMetadata.THUMBNAIL_WIDTH + 3]);
+    // The rest of the save is unchanged
+    assertEquals(9, new BinarySaveReader(data).parse().getInt("day"));
+    assertEquals(9, new BinarySaveReader(data).getMetadata().getDay());
+    assertNull(BinarySaveReader.readMetadata(encode(new JsonReader().parse("{day:1}"))));
+  }
+
+  @Test
+  void shouldRejectOtherFiles() {
+    byte[] text = "{day:1}".getBytes();
+    assertFalse(BinarySaveReader.isBinary(text));
+    assertThrows(SerializationException.class, () -> new BinarySaveReader(text));
+  }
+
+  @Test
+  void shouldRejectNewerVersions() throws IOException {
+    byte[] data = encode(new JsonReader().parse("{day:1}"));
+    data[5] = (byte) (BinarySaveFormat.VERSION + 1);
+    assertTrue(BinarySaveReader.isBinary(data));
+    assertThrows(SerializationException.class, () -> new BinarySaveReader(data));
+  }
+
+  @Test
+  void shouldBeSmallerThanJson() throws IOException {
+    Json json = new Json();
+    json.setOutputType(JsonWriter.OutputType.json);
+
+    long start = System.nanoTime();
+    StringWriter text = new StringWriter();
+    json.setWriter(text);
+    writeFarm(json, 2000);
+    String pretty = json.prettyPrint(text.toString());
+    long jsonWriteTime = System.nanoTime() - start;
+
+    start = System.nanoTime();
+    BinarySaveWriter writer = new BinarySaveWriter();
+    json.setWriter(writer);
+    writeFarm(json, 2000);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    writer.finish(out);
+    byte[] binary = out.toByteArray();
+    long binaryWriteTime = System.nanoTime() - start;
+
+    start = System.nanoTime();
+    JsonValue fromJson = new JsonReader().parse(pretty);
+    long jsonReadTime = System.nanoTime() - start;
+
+    start = System.nanoTime();
+    JsonValue fromBinary = new BinarySaveReader(binary).parse();
+    long binaryReadTime = System.nanoTime() - start;
+
+    logger.info("2000 tile farm - JSON: {} bytes, write {} ms, read {} ms", pretty.length(),
+        jsonWriteTime / 1_000_000f, jsonReadTime / 1_000_000f);
+    logger.info("2000 tile farm - binary: {} bytes, write {} ms, read {} ms", binary.length,
+        binaryWriteTime / 1_000_000f, binaryReadTime / 1_000_000f);
+
+    assertEquals(fromJson.get("tiles").size, fromBinary.get("tiles").size);
+    assertEquals(fromJson.toJson(JsonWriter.OutputType.json), fromBinary.toJson(JsonWriter.OutputType.json));
+    assertTrue(binary.length * 4 < pretty.length());
+  }
+
+  private static byte[] encode(JsonValue value) throws IOException {
+    BinarySaveWriter writer = new BinarySaveWriter();
+    writer.writeTree(value);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    writer.finish(out);
+    return out.toByteArray();
+  }
+
+  /** Writes tiles shaped like the ones Entity and CropTileComponent write */
+  static void writeFarm(Json json, int tiles) {
+    json.writeObjectStart();
+    json.writeValue("day", 12);
+    json.writeValue("hour", 7);
+    json.writeArrayStart("tiles");
+    for (int i = 0; i < tiles; i++) {
+      json.writeObjectStart();
+      json.writeValue("Entity", "TILE");
+      json.writeValue("x", (float) (i % 50));
+      json.writeValue("y", (float) (i / 50));
+      json.writeObjectStart("components");
+      json.writeObjectStart("CropTileComponent");
+      json.writeValue("waterContent", 0.5f);
+      json.writeValue("soilQuality", 0.75f);
+      json.writeValue("isFertilised", i % 3 == 0);
+      json.writeObjectStart("plant");
+      json.writeValue("name", i % 2 == 0 ? "Cosmic Cob" : "Aloe Vera");
+      json.writeValue("age", (float) (i % 7));
+      json.writeValue("growthStage", "ADULT");
+      json.writeObjectEnd();
+      json.writeObjectEnd();
+      json.writeObjectEnd();
+      json.writeObjectEnd();
+    }
+    json.writeArrayEnd();
+    json.writeObjectEnd();
+  }
+}
@@ -2,13 +2,22 @@ package com.csse3200.game.files;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.File;
+import java.nio.file.Files;
+
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonValue;
 import com.csse3200.game.extensions.GameExtension;
 
 @ExtendWith(GameExtension.class)
@@ -48,4 +57,111 @@ class FileLoaderTest {
                   TestStats.class, "test/files/invalid.json");
         assertNull(test);
     }
+
+    @Test
+    void writeBinaryInBackground(@TempDir File directory) {
+        String filename = new File(directory, "stats.sav").getAbsolutePath();
+        TestStats first = new TestStats();
+        first.stat1 = 5;
+        TestStats second = new TestStats();
+        second.stat1 = 6;
+
+        // Snapshots are taken before either write starts
+        BinarySaveWriter firstSnapshot = FileLoader.encodeBinary(first);
+        BinarySaveWriter secondSnapshot = FileLoader.encodeBinary(second);
+        first.stat1 = 0;
+        assertTrue(FileLoader.writeBinaryAsync(firstSnapshot, filename, FileLoader.Location.ABSOLUTE).join() > 0);
+        assertTrue(FileLoader.writeBinaryAsync(secondSnapshot, filename, FileLoader.Location.ABSOLUTE).join() > 0);
+
+        assertTrue(FileLoader.isBinaryFile(filename, FileLoader.Location.ABSOLUTE));
+        assertFalse(new File(directory, "stats.sav.tmp").exists());
+        TestStats test = FileLoader.readBinaryClass(TestStats.class, filename, FileLoader.Location.ABSOLUTE);
+        assertNotNull(test);
+        assertEquals(6, test.stat1);
+    }
+
+    @Test
+    void convertToBinaryKeepsTargetOnFailure(@TempDir File directory) throws Exception {
+        File json = new File(directory, "farm.json");
+        File target = new File(directory, "farm.sav");
+        Files.writeString(json.toPath(), "{ \"tiles\": [ 1, 2 ]");
+        Files.writeString(target.toPath(), "previous");
+
+        assertFalse(FileLoader.convertToBinary(json.getAbsolutePath(), target.getAbsolutePath(),
+                FileLoader.Location.ABSOLUTE));
+        assertEquals("previous", Files.readString(target.toPath()));
+        assertFalse(new File(directory, "farm.sav.tmp").exists());
+
+        Files.writeString(json.toPath(), "{ \"tiles\": [ 1, 2 ] }");
+        assertTrue(FileLoader.convertToBinary(json.getAbsolutePath(), target.getAbsolutePath(),
+                FileLoader.Location.ABSOLUTE));
+        assertTrue(FileLoader.isBinaryFile(target.getAbsolutePath(), FileLoader.Location.ABSOLUTE));
+        assertEquals(2, FileLoader.readTree(target.getAbsolutePath(), FileLoader.Location.ABSOLUTE).get("tiles").size);
+        assertFalse(new File(directory, "farm.sav.tmp").exists());
+    }
+
+    @AfterEach
+    void resetCompression() {
+        FileLoader.setCompressionLevel(FileLoader.DEFAULT_COMPRESSION_LEVEL);
+    }
+
+    @Test
+    void readCompressedSaves(@TempDir File directory) {
+        String filename = new File(directory, "farm.sav").getAbsolutePath();
+        String journal = new File(directory, "farm.journal").getAbsolutePath();
+        FileLoader.setCompressionLevel(9);
+        BinarySaveWriter farm = encodeFarm(200);
+        SaveMetadata metadata = new SaveMetadata();
+        metadata.setDay(12);
+        farm.setMetadata(metadata);
+        assertTrue(FileLoader.writeBinary(farm, filename, FileLoader.Location.ABSOLUTE) > 0);
+        assertTrue(FileLoader.appendBinary(encodeFarm(1), journal, FileLoader.Location.ABSOLUTE) > 0);
+
+        // Compression is detected when reading, whatever the current level is
+        FileLoader.setCompressionLevel(0);
+        assertTrue(FileLoader.appendBinary(encodeFarm(2), journal, FileLoader.Location.ABSOLUTE) > 0);
+        assertTrue(FileLoader.isBinaryFile(filename, FileLoader.Location.ABSOLUTE));
+        assertEquals(200, FileLoader.readTree(filename, FileLoader.Location.ABSOLUTE).get("tiles").size);
+        assertEquals(12, BinarySaveReader.readMetadata(FileLoader.readStart(filename, FileLoader.Location.ABSOLUTE,
+                BinarySaveFormat.METADATA_HEADER_SIZE)).getDay());
+        assertEquals(2, FileLoader.readBinaryRecords(journal, FileLoader.Location.ABSOLUTE).size);
+    }
+
+    @Test
+    void compressionBenchmark(@TempDir File directory) {
+        int tiles = 5000;
+        long uncompressedSize = 0;
+        long compressedSize = Long.MAX_VALUE;
+        for (int level : new int[] {0, 1, 6, 9}) {
+            String filename = new File(directory, "farm" + level + ".sav").getAbsolutePath();
+            FileLoader.setCompressionLevel(level);
+            BinarySaveWriter farm = encodeFarm(tiles);
+
+            long start = System.nanoTime();
+            long size = FileLoader.writeBinary(farm, filename, FileLoader.Location.ABSOLUTE);
+            long writeTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            JsonValue read = FileLoader.readTree(filename, FileLoader.Location.ABSOLUTE);
+            long readTime = System.nanoTime() - start;
+
+            logger.info("{} tile farm - compression level {}: {} bytes, write {} ms, read {} ms", tiles, level, size,
+                    writeTime / 1_000_000f, readTime / 1_000_000f);
+            assertEquals(tiles, read.get("tiles").size);
+            if (level == 0) {
+                uncompressedSize = size;
+            } else {
+                compressedSize = Math.min(compressedSize, size);
+            }
+        }
+        assertTrue(compressedSize * 2 < uncompressedSize);
+    }
+
+    private static BinarySaveWriter encodeFarm(int tiles) {
+        Json json = new Json();
+        BinarySaveWriter writer = new BinarySaveWriter();
+        json.setWriter(writer);
+        BinarySaveFormatTest.writeFarm(json, tiles);
+        return writer;
+    }
 }
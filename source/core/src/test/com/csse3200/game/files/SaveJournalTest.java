@@ -0,0 +1,90 @@
+package com.csse3200.game.files;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.csse3200.game.extensions.GameExtension;
+
+@ExtendWith(GameExtension.class)
+class SaveJournalTest {
+  private static final String SAVE = "{generation:7,day:2,hour:5,"
+      + "tiles:[{Entity:TILE,x:1,y:1,water:0},{Entity:TILE,x:2,y:1,water:0},{Entity:TILE,x:3,y:1,water:0}],"
+      + "placeables:[{Entity:CHEST,x:5,y:5,items:0}],"
+      + "player:{health:100}}";
+
+  @Test
+  void shouldMergeChangedAndRemovedTiles() {
+    JsonValue save = parse(SAVE);
+    Array<JsonValue> entries = new Array<>();
+    entries.add(parse("{generation:7,day:2,hour:6,player:{health:80},"
+        + "tiles:[{Entity:TILE,x:2,y:1,water:1},{Entity:TILE,x:4,y:1,water:2}],removedTiles:[3,1],"
+        + "removedPlaceables:[5,5]}"));
+
+    assertEquals(1, SaveJournal.apply(save, entries));
+
+    JsonValue tiles = save.get("tiles");
+    assertEquals(3, tiles.size);
+    assertEquals(0, tiles.get(0).getInt("water"));
+    assertEquals(2f, tiles.get(1).getFloat("x"));
+    assertEquals(1, tiles.get(1).getInt("water"));
+    assertEquals(4f, tiles.get(2).getFloat("x"));
+    assertEquals(0, save.get("placeables").size);
+    assertEquals(6, save.getInt("hour"));
+    assertEquals(80, save.get("player").getInt("health"));
+  }
+
+  @Test
+  void shouldApplyEntriesInOrder() {
+    JsonValue save = parse(SAVE);
+    Array<JsonValue> entries = new Array<>();
+    entries.add(parse("{generation:7,day:2,removedTiles:[1,1]}"));
+    entries.add(parse("{generation:7,day:3,tiles:[{Entity:TILE,x:1,y:1,water:5}]}"));
+
+    assertEquals(2, SaveJournal.apply(save, entries));
+
+    assertEquals(3, save.get("tiles").size);
+    assertEquals(5, save.get("tiles").get(2).getInt("water"));
+    assertEquals(3, save.getInt("day"));
+  }
+
+  @Test
+  void shouldResetFieldsLeftOutOfEntries() {
+    JsonValue save = parse(SAVE);
+    Array<JsonValue> entries = new Array<>();
+    // Json leaves out an hour of 0, so the saved hour must not be kept
+    entries.add(parse("{generation:7,day:3}"));
+
+    SaveJournal.apply(save, entries);
+
+    assertNull(save.get("hour"));
+    assertNull(save.get("player"));
+    assertEquals(3, save.get("tiles").size);
+  }
+
+  @Test
+  void shouldSkipEntriesForOtherSaves() {
+    JsonValue save = parse(SAVE);
+    Array<JsonValue> entries = new Array<>();
+    entries.add(parse("{generation:6,day:9,removedTiles:[1,1]}"));
+
+    assertEquals(0, SaveJournal.apply(save, entries));
+    assertEquals(2, save.getInt("day"));
+    assertEquals(3, save.get("tiles").size);
+  }
+
+  @Test
+  void shouldNameJournalAfterSave() {
+    assertEquals("saves/saveFile.journal", SaveGame.getJournalPath("saves/saveFile.sav"));
+    assertEquals("saves.old/saveFile.journal", SaveGame.getJournalPath("saves.old/saveFile"));
+  }
+
+  private static JsonValue parse(String json) {
+    return new JsonReader().parse(json);
+  }
+}
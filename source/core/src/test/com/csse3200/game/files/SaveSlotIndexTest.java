@@ -0,0 +1,62 @@
+package com.csse3200.game.files;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import com.badlogic.gdx.utils.Json;
+import com.csse3200.game.extensions.GameExtension;
+
+@ExtendWith(GameExtension.class)
+class SaveSlotIndexTest {
+  @Test
+  void shouldKeepOneEntryPerSlot() {
+    SaveSlotIndex index = new SaveSlotIndex();
+    index.put(metadata(3, 1, 100));
+    index.put(metadata(1, 2, 200));
+    index.put(metadata(3, 5, 300));
+
+    assertEquals(2, index.getSlots().size);
+    assertEquals(1, index.getSlots().get(0).getSlot());
+    assertEquals(5, index.get(3).getDay());
+    assertNull(index.get(2));
+  }
+
+  @Test
+  void shouldFindLatestSave() {
+    SaveSlotIndex index = new SaveSlotIndex();
+    assertNull(index.getLatest());
+    index.put(metadata(1, 1, 500));
+    index.put(metadata(2, 1, 900));
+    index.put(metadata(3, 1, 100));
+
+    assertEquals(2, index.getLatest().getSlot());
+    index.remove(2);
+    assertEquals(1, index.getLatest().getSlot());
+  }
+
+  @Test
+  void shouldLeaveThumbnailsOutOfIndexFile() {
+    SaveSlotIndex index = new SaveSlotIndex();
+    SaveMetadata metadata = metadata(1, 4, 100);
+    metadata.setThumbnailPixel(0, 0, 0xffffffff);
+    index.put(metadata);
+
+    Json json = new Json();
+    SaveSlotIndex read = json.fromJson(SaveSlotIndex.class, json.toJson(index));
+
+    assertEquals(4, read.get(1).getDay());
+    assertEquals(100, read.get(1).getSavedAt());
+    assertNull(read.get(1).getThumbnail());
+  }
+
+  private static SaveMetadata metadata(int slot, int day, long savedAt) {
+    SaveMetadata metadata = new SaveMetadata();
+    metadata.setSlot(slot);
+    metadata.setDay(day);
+    metadata.setSavedAt(savedAt);
+    return metadata;
+  }
+}
@@ -0,0 +1,154 @@
+package com.csse3200.game.missions;
+
+import com.csse3200.game.missions.quests.PlantInteractionQuest;
+import com.csse3200.game.missions.quests.Quest;
+import com.csse3200.game.missions.rewards.Reward;
+import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.TimeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class MissionEventBusTest {
+
+    private TimeService timeService;
+    private MissionManager missionManager;
+    private MissionEventBus events;
+
+    @BeforeEach
+    void init() {
+        ServiceLocator.registerTimeSource(new GameTime());
+        timeService = new TimeService();
+        ServiceLocator.registerTimeService(timeService);
+        missionManager = new MissionManager();
+        ServiceLocator.registerMissionManager(missionManager);
+        events = missionManager.getEventBus();
+    }
+
+    @AfterEach
+    void clearServiceLocator() {
+        ServiceLocator.clear();
+    }
+
+    @Test
+    void shouldDeliverEventsByNameOrEnum() {
+        List<String> planted = new ArrayList<>();
+        int listeners = events.getListenerCount(MissionManager.MissionEvent.PLANT_CROP);
+        events.addListener(MissionManager.MissionEvent.PLANT_CROP.name(), (String plant) -> planted.add(plant));
+        assertEquals(listeners + 1, events.getListenerCount(MissionManager.MissionEvent.PLANT_CROP));
+
+        events.trigger(MissionManager.MissionEvent.PLANT_CROP, "Aloe Vera");
+        events.trigger(MissionManager.MissionEvent.PLANT_CROP.name(), "Cosmic Cob");
+        assertEquals(List.of("Aloe Vera", "Cosmic Cob"), planted);
+    }
+
+    @Test
+    void shouldHandleOtherEventsAsBefore() {
+        List<String> lost = new ArrayList<>();
+        events.addListener("loseScreen", (String quest) -> lost.add(quest));
+        events.trigger("loseScreen", "Quest");
+        assertEquals(List.of("Quest"), lost);
+    }
+
+    @Test
+    void shouldMergeEventsInBatch() {
+        List<String> planted = new ArrayList<>();
+        List<String> counted = new ArrayList<>();
+        events.addListener(MissionManager.MissionEvent.PLANT_CROP.name(), (String plant) -> planted.add(plant));
+        events.addCountedListener(MissionManager.MissionEvent.PLANT_CROP,
+                (String plant, Integer count) -> counted.add(plant + " x" + count));
+
+        events.batch(() -> {
+            events.trigger(MissionManager.MissionEvent.PLANT_CROP, "Aloe Vera");
+            events.trigger(MissionManager.MissionEvent.PLANT_CROP, "Cosmic Cob");
+            events.trigger(MissionManager.MissionEvent.PLANT_CROP, "Aloe Vera");
+            events.trigger(MissionManager.MissionEvent.PLANT_CROP, "Aloe Vera");
+            assertEquals(2, events.getPendingEventCount());
+            assertTrue(planted.isEmpty());
+        });
+
+        // Counted listeners hear each plant once, other listeners hear every trigger
+        assertEquals(List.of("Aloe Vera x3", "Cosmic Cob x1"), counted);
+        assertEquals(4, planted.size());
+        assertEquals(0, events.getPendingEventCount());
+    }
+
+    @Test
+    void shouldNotMergeOtherEventsInBatch() {
+        List<String> completed = new ArrayList<>();
+        events.addListener(MissionManager.MissionEvent.MISSION_COMPLETE.name(), (String mission) -> completed.add(mission));
+
+        events.batch(() -> {
+            events.trigger(MissionManager.MissionEvent.MISSION_COMPLETE, "Mission");
+            assertEquals(List.of("Mission"), completed);
+        });
+    }
+
+    @Test
+    void shouldCountMergedEventsForQuest() {
+        PlantInteractionQuest quest = new PlantInteractionQuest("Quest", mock(Reward.class),
+                MissionManager.MissionEvent.HARVEST_CROP, Set.of("Aloe Vera"), 10);
+        missionManager.acceptQuest(quest);
+
+        events.batch(() -> {
+            for (int i = 0; i < 4; i++) {
+                events.trigger(MissionManager.MissionEvent.HARVEST_CROP, "Aloe Vera");
+            }
+            events.trigger(MissionManager.MissionEvent.HARVEST_CROP, "Cosmic Cob");
+        });
+        assertEquals(4, quest.getProgress());
+    }
+
+    @Test
+    void shouldUnsubscribeCompletedQuest() {
+        int listeners = events.getListenerCount(MissionManager.MissionEvent.PLANT_CROP);
+        Quest quest = new PlantInteractionQuest("Quest", mock(Reward.class),
+                MissionManager.MissionEvent.PLANT_CROP, Set.of("Aloe Vera"), 2);
+        missionManager.acceptQuest(quest);
+        assertEquals(listeners + 1, events.getListenerCount(MissionManager.MissionEvent.PLANT_CROP));
+
+        events.trigger(MissionManager.MissionEvent.PLANT_CROP, "Aloe Vera");
+        assertFalse(events.isUnsubscribed(quest));
+        events.trigger(MissionManager.MissionEvent.PLANT_CROP, "Aloe Vera");
+        assertTrue(quest.isCompleted());
+        assertTrue(events.isUnsubscribed(quest));
+        assertEquals(listeners, events.getListenerCount(MissionManager.MissionEvent.PLANT_CROP));
+    }
+
+    @Test
+    void shouldUnsubscribeExpiredQuestUntilReactivated() {
+        Quest quest = new PlantInteractionQuest("Quest", mock(Reward.class), 1,
+                MissionManager.MissionEvent.PLANT_CROP, Set.of("Aloe Vera"), 5);
+        missionManager.acceptQuest(quest);
+
+        timeService.setHour(TimeService.MORNING_HOUR + 1);
+        assertTrue(quest.isExpired());
+        assertTrue(events.isUnsubscribed(quest));
+        events.trigger(MissionManager.MissionEvent.PLANT_CROP, "Aloe Vera");
+        assertEquals(0, quest.getProgress());
+
+        missionManager.reactivateQuest(quest);
+        assertFalse(quest.isExpired());
+        assertFalse(events.isUnsubscribed(quest));
+        events.trigger(MissionManager.MissionEvent.PLANT_CROP, "Aloe Vera");
+        assertEquals(1, quest.getProgress());
+    }
+
+    @Test
+    void shouldOnlyUnsubscribeQuestsAcceptedThroughManager() {
+        Quest quest = new PlantInteractionQuest("Quest", mock(Reward.class),
+                MissionManager.MissionEvent.PLANT_CROP, Set.of("Aloe Vera"), 1);
+        quest.registerMission(events);
+        events.trigger(MissionManager.MissionEvent.PLANT_CROP, "Aloe Vera");
+        assertTrue(quest.isCompleted());
+        assertFalse(events.isUnsubscribed(quest));
+    }
+}
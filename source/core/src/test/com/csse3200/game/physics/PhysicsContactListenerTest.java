@@ -1,5 +1,6 @@
 package com.csse3200.game.physics;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.Contact;
 import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.FixtureDef;
 import com.csse3200.game.entities.Entity;
@@ -83,6 +85,92 @@ class PhysicsContactListenerTest {
     verify(endCallback2).handle(fixture2, fixture1);
   }
 
+  @Test
+  void shouldRouteToCollisionListeners() {
+    Entity entity1 = createPhysicsEntity();
+    Entity entity2 = createPhysicsEntity();
+    entity1.setPosition(0f, 0f);
+    entity2.setPosition(0f, 0f);
+    ColliderComponent collider1 = entity1.getComponent(ColliderComponent.class);
+    Fixture fixture1 = collider1.getFixture();
+    Fixture fixture2 = entity2.getComponent(ColliderComponent.class).getFixture();
+
+    EventListener2<Fixture, Fixture> routed = mock(EventListener2.class);
+    EventListener2<Fixture, Fixture> otherLayer = mock(EventListener2.class);
+    EventListener2<Fixture, Fixture> event = mock(EventListener2.class);
+    collider1.addCollisionListener(PhysicsLayer.ALL, routed, null);
+    collider1.addCollisionListener(PhysicsLayer.NPC, otherLayer, null);
+    entity1.getEvents().addListener("collisionStart", event);
+
+    ServiceLocator.getPhysicsService().getPhysics().update();
+
+    verify(routed).handle(fixture1, fixture2);
+    verifyNoInteractions(otherLayer);
+    // Routed fixtures no longer fire events on the entity
+    verifyNoInteractions(event);
+  }
+
+  @Test
+  void shouldIgnoreLayerPairs() {
+    Entity entity1 = createPhysicsEntity();
+    Entity entity2 = createPhysicsEntity();
+    entity1.setPosition(0f, 0f);
+    entity2.setPosition(0f, 0f);
+
+    EventListener2<Fixture, Fixture> callback = mock(EventListener2.class);
+    entity1.getEvents().addListener("collisionStart", callback);
+    PhysicsEngine engine = ServiceLocator.getPhysicsService().getPhysics();
+    engine.getContactListener().ignoreLayerPair(PhysicsLayer.DEFAULT, PhysicsLayer.DEFAULT);
+
+    engine.update();
+    verifyNoInteractions(callback);
+  }
+
+  @Test
+  void shouldDispatchAfterStep() {
+    Entity entity1 = createPhysicsEntity();
+    Entity entity2 = createPhysicsEntity();
+    Fixture fixture1 = entity1.getComponent(ColliderComponent.class).getFixture();
+    Fixture fixture2 = entity2.getComponent(ColliderComponent.class).getFixture();
+    EventListener2<Fixture, Fixture> callback = mock(EventListener2.class);
+    entity1.getEvents().addListener("collisionStart", callback);
+
+    PhysicsContactListener listener = ServiceLocator.getPhysicsService().getPhysics().getContactListener();
+    Contact contact = mock(Contact.class);
+    when(contact.getFixtureA()).thenReturn(fixture1);
+    when(contact.getFixtureB()).thenReturn(fixture2);
+
+    listener.beginStep();
+    listener.beginContact(contact);
+    verifyNoInteractions(callback);
+    assertEquals(1, listener.getPendingCount());
+
+    listener.flush();
+    verify(callback).handle(fixture1, fixture2);
+    assertEquals(0, listener.getPendingCount());
+  }
+
+  @Test
+  void shouldSkipDestroyedFixturesWhenFlushing() {
+    Entity entity1 = createPhysicsEntity();
+    Entity entity2 = createPhysicsEntity();
+    Fixture fixture1 = entity1.getComponent(ColliderComponent.class).getFixture();
+    Fixture fixture2 = entity2.getComponent(ColliderComponent.class).getFixture();
+    EventListener2<Fixture, Fixture> callback = mock(EventListener2.class);
+    entity1.getEvents().addListener("collisionStart", callback);
+
+    PhysicsContactListener listener = ServiceLocator.getPhysicsService().getPhysics().getContactListener();
+    Contact contact = mock(Contact.class);
+    when(contact.getFixtureA()).thenReturn(fixture1);
+    when(contact.getFixtureB()).thenReturn(fixture2);
+
+    listener.beginStep();
+    listener.beginContact(contact);
+    entity2.getComponent(ColliderComponent.class).dispose();
+    listener.flush();
+    verifyNoInteractions(callback);
+  }
+
   Entity createPhysicsEntity() {
     Entity entity =
         new Entity().addComponent(new PhysicsComponent()).addComponent(new ColliderComponent());
@@ -2,11 +2,16 @@ package com.csse3200.game.physics;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Contact;
+import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.PolygonShape;
 import com.badlogic.gdx.physics.box2d.Shape;
 import com.csse3200.game.physics.components.ColliderComponent;
+import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.utils.math.Vector2Utils;
 
 import net.dermetfan.utils.Pair;
@@ -49,6 +54,35 @@ public class PhysicsTestUtils {
     assertEquals(scale, bounds);
   }
 
+  /**
+   * Reports a contact starting between two fixtures to the registered physics engine, as Box2D
+   * would outside of a step.
+   * @param fixtureA First fixture
+   * @param fixtureB Second fixture
+   */
+  public static void beginContact(Fixture fixtureA, Fixture fixtureB) {
+    ServiceLocator.getPhysicsService().getPhysics().getContactListener()
+        .beginContact(mockContact(fixtureA, fixtureB));
+  }
+
+  /**
+   * Reports a contact ending between two fixtures to the registered physics engine, as Box2D
+   * would outside of a step.
+   * @param fixtureA First fixture
+   * @param fixtureB Second fixture
+   */
+  public static void endContact(Fixture fixtureA, Fixture fixtureB) {
+    ServiceLocator.getPhysicsService().getPhysics().getContactListener()
+        .endContact(mockContact(fixtureA, fixtureB));
+  }
+
+  private static Contact mockContact(Fixture fixtureA, Fixture fixtureB) {
+    Contact contact = mock(Contact.class);
+    when(contact.getFixtureA()).thenReturn(fixtureA);
+    when(contact.getFixtureB()).thenReturn(fixtureB);
+    return contact;
+  }
+
   private static Pair<Vector2, Vector2> getCorners(PolygonShape shape) {
     Vector2 min = Vector2Utils.MAX.cpy();
     Vector2 max = Vector2Utils.MIN.cpy();
@@ -0,0 +1,113 @@
+package com.csse3200.game.physics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.csse3200.game.components.InteractionDetector;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityType;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.physics.components.HitboxComponent;
+import com.csse3200.game.services.ServiceLocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@ExtendWith(GameExtension.class)
+class SpatialIndexServiceTest {
+  private SpatialIndexService spatialIndex;
+  private Entity detectorEntity;
+  private InteractionDetector detector;
+  private final List<Entity> detected = new ArrayList<>();
+  private final List<Entity> exited = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    spatialIndex = new SpatialIndexService();
+    ServiceLocator.registerSpatialIndexService(spatialIndex);
+
+    detector = new InteractionDetector(2f, List.of(EntityType.PLAYER));
+    detectorEntity = new Entity().addComponent(detector);
+    detectorEntity.setPosition(0f, 0f);
+    detectorEntity.create();
+    detector.notifyOnDetection(true);
+    detectorEntity.getEvents().addListener("entityDetected", (Entity e) -> detected.add(e));
+    detectorEntity.getEvents().addListener("entityExitDetected", (Entity e) -> exited.add(e));
+  }
+
+  /** Creates an entity with a hitbox registered in the index, without a physics body. */
+  private Entity makeTarget(EntityType type, float x, float y) {
+    HitboxComponent hitbox = new HitboxComponent();
+    Entity target = new Entity(type);
+    target.addComponent(hitbox);
+    target.setPosition(x, y);
+    spatialIndex.addTarget(hitbox);
+    return target;
+  }
+
+  @Test
+  void shouldUseIndexInsteadOfFixture() {
+    assertNull(detector.getFixture());
+    assertEquals(1, spatialIndex.getSensorCount());
+  }
+
+  @Test
+  void shouldDetectEnterAndExitOncePerTick() {
+    Entity player = makeTarget(EntityType.PLAYER, 5f, 0f);
+    spatialIndex.update();
+    assertTrue(detected.isEmpty());
+
+    player.setPosition(2f, 0f);
+    spatialIndex.update();
+    spatialIndex.update();
+    assertEquals(List.of(player), detected);
+    assertEquals(List.of(player), detector.getEntitiesInRange());
+
+    player.setPosition(-4f, 3f);
+    spatialIndex.update();
+    assertEquals(List.of(player), exited);
+    assertTrue(detector.getEntitiesInRange().isEmpty());
+  }
+
+  @Test
+  void shouldFilterByEntityType() {
+    makeTarget(EntityType.COW, 1f, 0f);
+    spatialIndex.update();
+    assertTrue(detected.isEmpty());
+    assertTrue(detector.getEntitiesInRange().isEmpty());
+  }
+
+  @Test
+  void shouldExitWhenTargetRemoved() {
+    Entity player = makeTarget(EntityType.PLAYER, 1f, 1f);
+    spatialIndex.update();
+    assertEquals(1, detected.size());
+
+    spatialIndex.removeTarget(player.getComponent(HitboxComponent.class));
+    spatialIndex.update();
+    assertSame(player, exited.get(0));
+  }
+
+  @Test
+  void shouldNotDetectAfterSensorRemoved() {
+    detector.dispose();
+    makeTarget(EntityType.PLAYER, 1f, 1f);
+    spatialIndex.update();
+    assertTrue(detected.isEmpty());
+  }
+
+  @Test
+  void shouldReturnReadOnlyView() {
+    Entity player = makeTarget(EntityType.PLAYER, 1f, 1f);
+    List<Entity> inRange = detector.getEntitiesInRange();
+    spatialIndex.update();
+    assertTrue(inRange.contains(player));
+    assertThrows(UnsupportedOperationException.class, () -> inRange.add(player));
+  }
+}
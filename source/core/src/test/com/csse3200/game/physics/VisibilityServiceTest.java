@@ -0,0 +1,88 @@
+package com.csse3200.game.physics;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyShort;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.physics.raycast.RaycastHit;
+import com.csse3200.game.rendering.DebugRenderer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class VisibilityServiceTest {
+  private PhysicsEngine physics;
+  private DebugRenderer debugRenderer;
+  private VisibilityService visibility;
+  private Entity looker;
+  private Entity target;
+
+  @BeforeEach
+  void setUp() {
+    physics = mock(PhysicsEngine.class);
+    debugRenderer = mock(DebugRenderer.class);
+    visibility = new VisibilityService(physics, debugRenderer);
+    looker = new Entity();
+    looker.setPosition(0f, 0f);
+    target = new Entity();
+    target.setPosition(5f, 0f);
+  }
+
+  @Test
+  void shouldReuseResultWhileInSameCells() {
+    when(physics.raycast(any(Vector2.class), any(Vector2.class), anyShort(), any(RaycastHit.class)))
+        .thenReturn(false);
+
+    assertTrue(visibility.isVisible(looker, target, PhysicsLayer.OBSTACLE));
+    looker.setPosition(0.3f, 0.2f);
+    assertTrue(visibility.isVisible(looker, target, PhysicsLayer.OBSTACLE));
+    // The reverse direction shares the same result
+    assertTrue(visibility.isVisible(target, looker, PhysicsLayer.OBSTACLE));
+
+    verify(physics, times(1)).raycast(any(Vector2.class), any(Vector2.class), anyShort(), any(RaycastHit.class));
+  }
+
+  @Test
+  void shouldRaycastAgainAfterChangingCell() {
+    when(physics.raycast(any(Vector2.class), any(Vector2.class), anyShort(), any(RaycastHit.class)))
+        .thenReturn(false, true);
+
+    assertTrue(visibility.isVisible(looker, target, PhysicsLayer.OBSTACLE));
+    looker.setPosition(2f, 0f);
+    assertFalse(visibility.isVisible(looker, target, PhysicsLayer.OBSTACLE));
+
+    verify(physics, times(2)).raycast(any(Vector2.class), any(Vector2.class), anyShort(), any(RaycastHit.class));
+  }
+
+  @Test
+  void shouldExpireOldResults() {
+    visibility.isVisible(looker, target, PhysicsLayer.OBSTACLE);
+    for (int i = 0; i < 30; i++) {
+      visibility.startFrame();
+    }
+    visibility.isVisible(looker, target, PhysicsLayer.OBSTACLE);
+
+    verify(physics, times(2)).raycast(any(Vector2.class), any(Vector2.class), anyShort(), any(RaycastHit.class));
+  }
+
+  @Test
+  void shouldOnlyDrawWhenDebugActive() {
+    visibility.isVisible(looker, target, PhysicsLayer.OBSTACLE);
+    verify(debugRenderer, never()).drawLine(any(Vector2.class), any(Vector2.class));
+
+    when(debugRenderer.getActive()).thenReturn(true);
+    looker.setPosition(3f, 3f);
+    visibility.isVisible(looker, target, PhysicsLayer.OBSTACLE);
+    verify(debugRenderer).drawLine(any(Vector2.class), any(Vector2.class));
+  }
+}
@@ -0,0 +1,114 @@
+package com.csse3200.game.rendering;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import com.badlogic.gdx.graphics.g2d.Animation.PlayMode;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.ServiceLocator;
+
+@ExtendWith(GameExtension.class)
+class AnimationLibraryTest {
+  @Test
+  void shouldShareSetsBetweenComponents() {
+    TextureAtlas atlas = createAtlas();
+    AnimationSet first = AnimationLibrary.getEmptySet(atlas)
+        .with(atlas, "idle", 0.1f, PlayMode.LOOP)
+        .with(atlas, "walk", 0.1f, PlayMode.LOOP);
+    AnimationSet second = AnimationLibrary.getEmptySet(atlas)
+        .with(atlas, "idle", 0.1f, PlayMode.LOOP)
+        .with(atlas, "walk", 0.1f, PlayMode.LOOP);
+
+    assertSame(first, second);
+    assertEquals(2, first.size());
+    // Regions are only looked up once for each animation
+    verify(atlas, times(1)).findRegions("idle");
+    verify(atlas, times(1)).findRegions("walk");
+  }
+
+  @Test
+  void shouldShareAnimationsAcrossOrders() {
+    TextureAtlas atlas = createAtlas();
+    AnimationSet idleFirst = AnimationLibrary.getEmptySet(atlas)
+        .with(atlas, "idle", 0.1f, PlayMode.LOOP)
+        .with(atlas, "walk", 0.1f, PlayMode.LOOP);
+    AnimationSet walkFirst = AnimationLibrary.getEmptySet(atlas)
+        .with(atlas, "walk", 0.1f, PlayMode.LOOP)
+        .with(atlas, "idle", 0.1f, PlayMode.LOOP);
+
+    assertNotSame(idleFirst, walkFirst);
+    assertSame(idleFirst.get("idle"), walkFirst.get("idle"));
+    verify(atlas, times(1)).findRegions("idle");
+  }
+
+  @Test
+  void shouldKeepDifferentTimingsApart() {
+    TextureAtlas atlas = createAtlas();
+    AnimationSet empty = AnimationLibrary.getEmptySet(atlas);
+    AnimationSet slow = empty.with(atlas, "idle", 0.5f, PlayMode.LOOP);
+    AnimationSet fast = empty.with(atlas, "idle", 0.1f, PlayMode.LOOP);
+
+    assertNotSame(slow.get("idle"), fast.get("idle"));
+    assertEquals(0.5f, slow.get("idle").getAnimation().getFrameDuration());
+  }
+
+  @Test
+  void shouldNotAddMissingAnimation() {
+    TextureAtlas atlas = createAtlas();
+    assertNull(AnimationLibrary.getEmptySet(atlas).with(atlas, "missing", 0.1f, PlayMode.NORMAL));
+  }
+
+  @Test
+  void shouldOnlyRescaleEntityWhenFrameSizeChanges() {
+    TextureAtlas atlas = createAtlas();
+    GameTime gameTime = mock(GameTime.class);
+    when(gameTime.getDeltaTime()).thenReturn(0.1f);
+    ServiceLocator.registerTimeSource(gameTime);
+
+    Entity entity = spy(new Entity());
+    AnimationRenderComponent animator = new AnimationRenderComponent(atlas, 16f);
+    animator.setEntity(entity);
+    animator.addAnimation("idle", 0.1f, PlayMode.LOOP);
+    animator.startAnimation("idle");
+
+    SpriteBatch batch = mock(SpriteBatch.class);
+    for (int i = 0; i < 10; i++) {
+      animator.draw(batch);
+    }
+    verify(entity, times(1)).setScale(anyFloat(), anyFloat());
+    assertEquals(2f, entity.getScale().x);
+    assertEquals(1f, entity.getScale().y);
+  }
+
+  private static TextureAtlas createAtlas() {
+    TextureAtlas atlas = mock(TextureAtlas.class);
+    for (String name : new String[] {"idle", "walk"}) {
+      Array<AtlasRegion> regions = new Array<>();
+      for (int i = 0; i < 3; i++) {
+        AtlasRegion region = mock(AtlasRegion.class);
+        when(region.getRegionWidth()).thenReturn(32);
+        when(region.getRegionHeight()).thenReturn(16);
+        regions.add(region);
+      }
+      when(atlas.findRegions(name)).thenReturn(regions);
+    }
+    return atlas;
+  }
+}
@@ -1,9 +1,12 @@
 package com.csse3200.game.services;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -14,8 +17,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.MockedConstruction;
 
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.components.CameraComponent;
+import com.csse3200.game.events.EventHandler;
 import com.csse3200.game.extensions.GameExtension;
 import com.csse3200.game.physics.PhysicsEngine;
 import com.csse3200.game.physics.PhysicsService;
@@ -27,6 +35,10 @@ class LightServiceTest {
 
 	RayHandler rayHandler;
 
+	OrthographicCamera camera;
+
+	TimeService timeService;
+
 	@BeforeEach
 	void setUp() {
 		PhysicsService physicsService = mock(PhysicsService.class);
@@ -34,7 +46,7 @@ class LightServiceTest {
 		when(physicsService.getPhysics()).thenReturn(physicsEngine);
 		ServiceLocator.registerPhysicsService(physicsService);
 
-		OrthographicCamera camera = mock(OrthographicCamera.class);
+		camera = new OrthographicCamera(20, 10);
 		CameraComponent cameraComponent = mock(CameraComponent.class);
 		when(cameraComponent.getCamera()).thenReturn(camera);
 		ServiceLocator.registerCameraComponent(cameraComponent);
@@ -42,9 +54,10 @@ class LightServiceTest {
 		GameTime gameTime = mock(GameTime.class);
 		ServiceLocator.registerTimeSource(gameTime);
 
-		TimeService timeService = mock(TimeService.class);
+		timeService = mock(TimeService.class);
 		when(timeService.getHour()).thenReturn(1);
 		when(timeService.getMinute()).thenReturn(0);
+		when(timeService.getEvents()).thenReturn(new EventHandler());
 		ServiceLocator.registerTimeService(timeService);
 	}
 
@@ -55,14 +68,58 @@ class LightServiceTest {
 
 	@Test
 	void testRenderLight() {
-		try (MockedConstruction<RayHandler> mock = mockConstruction(RayHandler.class)) {
+		try (MockedConstruction<RayHandler> mock = mockConstruction(RayHandler.class);
+				MockedConstruction<FrameBuffer> buffers = mockConstruction(FrameBuffer.class);
+				MockedConstruction<SpriteBatch> batches = mockConstruction(SpriteBatch.class)) {
 			LightService lightService = new LightService();
 			rayHandler = mock.constructed().get(0);
-			verify(rayHandler, times(1)).setAmbientLight(0.3f, 0.3f, 0.7f, 0.1f);
 
 			lightService.renderLight();
 			verify(rayHandler, times(1)).setCombinedMatrix((OrthographicCamera) any());
-			verify(rayHandler).updateAndRender();
+			verify(rayHandler).update();
+			verify(rayHandler).prepareRender();
+
+			SpriteBatch batch = batches.constructed().get(0);
+			verify(batch).draw(rayHandler.getLightMapTexture(), 0, 0, 1, 1, 0, 0, 1, 1);
+			verify(buffers.constructed().get(0)).begin();
+		}
+	}
+
+	@Test
+	void testBakesStaticLightsOnce() {
+		try (MockedConstruction<RayHandler> mock = mockConstruction(RayHandler.class);
+				MockedConstruction<FrameBuffer> buffers = mockConstruction(FrameBuffer.class);
+				MockedConstruction<SpriteBatch> batches = mockConstruction(SpriteBatch.class)) {
+			LightService lightService = new LightService();
+			RayHandler staticRayHandler = lightService.getStaticRayHandler();
+			assertEquals(mock.constructed().get(1), staticRayHandler);
+
+			lightService.renderLight();
+			camera.translate(1, 0);
+			camera.update();
+			lightService.markChanged();
+			lightService.renderLight();
+			assertEquals(1, lightService.getBakeCount());
+			verify(staticRayHandler, times(1)).update();
+			verify(staticRayHandler, times(1)).prepareRender();
+			verify(staticRayHandler, never()).setCombinedMatrix((OrthographicCamera) any());
+		}
+	}
+
+	@Test
+	void testBakesAgainWhenStaticLightChanged() {
+		try (MockedConstruction<RayHandler> mock = mockConstruction(RayHandler.class);
+				MockedConstruction<FrameBuffer> buffers = mockConstruction(FrameBuffer.class);
+				MockedConstruction<SpriteBatch> batches = mockConstruction(SpriteBatch.class)) {
+			LightService lightService = new LightService();
+			RayHandler staticRayHandler = lightService.getStaticRayHandler();
+			lightService.renderLight();
+
+			lightService.markStaticChanged();
+			lightService.renderLight();
+			lightService.renderLight();
+			assertEquals(2, lightService.getBakeCount());
+			verify(staticRayHandler, times(2)).update();
 		}
 	}
 
@@ -75,5 +132,101 @@ class LightServiceTest {
 		}
 	}
 
+	@Test
+	void testSkipsLightUpdateWhenUnchanged() {
+		try (MockedConstruction<RayHandler> mock = mockConstruction(RayHandler.class);
+				MockedConstruction<FrameBuffer> buffers = mockConstruction(FrameBuffer.class);
+				MockedConstruction<SpriteBatch> batches = mockConstruction(SpriteBatch.class)) {
+			LightService lightService = new LightService();
+			rayHandler = mock.constructed().get(0);
+
+			lightService.renderLight();
+			lightService.renderLight();
+			verify(rayHandler, times(1)).update();
+			verify(rayHandler, times(2)).prepareRender();
+			assertTrue(lightService.wasLightUpdateSkipped());
+		}
+	}
+
+	@Test
+	void testUpdatesAgainWhenChanged() {
+		try (MockedConstruction<RayHandler> mock = mockConstruction(RayHandler.class);
+				MockedConstruction<FrameBuffer> buffers = mockConstruction(FrameBuffer.class);
+				MockedConstruction<SpriteBatch> batches = mockConstruction(SpriteBatch.class)) {
+			LightService lightService = new LightService();
+			rayHandler = mock.constructed().get(0);
+			lightService.renderLight();
+
+			lightService.markChanged();
+			lightService.renderLight();
+			verify(rayHandler, times(2)).update();
+
+			camera.translate(1, 0);
+			camera.update();
+			lightService.renderLight();
+			verify(rayHandler, times(3)).update();
+			assertFalse(lightService.wasLightUpdateSkipped());
+		}
+	}
+
+	@Test
+	void testIsVisible() {
+		try (MockedConstruction<RayHandler> mock = mockConstruction(RayHandler.class)) {
+			LightService lightService = new LightService();
+			assertTrue(lightService.isVisible(new Vector2(9, 4), 1));
+			assertTrue(lightService.isVisible(new Vector2(12, 0), 3));
+			assertFalse(lightService.isVisible(new Vector2(12, 0), 1));
+		}
+	}
+
+	@Test
+	void testGetRayCount() {
+		assertEquals(8, LightService.getRayCount(1));
+		assertEquals(16, LightService.getRayCount(4));
+		assertEquals(32, LightService.getRayCount(30));
+	}
+
+	@Test
+	void testAmbientLightUpdatesOnMinuteUpdate() {
+		try (MockedConstruction<RayHandler> mock = mockConstruction(RayHandler.class)) {
+			LightService lightService = new LightService();
+			Color ambient = lightService.getAmbientLight();
+			float night = ambient.r;
+
+			when(timeService.getHour()).thenReturn(12);
+			when(timeService.getMinute()).thenReturn(30);
+			assertEquals(night, lightService.getAmbientLight().r);
+			timeService.getEvents().trigger("minuteUpdate");
+
+			assertEquals(LightService.getDaylight(12, 30), ambient.r, 0.0001f);
+			assertTrue(ambient.r > night);
+		}
+	}
+
+	@Test
+	void testAmbientLightEffects() {
+		try (MockedConstruction<RayHandler> mock = mockConstruction(RayHandler.class)) {
+			LightService lightService = new LightService();
+			float daylight = LightService.getDaylight(1, 0);
+
+			lightService.setBrightnessMultiplier(0.5f);
+			assertEquals(daylight * 0.5f, lightService.getAmbientLight().g, 0.0001f);
+
+			Color offset = new Color(0.1f, 0, 0, 0);
+			lightService.setColourOffset(offset);
+			offset.set(Color.WHITE);
+			assertEquals(daylight * 0.5f + 0.1f, lightService.getAmbientLight().r, 0.0001f);
+			assertEquals(daylight * 0.5f, lightService.getAmbientLight().b, 0.0001f);
+		}
+	}
 
-}
\ No newline at end of file
+	@Test
+	void testGetDaylight() {
+		assertTrue(LightService.getDaylight(13, 0) > LightService.getDaylight(1, 0));
+		assertEquals(LightService.getDaylight(0, 0), LightService.getDaylight(24, 0));
+		for (int hour = 0; hour < 24; hour++) {
+			float daylight = LightService.getDaylight(hour, 0);
+			assertTrue(daylight >= 0 && daylight <= 1);
+		}
+	}
+}
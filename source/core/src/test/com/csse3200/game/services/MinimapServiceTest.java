@@ -0,0 +1,104 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.math.GridPoint2;
+import com.csse3200.game.areas.terrain.GameMap;
+import com.csse3200.game.areas.terrain.TerrainComponent;
+import com.csse3200.game.areas.terrain.TerrainFactory;
+import com.csse3200.game.areas.terrain.TerrainTile;
+import com.csse3200.game.components.CameraComponent;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityType;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(GameExtension.class)
+class MinimapServiceTest {
+	private static final int DIRT = MinimapService.getTerrainColour(TerrainTile.TerrainCategory.DIRT);
+	private GameMap gameMap;
+	private MinimapService minimap;
+
+	@BeforeEach
+	void setUp() {
+		ResourceService resourceService = new ResourceService();
+		resourceService.loadTextures(TerrainFactory.getMapTextures());
+		resourceService.loadAll();
+		ServiceLocator.registerResourceService(resourceService);
+
+		TerrainComponent terrainComponent = mock(TerrainComponent.class);
+		doReturn(TerrainFactory.WORLD_TILE_SIZE).when(terrainComponent).getTileSize();
+		gameMap = new GameMap(new TerrainFactory(new CameraComponent()));
+		gameMap.setTerrainComponent(terrainComponent);
+		gameMap.loadTestTerrain("configs/TestMaps/allDirt20x20_map.txt");
+
+		resourceService.unloadAssets(TerrainFactory.getMapTextures());
+		resourceService.dispose();
+
+		minimap = new MinimapService(gameMap);
+		ServiceLocator.registerMinimapService(minimap);
+	}
+
+	@AfterEach
+	void tearDown() {
+		minimap.dispose();
+	}
+
+	@Test
+	void shouldBuildOnePixelPerTile() {
+		Texture texture = minimap.getTexture();
+		assertNotNull(texture);
+		assertEquals(20, minimap.getWidth());
+		assertEquals(20, minimap.getHeight());
+		assertEquals(DIRT, minimap.getColour(0, 0));
+		assertEquals(DIRT, minimap.getColour(19, 19));
+		assertFalse(minimap.isDirty());
+	}
+
+	@Test
+	void shouldRedrawOccupiedTile() {
+		Texture texture = minimap.getTexture();
+		TerrainTile tile = gameMap.getTile(new GridPoint2(3, 4));
+
+		tile.setOccupant(new Entity(EntityType.FENCE));
+		assertTrue(minimap.isDirty());
+		assertNotEquals(DIRT, minimap.getColour(3, 4));
+		assertEquals(DIRT, minimap.getColour(4, 3));
+		assertEquals(DIRT, minimap.getColour(3, 15));
+		// The same texture is updated rather than replaced
+		assertSame(texture, minimap.getTexture());
+		assertFalse(minimap.isDirty());
+
+		tile.removeOccupant();
+		assertTrue(minimap.isDirty());
+		assertEquals(DIRT, minimap.getColour(3, 4));
+	}
+
+	@Test
+	void shouldDrawCropTilesAsTilledSoil() {
+		minimap.getTexture();
+		gameMap.getTile(new GridPoint2(1, 1)).setOccupant(new Entity(EntityType.TILE));
+		gameMap.getTile(new GridPoint2(2, 1)).setOccupant(new Entity(EntityType.FENCE));
+		assertNotEquals(minimap.getColour(1, 1), minimap.getColour(2, 1));
+	}
+
+	@Test
+	void shouldNotBeDirtyWhenColourUnchanged() {
+		minimap.getTexture();
+		gameMap.getTile(new GridPoint2(5, 5)).setUnOccupied();
+		assertFalse(minimap.isDirty());
+	}
+
+	@Test
+	void shouldRedrawChangedTerrain() {
+		minimap.getTexture();
+		gameMap.getTile(new GridPoint2(6, 2)).setTerrainCategory(TerrainTile.TerrainCategory.DEEPWATER);
+		assertEquals(MinimapService.getTerrainColour(TerrainTile.TerrainCategory.DEEPWATER), minimap.getColour(6, 2));
+	}
+}
@@ -4,9 +4,11 @@ import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.ParticleEffect;
 import com.badlogic.gdx.graphics.g2d.ParticleEffectPool;
+import com.badlogic.gdx.graphics.g2d.ParticleEmitter;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
 import com.csse3200.game.areas.GameArea;
 import com.csse3200.game.components.CameraComponent;
 import com.csse3200.game.components.ParticleEffectComponent;
@@ -23,6 +25,7 @@ import java.lang.reflect.Field;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -49,11 +52,11 @@ class ParticleServiceTest {
 	@Test
 	void testConstructor() throws IllegalAccessException {
 		ParticleService particleService = new ParticleService();
-		// Tests whether they were all loaded
-		verify(resourceService, times(1)).loadParticleEffects(any());
-		verify(resourceService, times(1)).loadAll();
-		// Tests if assets were retrieved after they were loaded
-		verify(resourceService, times(ParticleService.ParticleEffectType.values().length)).getAsset(anyString(), any());
+		// Tests whether they were all queued to stream in, without blocking
+		verify(resourceService, times(1)).loadParticleEffects(any(), same(ResourceService.Priority.BACKGROUND));
+		verify(resourceService, never()).loadAll();
+		// Effects are only retrieved once they are first used
+		verify(resourceService, never()).getAsset(anyString(), any());
 	}
 
 	@Test
@@ -70,6 +73,8 @@ class ParticleServiceTest {
 		ParticleEffectWrapper wrapper = mock(ParticleEffectWrapper.class);
 		ParticleEffectPool.PooledEffect pooledEffect = mock(ParticleEffectPool.PooledEffect.class);
 		when(wrapper.getPooledEffect()).thenReturn(pooledEffect);
+		when(wrapper.getType()).thenReturn(ParticleService.ParticleEffectType.RAIN.name());
+		when(pooledEffect.getEmitters()).thenReturn(new Array<>());
 
 		@SuppressWarnings("unchecked")
 		Iterator<ParticleEffectWrapper> iter = mock(Iterator.class);
@@ -105,6 +110,7 @@ class ParticleServiceTest {
 		queuedField.setAccessible(true);
 		poolsField.set(particleService, mockPools);
 		queuedField.set(particleService, mockQueuedEffects);
+		injectSourceEffects(particleService);
 
 		ParticleEffectPool pool = mock(ParticleEffectPool.class);
 		ParticleEffectPool.PooledEffect pooledEffect = mock(ParticleEffectPool.PooledEffect.class);
@@ -117,6 +123,44 @@ class ParticleServiceTest {
 		verify(pooledEffect, times(1)).start();
 	}
 
+	@Test
+	void testStartEffectRestoresEmission() throws IllegalAccessException {
+		ParticleService particleService = new ParticleService();
+		injectSourceEffects(particleService);
+
+		ParticleEmitter.ScaledNumericValue sourceEmission = new ParticleEmitter.ScaledNumericValue();
+		sourceEmission.setHigh(10, 20);
+		sourceEmission.setLow(1, 2);
+		ParticleEmitter sourceEmitter = mock(ParticleEmitter.class);
+		when(sourceEmitter.getEmission()).thenReturn(sourceEmission);
+		when(mockEffect.getEmitters()).thenReturn(Array.with(sourceEmitter));
+
+		// A pooled effect which was freed while its emission was scaled down
+		ParticleEmitter.ScaledNumericValue emission = new ParticleEmitter.ScaledNumericValue();
+		emission.setHigh(5, 10);
+		emission.setLow(0.5f, 1);
+		ParticleEmitter emitter = mock(ParticleEmitter.class);
+		when(emitter.getEmission()).thenReturn(emission);
+		ParticleEffectPool.PooledEffect reused = mock(ParticleEffectPool.PooledEffect.class);
+		when(reused.getEmitters()).thenReturn(Array.with(emitter));
+		ParticleEffectPool pool = mock(ParticleEffectPool.class);
+		when(pool.obtain()).thenReturn(reused);
+		@SuppressWarnings("unchecked")
+		EnumMap<ParticleService.ParticleEffectType, ParticleEffectPool> mockPools = mock(EnumMap.class);
+		when(mockPools.get(any(ParticleService.ParticleEffectType.class))).thenReturn(pool);
+		Field poolsField = ReflectionUtils.findFields(ParticleService.class, f -> f.getName().equals("particleEffectPools"), ReflectionUtils.HierarchyTraversalMode.TOP_DOWN).get(0);
+		poolsField.setAccessible(true);
+		poolsField.set(particleService, mockPools);
+
+		// Effects are not being shed, so the emission should be back to the rate it was loaded with
+		particleService.startEffect(ParticleService.ParticleEffectType.RAIN);
+
+		assertEquals(10, emission.getHighMin());
+		assertEquals(20, emission.getHighMax());
+		assertEquals(1, emission.getLowMin());
+		assertEquals(2, emission.getLowMax());
+	}
+
 	@Test
 	void testStopEffect() throws IllegalAccessException {
 		// Injecting mock into private field
@@ -273,4 +317,156 @@ class ParticleServiceTest {
 		verify(positionalEffects, times(1)).add(any(ParticleEffectWrapper.class));
 		verify(pooledEffect, times(1)).start();
 	}
+
+	/**
+	 * Replaces the particle service's pools with a single mocked pool which hands out new mocked effects
+	 */
+	private List<ParticleEffectPool.PooledEffect> injectEffects(ParticleService particleService, int particlesPerEffect)
+			throws IllegalAccessException {
+		@SuppressWarnings("unchecked")
+		EnumMap<ParticleService.ParticleEffectType, ParticleEffectPool> mockPools = mock(EnumMap.class);
+		Field poolsField = ReflectionUtils.findFields(ParticleService.class, f -> f.getName().equals("particleEffectPools"), ReflectionUtils.HierarchyTraversalMode.TOP_DOWN).get(0);
+		poolsField.setAccessible(true);
+		poolsField.set(particleService, mockPools);
+
+		injectSourceEffects(particleService);
+
+		ParticleEffectPool pool = mock(ParticleEffectPool.class);
+		when(mockPools.get(any(ParticleService.ParticleEffectType.class))).thenReturn(pool);
+		List<ParticleEffectPool.PooledEffect> effects = new ArrayList<>();
+		when(pool.obtain()).thenAnswer(invocation -> {
+			ParticleEmitter emitter = mock(ParticleEmitter.class);
+			lenient().when(emitter.getActiveCount()).thenReturn(particlesPerEffect);
+			ParticleEffectPool.PooledEffect effect = mock(ParticleEffectPool.PooledEffect.class);
+			lenient().when(effect.getEmitters()).thenReturn(Array.with(emitter));
+			effects.add(effect);
+			return effect;
+		});
+		return effects;
+	}
+
+	/**
+	 * Gives every effect type a loaded effect, which is otherwise only done when its pool is first created
+	 */
+	@SuppressWarnings("unchecked")
+	private void injectSourceEffects(ParticleService particleService) throws IllegalAccessException {
+		Field effectsField = ReflectionUtils.findFields(ParticleService.class, f -> f.getName().equals("particleEffects"), ReflectionUtils.HierarchyTraversalMode.TOP_DOWN).get(0);
+		effectsField.setAccessible(true);
+		EnumMap<ParticleService.ParticleEffectType, ParticleEffect> effects =
+				(EnumMap<ParticleService.ParticleEffectType, ParticleEffect>) effectsField.get(particleService);
+		lenient().when(mockEffect.getEmitters()).thenReturn(new Array<>());
+		for (ParticleService.ParticleEffectType effectType : ParticleService.ParticleEffectType.values()) {
+			effects.put(effectType, mockEffect);
+		}
+	}
+
+	private void registerCamera() {
+		OrthographicCamera camera = new OrthographicCamera(10, 10);
+		camera.update();
+		CameraComponent cameraComponent = mock(CameraComponent.class);
+		when(cameraComponent.getCamera()).thenReturn(camera);
+		ServiceLocator.registerCameraComponent(cameraComponent);
+	}
+
+	@Test
+	void testStartEffectAtPositionCapsInstances() throws IllegalAccessException {
+		ParticleService particleService = new ParticleService();
+		List<ParticleEffectPool.PooledEffect> effects = injectEffects(particleService, 1);
+
+		for (int i = 0; i < 11; i++) {
+			particleService.startEffectAtPosition(ParticleService.ParticleEffectType.DIRT_EFFECT, new Vector2());
+		}
+
+		verify(effects.get(0)).free();
+		verify(effects.get(1), never()).free();
+	}
+
+	@Test
+	void testRenderCullsHiddenPositionalEffects() throws IllegalAccessException {
+		registerCamera();
+		ParticleService particleService = new ParticleService();
+		List<ParticleEffectPool.PooledEffect> effects = injectEffects(particleService, 1);
+		particleService.startEffectAtPosition(ParticleService.ParticleEffectType.DIRT_EFFECT, new Vector2(1, 1));
+		particleService.startEffectAtPosition(ParticleService.ParticleEffectType.DIRT_EFFECT, new Vector2(50, 50));
+
+		SpriteBatch batch = mock(SpriteBatch.class);
+		particleService.render(batch, 0.1f);
+
+		verify(effects.get(0)).draw(batch, 0.1f);
+		verify(effects.get(0), never()).free();
+		// Hidden effects are skipped but kept, so they are drawn again once the camera comes back
+		verify(effects.get(1), never()).draw(any(SpriteBatch.class), anyFloat());
+		verify(effects.get(1), never()).free();
+
+		OrthographicCamera camera = (OrthographicCamera) ServiceLocator.getCameraComponent().getCamera();
+		camera.position.set(50, 50, 0);
+		camera.update();
+		particleService.render(batch, 0.1f);
+		verify(effects.get(1)).draw(batch, 0.1f);
+	}
+
+	@Test
+	void testRenderFreesCompletedPositionalEffects() throws IllegalAccessException {
+		registerCamera();
+		ParticleService particleService = new ParticleService();
+		List<ParticleEffectPool.PooledEffect> effects = injectEffects(particleService, 1);
+		particleService.startEffectAtPosition(ParticleService.ParticleEffectType.DIRT_EFFECT, new Vector2(1, 1));
+		when(effects.get(0).isComplete()).thenReturn(true);
+
+		SpriteBatch batch = mock(SpriteBatch.class);
+		particleService.render(batch, 0.1f);
+
+		verify(effects.get(0), never()).draw(any(SpriteBatch.class), anyFloat());
+		verify(effects.get(0)).free();
+	}
+
+	@Test
+	void testWeatherSimulatedLessWhilePaused() throws IllegalAccessException {
+		registerCamera();
+		TimeService timeService = mock(TimeService.class);
+		when(timeService.isPaused()).thenReturn(true);
+		ServiceLocator.registerTimeService(timeService);
+		ParticleService particleService = new ParticleService();
+		List<ParticleEffectPool.PooledEffect> effects = injectEffects(particleService, 1);
+		particleService.startEffect(ParticleService.ParticleEffectType.RAIN);
+
+		SpriteBatch batch = mock(SpriteBatch.class);
+		for (int i = 0; i < 4; i++) {
+			particleService.render(batch, 0.1f);
+		}
+
+		verify(effects.get(0), times(3)).draw(batch);
+		verify(effects.get(0), times(1)).draw(same(batch), eq(0.4f, 0.0001f));
+	}
+
+	@Test
+	void testCountsParticlesByType() throws IllegalAccessException {
+		registerCamera();
+		ParticleService particleService = new ParticleService();
+		injectEffects(particleService, 5);
+		particleService.startEffect(ParticleService.ParticleEffectType.RAIN);
+		particleService.startEffectAtPosition(ParticleService.ParticleEffectType.DIRT_EFFECT, new Vector2());
+
+		particleService.render(mock(SpriteBatch.class), 0.1f);
+
+		assertEquals(5, particleService.getParticleCount(ParticleService.ParticleEffectType.RAIN));
+		assertEquals(5, particleService.getParticleCount(ParticleService.ParticleEffectType.DIRT_EFFECT));
+		assertEquals(0, particleService.getParticleCount(ParticleService.ParticleEffectType.FEED_EFFECT));
+		assertEquals(10, particleService.getTotalParticleCount());
+	}
+
+	@Test
+	void testShedsLowestPriorityEffectsOverBudget() throws IllegalAccessException {
+		registerCamera();
+		ParticleService particleService = new ParticleService();
+		List<ParticleEffectPool.PooledEffect> effects = injectEffects(particleService, ParticleService.PARTICLE_BUDGET);
+		particleService.startEffectAtPosition(ParticleService.ParticleEffectType.DIRT_EFFECT, new Vector2());
+		particleService.startEffectAtPosition(ParticleService.ParticleEffectType.TELEPORT_EFFECT, new Vector2());
+
+		particleService.render(mock(SpriteBatch.class), 0.1f);
+
+		verify(effects.get(0)).free();
+		verify(effects.get(1), never()).free();
+		assertEquals(ParticleService.PARTICLE_BUDGET, particleService.getTotalParticleCount());
+	}
 }
@@ -1,19 +1,28 @@
 package com.csse3200.game.services;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.csse3200.game.extensions.GameExtension;
 
 @ExtendWith(GameExtension.class)
@@ -147,4 +156,193 @@ class ResourceServiceTest {
     verify(assetManager).load(asset2, Music.class);
   }
 
+  @Test
+  void shouldLoadCriticalAssetsStraightAway() {
+    String texture = "test/files/tree.png";
+    AssetManager assetManager = spy(AssetManager.class);
+    ResourceService resourceService = new ResourceService(assetManager);
+
+    resourceService.loadTextures(new String[] {texture}, ResourceService.Priority.CRITICAL);
+
+    assertTrue(assetManager.isLoaded(texture, Texture.class));
+    assertEquals(0, resourceService.getStreamQueueSize());
+  }
+
+  @Test
+  void shouldStreamMostUrgentAssetsFirst() {
+    String background = "test/files/tree.png";
+    String visibleSoon = "test/files/heart.png";
+    AssetManager assetManager = spy(AssetManager.class);
+    ResourceService resourceService = new ResourceService(assetManager);
+
+    resourceService.loadTextures(new String[] {background}, ResourceService.Priority.BACKGROUND);
+    resourceService.loadTextures(new String[] {visibleSoon}, ResourceService.Priority.VISIBLE_SOON);
+
+    assertEquals(2, resourceService.getStreamQueueSize());
+    verify(assetManager, never()).load(anyString(), any(Class.class));
+    while (!resourceService.update()) {
+      ;
+    }
+
+    InOrder inOrder = inOrder(assetManager);
+    inOrder.verify(assetManager).load(visibleSoon, Texture.class);
+    inOrder.verify(assetManager).load(background, Texture.class);
+    assertTrue(assetManager.isLoaded(background, Texture.class));
+    assertEquals(2, resourceService.getStreamedAssets());
+  }
+
+  @Test
+  void shouldLoadStreamedAssetWhenNeeded() {
+    String texture = "test/files/tree.png";
+    AssetManager assetManager = spy(AssetManager.class);
+    ResourceService resourceService = new ResourceService(assetManager);
+
+    resourceService.loadTextures(new String[] {texture}, ResourceService.Priority.BACKGROUND);
+
+    assertNotNull(resourceService.getAsset(texture, Texture.class));
+    assertEquals(0, resourceService.getStreamQueueSize());
+  }
+
+  @Test
+  void shouldSwapPlaceholderRegionsOnceLoaded() {
+    String texture = "test/files/tree.png";
+    AssetManager assetManager = spy(AssetManager.class);
+    ResourceService resourceService = new ResourceService(assetManager);
+    resourceService.loadTextures(new String[] {texture}, ResourceService.Priority.BACKGROUND);
+
+    TextureRegion region = resourceService.getRegion(texture);
+
+    assertFalse(assetManager.isLoaded(texture, Texture.class));
+    assertNotNull(region.getTexture());
+    while (!resourceService.update()) {
+      ;
+    }
+    assertSame(assetManager.get(texture, Texture.class), region.getTexture());
+  }
+
+  @Test
+  void shouldUnloadQueuedAssetsWithoutLoadingThem() {
+    String texture = "test/files/tree.png";
+    AssetManager assetManager = spy(AssetManager.class);
+    ResourceService resourceService = new ResourceService(assetManager);
+
+    resourceService.loadTextures(new String[] {texture}, ResourceService.Priority.BACKGROUND);
+    resourceService.unloadAssets(new String[] {texture});
+
+    assertEquals(0, resourceService.getStreamQueueSize());
+    assertTrue(resourceService.update());
+    verify(assetManager, never()).load(texture, Texture.class);
+    verify(assetManager, never()).unload(texture);
+  }
+
+  @Test
+  void shouldKeepSharedGroupsLoadedBetweenScreens() {
+    String shared = "test/files/tree.png";
+    String firstOnly = "test/files/heart.png";
+    AssetManager assetManager = spy(AssetManager.class);
+    ResourceService resourceService = new ResourceService(assetManager);
+    resourceService.setManifest(createManifest(shared, firstOnly));
+
+    resourceService.acquireGroup("first");
+    assertEquals(1, resourceService.getGroupReferences("shared"));
+    assertTrue(assetManager.isLoaded(firstOnly, Texture.class));
+
+    // Changing screens: the old screen releases its group before the new one acquires its own
+    resourceService.releaseGroup("first");
+    resourceService.acquireGroup("second");
+    assertEquals(1, resourceService.unloadUnreferenced());
+
+    assertTrue(assetManager.isLoaded(shared, Texture.class));
+    assertFalse(assetManager.contains(firstOnly, Texture.class));
+    verify(assetManager, times(1)).load(shared, Texture.class);
+    assertEquals(0, resourceService.getGroupReferences("first"));
+  }
+
+  @Test
+  void shouldUnloadGroupsOnceNothingReferencesThem() {
+    String shared = "test/files/tree.png";
+    String firstOnly = "test/files/heart.png";
+    AssetManager assetManager = spy(AssetManager.class);
+    ResourceService resourceService = new ResourceService(assetManager);
+    resourceService.setManifest(createManifest(shared, firstOnly));
+
+    resourceService.acquireGroup("first");
+    resourceService.acquireGroup("second");
+    resourceService.releaseGroup("first");
+    resourceService.unloadUnreferenced();
+    assertTrue(assetManager.isLoaded(shared, Texture.class));
+
+    resourceService.releaseGroup("second");
+    assertTrue(assetManager.isLoaded(shared, Texture.class));
+    resourceService.unloadUnreferenced();
+    assertFalse(assetManager.contains(shared, Texture.class));
+    assertEquals(0, resourceService.getAcquiredGroups().size);
+  }
+
+  @Test
+  void shouldOnlyUnloadUngroupedAssetsNotLoadedAgain() {
+    String kept = "test/files/tree.png";
+    String dropped = "test/files/heart.png";
+    AssetManager assetManager = spy(AssetManager.class);
+    ResourceService resourceService = new ResourceService(assetManager);
+    resourceService.loadTextures(new String[] {kept, dropped}, ResourceService.Priority.CRITICAL);
+
+    resourceService.releaseUngroupedAssets();
+    resourceService.loadTextures(new String[] {kept}, ResourceService.Priority.CRITICAL);
+    resourceService.unloadUnreferenced();
+
+    assertTrue(assetManager.isLoaded(kept, Texture.class));
+    assertFalse(assetManager.contains(dropped, Texture.class));
+  }
+
+  @Test
+  void shouldNotUnloadAssetsUsedByGroupsByName() {
+    String shared = "test/files/tree.png";
+    AssetManager assetManager = spy(AssetManager.class);
+    ResourceService resourceService = new ResourceService(assetManager);
+    resourceService.setManifest(createManifest(shared, "test/files/heart.png"));
+
+    resourceService.acquireGroup("second");
+    resourceService.unloadAssets(new String[] {shared});
+
+    assertTrue(assetManager.isLoaded(shared, Texture.class));
+    verify(assetManager, never()).unload(shared);
+  }
+
+  @Test
+  void shouldReportTextureMemory() {
+    String texture = "test/files/tree.png";
+    AssetManager assetManager = spy(AssetManager.class);
+    ResourceService resourceService = new ResourceService(assetManager);
+    assertEquals(0, resourceService.getTextureMemory());
+
+    resourceService.loadTextures(new String[] {texture}, ResourceService.Priority.CRITICAL);
+
+    Texture loaded = assetManager.get(texture, Texture.class);
+    assertEquals(ResourceService.getTextureMemory(loaded), resourceService.getTextureMemory());
+    assertTrue(resourceService.getTextureMemory() >= (long) loaded.getWidth() * loaded.getHeight());
+  }
+
+  /**
+   * Creates a manifest with two groups that both depend on a group holding the shared texture
+   */
+  private static AssetManifest createManifest(String shared, String firstOnly) {
+    AssetManifest manifest = new AssetManifest();
+    AssetGroup sharedGroup = new AssetGroup();
+    sharedGroup.name = "shared";
+    sharedGroup.textures = new String[] {shared};
+    manifest.addGroup(sharedGroup);
+
+    AssetGroup first = new AssetGroup();
+    first.name = "first";
+    first.dependsOn = new String[] {"shared"};
+    first.textures = new String[] {firstOnly};
+    manifest.addGroup(first);
+
+    AssetGroup second = new AssetGroup();
+    second.name = "second";
+    second.dependsOn = new String[] {"shared"};
+    manifest.addGroup(second);
+    return manifest;
+  }
 }
@@ -0,0 +1,77 @@
+package com.csse3200.game.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.areas.terrain.CropTileComponent;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityType;
+import com.csse3200.game.extensions.GameExtension;
+
+@ExtendWith(GameExtension.class)
+class SaveChangeTrackerTest {
+  private SaveChangeTracker tracker;
+
+  @BeforeEach
+  void beforeEach() {
+    tracker = new SaveChangeTracker();
+  }
+
+  @AfterEach
+  void afterEach() {
+    ServiceLocator.clear();
+  }
+
+  @Test
+  void shouldMarkTilesWithWaterOrPlants() {
+    Entity wateredTile = createTile(0.5f);
+    Entity plantedTile = createTile(0f);
+    plantedTile.getComponent(CropTileComponent.class).setPlant(new Entity(EntityType.PLANT));
+    Entity dryTile = createTile(0f);
+    Entity removedTile = createTile(1f);
+    tracker.onEntityRegistered(wateredTile);
+    tracker.onEntityRegistered(plantedTile);
+    tracker.onEntityRegistered(dryTile);
+    tracker.onEntityRegistered(removedTile);
+    tracker.onEntityUnregistered(removedTile);
+    tracker.clear();
+
+    tracker.markGrowingTilesChanged();
+
+    Array<Entity> changedTiles = tracker.getChangedTiles();
+    assertEquals(2, changedTiles.size);
+    assertTrue(changedTiles.contains(wateredTile, true));
+    assertTrue(changedTiles.contains(plantedTile, true));
+  }
+
+  @Test
+  void shouldMarkTileWhenItDriesOut() {
+    ServiceLocator.registerSaveChangeTracker(tracker);
+    GameTime gameTime = mock(GameTime.class);
+    ServiceLocator.registerTimeSource(gameTime);
+    Entity tile = createTile(0.0001f);
+    tracker.onEntityRegistered(tile);
+    CropTileComponent cropTile = tile.getComponent(CropTileComponent.class);
+    cropTile.update();
+    tracker.clear();
+
+    // The water runs out over the next update, so the tile won't be marked by autosaves after it
+    when(gameTime.getDeltaTime()).thenReturn(1f);
+    cropTile.update();
+
+    assertEquals(0f, cropTile.getWaterContent());
+    assertEquals(1, tracker.getChangedTiles().size);
+  }
+
+  private static Entity createTile(float waterContent) {
+    return new Entity(EntityType.TILE).addComponent(new CropTileComponent(waterContent, 1f));
+  }
+}
@@ -1,13 +1,31 @@
 package com.csse3200.game.services;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
 
+import com.badlogic.gdx.Application;
 import com.badlogic.gdx.Files;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
@@ -64,9 +82,106 @@ class SaveLoadServiceTest {
         ServiceLocator.registerEntityService(mockEntityService);
     }
 
+    @AfterEach
+    void tearDown() {
+        ServiceLocator.clear();
+    }
+
+    /**
+     * Registers the services a save needs, and runs anything posted to the render thread straight away
+     */
+    private void setUpSaving() {
+        Gdx.app = mock(Application.class);
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(Gdx.app).postRunnable(any(Runnable.class));
+
+        EntityService entityService = mock(EntityService.class);
+        when(entityService.getEntities()).thenReturn(new Array<>());
+        ServiceLocator.registerEntityService(entityService);
+        ServiceLocator.registerPlanetOxygenService(mock(PlanetOxygenService.class));
+        ServiceLocator.registerSaveChangeTracker(mock(SaveChangeTracker.class));
+    }
+
 
     @Test
     void testValidSaveFileWithNoValidSaveFile() {
         assertFalse(saveLoadService.validSaveFile());
     }
+
+    @Test
+    void shouldReportLoadingMissingSave() {
+        AtomicReference<Boolean> loaded = new AtomicReference<>();
+        saveLoadService.load("saves/missing.sav", loaded::set);
+        assertTrue(saveLoadService.isLoading());
+
+        // The save is read on a worker thread, and the load only finishes during an update
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            while (saveLoadService.isLoading()) {
+                saveLoadService.update();
+                Thread.yield();
+            }
+        });
+        assertEquals(Boolean.FALSE, loaded.get());
+        assertEquals(1f, saveLoadService.getLoadProgress());
+    }
+
+    @Test
+    void shouldWriteFullSaveAfterFailedSave() {
+        setUpSaving();
+        try (MockedStatic<SaveGame> saveGame = mockStatic(SaveGame.class)) {
+            saveGame.when(() -> SaveGame.setAsync(any(), anyString()))
+                    .thenReturn(CompletableFuture.completedFuture(-1L));
+
+            AtomicReference<Boolean> saved = new AtomicReference<>();
+            saveLoadService.save(saved::set);
+            assertEquals(Boolean.FALSE, saved.get());
+
+            // There is no full save for journal entries to be added to
+            saveLoadService.autosave();
+            saveGame.verify(() -> SaveGame.setAsync(any(), anyString()), times(2));
+            saveGame.verify(() -> SaveGame.appendJournalAsync(any(), anyString()), never());
+        }
+    }
+
+    @Test
+    void shouldJournalGrowingCropTiles() {
+        setUpSaving();
+        SaveChangeTracker tracker = ServiceLocator.getSaveChangeTracker();
+        try (MockedStatic<SaveGame> saveGame = mockStatic(SaveGame.class)) {
+            saveGame.when(() -> SaveGame.setAsync(any(), anyString()))
+                    .thenReturn(CompletableFuture.completedFuture(100L));
+            saveGame.when(() -> SaveGame.appendJournalAsync(any(), anyString()))
+                    .thenReturn(CompletableFuture.completedFuture(10L));
+            saveLoadService.save();
+
+            saveLoadService.autosave();
+            saveGame.verify(() -> SaveGame.appendJournalAsync(any(), anyString()));
+
+            // Water and plants change without marking their tiles, so they are marked before saving
+            InOrder order = inOrder(tracker);
+            order.verify(tracker).markGrowingTilesChanged();
+            order.verify(tracker).getChangedTiles();
+        }
+    }
+
+    @Test
+    void shouldNotSaveWhileLoading() {
+        setUpSaving();
+        try (MockedStatic<SaveGame> saveGame = mockStatic(SaveGame.class)) {
+            saveLoadService.load("saves/missing.sav");
+            assertTrue(saveLoadService.isLoading());
+
+            AtomicReference<Boolean> saved = new AtomicReference<>();
+            saveLoadService.save(saved::set);
+            saveLoadService.autosave();
+
+            // The world is only partly built, so it must not replace the save
+            assertEquals(Boolean.FALSE, saved.get());
+            saveGame.verify(() -> SaveGame.snapshot(any(), any()), never());
+            saveGame.verify(() -> SaveGame.setAsync(any(), anyString()), never());
+            saveGame.verify(() -> SaveGame.appendJournalAsync(any(), anyString()), never());
+        }
+    }
 }
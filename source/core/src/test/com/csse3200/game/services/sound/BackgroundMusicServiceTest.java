@@ -0,0 +1,178 @@
+package com.csse3200.game.services.sound;
+
+import com.badlogic.gdx.Audio;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.audio.Music;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.services.TimeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(GameExtension.class)
+class BackgroundMusicServiceTest {
+    private Audio audio;
+    /** Every Music instance opened, in the order they were opened */
+    private final List<Music> opened = new ArrayList<>();
+    /** Background jobs that have been started but not run */
+    private final List<Runnable> jobs = new ArrayList<>();
+    private BackgroundMusicService service;
+
+    @BeforeEach
+    void setUp() throws InvalidSoundFileException {
+        audio = Gdx.audio;
+        Audio mockAudio = mock(Audio.class);
+        when(mockAudio.newMusic(any())).thenAnswer(invocation -> {
+            Music music = mock(Music.class);
+            when(music.isPlaying()).thenReturn(true);
+            opened.add(music);
+            return music;
+        });
+        Gdx.audio = mockAudio;
+
+        service = new BackgroundMusicService(this::launchLater);
+        service.loadSounds(List.of(BackgroundSoundFile.values()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        Gdx.audio = audio;
+    }
+
+    @Test
+    void shouldNotOpenTracksWhenLoaded() {
+        verify(Gdx.audio, never()).newMusic(any());
+        assertEquals(0, service.getOpenTrackCount());
+    }
+
+    @Test
+    void shouldOpenNextTrackInBackground() {
+        service.play(BackgroundMusicType.NORMAL);
+        assertEquals(1, opened.size());
+        verify(opened.get(0)).play();
+
+        // The other track is only opened when its background job runs
+        assertEquals(1, jobs.size());
+        service.update(0f);
+        assertEquals(1, service.getOpenTrackCount());
+        runJobs();
+        service.update(0f);
+        assertEquals(2, service.getOpenTrackCount());
+    }
+
+    @Test
+    void shouldPlayPrefetchedTrackWithoutOpeningAgain() {
+        service.play(BackgroundMusicType.NORMAL);
+        runJobs();
+        service.update(0f);
+
+        service.play(BackgroundMusicType.NORMAL);
+        assertEquals(2, opened.size());
+        verify(opened.get(1)).play();
+    }
+
+    @Test
+    void shouldCrossfadeBetweenTracks() {
+        service.play(BackgroundMusicType.NORMAL);
+        Music first = opened.get(0);
+        runJobs();
+        service.update(0f);
+
+        service.play(BackgroundMusicType.NORMAL);
+        Music second = opened.get(1);
+        assertTrue(service.isCrossfading());
+        verify(second).setVolume(0f);
+        verify(first, never()).stop();
+
+        service.update(BackgroundMusicService.CROSSFADE_DURATION / 2);
+        verify(first).setVolume(floatThat(volume -> volume > 0f && volume < 0.1f));
+        verify(second).setVolume(floatThat(volume -> volume > 0f && volume < 0.1f));
+
+        service.update(BackgroundMusicService.CROSSFADE_DURATION / 2);
+        assertFalse(service.isCrossfading());
+        verify(first).stop();
+        verify(second, atLeastOnce()).setVolume(0.1f);
+    }
+
+    @Test
+    void shouldStartNextTrackWhenOneFinishes() {
+        service.play(BackgroundMusicType.NORMAL);
+        Music first = opened.get(0);
+        runJobs();
+        service.update(0f);
+
+        // Finishing the track starts the prefetched one straight away
+        ArgumentCaptor<Music.OnCompletionListener> listener = ArgumentCaptor.forClass(Music.OnCompletionListener.class);
+        verify(first).setOnCompletionListener(listener.capture());
+        listener.getValue().onCompletion(first);
+        verify(opened.get(1)).play();
+        assertFalse(service.isCrossfading());
+    }
+
+    @Test
+    void shouldMuteDuringCrossfade() {
+        service.play(BackgroundMusicType.NORMAL);
+        runJobs();
+        service.update(0f);
+        service.play(BackgroundMusicType.NORMAL);
+        service.setMuted(true);
+        verify(opened.get(0), atLeastOnce()).setVolume(0f);
+        verify(opened.get(1), atLeastOnce()).setVolume(0f);
+    }
+
+    @Test
+    void shouldPrefetchBeforeMorning() {
+        TimeService timeService = new TimeService();
+        service.followTimeOfDay(timeService);
+
+        timeService.setHour(TimeService.MORNING_HOUR - 1);
+        timeService.setMinute(BackgroundMusicService.PREFETCH_MINUTE - 1);
+        assertTrue(jobs.isEmpty());
+
+        timeService.setMinute(BackgroundMusicService.PREFETCH_MINUTE);
+        timeService.setMinute(BackgroundMusicService.PREFETCH_MINUTE + 1);
+        // There is no day music, so a normal track is opened, and only once
+        assertEquals(1, jobs.size());
+        runJobs();
+        service.update(0f);
+        assertEquals(1, service.getOpenTrackCount());
+    }
+
+    @Test
+    void shouldDisposeOpenTracks() {
+        service.play(BackgroundMusicType.NORMAL);
+        runJobs();
+        service.update(0f);
+
+        service.dispose();
+        for (Music music : opened) {
+            verify(music).dispose();
+        }
+        assertEquals(0, service.getOpenTrackCount());
+    }
+
+    /**
+     * Holds a background job until {@link #runJobs()} is called
+     */
+    private CompletableFuture<Music> launchLater(Supplier<Music> job) {
+        CompletableFuture<Music> future = new CompletableFuture<>();
+        jobs.add(() -> future.complete(job.get()));
+        return future;
+    }
+
+    private void runJobs() {
+        List<Runnable> toRun = new ArrayList<>(jobs);
+        jobs.clear();
+        toRun.forEach(Runnable::run);
+    }
+}
@@ -0,0 +1,244 @@
+package com.csse3200.game.services.sound;
+
+import com.badlogic.gdx.Audio;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.areas.GameArea;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.services.ServiceLocator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(GameExtension.class)
+class EffectsMusicServiceTest {
+    private Audio audio;
+    /** The sound loaded for each effect, in the order of the enum */
+    private final List<Sound> sounds = new ArrayList<>();
+    private final AtomicLong nextId = new AtomicLong();
+    private final AtomicLong time = new AtomicLong(1000);
+    private EffectsMusicService service;
+
+    @BeforeEach
+    void setUp() throws InvalidSoundFileException {
+        audio = Gdx.audio;
+        Audio mockAudio = mock(Audio.class);
+        when(mockAudio.newSound(any())).thenAnswer(invocation -> {
+            Sound sound = mock(Sound.class);
+            when(sound.play(anyFloat(), anyFloat(), anyFloat())).thenAnswer(play -> nextId.getAndIncrement());
+            sounds.add(sound);
+            return sound;
+        });
+        Gdx.audio = mockAudio;
+
+        service = new EffectsMusicService(time::get);
+        service.loadSounds(List.of(EffectSoundFile.values()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        Gdx.audio = audio;
+        ServiceLocator.clear();
+    }
+
+    @Test
+    void shouldLimitVoicesOfOneEffect() throws InvalidSoundFileException {
+        int limit = EffectsMusicService.getVoiceLimit(EffectSoundFile.IMPACT);
+        long first = playLater(EffectSoundFile.IMPACT);
+        for (int i = 1; i < limit; i++) {
+            playLater(EffectSoundFile.IMPACT);
+        }
+        assertEquals(limit, service.getVoiceCount(EffectSoundFile.IMPACT));
+
+        // The oldest voice makes way for the new one
+        long id = playLater(EffectSoundFile.IMPACT);
+        assertNotEquals(-1, id);
+        assertEquals(limit, service.getVoiceCount(EffectSoundFile.IMPACT));
+        assertEquals(1, service.getVoicesStolen());
+        verify(getSound(EffectSoundFile.IMPACT)).stop(first);
+    }
+
+    @Test
+    void shouldGivePlantsFewerVoices() {
+        assertEquals(EffectsMusicService.Priority.LOW, EffectsMusicService.getPriority(EffectSoundFile.PLANT_NEARBY));
+        assertEquals(EffectsMusicService.Priority.LOW,
+                EffectsMusicService.getPriority(EffectSoundFile.ALOE_VERA_NEARBY_LORE));
+        assertEquals(EffectsMusicService.Priority.HIGH, EffectsMusicService.getPriority(EffectSoundFile.PLAYER_DAMAGE));
+        assertEquals(EffectsMusicService.Priority.NORMAL, EffectsMusicService.getPriority(EffectSoundFile.IMPACT));
+        assertTrue(EffectsMusicService.getVoiceLimit(EffectSoundFile.PLANT_NEARBY)
+                < EffectsMusicService.getVoiceLimit(EffectSoundFile.IMPACT));
+    }
+
+    @Test
+    void shouldStealLowestPriorityVoiceWhenFull() throws InvalidSoundFileException {
+        fillVoices();
+        long plant = findVoice(EffectSoundFile.PLANT_NEARBY);
+
+        long id = playLater(EffectSoundFile.PLAYER_DAMAGE);
+        assertNotEquals(-1, id);
+        assertEquals(EffectsMusicService.MAX_VOICES, service.getActiveVoiceCount());
+        verify(getSound(EffectSoundFile.PLANT_NEARBY)).stop(plant);
+    }
+
+    @Test
+    void shouldNotStealMoreImportantVoices() throws InvalidSoundFileException {
+        for (int i = 0; i < EffectsMusicService.MAX_VOICES; i++) {
+            playLater(EffectSoundFile.values()[i % 4]);
+        }
+        assertEquals(EffectsMusicService.MAX_VOICES, service.getActiveVoiceCount());
+
+        assertEquals(-1, playLater(EffectSoundFile.PLANT_NEARBY));
+        assertEquals(0, service.getVoicesStolen());
+        assertEquals(0, service.getVoiceCount(EffectSoundFile.PLANT_NEARBY));
+    }
+
+    @Test
+    void shouldNotStealLoopingVoices() throws InvalidSoundFileException {
+        long storm = service.play(EffectSoundFile.STORM, true);
+        for (int i = 0; i < 20; i++) {
+            time.addAndGet(EffectsMusicService.DEFAULT_VOICE_DURATION);
+            service.play(EffectSoundFile.STORM, true);
+        }
+        verify(getSound(EffectSoundFile.STORM), never()).stop(storm);
+        assertEquals(EffectsMusicService.getVoiceLimit(EffectSoundFile.STORM),
+                service.getVoiceCount(EffectSoundFile.STORM));
+    }
+
+    @Test
+    void shouldMergeSameEffectInOneFrame() throws InvalidSoundFileException {
+        long first = service.play(EffectSoundFile.PLANT_CLICK);
+        long second = service.play(EffectSoundFile.PLANT_CLICK);
+
+        assertEquals(first, second);
+        assertEquals(1, service.getVoiceCount(EffectSoundFile.PLANT_CLICK));
+        assertEquals(1, service.getVoicesDeduplicated());
+        verify(getSound(EffectSoundFile.PLANT_CLICK), times(1)).play(anyFloat(), anyFloat(), anyFloat());
+
+        time.addAndGet(EffectsMusicService.DEDUPLICATION_WINDOW);
+        assertNotEquals(first, service.play(EffectSoundFile.PLANT_CLICK));
+    }
+
+    @Test
+    void shouldForgetFinishedVoices() throws InvalidSoundFileException {
+        service.play(EffectSoundFile.IMPACT);
+        service.play(EffectSoundFile.STORM, true);
+        assertEquals(2, service.getActiveVoiceCount());
+
+        time.addAndGet(EffectsMusicService.DEFAULT_VOICE_DURATION);
+        assertEquals(1, service.getActiveVoiceCount());
+        assertEquals(0, service.getVoiceCount(EffectSoundFile.IMPACT));
+    }
+
+    @Test
+    void shouldStopAllVoicesWhenMuted() throws InvalidSoundFileException {
+        long impact = service.play(EffectSoundFile.IMPACT);
+        long storm = service.play(EffectSoundFile.STORM, true);
+
+        service.setMuted(true);
+        verify(getSound(EffectSoundFile.IMPACT)).stop(impact);
+        verify(getSound(EffectSoundFile.STORM)).stop(storm);
+        assertEquals(0, service.getActiveVoiceCount());
+        assertEquals(-1, service.play(EffectSoundFile.IMPACT));
+
+        service.setMuted(false);
+        assertNotEquals(-1, service.play(EffectSoundFile.IMPACT));
+    }
+
+    @Test
+    void shouldStopEveryLoopingInstance() throws InvalidSoundFileException {
+        service.play(EffectSoundFile.STORM, true);
+        time.incrementAndGet();
+        service.play(EffectSoundFile.STORM, true);
+
+        service.stop(EffectSoundFile.STORM);
+        assertEquals(0, service.getVoiceCount(EffectSoundFile.STORM));
+        verify(getSound(EffectSoundFile.STORM), times(2)).stop(anyLong());
+    }
+
+    @Test
+    void shouldCullSoundsOutOfEarshot() throws InvalidSoundFileException {
+        registerPlayer(new Vector2(0, 0));
+
+        long id = service.play(EffectSoundFile.BAT_ATTACK,
+                new Vector2(EffectsMusicService.HEARING_DISTANCE + 1, 0));
+        assertEquals(-1, id);
+        assertEquals(1, service.getVoicesCulled());
+        verify(getSound(EffectSoundFile.BAT_ATTACK), never()).play(anyFloat(), anyFloat(), anyFloat());
+    }
+
+    @Test
+    void shouldAttenuateAndPanByDistance() throws InvalidSoundFileException {
+        registerPlayer(new Vector2(0, 0));
+
+        service.play(EffectSoundFile.BAT_ATTACK, new Vector2(1, 0));
+        verify(getSound(EffectSoundFile.BAT_ATTACK)).play(eq(1f), eq(1f), floatThat(pan -> pan > 0));
+
+        float halfway = (EffectsMusicService.FULL_VOLUME_DISTANCE + EffectsMusicService.HEARING_DISTANCE) / 2;
+        service.play(EffectSoundFile.OXYGEN_ATTACK, new Vector2(-halfway, 0));
+        verify(getSound(EffectSoundFile.OXYGEN_ATTACK)).play(floatThat(volume -> Math.abs(volume - 0.5f) < 0.01f),
+                eq(1f), floatThat(pan -> pan < 0));
+    }
+
+    @Test
+    void shouldPlayAtFullVolumeWithoutPlayer() throws InvalidSoundFileException {
+        service.play(EffectSoundFile.BAT_ATTACK, new Vector2(100, 100));
+        verify(getSound(EffectSoundFile.BAT_ATTACK)).play(1f, 1f, 0f);
+    }
+
+    @Test
+    void shouldRejectUnloadedSounds() {
+        EffectsMusicService empty = new EffectsMusicService(time::get);
+        assertThrows(InvalidSoundFileException.class, () -> empty.play(EffectSoundFile.IMPACT));
+        assertThrows(InvalidSoundFileException.class, () -> empty.play(BackgroundSoundFile.TEST_TRACK_1));
+    }
+
+    /**
+     * Plays an effect a frame after the last one, so it is not merged with it
+     */
+    private long playLater(EffectSoundFile effect) throws InvalidSoundFileException {
+        time.addAndGet(EffectsMusicService.DEDUPLICATION_WINDOW);
+        return service.play(effect);
+    }
+
+    /**
+     * Fills every voice with plant sounds and normal effects, plants first
+     */
+    private void fillVoices() throws InvalidSoundFileException {
+        playLater(EffectSoundFile.PLANT_NEARBY);
+        for (int i = 1; i < EffectsMusicService.MAX_VOICES; i++) {
+            playLater(EffectSoundFile.values()[i % 4]);
+        }
+        assertEquals(EffectsMusicService.MAX_VOICES, service.getActiveVoiceCount());
+    }
+
+    private long findVoice(EffectSoundFile effect) {
+        Sound sound = getSound(effect);
+        return mockingDetails(sound).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("play"))
+                .findFirst()
+                .map(invocation -> (Long) invocation.getRawReturnValue())
+                .orElse(-1L);
+    }
+
+    private Sound getSound(EffectSoundFile effect) {
+        return sounds.get(effect.ordinal());
+    }
+
+    private void registerPlayer(Vector2 position) {
+        Entity player = mock(Entity.class);
+        when(player.getCenterPosition()).thenReturn(position);
+        GameArea gameArea = mock(GameArea.class);
+        when(gameArea.getPlayer()).thenReturn(player);
+        ServiceLocator.registerGameArea(gameArea);
+    }
+}
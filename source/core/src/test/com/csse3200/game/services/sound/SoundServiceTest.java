@@ -0,0 +1,115 @@
+package com.csse3200.game.services.sound;
+
+import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.ServiceLocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(GameExtension.class)
+class SoundServiceTest {
+    private EffectsMusicService effects;
+    private SoundService service;
+
+    @BeforeEach
+    void setUp() {
+        effects = mock(EffectsMusicService.class);
+        service = new SoundService(mock(BackgroundMusicService.class), effects);
+    }
+
+    @Test
+    void shouldPlayAfterDelay() throws InvalidSoundFileException {
+        service.playAfter(EffectSoundFile.TAMED_ANIMAL, 0.1f);
+        verify(effects, never()).play(any(SoundFile.class));
+
+        service.update(0.05f);
+        verify(effects, never()).play(any(SoundFile.class));
+        assertEquals(1, service.getScheduledSoundCount());
+
+        service.update(0.05f);
+        verify(effects).play(EffectSoundFile.TAMED_ANIMAL);
+        assertEquals(0, service.getScheduledSoundCount());
+
+        service.update(1f);
+        verify(effects, times(1)).play(EffectSoundFile.TAMED_ANIMAL);
+    }
+
+    @Test
+    void shouldPlayCueInOrder() throws InvalidSoundFileException {
+        service.play(new SoundCue()
+                .then(EffectSoundFile.SHIP_CRASH)
+                .then(0.5f, EffectSoundFile.SHIP_RATTLE)
+                .then(0.5f, EffectSoundFile.LEGO_BREAK));
+
+        service.update(0f);
+        verify(effects).play(EffectSoundFile.SHIP_CRASH);
+        verify(effects, never()).play(EffectSoundFile.SHIP_RATTLE);
+
+        // Both remaining steps are due after a long frame, and still play in order
+        service.update(2f);
+        InOrder inOrder = inOrder(effects);
+        inOrder.verify(effects).play(EffectSoundFile.SHIP_CRASH);
+        inOrder.verify(effects).play(EffectSoundFile.SHIP_RATTLE);
+        inOrder.verify(effects).play(EffectSoundFile.LEGO_BREAK);
+    }
+
+    @Test
+    void shouldPlayCueAtPosition() throws InvalidSoundFileException {
+        Vector2 position = new Vector2(3, 4);
+        service.playAfter(EffectSoundFile.COW_DEATH, 0f, position);
+        position.set(100, 100);
+
+        service.update(0f);
+        verify(effects).play(EffectSoundFile.COW_DEATH, new Vector2(3, 4));
+    }
+
+    @Test
+    void shouldCancelCues() throws InvalidSoundFileException {
+        SoundCue cue = new SoundCue().then(1f, EffectSoundFile.IMPACT);
+        service.play(cue);
+        service.playAfter(EffectSoundFile.ATTACK_HIT, 1f);
+
+        service.cancel(cue);
+        service.update(1f);
+        verify(effects, never()).play(EffectSoundFile.IMPACT);
+        verify(effects).play(EffectSoundFile.ATTACK_HIT);
+
+        service.playAfter(EffectSoundFile.ATTACK_MISS, 1f);
+        service.cancelAll();
+        service.update(1f);
+        verify(effects, never()).play(EffectSoundFile.ATTACK_MISS);
+    }
+
+    @Test
+    void shouldKeepPlayingAfterFailedSound() throws InvalidSoundFileException {
+        when(effects.play(EffectSoundFile.IMPACT)).thenThrow(new InvalidSoundFileException());
+        service.play(new SoundCue().then(EffectSoundFile.IMPACT).then(EffectSoundFile.ATTACK_HIT));
+
+        service.update(0f);
+        verify(effects).play(EffectSoundFile.ATTACK_HIT);
+    }
+
+    @Test
+    void shouldUseGameTime() throws InvalidSoundFileException {
+        GameTime gameTime = mock(GameTime.class);
+        when(gameTime.getDeltaTime()).thenReturn(0f);
+        ServiceLocator.registerTimeSource(gameTime);
+        service.playAfter(EffectSoundFile.IMPACT, 0.1f);
+
+        // Time is stopped, so the sound never becomes due
+        for (int i = 0; i < 10; i++) {
+            service.update();
+        }
+        verify(effects, never()).play(any(SoundFile.class));
+
+        when(gameTime.getDeltaTime()).thenReturn(0.1f);
+        service.update();
+        verify(effects).play(EffectSoundFile.IMPACT);
+    }
+}
@@ -0,0 +1,56 @@
+package com.csse3200.game.ui.terminal.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.services.ResourceService;
+import com.csse3200.game.services.ServiceLocator;
+
+@ExtendWith(GameExtension.class)
+class AssetsCommandTest {
+	AssetsCommand command;
+	ArrayList<String> args;
+
+	@BeforeEach
+	void beforeEach() {
+		ServiceLocator.clear();
+		command = new AssetsCommand();
+		args = new ArrayList<>();
+	}
+
+	@Test
+	void shouldReportGroupsAndTextureMemory() {
+		ResourceService resourceService = mock(ResourceService.class);
+		when(resourceService.getAcquiredGroups()).thenReturn(Array.with("main-game", "terrain"));
+		when(resourceService.getTextureMemory()).thenReturn(4L * 1024 * 1024);
+		ServiceLocator.registerResourceService(resourceService);
+
+		assertTrue(command.action(args));
+		verify(resourceService).getTextureMemory();
+		verify(resourceService).getGroupReferences("main-game");
+		verify(resourceService).getGroupReferences("terrain");
+	}
+
+	@Test
+	void shouldFailWithoutResourceService() {
+		assertFalse(command.action(args));
+	}
+
+	@Test
+	void tooManyArgs() {
+		args.add("all");
+		assertFalse(command.isValid(args));
+		assertFalse(command.action(args));
+	}
+}